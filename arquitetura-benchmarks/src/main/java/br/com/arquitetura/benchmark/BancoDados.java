@@ -0,0 +1,74 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+
+/**
+ * Fornece o <code>EntityManagerFactory</code> do <i>Banco de Dados</i> <i>H2</i> em memória utilizado nos benchmarks
+ * e a massa de dados inicial.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class BancoDados {
+
+	/** Constante UNIDADE_PERSISTENCIA. */
+	public static final String UNIDADE_PERSISTENCIA = "benchmark";
+
+	/** Constante CIDADES. */
+	private static final String[] CIDADES = { "Goiânia", "Brasília", "Anápolis", "São Paulo", "Belo Horizonte" };
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private BancoDados() {
+		super();
+	}
+
+	/**
+	 * Método responsável por criar o <code>EntityManagerFactory</code>, recriando as tabelas.
+	 * @author Wesley Luiz
+	 * @return Retorna o <code>EntityManagerFactory</code> criado.
+	 */
+	public static EntityManagerFactory criar() {
+		return Persistence.createEntityManagerFactory(UNIDADE_PERSISTENCIA);
+	}
+
+	/**
+	 * Método responsável por gerar clientes de exemplo.
+	 * @author Wesley Luiz
+	 * @param quantidade - Quantidade de clientes.
+	 * @return Retorna a lista de clientes, ainda não persistidos.
+	 */
+	public static List<Cliente> gerarClientes(final int quantidade) {
+		final List<Cliente> clientes = new ArrayList<Cliente>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			clientes.add(new Cliente("Cliente " + i + " da Silva", "cliente" + i + "@exemplo.com.br", CIDADES[i % CIDADES.length]));
+		}
+		return clientes;
+	}
+
+	/**
+	 * Método responsável por persistir clientes de exemplo em uma única transação.
+	 * @author Wesley Luiz
+	 * @param entityManager - <code>EntityManager</code> utilizado.
+	 * @param quantidade - Quantidade de clientes.
+	 * @return Retorna os identificadores gerados.
+	 */
+	public static int[] popular(final EntityManager entityManager, final int quantidade) {
+		final int[] ids = new int[quantidade];
+		entityManager.getTransaction().begin();
+		int i = 0;
+		for (final Cliente cliente : gerarClientes(quantidade)) {
+			entityManager.persist(cliente);
+			ids[i++] = cliente.getId();
+		}
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+		return ids;
+	}
+}
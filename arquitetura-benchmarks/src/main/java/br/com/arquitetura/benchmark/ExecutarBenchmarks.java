@@ -0,0 +1,58 @@
+package br.com.arquitetura.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada dos benchmarks. Aceita as mesmas opções de linha de comando do <i>JMH</i> e, quando não informado,
+ * grava o resultado em <i>JSON</i> no arquivo {@link #ARQUIVO_RESULTADO}, permitindo comparar as execuções entre versões.
+ * Exemplo de uso:
+ * <pre>
+ * java -jar target/benchmarks.jar                       // todos os benchmarks
+ * java -jar target/benchmarks.jar Texto -rff texto.json // apenas os benchmarks de Texto
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ExecutarBenchmarks {
+
+	/** Constante ARQUIVO_RESULTADO. */
+	public static final String ARQUIVO_RESULTADO = "target/jmh-result.json";
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private ExecutarBenchmarks() {
+		super();
+	}
+
+	/**
+	 * Método responsável por executar os benchmarks.
+	 * @author Wesley Luiz
+	 * @param args - Opções de linha de comando do <i>JMH</i>.
+	 * @throws CommandLineOptionException Lança uma exceção caso as opções sejam inválidas.
+	 * @throws RunnerException Lança uma exceção caso a execução falhe.
+	 */
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+		final CommandLineOptions linhaComando = new CommandLineOptions(args);
+		final ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaComando);
+
+		if (!linhaComando.getResultFormat().hasValue()) {
+			opcoes.resultFormat(ResultFormatType.JSON);
+		}
+		if (!linhaComando.getResult().hasValue()) {
+			opcoes.result(ARQUIVO_RESULTADO);
+		}
+		if (linhaComando.getIncludes().isEmpty()) {
+			opcoes.include(ExecutarBenchmarks.class.getPackage().getName() + ".*");
+		}
+
+		new Runner(opcoes.build()).run();
+	}
+}
@@ -0,0 +1,107 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+import br.com.arquitetura.benchmark.modelo.ClienteDAO;
+import br.com.arquitetura.benchmark.modelo.ClienteSequencial;
+import br.com.arquitetura.benchmark.modelo.ClienteSequencialDAO;
+
+/**
+ * Benchmarks de <code>HibernateDAO.salvarLote</code>, comparando o identificador gerado por coluna <code>IDENTITY</code>, que
+ * obriga a execução imediata de cada inclusão, com o identificador gerado por sequência <i>pooled</i>, que permite inclusões em
+ * lotes <i>JDBC</i> de <code>hibernate.jdbc.batch_size</code> registros.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeracaoIdentificadorBenchmark {
+
+	/** Atributo quantidade. */
+	@Param({ "100", "1000" })
+	private int quantidade;
+
+	/** Atributo entityManagerFactory. */
+	private EntityManagerFactory entityManagerFactory;
+
+	/** Atributo entityManager. */
+	private EntityManager entityManager;
+
+	/** Atributo clienteDAO. */
+	private ClienteDAO clienteDAO;
+
+	/** Atributo clienteSequencialDAO. */
+	private ClienteSequencialDAO clienteSequencialDAO;
+
+	/**
+	 * Método responsável por criar o <i>Banco de Dados</i>.
+	 * @author Wesley Luiz
+	 */
+	@Setup
+	public void preparar() {
+		entityManagerFactory = BancoDados.criar();
+		entityManager = entityManagerFactory.createEntityManager();
+		clienteDAO = new ClienteDAO(entityManager);
+		clienteSequencialDAO = new ClienteSequencialDAO(entityManager);
+	}
+
+	/**
+	 * Método responsável por liberar o <i>Banco de Dados</i>.
+	 * @author Wesley Luiz
+	 */
+	@TearDown
+	public void finalizar() {
+		entityManager.close();
+		entityManagerFactory.close();
+	}
+
+	/**
+	 * Mede a inclusão em lote com identificador <code>IDENTITY</code>.
+	 * @return Retorna os clientes persistidos.
+	 */
+	@Benchmark
+	public List<Cliente> salvarLoteIdentidade() {
+		final List<Cliente> clientes = BancoDados.gerarClientes(quantidade);
+		entityManager.getTransaction().begin();
+		clienteDAO.salvarLote(clientes);
+		entityManager.getTransaction().commit();
+		return clientes;
+	}
+
+	/**
+	 * Mede a inclusão em lote com identificador gerado por sequência.
+	 * @return Retorna os clientes persistidos.
+	 */
+	@Benchmark
+	public List<ClienteSequencial> salvarLoteSequencia() {
+		final List<ClienteSequencial> clientes = new ArrayList<ClienteSequencial>(quantidade);
+		for (final Cliente cliente : BancoDados.gerarClientes(quantidade)) {
+			clientes.add(new ClienteSequencial(cliente));
+		}
+		entityManager.getTransaction().begin();
+		clienteSequencialDAO.salvarLote(clientes);
+		entityManager.getTransaction().commit();
+		return clientes;
+	}
+}
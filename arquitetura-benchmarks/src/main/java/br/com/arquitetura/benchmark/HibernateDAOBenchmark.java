@@ -0,0 +1,152 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+import br.com.arquitetura.benchmark.modelo.ClienteDAO;
+
+/**
+ * Benchmarks das operações de {@link br.com.arquitetura.dao.HibernateDAO} sobre o <i>Banco de Dados</i> <i>H2</i> em memória.<br>
+ * Cada operação de escrita é executada em sua própria transação e a <i>Sessão</i> é limpa ao final de cada chamada,
+ * de modo que as leituras sempre vão ao <i>Banco de Dados</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HibernateDAOBenchmark {
+
+	/** Atributo registros. */
+	@Param({ "100", "1000" })
+	private int registros;
+
+	/** Atributo entityManagerFactory. */
+	private EntityManagerFactory entityManagerFactory;
+
+	/** Atributo entityManager. */
+	private EntityManager entityManager;
+
+	/** Atributo dao. */
+	private ClienteDAO dao;
+
+	/** Atributo ids. */
+	private int[] ids;
+
+	/** Atributo random. */
+	private final Random random = new Random(42);
+
+	/**
+	 * Método responsável por criar o <i>Banco de Dados</i> e popular a tabela de clientes.
+	 * @author Wesley Luiz
+	 */
+	@Setup
+	public void preparar() {
+		entityManagerFactory = BancoDados.criar();
+		entityManager = entityManagerFactory.createEntityManager();
+		dao = new ClienteDAO(entityManager);
+		ids = BancoDados.popular(entityManager, registros);
+	}
+
+	/**
+	 * Método responsável por liberar o <i>Banco de Dados</i>.
+	 * @author Wesley Luiz
+	 */
+	@TearDown
+	public void finalizar() {
+		entityManager.close();
+		entityManagerFactory.close();
+	}
+
+	/**
+	 * Mede <code>HibernateDAO.salvar</code>.
+	 * @return Retorna o cliente persistido.
+	 */
+	@Benchmark
+	public Cliente salvar() {
+		final Cliente cliente = new Cliente("Cliente Novo", "novo@exemplo.com.br", "Goiânia");
+		entityManager.getTransaction().begin();
+		dao.salvar(cliente);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+		return cliente;
+	}
+
+	/**
+	 * Mede <code>HibernateDAO.alterar</code> de uma <code>Entidade</code> desassociada da <i>Sessão</i>.
+	 * @return Retorna o cliente alterado.
+	 */
+	@Benchmark
+	public Cliente alterar() {
+		final Cliente cliente = BancoDados.gerarClientes(1).get(0);
+		cliente.setId(sortearId());
+		entityManager.getTransaction().begin();
+		dao.alterar(cliente);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+		return cliente;
+	}
+
+	/**
+	 * Mede <code>HibernateDAO.salvar</code> seguido de <code>HibernateDAO.remover</code>, mantendo o tamanho da tabela.<br>
+	 * Como nas telas, a <code>Entidade</code> removida está desassociada da <i>Sessão</i>, já que o <code>HibernateDAO.remover</code>
+	 * carrega o registro novamente antes de removê-lo.
+	 * @return Retorna o cliente removido.
+	 */
+	@Benchmark
+	public Cliente salvarERemover() {
+		final Cliente cliente = new Cliente("Cliente Removido", "removido@exemplo.com.br", "Brasília");
+		entityManager.getTransaction().begin();
+		dao.salvar(cliente);
+		entityManager.clear();
+		dao.remover(cliente);
+		entityManager.getTransaction().commit();
+		entityManager.clear();
+		return cliente;
+	}
+
+	/**
+	 * Mede <code>HibernateDAO.obterPorId</code>.
+	 * @return Retorna o cliente obtido.
+	 */
+	@Benchmark
+	public Cliente obterPorId() {
+		final Cliente cliente = dao.obterPorId(sortearId());
+		entityManager.clear();
+		return cliente;
+	}
+
+	/**
+	 * Mede <code>HibernateDAO.listar</code> de toda a tabela.
+	 * @return Retorna a lista de clientes.
+	 */
+	@Benchmark
+	public List<Cliente> listar() {
+		final List<Cliente> clientes = dao.listar();
+		entityManager.clear();
+		return clientes;
+	}
+
+	private Integer sortearId() {
+		return ids[random.nextInt(ids.length)];
+	}
+}
@@ -0,0 +1,85 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.ClienteDAO;
+import br.com.arquitetura.benchmark.modelo.ClienteService;
+import br.com.arquitetura.bundle.Bundle;
+
+/**
+ * Benchmarks da obtenção de mensagens através de {@link Bundle} e de <code>Objeto.getMensagem</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MensagemBenchmark {
+
+	/** Constante CHAVE. */
+	private static final String CHAVE = "arquitetura.msg.camposObrigatorios";
+
+	/** Constante CHAVE_ARGUMENTO. */
+	private static final String CHAVE_ARGUMENTO = "arquitetura.msg.dadoDuplicado";
+
+	/** Atributo service. */
+	private ClienteService service;
+
+	/**
+	 * Método responsável por preparar os objetos medidos.
+	 * @author Wesley Luiz
+	 */
+	@Setup
+	public void preparar() {
+		service = new ClienteService(new ClienteDAO(null));
+	}
+
+	/**
+	 * Mede <code>Bundle.getResourceBundle</code> seguido de <code>getString</code>.
+	 * @return Retorna a mensagem obtida.
+	 */
+	@Benchmark
+	public String bundleGetString() {
+		return Bundle.getResourceBundle(Bundle.LOCALE_PADRAO).getString(CHAVE);
+	}
+
+	/**
+	 * Mede <code>Bundle.getMensagem</code> com argumentos, que utiliza o <code>MessageFormat</code> em <i>cache</i>.
+	 * @return Retorna a mensagem obtida.
+	 */
+	@Benchmark
+	public String bundleGetMensagemComArgumentos() {
+		return Bundle.getMensagem(Bundle.LOCALE_PADRAO, CHAVE_ARGUMENTO, "nome");
+	}
+
+	/**
+	 * Mede <code>Objeto.getMensagem</code>.
+	 * @return Retorna a mensagem obtida.
+	 */
+	@Benchmark
+	public String objetoGetMensagem() {
+		return service.obterMensagem(CHAVE);
+	}
+
+	/**
+	 * Mede <code>Objeto.getMensagem</code> com argumentos.
+	 * @return Retorna a mensagem obtida.
+	 */
+	@Benchmark
+	public String objetoGetMensagemComArgumentos() {
+		return service.obterMensagem(CHAVE_ARGUMENTO, "nome");
+	}
+}
@@ -0,0 +1,79 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+import br.com.arquitetura.benchmark.modelo.ClienteDAO;
+import br.com.arquitetura.benchmark.modelo.ClienteService;
+
+/**
+ * Benchmarks dos métodos de reflexão de {@link br.com.arquitetura.objeto.Generico}:
+ * <code>obterTipoDaClasse</code> e <code>invocarMetodo</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReflexaoBenchmark {
+
+	/** Atributo dao. */
+	private ClienteDAO dao;
+
+	/** Atributo service. */
+	private ClienteService service;
+
+	/** Atributo cliente. */
+	private Cliente cliente;
+
+	/**
+	 * Método responsável por preparar os objetos medidos.
+	 * @author Wesley Luiz
+	 */
+	@Setup
+	public void preparar() {
+		dao = new ClienteDAO(null);
+		service = new ClienteService(dao);
+		cliente = BancoDados.gerarClientes(1).get(0);
+	}
+
+	/**
+	 * Mede <code>obterTipoDaClasse()</code> de um <i>DAO</i>.
+	 * @return Retorna a classe obtida.
+	 */
+	@Benchmark
+	public Class<Cliente> obterTipoDaClasse() {
+		return dao.obterTipo();
+	}
+
+	/**
+	 * Mede <code>obterTipoDaClasse(int)</code> de um <i>Serviço</i>.
+	 * @return Retorna a classe obtida.
+	 */
+	@Benchmark
+	public Class<Cliente> obterTipoDaClassePorIndice() {
+		return service.obterTipo(1);
+	}
+
+	/**
+	 * Mede <code>invocarMetodo</code> de um <i>getter</i>.
+	 * @return Retorna o valor obtido.
+	 */
+	@Benchmark
+	public Object invocarMetodo() {
+		return service.invocar("getNome", cliente);
+	}
+}
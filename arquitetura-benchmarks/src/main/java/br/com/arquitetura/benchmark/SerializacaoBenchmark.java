@@ -0,0 +1,203 @@
+package br.com.arquitetura.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+import br.com.arquitetura.enumerator.EnumStatus;
+
+/**
+ * Benchmarks da serialização de listas de {@link Cliente}, comparando o formato compacto da <code>Entidade</code> com a
+ * serialização padrão de uma cópia com os mesmos atributos e a mesma hierarquia de classes.<br>
+ * O tamanho em <i>bytes</i> de cada formato é reportado pelo contador auxiliar <code>bytes</code> dos benchmarks de serialização.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializacaoBenchmark {
+
+	/** Atributo quantidade. */
+	@Param({ "1", "100" })
+	private int quantidade;
+
+	/** Atributo compactos. */
+	private ArrayList<Cliente> compactos;
+
+	/** Atributo padroes. */
+	private ArrayList<ClientePadrao> padroes;
+
+	/** Atributo bytesCompactos. */
+	private byte[] bytesCompactos;
+
+	/** Atributo bytesPadroes. */
+	private byte[] bytesPadroes;
+
+	/**
+	 * Método responsável por preparar as listas e os dados serializados.
+	 * @author Wesley Luiz
+	 * @throws IOException Caso ocorra um erro na serialização.
+	 */
+	@Setup
+	public void preparar() throws IOException {
+		compactos = new ArrayList<Cliente>(BancoDados.gerarClientes(quantidade));
+		padroes = new ArrayList<ClientePadrao>(quantidade);
+		for (int i = 0; i < compactos.size(); i++) {
+			final Cliente cliente = compactos.get(i);
+			cliente.setId(i + 1);
+			padroes.add(new ClientePadrao(cliente));
+		}
+
+		bytesCompactos = serializar(compactos);
+		bytesPadroes = serializar(padroes);
+	}
+
+	/**
+	 * Mede a serialização no formato compacto.
+	 * @param tamanho - Contador do tamanho serializado.
+	 * @return Retorna os dados serializados.
+	 * @throws IOException Caso ocorra um erro na serialização.
+	 */
+	@Benchmark
+	public byte[] serializarCompacto(final Tamanho tamanho) throws IOException {
+		final byte[] bytes = serializar(compactos);
+		tamanho.bytes = bytes.length;
+		return bytes;
+	}
+
+	/**
+	 * Mede a serialização padrão.
+	 * @param tamanho - Contador do tamanho serializado.
+	 * @return Retorna os dados serializados.
+	 * @throws IOException Caso ocorra um erro na serialização.
+	 */
+	@Benchmark
+	public byte[] serializarPadrao(final Tamanho tamanho) throws IOException {
+		final byte[] bytes = serializar(padroes);
+		tamanho.bytes = bytes.length;
+		return bytes;
+	}
+
+	/**
+	 * Mede a leitura do formato compacto.
+	 * @return Retorna a lista lida.
+	 * @throws Exception Caso ocorra um erro na leitura.
+	 */
+	@Benchmark
+	public Object desserializarCompacto() throws Exception {
+		return desserializar(bytesCompactos);
+	}
+
+	/**
+	 * Mede a leitura da serialização padrão.
+	 * @return Retorna a lista lida.
+	 * @throws Exception Caso ocorra um erro na leitura.
+	 */
+	@Benchmark
+	public Object desserializarPadrao() throws Exception {
+		return desserializar(bytesPadroes);
+	}
+
+	private static byte[] serializar(final Object objeto) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream saida = new ObjectOutputStream(bytes)) {
+			saida.writeObject(objeto);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object desserializar(final byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return entrada.readObject();
+		}
+	}
+
+	/**
+	 * Contador auxiliar com o tamanho, em <i>bytes</i>, da última serialização da iteração.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Tamanho {
+
+		/** Atributo bytes. */
+		public long bytes;
+
+		/**
+		 * Método responsável por zerar o contador no início de cada iteração.
+		 * @author Wesley Luiz
+		 */
+		@Setup(Level.Iteration)
+		public void zerar() {
+			bytes = 0;
+		}
+	}
+
+	/**
+	 * Cópia dos atributos de <code>Entidade</code> com a serialização padrão.
+	 */
+	public static class EntidadePadrao implements Serializable {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo id. */
+		private Integer id;
+
+		/** Atributo status. */
+		private EnumStatus status;
+
+		EntidadePadrao(final Integer id, final EnumStatus status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Cópia dos atributos de {@link Cliente} com a serialização padrão.
+	 */
+	public static class ClientePadrao extends EntidadePadrao {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo email. */
+		private String email;
+
+		/** Atributo cidade. */
+		private String cidade;
+
+		ClientePadrao(final Cliente cliente) {
+			super(cliente.getId(), cliente.getStatus());
+			this.nome = cliente.getNome();
+			this.email = cliente.getEmail();
+			this.cidade = cliente.getCidade();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.benchmark.modelo.Cliente;
+import br.com.arquitetura.benchmark.modelo.ClienteDAO;
+import br.com.arquitetura.benchmark.modelo.ClienteService;
+import br.com.arquitetura.exception.CampoVazioException;
+
+/**
+ * Benchmark da validação dos campos anotados com {@link br.com.arquitetura.annotation.NaoVazio}
+ * em <code>Service.validarCamposVazios</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ServiceBenchmark {
+
+	/** Atributo service. */
+	private ClienteService service;
+
+	/** Atributo valido. */
+	private Cliente valido;
+
+	/** Atributo invalido. */
+	private Cliente invalido;
+
+	/**
+	 * Método responsável por preparar os objetos medidos.
+	 * @author Wesley Luiz
+	 */
+	@Setup
+	public void preparar() {
+		service = new ClienteService(new ClienteDAO(null));
+		valido = BancoDados.gerarClientes(1).get(0);
+		invalido = BancoDados.gerarClientes(1).get(0);
+		invalido.setEmail("");
+	}
+
+	/**
+	 * Mede a validação de uma <code>Entidade</code> com todos os campos preenchidos.
+	 * @throws CampoVazioException Não lançada, pois a <code>Entidade</code> é válida.
+	 */
+	@Benchmark
+	public void validarCamposPreenchidos() throws CampoVazioException {
+		service.validarCamposVazios(valido);
+	}
+
+	/**
+	 * Mede a validação de uma <code>Entidade</code> com campo obrigatório vazio, incluindo a criação da exceção.
+	 * @return Retorna a exceção lançada.
+	 */
+	@Benchmark
+	public CampoVazioException validarCampoVazio() {
+		try {
+			service.validarCamposVazios(invalido);
+			return null;
+		} catch (final CampoVazioException e) {
+			return e;
+		}
+	}
+}
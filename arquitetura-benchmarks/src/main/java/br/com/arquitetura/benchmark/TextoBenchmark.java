@@ -0,0 +1,90 @@
+package br.com.arquitetura.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import br.com.arquitetura.util.Texto;
+
+/**
+ * Benchmarks das transformações de {@link Texto}, com um texto já normalizado e outro acentuado e com espaços repetidos.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TextoBenchmark {
+
+	/** Atributo texto. */
+	@Param({ "jose da silva goiania", "  JOSÉ   da SILVA — Goiânia, Relatório de Vendas  " })
+	private String texto;
+
+	/** Atributo destino. */
+	private final StringBuilder destino = new StringBuilder();
+
+	/**
+	 * Mede <code>Texto.toPrimeiraLetraMaiuscula</code>.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public String toPrimeiraLetraMaiuscula() {
+		return Texto.toPrimeiraLetraMaiuscula(texto);
+	}
+
+	/**
+	 * Mede <code>Texto.toPrimeirasLetrasMaiusculas</code>.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public String toPrimeirasLetrasMaiusculas() {
+		return Texto.toPrimeirasLetrasMaiusculas(texto);
+	}
+
+	/**
+	 * Mede <code>Texto.removerAcentos</code>.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public String removerAcentos() {
+		return Texto.removerAcentos(texto);
+	}
+
+	/**
+	 * Mede <code>Texto.gerarSlug</code>.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public String gerarSlug() {
+		return Texto.gerarSlug(texto);
+	}
+
+	/**
+	 * Mede <code>Texto.gerarChaveBusca(String)</code>.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public String gerarChaveBusca() {
+		return Texto.gerarChaveBusca(texto);
+	}
+
+	/**
+	 * Mede <code>Texto.gerarChaveBusca(CharSequence, StringBuilder)</code> com o <code>StringBuilder</code> reaproveitado.
+	 * @return Retorna o texto transformado.
+	 */
+	@Benchmark
+	public StringBuilder gerarChaveBuscaReaproveitada() {
+		return Texto.gerarChaveBusca(texto, destino);
+	}
+}
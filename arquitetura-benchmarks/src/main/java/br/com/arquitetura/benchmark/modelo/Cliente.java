@@ -0,0 +1,107 @@
+package br.com.arquitetura.benchmark.modelo;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import br.com.arquitetura.annotation.Indexado;
+import br.com.arquitetura.annotation.NaoVazio;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumStatus;
+
+/**
+ * <code>Entidade</code> utilizada nos benchmarks de persistência e validação.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "cliente")
+public class Cliente extends Entidade {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo nome. */
+	@NaoVazio
+	@Indexado
+	@Column(name = "nome", length = 100)
+	private String nome;
+
+	/** Atributo email. */
+	@NaoVazio
+	@Column(name = "email", length = 100)
+	private String email;
+
+	/** Atributo cidade. */
+	@Indexado
+	@Column(name = "cidade", length = 60)
+	private String cidade;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public Cliente() {
+		super();
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param nome - Nome do cliente.
+	 * @param email - E-mail do cliente.
+	 * @param cidade - Cidade do cliente.
+	 */
+	public Cliente(final String nome, final String email, final String cidade) {
+		this.nome = nome;
+		this.email = email;
+		this.cidade = cidade;
+		setStatus(EnumStatus.ATIVO);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>nome</code>
+	 * @return <code>String</code>
+	 */
+	public String getNome() {
+		return nome;
+	}
+
+	/**
+	 * Define o valor do atributo <code>nome</code>.
+	 * @param nome
+	 */
+	public void setNome(final String nome) {
+		this.nome = nome;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>email</code>
+	 * @return <code>String</code>
+	 */
+	public String getEmail() {
+		return email;
+	}
+
+	/**
+	 * Define o valor do atributo <code>email</code>.
+	 * @param email
+	 */
+	public void setEmail(final String email) {
+		this.email = email;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>cidade</code>
+	 * @return <code>String</code>
+	 */
+	public String getCidade() {
+		return cidade;
+	}
+
+	/**
+	 * Define o valor do atributo <code>cidade</code>.
+	 * @param cidade
+	 */
+	public void setCidade(final String cidade) {
+		this.cidade = cidade;
+	}
+}
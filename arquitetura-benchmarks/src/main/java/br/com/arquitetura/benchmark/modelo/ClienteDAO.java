@@ -0,0 +1,38 @@
+package br.com.arquitetura.benchmark.modelo;
+
+import javax.persistence.EntityManager;
+import br.com.arquitetura.dao.HibernateDAO;
+
+/**
+ * <i>DAO</i> da <code>Entidade</code> {@link Cliente}, com o <code>EntityManager</code> informado pelo benchmark.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ClienteDAO extends HibernateDAO<Cliente> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param entityManager - <code>EntityManager</code> utilizado nas operações.
+	 */
+	public ClienteDAO(final EntityManager entityManager) {
+		super(entityManager);
+	}
+
+	@Override
+	protected EntityManager getEntityManager() {
+		return entityManager;
+	}
+
+	/**
+	 * Método responsável por expor a obtenção do tipo genérico da classe, medida nos benchmarks de reflexão.
+	 * @author Wesley Luiz
+	 * @return Retorna a classe {@link Cliente}.
+	 */
+	public Class<Cliente> obterTipo() {
+		return obterTipoDaClasse();
+	}
+}
@@ -0,0 +1,76 @@
+package br.com.arquitetura.benchmark.modelo;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Cópia de {@link Cliente} com o identificador gerado por sequência, utilizada na comparação das inclusões em lote.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "cliente_sequencial")
+@GeracaoIdentificador(alocacao = 50)
+public class ClienteSequencial extends Entidade {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo nome. */
+	@Column(name = "nome", length = 100)
+	private String nome;
+
+	/** Atributo email. */
+	@Column(name = "email", length = 100)
+	private String email;
+
+	/** Atributo cidade. */
+	@Column(name = "cidade", length = 60)
+	private String cidade;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public ClienteSequencial() {
+		super();
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param cliente - Cliente copiado.
+	 */
+	public ClienteSequencial(final Cliente cliente) {
+		this.nome = cliente.getNome();
+		this.email = cliente.getEmail();
+		this.cidade = cliente.getCidade();
+		setStatus(cliente.getStatus());
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>nome</code>
+	 * @return <code>String</code>
+	 */
+	public String getNome() {
+		return nome;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>email</code>
+	 * @return <code>String</code>
+	 */
+	public String getEmail() {
+		return email;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>cidade</code>
+	 * @return <code>String</code>
+	 */
+	public String getCidade() {
+		return cidade;
+	}
+}
@@ -0,0 +1,29 @@
+package br.com.arquitetura.benchmark.modelo;
+
+import javax.persistence.EntityManager;
+import br.com.arquitetura.dao.HibernateDAO;
+
+/**
+ * <i>DAO</i> da <code>Entidade</code> {@link ClienteSequencial}, com o <code>EntityManager</code> informado pelo benchmark.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ClienteSequencialDAO extends HibernateDAO<ClienteSequencial> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param entityManager - <code>EntityManager</code> utilizado nas operações.
+	 */
+	public ClienteSequencialDAO(final EntityManager entityManager) {
+		super(entityManager);
+	}
+
+	@Override
+	protected EntityManager getEntityManager() {
+		return entityManager;
+	}
+}
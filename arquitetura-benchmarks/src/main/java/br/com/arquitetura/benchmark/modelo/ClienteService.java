@@ -0,0 +1,73 @@
+package br.com.arquitetura.benchmark.modelo;
+
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.service.Service;
+
+/**
+ * <i>Serviço</i> da <code>Entidade</code> {@link Cliente}, expondo os métodos protegidos medidos nos benchmarks.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ClienteService extends Service<ClienteDAO, Cliente> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param dao - <i>DAO</i> da <code>Entidade</code>.
+	 */
+	public ClienteService(final ClienteDAO dao) {
+		super();
+		this.dao = dao;
+	}
+
+	@Override
+	protected HibernateDAO<Cliente> getDao() {
+		return dao;
+	}
+
+	/**
+	 * Método responsável por expor a obtenção do tipo genérico pelo índice.
+	 * @author Wesley Luiz
+	 * @param index - Índice do tipo genérico.
+	 * @return Retorna a classe obtida.
+	 */
+	public Class<Cliente> obterTipo(final int index) {
+		return obterTipoDaClasse(index);
+	}
+
+	/**
+	 * Método responsável por expor a invocação de métodos por reflexão.
+	 * @author Wesley Luiz
+	 * @param nomeMetodo - Nome do método.
+	 * @param entidade - <code>Entidade</code> que possui o método.
+	 * @return Retorna o valor obtido.
+	 */
+	public Object invocar(final String nomeMetodo, final Entidade entidade) {
+		return invocarMetodo(nomeMetodo, entidade);
+	}
+
+	/**
+	 * Método responsável por expor a obtenção de mensagens do arquivo de mensagens.
+	 * @author Wesley Luiz
+	 * @param key - Chave da mensagem.
+	 * @return Retorna a mensagem obtida.
+	 */
+	public String obterMensagem(final String key) {
+		return getMensagem(key);
+	}
+
+	/**
+	 * Método responsável por expor a obtenção de mensagens com argumentos.
+	 * @author Wesley Luiz
+	 * @param key - Chave da mensagem.
+	 * @param argumentos - Argumentos da mensagem.
+	 * @return Retorna a mensagem obtida.
+	 */
+	public String obterMensagem(final String key, final Object... argumentos) {
+		return getMensagem(key, argumentos);
+	}
+}
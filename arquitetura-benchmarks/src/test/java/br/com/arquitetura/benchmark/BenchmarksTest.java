@@ -0,0 +1,128 @@
+package br.com.arquitetura.benchmark;
+
+import static org.junit.Assert.assertNotNull;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Execução de cada benchmark fora do <i>JMH</i>, duas vezes seguidas e com cada valor de {@link Param}, percorrendo o mesmo ciclo
+ * de {@link Setup} e {@link TearDown}. Um benchmark que lança exceção ou que não pode ser repetido, como o <code>salvarERemover</code>
+ * com a <code>Entidade</code> ainda associada à <i>Sessão</i>, falha no <code>mvn test</code> em vez de apenas na execução do
+ * <i>benchmarks.jar</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class BenchmarksTest {
+
+	/** Constante BENCHMARKS. */
+	private static final List<Class<?>> BENCHMARKS = Arrays.<Class<?>> asList(GeracaoIdentificadorBenchmark.class, HibernateDAOBenchmark.class,
+			MensagemBenchmark.class, ReflexaoBenchmark.class, SerializacaoBenchmark.class, ServiceBenchmark.class, TextoBenchmark.class);
+
+	@Test
+	public void cadaBenchmarkExecutaDuasVezesComCadaParametro() throws Exception {
+		for (final Class<?> benchmark : BENCHMARKS) {
+			final List<Field> parametros = obterParametros(benchmark);
+			executar(benchmark, parametros, 0, new String[parametros.size()]);
+		}
+	}
+
+	private static void executar(final Class<?> benchmark, final List<Field> parametros, final int indice, final String[] valores)
+			throws Exception {
+		if (indice < parametros.size()) {
+			for (final String valor : parametros.get(indice).getAnnotation(Param.class).value()) {
+				valores[indice] = valor;
+				executar(benchmark, parametros, indice + 1, valores);
+			}
+			return;
+		}
+
+		final Object estado = benchmark.newInstance();
+		for (int i = 0; i < parametros.size(); i++) {
+			atribuir(estado, parametros.get(i), valores[i]);
+		}
+
+		final String descricao = benchmark.getSimpleName() + Arrays.toString(valores);
+		invocar(estado, Setup.class, descricao);
+		try {
+			for (final Method metodo : benchmark.getMethods()) {
+				if (metodo.isAnnotationPresent(Benchmark.class)) {
+					for (int vez = 0; vez < 2; vez++) {
+						final Object resultado = chamar(estado, metodo, criarArgumentos(metodo), descricao);
+						if (metodo.getReturnType() != void.class) {
+							assertNotNull(descricao + "." + metodo.getName() + " não produziu resultado.", resultado);
+						}
+					}
+				}
+			}
+		} finally {
+			invocar(estado, TearDown.class, descricao);
+		}
+	}
+
+	private static List<Field> obterParametros(final Class<?> benchmark) {
+		final List<Field> parametros = new ArrayList<Field>();
+		for (final Field field : benchmark.getDeclaredFields()) {
+			if (field.isAnnotationPresent(Param.class)) {
+				field.setAccessible(true);
+				parametros.add(field);
+			}
+		}
+		return parametros;
+	}
+
+	private static void atribuir(final Object estado, final Field field, final String valor) throws IllegalAccessException {
+		if (field.getType() == int.class) {
+			field.setInt(estado, Integer.parseInt(valor));
+		} else if (field.getType() == long.class) {
+			field.setLong(estado, Long.parseLong(valor));
+		} else if (field.getType() == boolean.class) {
+			field.setBoolean(estado, Boolean.parseBoolean(valor));
+		} else {
+			field.set(estado, valor);
+		}
+	}
+
+	/**
+	 * Método responsável por criar os objetos de estado recebidos como argumento pelo benchmark, já preparados.
+	 * @author Wesley Luiz
+	 * @param metodo - Método do benchmark.
+	 * @return Retorna os argumentos.
+	 * @throws Exception
+	 */
+	private static Object[] criarArgumentos(final Method metodo) throws Exception {
+		final Object[] argumentos = new Object[metodo.getParameterTypes().length];
+		for (int i = 0; i < argumentos.length; i++) {
+			argumentos[i] = metodo.getParameterTypes()[i].newInstance();
+			invocar(argumentos[i], Setup.class, metodo.getName());
+		}
+		return argumentos;
+	}
+
+	private static void invocar(final Object estado, final Class<? extends Annotation> anotacao, final String descricao)
+			throws Exception {
+		for (final Method metodo : estado.getClass().getMethods()) {
+			if (metodo.isAnnotationPresent(anotacao)) {
+				chamar(estado, metodo, new Object[0], descricao);
+			}
+		}
+	}
+
+	private static Object chamar(final Object estado, final Method metodo, final Object[] argumentos, final String descricao) throws Exception {
+		try {
+			return metodo.invoke(estado, argumentos);
+		} catch (final InvocationTargetException e) {
+			throw new AssertionError(descricao + "." + metodo.getName() + " lançou " + e.getCause(), e.getCause());
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package br.com.arquitetura.carga;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Configuração do teste de carga, lida das opções <code>nome=valor</code> da linha de comando:
+ * <ul>
+ * <li><b>trabalhadores</b> - quantidade de <i>threads</i> concorrentes, padrão 4;</li>
+ * <li><b>duracao</b> - segundos de medição, padrão 30;</li>
+ * <li><b>aquecimento</b> - segundos executados antes da medição e descartados, padrão 10;</li>
+ * <li><b>registros</b> - quantidade de produtos da massa inicial, padrão 1000;</li>
+ * <li><b>pagina</b> - quantidade de produtos das operações <code>listar</code> e <code>relatorio</code>, padrão 50;</li>
+ * <li><b>taxa</b> - operações por segundo somando todos os trabalhadores, padrão 0 (sem limite);</li>
+ * <li><b>mistura</b> - peso de cada operação, padrão <code>salvar:10,alterar:15,obterPorId:50,listar:20,relatorio:5</code>;</li>
+ * <li><b>semente</b> - semente da sequência de operações, padrão 42;</li>
+ * <li><b>resultado</b> - arquivo <i>JSON</i> gravado ao final, padrão {@link #ARQUIVO_RESULTADO};</li>
+ * <li><b>base</b> - resultado de uma execução anterior, com o qual o resultado atual é comparado.</li>
+ * </ul>
+ * Com a mesma semente cada trabalhador executa sempre a mesma sequência de operações, e com uma <b>taxa</b> definida as
+ * latências são medidas a partir do horário previsto de início de cada operação, de forma que as esperas provocadas por
+ * operações lentas também sejam contabilizadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ConfiguracaoCarga {
+
+	/** Constante ARQUIVO_RESULTADO. */
+	public static final String ARQUIVO_RESULTADO = "target/carga-resultado.json";
+
+	/** Constante MISTURA_PADRAO. */
+	public static final String MISTURA_PADRAO = "salvar:10,alterar:15,obterPorId:50,listar:20,relatorio:5";
+
+	/** Atributo trabalhadores. */
+	private int trabalhadores = 4;
+
+	/** Atributo duracao. */
+	private int duracao = 30;
+
+	/** Atributo aquecimento. */
+	private int aquecimento = 10;
+
+	/** Atributo registros. */
+	private int registros = 1000;
+
+	/** Atributo pagina. */
+	private int pagina = 50;
+
+	/** Atributo taxa. */
+	private int taxa;
+
+	/** Atributo semente. */
+	private long semente = 42;
+
+	/** Atributo resultado. */
+	private String resultado = ARQUIVO_RESULTADO;
+
+	/** Atributo base. */
+	private String base;
+
+	/** Atributo mistura. */
+	private final Map<EnumOperacaoCarga, Integer> mistura = new EnumMap<EnumOperacaoCarga, Integer>(EnumOperacaoCarga.class);
+
+	/** Atributo pesos, com a soma acumulada dos pesos na ordem de {@link EnumOperacaoCarga}. */
+	private int[] pesos;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public ConfiguracaoCarga() {
+		definirMistura(MISTURA_PADRAO);
+	}
+
+	/**
+	 * Método responsável por criar a configuração a partir das opções da linha de comando.
+	 * @author Wesley Luiz
+	 * @param args - Opções no formato <code>nome=valor</code>.
+	 * @return Retorna a configuração criada.
+	 * @throws IllegalArgumentException Caso alguma opção seja desconhecida ou inválida.
+	 */
+	public static ConfiguracaoCarga ler(final String[] args) {
+		final ConfiguracaoCarga configuracao = new ConfiguracaoCarga();
+		for (final String arg : args) {
+			final int separador = arg.indexOf('=');
+			if (separador <= 0) {
+				throw new IllegalArgumentException("Opção inválida, utilize nome=valor: " + arg);
+			}
+			configuracao.definir(arg.substring(0, separador).trim(), arg.substring(separador + 1).trim());
+		}
+		configuracao.validar();
+		return configuracao;
+	}
+
+	private void definir(final String nome, final String valor) {
+		switch (nome) {
+		case "trabalhadores":
+			trabalhadores = Integer.parseInt(valor);
+			break;
+		case "duracao":
+			duracao = Integer.parseInt(valor);
+			break;
+		case "aquecimento":
+			aquecimento = Integer.parseInt(valor);
+			break;
+		case "registros":
+			registros = Integer.parseInt(valor);
+			break;
+		case "pagina":
+			pagina = Integer.parseInt(valor);
+			break;
+		case "taxa":
+			taxa = Integer.parseInt(valor);
+			break;
+		case "semente":
+			semente = Long.parseLong(valor);
+			break;
+		case "mistura":
+			definirMistura(valor);
+			break;
+		case "resultado":
+			resultado = valor;
+			break;
+		case "base":
+			base = valor;
+			break;
+		default:
+			throw new IllegalArgumentException("Opção desconhecida: " + nome);
+		}
+	}
+
+	private void validar() {
+		if (trabalhadores < 1 || duracao < 1 || aquecimento < 0 || registros < 1 || pagina < 1 || taxa < 0) {
+			throw new IllegalArgumentException("trabalhadores, duracao, registros e pagina devem ser positivos; aquecimento e taxa não podem ser negativos.");
+		}
+	}
+
+	/**
+	 * Método responsável por definir o peso de cada operação. As operações omitidas não são executadas.
+	 * @author Wesley Luiz
+	 * @param texto - Pesos no formato <code>operacao:peso,operacao:peso</code>.
+	 * @throws IllegalArgumentException Caso alguma operação seja desconhecida ou a soma dos pesos seja zero.
+	 */
+	public void definirMistura(final String texto) {
+		mistura.clear();
+		for (final String item : texto.split(",")) {
+			final String[] partes = item.split(":");
+			if (partes.length != 2) {
+				throw new IllegalArgumentException("Mistura inválida, utilize operacao:peso: " + item);
+			}
+			final int peso = Integer.parseInt(partes[1].trim());
+			if (peso < 0) {
+				throw new IllegalArgumentException("Peso negativo: " + item);
+			}
+			mistura.put(EnumOperacaoCarga.obter(partes[0]), peso);
+		}
+
+		final EnumOperacaoCarga[] operacoes = EnumOperacaoCarga.values();
+		pesos = new int[operacoes.length];
+		int acumulado = 0;
+		for (int i = 0; i < operacoes.length; i++) {
+			final Integer peso = mistura.get(operacoes[i]);
+			acumulado += peso == null ? 0 : peso;
+			pesos[i] = acumulado;
+		}
+		if (acumulado == 0) {
+			throw new IllegalArgumentException("A soma dos pesos da mistura deve ser maior que zero.");
+		}
+	}
+
+	/**
+	 * Método responsável por sortear a próxima operação de acordo com os pesos da mistura.
+	 * @author Wesley Luiz
+	 * @param random - Gerador de números do trabalhador.
+	 * @return Retorna a operação sorteada.
+	 */
+	public EnumOperacaoCarga sortear(final Random random) {
+		final int sorteio = random.nextInt(pesos[pesos.length - 1]);
+		int i = 0;
+		while (sorteio >= pesos[i]) {
+			i++;
+		}
+		return EnumOperacaoCarga.values()[i];
+	}
+
+	/**
+	 * Método responsável por descrever a mistura no mesmo formato da opção <code>mistura</code>.
+	 * @author Wesley Luiz
+	 * @return Retorna a descrição da mistura.
+	 */
+	public String descreverMistura() {
+		final StringBuilder descricao = new StringBuilder();
+		for (final Map.Entry<EnumOperacaoCarga, Integer> item : mistura.entrySet()) {
+			if (descricao.length() > 0) {
+				descricao.append(',');
+			}
+			descricao.append(item.getKey().getChave()).append(':').append(item.getValue());
+		}
+		return descricao.toString();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>trabalhadores</code>
+	 * @return <code>int</code>
+	 */
+	public int getTrabalhadores() {
+		return trabalhadores;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>duracao</code>, em segundos.
+	 * @return <code>int</code>
+	 */
+	public int getDuracao() {
+		return duracao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>aquecimento</code>, em segundos.
+	 * @return <code>int</code>
+	 */
+	public int getAquecimento() {
+		return aquecimento;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>registros</code>
+	 * @return <code>int</code>
+	 */
+	public int getRegistros() {
+		return registros;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>pagina</code>
+	 * @return <code>int</code>
+	 */
+	public int getPagina() {
+		return pagina;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>taxa</code>, em operações por segundo.
+	 * @return <code>int</code>
+	 */
+	public int getTaxa() {
+		return taxa;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>semente</code>
+	 * @return <code>long</code>
+	 */
+	public long getSemente() {
+		return semente;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>resultado</code>
+	 * @return <code>String</code>
+	 */
+	public String getResultado() {
+		return resultado;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>base</code>
+	 * @return <code>String</code>
+	 */
+	public String getBase() {
+		return base;
+	}
+}
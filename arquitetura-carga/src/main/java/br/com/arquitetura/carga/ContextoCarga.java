@@ -0,0 +1,97 @@
+package br.com.arquitetura.carga;
+
+import javax.sql.DataSource;
+import org.apache.commons.dbcp.BasicDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import br.com.arquitetura.carga.modelo.ProdutoDAO;
+import br.com.arquitetura.carga.modelo.ProdutoService;
+
+/**
+ * Configuração do <i>Spring</i> utilizada no teste de carga, equivalente à de uma aplicação: <code>DataSource</code> com
+ * <i>pool</i> de conexões para o <i>H2</i> em memória, <code>EntityManagerFactory</code> da unidade de persistência
+ * <code>carga</code> e transações declarativas nos <i>Serviços</i>.<br>
+ * O <i>pool</i> possui uma conexão por trabalhador, de acordo com a {@link ConfiguracaoCarga} registrada por {@link ExecutarCarga}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@Configuration
+@EnableTransactionManagement(proxyTargetClass = true)
+public class ContextoCarga {
+
+	/** Constante UNIDADE_PERSISTENCIA. */
+	public static final String UNIDADE_PERSISTENCIA = "carga";
+
+	/** Constante URL. */
+	public static final String URL = "jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1;MVCC=TRUE";
+
+	/** Atributo configuracao. */
+	@Autowired
+	private ConfiguracaoCarga configuracao;
+
+	/**
+	 * Método responsável por criar o <code>DataSource</code> do <i>H2</i> em memória.
+	 * @author Wesley Luiz
+	 * @return Retorna o <code>DataSource</code> criado.
+	 */
+	@Bean(destroyMethod = "close")
+	public DataSource dataSource() {
+		final BasicDataSource dataSource = new BasicDataSource();
+		dataSource.setDriverClassName("org.h2.Driver");
+		dataSource.setUrl(URL);
+		dataSource.setUsername("sa");
+		dataSource.setPassword("");
+		dataSource.setMaxActive(configuracao.getTrabalhadores() + 1);
+		dataSource.setMaxIdle(configuracao.getTrabalhadores() + 1);
+		return dataSource;
+	}
+
+	/**
+	 * Método responsável por criar o <code>EntityManagerFactory</code>, recriando as tabelas.
+	 * @author Wesley Luiz
+	 * @return Retorna a fábrica do <code>EntityManagerFactory</code>.
+	 */
+	@Bean
+	public LocalContainerEntityManagerFactoryBean entityManagerFactory() {
+		final LocalContainerEntityManagerFactoryBean fabrica = new LocalContainerEntityManagerFactoryBean();
+		fabrica.setPersistenceUnitName(UNIDADE_PERSISTENCIA);
+		fabrica.setDataSource(dataSource());
+		return fabrica;
+	}
+
+	/**
+	 * Método responsável por criar o gerenciador das transações declaradas nos <i>Serviços</i>.
+	 * @author Wesley Luiz
+	 * @return Retorna o gerenciador de transações.
+	 */
+	@Bean
+	public PlatformTransactionManager transactionManager() {
+		return new JpaTransactionManager(entityManagerFactory().getObject());
+	}
+
+	/**
+	 * Método responsável por criar o <i>DAO</i> de {@link br.com.arquitetura.carga.modelo.Produto}.
+	 * @author Wesley Luiz
+	 * @return Retorna o <i>DAO</i> criado.
+	 */
+	@Bean
+	public ProdutoDAO produtoDAO() {
+		return new ProdutoDAO();
+	}
+
+	/**
+	 * Método responsável por criar o <i>Serviço</i> de {@link br.com.arquitetura.carga.modelo.Produto}.
+	 * @author Wesley Luiz
+	 * @return Retorna o <i>Serviço</i> criado.
+	 */
+	@Bean
+	public ProdutoService produtoService() {
+		return new ProdutoService();
+	}
+}
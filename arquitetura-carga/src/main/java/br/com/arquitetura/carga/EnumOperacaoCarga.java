@@ -0,0 +1,61 @@
+package br.com.arquitetura.carga;
+
+/**
+ * Operações executadas pelos trabalhadores do teste de carga, identificadas na opção <code>mistura</code> pelo
+ * {@link #getChave()}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public enum EnumOperacaoCarga {
+
+	/** Inclusão de um novo produto através de <code>Controller.salvar()</code>. */
+	SALVAR("salvar"),
+
+	/** Alteração de um produto da massa inicial através de <code>Controller.alterar()</code>. */
+	ALTERAR("alterar"),
+
+	/** Consulta de um produto da massa inicial através de <code>Controller.obterPorId(Integer)</code>. */
+	OBTER_POR_ID("obterPorId"),
+
+	/** Consulta de uma página de produtos. */
+	LISTAR("listar"),
+
+	/** Geração do relatório <i>.pdf</i> de uma página de produtos. */
+	RELATORIO("relatorio");
+
+	/** Atributo chave. */
+	private final String chave;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param chave - Nome da operação na linha de comando.
+	 */
+	private EnumOperacaoCarga(final String chave) {
+		this.chave = chave;
+	}
+
+	/**
+	 * Método responsável por obter a operação correspondente a uma chave.
+	 * @author Wesley Luiz
+	 * @param chave - Nome da operação na linha de comando.
+	 * @return Retorna a operação encontrada.
+	 * @throws IllegalArgumentException Caso a chave não corresponda a nenhuma operação.
+	 */
+	public static EnumOperacaoCarga obter(final String chave) {
+		for (final EnumOperacaoCarga operacao : values()) {
+			if (operacao.chave.equalsIgnoreCase(chave.trim())) {
+				return operacao;
+			}
+		}
+		throw new IllegalArgumentException("Operação desconhecida: " + chave);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>chave</code>
+	 * @return <code>String</code>
+	 */
+	public String getChave() {
+		return chave;
+	}
+}
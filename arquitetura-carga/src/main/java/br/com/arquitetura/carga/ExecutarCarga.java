@@ -0,0 +1,170 @@
+package br.com.arquitetura.carga;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
+import br.com.arquitetura.ambiente.LocalizadorBeansSpring;
+import br.com.arquitetura.carga.modelo.Produto;
+import br.com.arquitetura.carga.modelo.ProdutoController;
+import br.com.arquitetura.carga.modelo.ProdutoService;
+
+/**
+ * Ponto de entrada do teste de carga. Inicia o contexto do <i>Spring</i> com o <i>H2</i> em memória, grava a massa inicial
+ * de produtos e executa os {@link TrabalhadorCarga} concorrentes pelo tempo de aquecimento e de medição configurados,
+ * apresentando ao final a vazão e os percentis de latência de cada operação. Exemplo de uso:
+ * <pre>
+ * java -jar target/carga.jar                                                // configuração padrão
+ * java -jar target/carga.jar trabalhadores=16 duracao=60 mistura=obterPorId:80,salvar:20
+ * java -jar target/carga.jar resultado=atual.json base=anterior.json         // compara com a execução anterior
+ * </pre>
+ * As opções disponíveis estão descritas em {@link ConfiguracaoCarga}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ExecutarCarga {
+
+	/** Constante LOTE. */
+	private static final int LOTE = 500;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private ExecutarCarga() {
+		super();
+	}
+
+	/**
+	 * Método responsável por executar o teste de carga.
+	 * @author Wesley Luiz
+	 * @param args - Opções no formato <code>nome=valor</code>.
+	 * @throws Exception Lança uma exceção caso a preparação ou algum trabalhador falhe.
+	 */
+	public static void main(final String[] args) throws Exception {
+		final ConfiguracaoCarga configuracao = ConfiguracaoCarga.ler(args);
+		final File diretorioBase = Files.createTempDirectory("carga").toFile();
+		compilarRelatorio(diretorioBase);
+
+		final AnnotationConfigApplicationContext contexto = new AnnotationConfigApplicationContext();
+		contexto.getBeanFactory().registerSingleton("configuracaoCarga", configuracao);
+		contexto.register(ContextoCarga.class);
+		contexto.refresh();
+		AmbienteExecucao.setLocalizadorBeans(new LocalizadorBeansSpring(contexto));
+
+		try {
+			popular(contexto.getBean(ProdutoService.class), configuracao);
+			System.out.println("Trabalhadores: " + configuracao.getTrabalhadores() + ", aquecimento: " + configuracao.getAquecimento() + " s, duração: "
+					+ configuracao.getDuracao() + " s, taxa: " + (configuracao.getTaxa() > 0 ? configuracao.getTaxa() + " ops/s" : "sem limite")
+					+ ", mistura: " + configuracao.descreverMistura());
+
+			final ResultadoCarga resultado = executar(configuracao, diretorioBase);
+			resultado.imprimir(System.out);
+			resultado.gravar(new File(configuracao.getResultado()));
+			System.out.println("Resultado gravado em " + configuracao.getResultado());
+			if (configuracao.getBase() != null) {
+				resultado.comparar(new File(configuracao.getBase()), System.out);
+			}
+		} finally {
+			contexto.close();
+			remover(diretorioBase);
+		}
+	}
+
+	/**
+	 * Método responsável por executar os trabalhadores e combinar as suas medições.
+	 * @author Wesley Luiz
+	 * @param configuracao - Configuração do teste de carga.
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação.
+	 * @return Retorna o resultado combinado.
+	 * @throws InterruptedException Lança uma exceção caso a <i>thread</i> principal seja interrompida.
+	 * @throws ExecutionException Lança uma exceção caso algum trabalhador falhe.
+	 */
+	private static ResultadoCarga executar(final ConfiguracaoCarga configuracao, final File diretorioBase) throws InterruptedException, ExecutionException {
+		final Map<String, Object> mapaAplicacao = new ConcurrentHashMap<String, Object>();
+		final long inicioMedicao = System.nanoTime() + TimeUnit.SECONDS.toNanos(configuracao.getAquecimento());
+		final long fimMedicao = inicioMedicao + TimeUnit.SECONDS.toNanos(configuracao.getDuracao());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(configuracao.getTrabalhadores());
+		final List<Future<TrabalhadorCarga>> trabalhadores = new ArrayList<Future<TrabalhadorCarga>>();
+		try {
+			for (int i = 0; i < configuracao.getTrabalhadores(); i++) {
+				trabalhadores.add(executor.submit(new TrabalhadorCarga(i, configuracao, diretorioBase, mapaAplicacao, inicioMedicao, fimMedicao)));
+			}
+
+			final ResultadoCarga resultado = new ResultadoCarga(configuracao);
+			for (final Future<TrabalhadorCarga> futuro : trabalhadores) {
+				final TrabalhadorCarga trabalhador = futuro.get();
+				resultado.adicionar(trabalhador);
+				if (trabalhador.getUltimoErro() != null) {
+					System.out.println("Último erro de um trabalhador: " + trabalhador.getUltimoErro());
+				}
+			}
+			resultado.setDuracaoMedida((System.nanoTime() - inicioMedicao) / 1e9);
+			return resultado;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Método responsável por gravar a massa inicial de produtos, cujos identificadores vão de 1 até a quantidade de registros.
+	 * @author Wesley Luiz
+	 * @param service - <i>Serviço</i> de produtos.
+	 * @param configuracao - Configuração do teste de carga.
+	 */
+	private static void popular(final ProdutoService service, final ConfiguracaoCarga configuracao) {
+		final Random random = new Random(configuracao.getSemente());
+		final List<Produto> lote = new ArrayList<Produto>(LOTE);
+		for (int i = 1; i <= configuracao.getRegistros(); i++) {
+			lote.add(new Produto("Produto " + i, "Categoria " + i % 10, BigDecimal.valueOf(random.nextInt(100000), 2), random.nextInt(1000)));
+			if (lote.size() == LOTE || i == configuracao.getRegistros()) {
+				service.salvarLote(lote);
+				lote.clear();
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por compilar o relatório de produtos no diretório <code>WEB-INF/relatorios</code>, de onde é lido
+	 * pelo <code>ServletContext</code> simulado.
+	 * @author Wesley Luiz
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação.
+	 * @throws IOException Lança uma exceção caso o arquivo não possa ser gravado.
+	 * @throws JRException Lança uma exceção caso o relatório não possa ser compilado.
+	 */
+	private static void compilarRelatorio(final File diretorioBase) throws IOException, JRException {
+		final File diretorio = new File(diretorioBase, "WEB-INF/relatorios");
+		diretorio.mkdirs();
+		try (InputStream fonte = ExecutarCarga.class.getResourceAsStream("/relatorios/produtos.jrxml");
+				OutputStream destino = Files.newOutputStream(new File(diretorio, ProdutoController.RELATORIO).toPath())) {
+			JasperCompileManager.compileReportToStream(fonte, destino);
+		}
+	}
+
+	private static void remover(final File arquivo) {
+		final File[] filhos = arquivo.listFiles();
+		if (filhos != null) {
+			for (final File filho : filhos) {
+				remover(filho);
+			}
+		}
+		arquivo.delete();
+	}
+}
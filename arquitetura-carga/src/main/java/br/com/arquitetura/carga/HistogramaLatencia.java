@@ -0,0 +1,160 @@
+package br.com.arquitetura.carga;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histograma de latências com precisão relativa constante, no mesmo esquema de <i>buckets</i> do <i>HdrHistogram</i>: cada
+ * potência de dois é dividida em {@link #SUB_BUCKETS} faixas, de forma que qualquer valor até {@link #VALOR_MAXIMO}
+ * microssegundos seja registrado com erro inferior a 0,1% utilizando memória fixa e sem alocação por medição.<br>
+ * Não é <i>thread-safe</i>: cada trabalhador registra em seus próprios histogramas, combinados ao final através de
+ * {@link #adicionar(HistogramaLatencia)}. Os percentis retornados correspondem ao maior valor equivalente da faixa, como no
+ * <i>HdrHistogram</i>, permitindo comparar execuções diferentes com a mesma resolução.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class HistogramaLatencia {
+
+	/** Constante VALOR_MAXIMO, uma hora em microssegundos. */
+	public static final long VALOR_MAXIMO = TimeUnit.HOURS.toMicros(1);
+
+	/** Constante SUB_BUCKETS, suficiente para três dígitos significativos. */
+	private static final int SUB_BUCKETS = 2048;
+
+	/** Constante MAGNITUDE_METADE. */
+	private static final int MAGNITUDE_METADE = Integer.numberOfTrailingZeros(SUB_BUCKETS) - 1;
+
+	/** Constante METADE. */
+	private static final int METADE = SUB_BUCKETS / 2;
+
+	/** Constante MASCARA. */
+	private static final long MASCARA = SUB_BUCKETS - 1;
+
+	/** Constante BASE_ZEROS. */
+	private static final int BASE_ZEROS = 64 - MAGNITUDE_METADE - 1;
+
+	/** Atributo contagens. */
+	private final long[] contagens;
+
+	/** Atributo total. */
+	private long total;
+
+	/** Atributo soma. */
+	private long soma;
+
+	/** Atributo minimo. */
+	private long minimo = Long.MAX_VALUE;
+
+	/** Atributo maximo. */
+	private long maximo;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public HistogramaLatencia() {
+		int buckets = 1;
+		for (long limite = SUB_BUCKETS; limite <= VALOR_MAXIMO; limite <<= 1) {
+			buckets++;
+		}
+		contagens = new long[(buckets + 1) * METADE];
+	}
+
+	/**
+	 * Método responsável por registrar uma latência.
+	 * @author Wesley Luiz
+	 * @param micros - Latência em microssegundos. Valores acima de {@link #VALOR_MAXIMO} são registrados como o máximo.
+	 */
+	public void registrar(final long micros) {
+		final long valor = Math.min(Math.max(micros, 0L), VALOR_MAXIMO);
+		contagens[indice(valor)]++;
+		total++;
+		soma += valor;
+		minimo = Math.min(minimo, valor);
+		maximo = Math.max(maximo, valor);
+	}
+
+	/**
+	 * Método responsável por somar as contagens de outro histograma a este.
+	 * @author Wesley Luiz
+	 * @param outro - Histograma a ser somado.
+	 */
+	public void adicionar(final HistogramaLatencia outro) {
+		for (int i = 0; i < contagens.length; i++) {
+			contagens[i] += outro.contagens[i];
+		}
+		total += outro.total;
+		soma += outro.soma;
+		minimo = Math.min(minimo, outro.minimo);
+		maximo = Math.max(maximo, outro.maximo);
+	}
+
+	/**
+	 * Método responsável por obter o valor abaixo do qual se encontra o percentual informado das latências registradas.
+	 * @author Wesley Luiz
+	 * @param percentil - Percentil entre 0 e 100, como 99.9.
+	 * @return Retorna a latência em microssegundos, ou zero caso nada tenha sido registrado.
+	 */
+	public long obterPercentil(final double percentil) {
+		if (total == 0) {
+			return 0;
+		}
+		// Desconta o erro de arredondamento de percentis como 99.9, que não são representados exatamente em ponto flutuante.
+		final long alvo = Math.max(1L, (long) Math.ceil(Math.min(percentil, 100.0) / 100.0 * total - 1e-9 * total));
+		long acumulado = 0;
+		for (int i = 0; i < contagens.length; i++) {
+			acumulado += contagens[i];
+			if (acumulado >= alvo) {
+				return Math.min(maiorEquivalente(i), maximo);
+			}
+		}
+		return maximo;
+	}
+
+	private int indice(final long valor) {
+		final int bucket = BASE_ZEROS - Long.numberOfLeadingZeros(valor | MASCARA);
+		final int subBucket = (int) (valor >>> bucket);
+		return ((bucket + 1) << MAGNITUDE_METADE) + subBucket - METADE;
+	}
+
+	private long maiorEquivalente(final int indice) {
+		int bucket = (indice >> MAGNITUDE_METADE) - 1;
+		int subBucket = (indice & (METADE - 1)) + METADE;
+		if (bucket < 0) {
+			subBucket -= METADE;
+			bucket = 0;
+		}
+		return ((long) subBucket << bucket) + (1L << bucket) - 1;
+	}
+
+	/**
+	 * Retorna a quantidade de latências registradas.
+	 * @return <code>long</code>
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retorna a menor latência registrada, em microssegundos.
+	 * @return <code>long</code>
+	 */
+	public long getMinimo() {
+		return total == 0 ? 0 : minimo;
+	}
+
+	/**
+	 * Retorna a maior latência registrada, em microssegundos.
+	 * @return <code>long</code>
+	 */
+	public long getMaximo() {
+		return maximo;
+	}
+
+	/**
+	 * Retorna a média das latências registradas, em microssegundos.
+	 * @return <code>double</code>
+	 */
+	public double getMedia() {
+		return total == 0 ? 0 : (double) soma / total;
+	}
+}
@@ -0,0 +1,214 @@
+package br.com.arquitetura.carga;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resultado do teste de carga, combinando os histogramas dos trabalhadores. É apresentado como uma tabela de largura fixa e
+ * gravado em <i>JSON</i> junto com a configuração e o ambiente da execução, com uma operação por linha, de forma que
+ * execuções diferentes possam ser comparadas através de {@link #comparar(File, PrintStream)}.<br>
+ * As latências são apresentadas em milissegundos e a vazão em operações por segundo.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ResultadoCarga {
+
+	/** Constante TOTAL. */
+	public static final String TOTAL = "total";
+
+	/** Constante PERCENTIS. */
+	private static final double[] PERCENTIS = { 50.0, 90.0, 99.0, 99.9 };
+
+	/** Constante OPERACAO. */
+	private static final Pattern OPERACAO = Pattern.compile("\"operacao\": \"(\\w+)\".*\"vazao\": ([\\d.]+).*\"p50\": ([\\d.]+).*\"p99\": ([\\d.]+).*\"p999\": ([\\d.]+)");
+
+	/** Atributo configuracao. */
+	private final ConfiguracaoCarga configuracao;
+
+	/** Atributo histogramas. */
+	private final Map<EnumOperacaoCarga, HistogramaLatencia> histogramas = new EnumMap<EnumOperacaoCarga, HistogramaLatencia>(EnumOperacaoCarga.class);
+
+	/** Atributo erros. */
+	private final Map<EnumOperacaoCarga, Long> erros = new EnumMap<EnumOperacaoCarga, Long>(EnumOperacaoCarga.class);
+
+	/** Atributo total. */
+	private final HistogramaLatencia total = new HistogramaLatencia();
+
+	/** Atributo duracaoMedida, em segundos. */
+	private double duracaoMedida;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param configuracao - Configuração do teste de carga.
+	 */
+	public ResultadoCarga(final ConfiguracaoCarga configuracao) {
+		this.configuracao = configuracao;
+		for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+			histogramas.put(operacao, new HistogramaLatencia());
+			erros.put(operacao, 0L);
+		}
+	}
+
+	/**
+	 * Método responsável por somar as medições de um trabalhador encerrado.
+	 * @author Wesley Luiz
+	 * @param trabalhador - Trabalhador encerrado.
+	 */
+	public void adicionar(final TrabalhadorCarga trabalhador) {
+		for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+			histogramas.get(operacao).adicionar(trabalhador.getHistogramas().get(operacao));
+			total.adicionar(trabalhador.getHistogramas().get(operacao));
+			erros.put(operacao, erros.get(operacao) + trabalhador.getErros().get(operacao));
+		}
+	}
+
+	/**
+	 * Método responsável por apresentar o resultado em uma tabela de largura fixa.
+	 * @author Wesley Luiz
+	 * @param saida - Saída onde a tabela é escrita.
+	 */
+	public void imprimir(final PrintStream saida) {
+		saida.println(String.format(Locale.ROOT, "%-12s %10s %8s %10s %9s %9s %9s %9s %9s %9s", "operacao", "quantidade", "erros", "ops/s", "media", "p50",
+				"p90", "p99", "p99.9", "maximo"));
+		for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+			if (histogramas.get(operacao).getTotal() > 0 || erros.get(operacao) > 0) {
+				imprimir(saida, operacao.getChave(), histogramas.get(operacao), erros.get(operacao));
+			}
+		}
+		imprimir(saida, TOTAL, total, getErros());
+		saida.println(String.format(Locale.ROOT, "Latências em ms, medidas durante %.1f s com %d trabalhador(es).", duracaoMedida,
+				configuracao.getTrabalhadores()));
+	}
+
+	private void imprimir(final PrintStream saida, final String nome, final HistogramaLatencia histograma, final long quantidadeErros) {
+		saida.println(String.format(Locale.ROOT, "%-12s %10d %8d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f", nome, histograma.getTotal(), quantidadeErros,
+				histograma.getTotal() / duracaoMedida, histograma.getMedia() / 1000.0, ms(histograma.obterPercentil(PERCENTIS[0])),
+				ms(histograma.obterPercentil(PERCENTIS[1])), ms(histograma.obterPercentil(PERCENTIS[2])), ms(histograma.obterPercentil(PERCENTIS[3])),
+				ms(histograma.getMaximo())));
+	}
+
+	private static double ms(final long micros) {
+		return micros / 1000.0;
+	}
+
+	/**
+	 * Método responsável por gravar o resultado em <i>JSON</i>.
+	 * @author Wesley Luiz
+	 * @param arquivo - Arquivo de destino, cujo diretório é criado caso não exista.
+	 * @throws IOException Lança uma exceção caso o arquivo não possa ser gravado.
+	 */
+	public void gravar(final File arquivo) throws IOException {
+		if (arquivo.getParentFile() != null) {
+			arquivo.getParentFile().mkdirs();
+		}
+		try (PrintWriter escritor = new PrintWriter(Files.newBufferedWriter(arquivo.toPath(), StandardCharsets.UTF_8))) {
+			escritor.println("{");
+			escritor.println("\t\"data\": \"" + new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ").format(new Date()) + "\",");
+			escritor.println("\t\"ambiente\": {\"java\": \"" + System.getProperty("java.version") + "\", \"processadores\": "
+					+ Runtime.getRuntime().availableProcessors() + ", \"sistema\": \"" + System.getProperty("os.name") + "\"},");
+			escritor.println("\t\"configuracao\": {\"trabalhadores\": " + configuracao.getTrabalhadores() + ", \"duracao\": " + configuracao.getDuracao()
+					+ ", \"aquecimento\": " + configuracao.getAquecimento() + ", \"registros\": " + configuracao.getRegistros() + ", \"pagina\": "
+					+ configuracao.getPagina() + ", \"taxa\": " + configuracao.getTaxa() + ", \"semente\": " + configuracao.getSemente()
+					+ ", \"mistura\": \"" + configuracao.descreverMistura() + "\"},");
+			escritor.println(String.format(Locale.ROOT, "\t\"duracaoMedida\": %.3f,", duracaoMedida));
+			escritor.println("\t\"operacoes\": [");
+			for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+				escritor.println(gerarJson(operacao.getChave(), histogramas.get(operacao), erros.get(operacao)) + ",");
+			}
+			escritor.println(gerarJson(TOTAL, total, getErros()));
+			escritor.println("\t]");
+			escritor.println("}");
+		}
+	}
+
+	private String gerarJson(final String nome, final HistogramaLatencia histograma, final long quantidadeErros) {
+		return String.format(Locale.ROOT, "\t\t{\"operacao\": \"%s\", \"quantidade\": %d, \"erros\": %d, \"vazao\": %.3f, \"media\": %.3f, \"minimo\": %.3f, "
+				+ "\"p50\": %.3f, \"p90\": %.3f, \"p99\": %.3f, \"p999\": %.3f, \"maximo\": %.3f}", nome, histograma.getTotal(), quantidadeErros,
+				histograma.getTotal() / duracaoMedida, histograma.getMedia() / 1000.0, ms(histograma.getMinimo()), ms(histograma.obterPercentil(PERCENTIS[0])),
+				ms(histograma.obterPercentil(PERCENTIS[1])), ms(histograma.obterPercentil(PERCENTIS[2])), ms(histograma.obterPercentil(PERCENTIS[3])),
+				ms(histograma.getMaximo()));
+	}
+
+	/**
+	 * Método responsável por apresentar a variação da vazão e das latências em relação a uma execução anterior, gravada através
+	 * de {@link #gravar(File)}. Variações positivas de vazão e negativas de latência indicam melhora.
+	 * @author Wesley Luiz
+	 * @param arquivoBase - Resultado da execução anterior.
+	 * @param saida - Saída onde a comparação é escrita.
+	 * @throws IOException Lança uma exceção caso o arquivo não possa ser lido.
+	 */
+	public void comparar(final File arquivoBase, final PrintStream saida) throws IOException {
+		final Map<String, double[]> base = new LinkedHashMap<String, double[]>();
+		for (final String linha : Files.readAllLines(arquivoBase.toPath(), StandardCharsets.UTF_8)) {
+			final Matcher matcher = OPERACAO.matcher(linha);
+			if (matcher.find()) {
+				base.put(matcher.group(1), new double[] { Double.parseDouble(matcher.group(2)), Double.parseDouble(matcher.group(3)),
+						Double.parseDouble(matcher.group(4)), Double.parseDouble(matcher.group(5)) });
+			}
+		}
+
+		saida.println("Comparação com " + arquivoBase.getPath() + ":");
+		saida.println(String.format(Locale.ROOT, "%-12s %10s %9s %9s %9s", "operacao", "ops/s", "p50", "p99", "p99.9"));
+		for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+			comparar(saida, operacao.getChave(), histogramas.get(operacao), base.get(operacao.getChave()));
+		}
+		comparar(saida, TOTAL, total, base.get(TOTAL));
+	}
+
+	private void comparar(final PrintStream saida, final String nome, final HistogramaLatencia histograma, final double[] base) {
+		if (base == null || histograma.getTotal() == 0 || base[0] == 0) {
+			return;
+		}
+		saida.println(String.format(Locale.ROOT, "%-12s %10s %9s %9s %9s", nome, variacao(histograma.getTotal() / duracaoMedida, base[0]),
+				variacao(ms(histograma.obterPercentil(PERCENTIS[0])), base[1]), variacao(ms(histograma.obterPercentil(PERCENTIS[2])), base[2]),
+				variacao(ms(histograma.obterPercentil(PERCENTIS[3])), base[3])));
+	}
+
+	private static String variacao(final double atual, final double anterior) {
+		if (anterior == 0) {
+			return "-";
+		}
+		return String.format(Locale.ROOT, "%+.1f%%", (atual - anterior) * 100.0 / anterior);
+	}
+
+	/**
+	 * Retorna a quantidade de operações com erro, somando todas as operações.
+	 * @return <code>long</code>
+	 */
+	public long getErros() {
+		long soma = 0;
+		for (final Long quantidade : erros.values()) {
+			soma += quantidade;
+		}
+		return soma;
+	}
+
+	/**
+	 * Retorna o histograma de todas as operações.
+	 * @return <code>HistogramaLatencia</code>
+	 */
+	public HistogramaLatencia getTotal() {
+		return total;
+	}
+
+	/**
+	 * Define o valor do atributo <code>duracaoMedida</code>, em segundos.
+	 * @param duracaoMedida
+	 */
+	public void setDuracaoMedida(final double duracaoMedida) {
+		this.duracaoMedida = duracaoMedida;
+	}
+}
@@ -0,0 +1,242 @@
+package br.com.arquitetura.carga;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import br.com.arquitetura.carga.faces.ContextoExternoSimulado;
+import br.com.arquitetura.carga.faces.ContextoFacesSimulado;
+import br.com.arquitetura.carga.modelo.Produto;
+import br.com.arquitetura.carga.modelo.ProdutoController;
+
+/**
+ * Trabalhador do teste de carga, executado em uma <i>thread</i> própria com o seu {@link ProdutoController} e o seu
+ * {@link ContextoFacesSimulado}, da mesma forma que uma requisição <i>JSF</i>. As operações são sorteadas de acordo com a
+ * mistura configurada e as latências registradas por operação, descartando as executadas durante o aquecimento.<br>
+ * Uma operação é considerada com erro quando lança uma exceção, quando o <i>Controller</i> adiciona uma mensagem de alerta
+ * ou quando o relatório não é enviado na resposta.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class TrabalhadorCarga implements Callable<TrabalhadorCarga> {
+
+	/** Constante CATEGORIAS. */
+	private static final String[] CATEGORIAS = { "Alimentos", "Bebidas", "Limpeza", "Higiene", "Papelaria" };
+
+	/** Atributo indice. */
+	private final int indice;
+
+	/** Atributo configuracao. */
+	private final ConfiguracaoCarga configuracao;
+
+	/** Atributo diretorioBase. */
+	private final File diretorioBase;
+
+	/** Atributo mapaAplicacao. */
+	private final Map<String, Object> mapaAplicacao;
+
+	/** Atributo inicioMedicao, em nanossegundos. */
+	private final long inicioMedicao;
+
+	/** Atributo fimMedicao, em nanossegundos. */
+	private final long fimMedicao;
+
+	/** Atributo histogramas. */
+	private final Map<EnumOperacaoCarga, HistogramaLatencia> histogramas = new EnumMap<EnumOperacaoCarga, HistogramaLatencia>(EnumOperacaoCarga.class);
+
+	/** Atributo erros. */
+	private final Map<EnumOperacaoCarga, Long> erros = new EnumMap<EnumOperacaoCarga, Long>(EnumOperacaoCarga.class);
+
+	/** Atributo ultimoErro. */
+	private String ultimoErro;
+
+	/** Atributo random. */
+	private Random random;
+
+	/** Atributo controller. */
+	private ProdutoController controller;
+
+	/** Atributo contextoExterno. */
+	private ContextoExternoSimulado contextoExterno;
+
+	/** Atributo contexto. */
+	private ContextoFacesSimulado contexto;
+
+	/** Atributo sequencia. */
+	private int sequencia;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param indice - Índice do trabalhador, somado à semente da configuração.
+	 * @param configuracao - Configuração do teste de carga.
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação, contendo <code>WEB-INF/relatorios</code>.
+	 * @param mapaAplicacao - Atributos de aplicação compartilhados entre os trabalhadores.
+	 * @param inicioMedicao - Instante, em <code>System.nanoTime()</code>, a partir do qual as latências são registradas.
+	 * @param fimMedicao - Instante, em <code>System.nanoTime()</code>, em que o trabalhador é encerrado.
+	 */
+	public TrabalhadorCarga(final int indice, final ConfiguracaoCarga configuracao, final File diretorioBase, final Map<String, Object> mapaAplicacao,
+			final long inicioMedicao, final long fimMedicao) {
+		this.indice = indice;
+		this.configuracao = configuracao;
+		this.diretorioBase = diretorioBase;
+		this.mapaAplicacao = mapaAplicacao;
+		this.inicioMedicao = inicioMedicao;
+		this.fimMedicao = fimMedicao;
+		for (final EnumOperacaoCarga operacao : EnumOperacaoCarga.values()) {
+			histogramas.put(operacao, new HistogramaLatencia());
+			erros.put(operacao, 0L);
+		}
+	}
+
+	@Override
+	public TrabalhadorCarga call() {
+		random = new Random(configuracao.getSemente() + indice);
+		contextoExterno = new ContextoExternoSimulado(diretorioBase, mapaAplicacao);
+		contexto = new ContextoFacesSimulado(contextoExterno);
+		controller = new ProdutoController();
+
+		try {
+			final long intervalo = configuracao.getTaxa() > 0 ? TimeUnit.SECONDS.toNanos(configuracao.getTrabalhadores()) / configuracao.getTaxa() : 0;
+			long previsto = System.nanoTime() + intervalo * indice / configuracao.getTrabalhadores();
+
+			while (previsto < fimMedicao) {
+				final long inicio;
+				if (intervalo > 0) {
+					aguardar(previsto);
+					inicio = previsto;
+					previsto += intervalo;
+				} else {
+					inicio = System.nanoTime();
+				}
+
+				final EnumOperacaoCarga operacao = configuracao.sortear(random);
+				final boolean sucesso = executar(operacao);
+				final long fim = System.nanoTime();
+
+				if (inicio >= inicioMedicao) {
+					if (sucesso) {
+						histogramas.get(operacao).registrar(TimeUnit.NANOSECONDS.toMicros(fim - inicio));
+					} else {
+						erros.put(operacao, erros.get(operacao) + 1);
+					}
+				}
+				if (intervalo == 0) {
+					previsto = fim;
+				}
+			}
+		} finally {
+			contexto.release();
+		}
+		return this;
+	}
+
+	private static void aguardar(final long instante) {
+		long restante;
+		while ((restante = instante - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(restante);
+		}
+	}
+
+	/**
+	 * Método responsável por executar uma operação através do <i>Controller</i>.
+	 * @author Wesley Luiz
+	 * @param operacao - Operação sorteada.
+	 * @return Retorna <code>true</code> caso a operação tenha sido concluída sem erros.
+	 */
+	private boolean executar(final EnumOperacaoCarga operacao) {
+		contexto.reiniciar();
+		try {
+			switch (operacao) {
+			case SALVAR:
+				controller.setEntidade(criarProduto("Produto " + indice + "-" + sequencia++));
+				controller.salvar();
+				return verificarMensagens();
+			case ALTERAR:
+				final Produto produto = criarProduto("Produto alterado " + indice + "-" + sequencia++);
+				produto.setId(sortearId());
+				controller.setEntidade(produto);
+				controller.alterar();
+				return verificarMensagens();
+			case OBTER_POR_ID:
+				final Integer id = sortearId();
+				if (controller.obterPorId(id) == null) {
+					ultimoErro = "Produto " + id + " não encontrado.";
+					return false;
+				}
+				return true;
+			case LISTAR:
+				if (controller.listar(sortearPagina(), configuracao.getPagina()).isEmpty()) {
+					ultimoErro = "Página vazia.";
+					return false;
+				}
+				return true;
+			case RELATORIO:
+				controller.gerarRelatorio(sortearPagina(), configuracao.getPagina());
+				if (!contexto.getResponseComplete() || contextoExterno.getBytesEnviados() == 0) {
+					ultimoErro = "Relatório não enviado na resposta.";
+					return false;
+				}
+				return true;
+			default:
+				throw new IllegalStateException("Operação não suportada: " + operacao);
+			}
+		} catch (final RuntimeException e) {
+			ultimoErro = e.toString();
+			return false;
+		}
+	}
+
+	private boolean verificarMensagens() {
+		if (contexto.isRejeitada()) {
+			ultimoErro = contexto.obterMensagemMaisGrave();
+			return false;
+		}
+		return true;
+	}
+
+	private Produto criarProduto(final String nome) {
+		return new Produto(nome, CATEGORIAS[random.nextInt(CATEGORIAS.length)], BigDecimal.valueOf(random.nextInt(100000), 2), random.nextInt(1000));
+	}
+
+	/**
+	 * Método responsável por sortear um identificador da massa inicial, que não é removida durante o teste.
+	 * @author Wesley Luiz
+	 * @return Retorna o identificador sorteado.
+	 */
+	private Integer sortearId() {
+		return 1 + random.nextInt(configuracao.getRegistros());
+	}
+
+	private int sortearPagina() {
+		return 1 + random.nextInt(Math.max(1, configuracao.getRegistros() - configuracao.getPagina() + 1));
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>histogramas</code>
+	 * @return <code>Map<EnumOperacaoCarga, HistogramaLatencia></code>
+	 */
+	public Map<EnumOperacaoCarga, HistogramaLatencia> getHistogramas() {
+		return histogramas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>erros</code>
+	 * @return <code>Map<EnumOperacaoCarga, Long></code>
+	 */
+	public Map<EnumOperacaoCarga, Long> getErros() {
+		return erros;
+	}
+
+	/**
+	 * Retorna a descrição do último erro ocorrido, inclusive durante o aquecimento.
+	 * @return <code>String</code>
+	 */
+	public String getUltimoErro() {
+		return ultimoErro;
+	}
+}
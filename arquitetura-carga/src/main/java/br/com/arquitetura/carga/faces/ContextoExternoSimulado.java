@@ -0,0 +1,407 @@
+package br.com.arquitetura.carga.faces;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.faces.context.ExternalContext;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * <code>ExternalContext</code> do {@link ContextoFacesSimulado}. A requisição, a resposta e o <code>ServletContext</code>
+ * são simulados através de <code>Proxy</code>: a resposta descarta o conteúdo enviado, contabilizando apenas a quantidade
+ * de <i>bytes</i>, e os caminhos reais são resolvidos a partir de um diretório, como em
+ * {@link br.com.arquitetura.ambiente.ResolvedorCaminhoDiretorio}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ContextoExternoSimulado extends ExternalContext {
+
+	/** Atributo diretorioBase. */
+	private final File diretorioBase;
+
+	/** Atributo requisicao. */
+	private final HttpServletRequest requisicao;
+
+	/** Atributo resposta. */
+	private final HttpServletResponse resposta;
+
+	/** Atributo servletContext. */
+	private final ServletContext servletContext;
+
+	/** Atributo saida. */
+	private final SaidaDescartada saida = new SaidaDescartada();
+
+	/** Atributo mapaAplicacao. */
+	private final Map<String, Object> mapaAplicacao;
+
+	/** Atributo mapaSessao. */
+	private final Map<String, Object> mapaSessao = new HashMap<String, Object>();
+
+	/** Atributo mapaRequisicao. */
+	private final Map<String, Object> mapaRequisicao = new HashMap<String, Object>();
+
+	/** Atributo status. */
+	private int status;
+
+	/** Atributo tipoConteudo. */
+	private String tipoConteudo;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação.
+	 * @param mapaAplicacao - Atributos de aplicação, compartilhados entre os contextos.
+	 */
+	public ContextoExternoSimulado(final File diretorioBase, final Map<String, Object> mapaAplicacao) {
+		super();
+		this.diretorioBase = diretorioBase;
+		this.mapaAplicacao = mapaAplicacao;
+		this.requisicao = criar(HttpServletRequest.class, new Requisicao());
+		this.resposta = criar(HttpServletResponse.class, new Resposta());
+		this.servletContext = criar(ServletContext.class, new Contexto());
+		reiniciar();
+	}
+
+	private static <T> T criar(final Class<T> tipo, final InvocationHandler handler) {
+		return tipo.cast(Proxy.newProxyInstance(ContextoExternoSimulado.class.getClassLoader(), new Class<?>[] { tipo }, handler));
+	}
+
+	/**
+	 * Método responsável por obter o valor padrão retornado pelos métodos não simulados.
+	 * @author Wesley Luiz
+	 * @param tipo - Tipo de retorno do método.
+	 * @return Retorna zero ou <code>false</code> para os tipos primitivos e <code>null</code> para os demais.
+	 */
+	private static Object obterPadrao(final Class<?> tipo) {
+		if (!tipo.isPrimitive() || tipo == void.class) {
+			return null;
+		}
+		if (tipo == boolean.class) {
+			return Boolean.FALSE;
+		}
+		if (tipo == long.class) {
+			return 0L;
+		}
+		if (tipo == char.class) {
+			return '\0';
+		}
+		return 0;
+	}
+
+	/**
+	 * Método responsável por descartar a resposta da operação anterior.
+	 * @author Wesley Luiz
+	 */
+	void reiniciar() {
+		status = HttpServletResponse.SC_OK;
+		tipoConteudo = null;
+		saida.bytes = 0;
+		mapaRequisicao.clear();
+	}
+
+	/**
+	 * Retorna a quantidade de <i>bytes</i> enviados na resposta desde a última operação.
+	 * @return <code>long</code>
+	 */
+	public long getBytesEnviados() {
+		return saida.bytes;
+	}
+
+	/**
+	 * Retorna o <i>status</i> <i>HTTP</i> definido na resposta desde a última operação.
+	 * @return <code>int</code>
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retorna o tipo de conteúdo definido na resposta desde a última operação.
+	 * @return <code>String</code>
+	 */
+	public String getTipoConteudo() {
+		return tipoConteudo;
+	}
+
+	@Override
+	public Object getRequest() {
+		return requisicao;
+	}
+
+	@Override
+	public Object getResponse() {
+		return resposta;
+	}
+
+	@Override
+	public Object getContext() {
+		return servletContext;
+	}
+
+	@Override
+	public Object getSession(final boolean create) {
+		return null;
+	}
+
+	@Override
+	public Map<String, Object> getApplicationMap() {
+		return mapaAplicacao;
+	}
+
+	@Override
+	public Map<String, Object> getSessionMap() {
+		return mapaSessao;
+	}
+
+	@Override
+	public Map<String, Object> getRequestMap() {
+		return mapaRequisicao;
+	}
+
+	@Override
+	public Map<String, Object> getRequestCookieMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Map<String, String> getRequestHeaderMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Map<String, String[]> getRequestHeaderValuesMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Map<String, String> getRequestParameterMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Map<String, String[]> getRequestParameterValuesMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public Iterator<String> getRequestParameterNames() {
+		return Collections.<String> emptySet().iterator();
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Map getInitParameterMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public String getInitParameter(final String name) {
+		return null;
+	}
+
+	@Override
+	public Locale getRequestLocale() {
+		return Locale.getDefault();
+	}
+
+	@Override
+	public Iterator<Locale> getRequestLocales() {
+		return Collections.singleton(Locale.getDefault()).iterator();
+	}
+
+	@Override
+	public String getRequestContextPath() {
+		return "";
+	}
+
+	@Override
+	public String getRequestPathInfo() {
+		return null;
+	}
+
+	@Override
+	public String getRequestServletPath() {
+		return "/carga.jsf";
+	}
+
+	@Override
+	public String getAuthType() {
+		return null;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return null;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return null;
+	}
+
+	@Override
+	public boolean isUserInRole(final String role) {
+		return false;
+	}
+
+	@Override
+	public URL getResource(final String path) throws MalformedURLException {
+		final File arquivo = new File(diretorioBase, path);
+		return arquivo.exists() ? arquivo.toURI().toURL() : null;
+	}
+
+	@Override
+	public InputStream getResourceAsStream(final String path) {
+		throw new UnsupportedOperationException("getResourceAsStream não disponível no teste de carga.");
+	}
+
+	@Override
+	public Set<String> getResourcePaths(final String path) {
+		return Collections.emptySet();
+	}
+
+	@Override
+	public String encodeActionURL(final String url) {
+		return url;
+	}
+
+	@Override
+	public String encodeResourceURL(final String url) {
+		return url;
+	}
+
+	@Override
+	public String encodeNamespace(final String name) {
+		return name;
+	}
+
+	@Override
+	public void dispatch(final String path) throws IOException {
+		throw new UnsupportedOperationException("dispatch não disponível no teste de carga.");
+	}
+
+	@Override
+	public void redirect(final String url) throws IOException {
+		status = HttpServletResponse.SC_MOVED_TEMPORARILY;
+	}
+
+	@Override
+	public void log(final String message) {
+	}
+
+	@Override
+	public void log(final String message, final Throwable exception) {
+	}
+
+	/**
+	 * Saída da resposta que apenas contabiliza os <i>bytes</i> recebidos.
+	 */
+	private static final class SaidaDescartada extends ServletOutputStream {
+
+		/** Atributo bytes. */
+		private long bytes;
+
+		@Override
+		public void write(final int b) {
+			bytes++;
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) {
+			bytes += len;
+		}
+	}
+
+	/**
+	 * Simula o <code>HttpServletRequest</code>, sem cabeçalhos ou parâmetros.
+	 */
+	private final class Requisicao implements InvocationHandler {
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) {
+			switch (method.getName()) {
+			case "getMethod":
+				return "GET";
+			case "getRequestURI":
+			case "getServletPath":
+				return getRequestServletPath();
+			case "getContextPath":
+				return getRequestContextPath();
+			case "getLocale":
+				return getRequestLocale();
+			case "getAttribute":
+				return mapaRequisicao.get(args[0]);
+			case "setAttribute":
+				mapaRequisicao.put((String) args[0], args[1]);
+				return null;
+			default:
+				return obterPadrao(method.getReturnType());
+			}
+		}
+	}
+
+	/**
+	 * Simula o <code>HttpServletResponse</code>, descartando o conteúdo enviado.
+	 */
+	private final class Resposta implements InvocationHandler {
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) {
+			switch (method.getName()) {
+			case "getOutputStream":
+				return saida;
+			case "setStatus":
+			case "sendError":
+				status = (Integer) args[0];
+				return null;
+			case "setContentType":
+				tipoConteudo = (String) args[0];
+				return null;
+			case "getContentType":
+				return tipoConteudo;
+			case "isCommitted":
+				return saida.bytes > 0;
+			default:
+				return obterPadrao(method.getReturnType());
+			}
+		}
+	}
+
+	/**
+	 * Simula o <code>ServletContext</code>, resolvendo os caminhos reais a partir do diretório base.
+	 */
+	private final class Contexto implements InvocationHandler {
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) {
+			switch (method.getName()) {
+			case "getRealPath":
+				return new File(diretorioBase, (String) args[0]).getPath();
+			case "getAttribute":
+				return mapaAplicacao.get(args[0]);
+			case "setAttribute":
+				mapaAplicacao.put((String) args[0], args[1]);
+				return null;
+			case "getContextPath":
+				return getRequestContextPath();
+			default:
+				return obterPadrao(method.getReturnType());
+			}
+		}
+	}
+}
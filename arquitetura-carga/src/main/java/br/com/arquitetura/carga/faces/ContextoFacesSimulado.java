@@ -0,0 +1,204 @@
+package br.com.arquitetura.carga.faces;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.faces.application.Application;
+import javax.faces.application.FacesMessage;
+import javax.faces.application.FacesMessage.Severity;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseStream;
+import javax.faces.context.ResponseWriter;
+import javax.faces.render.RenderKit;
+
+/**
+ * <code>FacesContext</code> mínimo utilizado pelos trabalhadores do teste de carga, permitindo executar os <i>Controllers</i>
+ * sem um contêiner <i>web</i>. As mensagens adicionadas são mantidas até {@link #reiniciar()}, para que o trabalhador
+ * identifique as operações rejeitadas, e a resposta é fornecida pelo {@link ContextoExternoSimulado}.<br>
+ * Cada instância é registrada como o <code>FacesContext</code> da <i>thread</i> que a criou.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ContextoFacesSimulado extends FacesContext {
+
+	/** Atributo contextoExterno. */
+	private final ContextoExternoSimulado contextoExterno;
+
+	/** Atributo mensagens. */
+	private final List<FacesMessage> mensagens = new ArrayList<FacesMessage>();
+
+	/** Atributo clientes. */
+	private final Set<String> clientes = new LinkedHashSet<String>();
+
+	/** Atributo gravidadeMaxima. */
+	private Severity gravidadeMaxima;
+
+	/** Atributo respostaCompleta. */
+	private boolean respostaCompleta;
+
+	/** Atributo renderizarResposta. */
+	private boolean renderizarResposta;
+
+	/** Atributo viewRoot. */
+	private UIViewRoot viewRoot;
+
+	/** Atributo responseStream. */
+	private ResponseStream responseStream;
+
+	/** Atributo responseWriter. */
+	private ResponseWriter responseWriter;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param contextoExterno - Contexto que fornece a requisição e a resposta simuladas.
+	 */
+	public ContextoFacesSimulado(final ContextoExternoSimulado contextoExterno) {
+		super();
+		this.contextoExterno = contextoExterno;
+		FacesContext.setCurrentInstance(this);
+	}
+
+	/**
+	 * Método responsável por descartar as mensagens e a resposta da operação anterior.
+	 * @author Wesley Luiz
+	 */
+	public void reiniciar() {
+		mensagens.clear();
+		clientes.clear();
+		gravidadeMaxima = null;
+		respostaCompleta = false;
+		renderizarResposta = false;
+		contextoExterno.reiniciar();
+	}
+
+	/**
+	 * Método responsável por verificar se a operação anterior adicionou alguma mensagem de alerta ou erro.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso a operação tenha sido rejeitada.
+	 */
+	public boolean isRejeitada() {
+		return gravidadeMaxima != null && gravidadeMaxima.compareTo(FacesMessage.SEVERITY_WARN) >= 0;
+	}
+
+	/**
+	 * Método responsável por obter o resumo da mensagem mais grave da operação anterior.
+	 * @author Wesley Luiz
+	 * @return Retorna o resumo da mensagem, ou <code>null</code> caso não existam mensagens.
+	 */
+	public String obterMensagemMaisGrave() {
+		FacesMessage maisGrave = null;
+		for (final FacesMessage mensagem : mensagens) {
+			if (maisGrave == null || mensagem.getSeverity().compareTo(maisGrave.getSeverity()) > 0) {
+				maisGrave = mensagem;
+			}
+		}
+		return maisGrave == null ? null : maisGrave.getSummary();
+	}
+
+	@Override
+	public void addMessage(final String clientId, final FacesMessage message) {
+		mensagens.add(message);
+		if (clientId != null) {
+			clientes.add(clientId);
+		}
+		if (gravidadeMaxima == null || message.getSeverity().compareTo(gravidadeMaxima) > 0) {
+			gravidadeMaxima = message.getSeverity();
+		}
+	}
+
+	@Override
+	public Iterator<FacesMessage> getMessages() {
+		return mensagens.iterator();
+	}
+
+	@Override
+	public Iterator<FacesMessage> getMessages(final String clientId) {
+		return clientId == null ? mensagens.iterator() : new ArrayList<FacesMessage>(0).iterator();
+	}
+
+	@Override
+	public Iterator<String> getClientIdsWithMessages() {
+		return clientes.iterator();
+	}
+
+	@Override
+	public Severity getMaximumSeverity() {
+		return gravidadeMaxima;
+	}
+
+	@Override
+	public ExternalContext getExternalContext() {
+		return contextoExterno;
+	}
+
+	@Override
+	public Application getApplication() {
+		throw new UnsupportedOperationException("Application não disponível no teste de carga.");
+	}
+
+	@Override
+	public RenderKit getRenderKit() {
+		return null;
+	}
+
+	@Override
+	public boolean getRenderResponse() {
+		return renderizarResposta;
+	}
+
+	@Override
+	public void renderResponse() {
+		renderizarResposta = true;
+	}
+
+	@Override
+	public boolean getResponseComplete() {
+		return respostaCompleta;
+	}
+
+	@Override
+	public void responseComplete() {
+		respostaCompleta = true;
+	}
+
+	@Override
+	public ResponseStream getResponseStream() {
+		return responseStream;
+	}
+
+	@Override
+	public void setResponseStream(final ResponseStream responseStream) {
+		this.responseStream = responseStream;
+	}
+
+	@Override
+	public ResponseWriter getResponseWriter() {
+		return responseWriter;
+	}
+
+	@Override
+	public void setResponseWriter(final ResponseWriter responseWriter) {
+		this.responseWriter = responseWriter;
+	}
+
+	@Override
+	public UIViewRoot getViewRoot() {
+		return viewRoot;
+	}
+
+	@Override
+	public void setViewRoot(final UIViewRoot viewRoot) {
+		this.viewRoot = viewRoot;
+	}
+
+	@Override
+	public void release() {
+		reiniciar();
+		FacesContext.setCurrentInstance(null);
+	}
+}
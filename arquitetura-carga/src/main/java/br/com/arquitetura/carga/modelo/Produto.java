@@ -0,0 +1,129 @@
+package br.com.arquitetura.carga.modelo;
+
+import java.math.BigDecimal;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import br.com.arquitetura.annotation.Indexado;
+import br.com.arquitetura.annotation.NaoVazio;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumStatus;
+
+/**
+ * <code>Entidade</code> de exemplo utilizada no teste de carga.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "produto")
+public class Produto extends Entidade {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo nome. */
+	@NaoVazio
+	@Indexado
+	@Column(name = "nome", length = 100)
+	private String nome;
+
+	/** Atributo categoria. */
+	@NaoVazio
+	@Column(name = "categoria", length = 60)
+	private String categoria;
+
+	/** Atributo preco. */
+	@Column(name = "preco", precision = 12, scale = 2)
+	private BigDecimal preco;
+
+	/** Atributo estoque. */
+	@Column(name = "estoque")
+	private Integer estoque;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public Produto() {
+		super();
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param nome - Nome do produto.
+	 * @param categoria - Categoria do produto.
+	 * @param preco - Preço do produto.
+	 * @param estoque - Quantidade em estoque.
+	 */
+	public Produto(final String nome, final String categoria, final BigDecimal preco, final Integer estoque) {
+		this.nome = nome;
+		this.categoria = categoria;
+		this.preco = preco;
+		this.estoque = estoque;
+		setStatus(EnumStatus.ATIVO);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>nome</code>
+	 * @return <code>String</code>
+	 */
+	public String getNome() {
+		return nome;
+	}
+
+	/**
+	 * Define o valor do atributo <code>nome</code>.
+	 * @param nome
+	 */
+	public void setNome(final String nome) {
+		this.nome = nome;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>categoria</code>
+	 * @return <code>String</code>
+	 */
+	public String getCategoria() {
+		return categoria;
+	}
+
+	/**
+	 * Define o valor do atributo <code>categoria</code>.
+	 * @param categoria
+	 */
+	public void setCategoria(final String categoria) {
+		this.categoria = categoria;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>preco</code>
+	 * @return <code>BigDecimal</code>
+	 */
+	public BigDecimal getPreco() {
+		return preco;
+	}
+
+	/**
+	 * Define o valor do atributo <code>preco</code>.
+	 * @param preco
+	 */
+	public void setPreco(final BigDecimal preco) {
+		this.preco = preco;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>estoque</code>
+	 * @return <code>Integer</code>
+	 */
+	public Integer getEstoque() {
+		return estoque;
+	}
+
+	/**
+	 * Define o valor do atributo <code>estoque</code>.
+	 * @param estoque
+	 */
+	public void setEstoque(final Integer estoque) {
+		this.estoque = estoque;
+	}
+}
@@ -0,0 +1,64 @@
+package br.com.arquitetura.carga.modelo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.faces.context.FacesContext;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
+import br.com.arquitetura.controller.Controller;
+import br.com.arquitetura.service.Service;
+
+/**
+ * <i>Controller</i> da <code>Entidade</code> {@link Produto}. Cada trabalhador do teste de carga utiliza a sua própria
+ * instância, da mesma forma que cada sessão de usuário possui o seu <i>managed bean</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ProdutoController extends Controller<ProdutoService, ProdutoDAO, Produto> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante RELATORIO. */
+	public static final String RELATORIO = "produtos.jasper";
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public ProdutoController() {
+		super();
+	}
+
+	@Override
+	public Service<ProdutoDAO, Produto> getService() {
+		if (!isReferencia(service)) {
+			service = AmbienteExecucao.getLocalizadorBeans().obter(ProdutoService.class);
+		}
+		return service;
+	}
+
+	/**
+	 * Método responsável por buscar uma página de produtos ordenada pelo identificador.
+	 * @author Wesley Luiz
+	 * @param primeiro - Menor identificador da página.
+	 * @param quantidade - Quantidade máxima de produtos.
+	 * @return Retorna os produtos encontrados.
+	 */
+	public List<Produto> listar(final int primeiro, final int quantidade) {
+		return ((ProdutoService) getService()).listarPagina(primeiro, quantidade);
+	}
+
+	/**
+	 * Método responsável por gerar o relatório <i>.pdf</i> de uma página de produtos, enviado na resposta do
+	 * <code>FacesContext</code> corrente.
+	 * @author Wesley Luiz
+	 * @param primeiro - Menor identificador da página.
+	 * @param quantidade - Quantidade máxima de produtos.
+	 */
+	public void gerarRelatorio(final int primeiro, final int quantidade) {
+		final Map<String, Object> parametros = new HashMap<String, Object>();
+		parametros.put("TITULO", "Produtos a partir de " + primeiro);
+		gerarRelatorioPDF(listar(primeiro, quantidade), parametros, RELATORIO, FacesContext.getCurrentInstance());
+	}
+}
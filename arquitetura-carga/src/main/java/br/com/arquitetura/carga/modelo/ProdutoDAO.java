@@ -0,0 +1,47 @@
+package br.com.arquitetura.carga.modelo;
+
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Restrictions;
+import br.com.arquitetura.dao.HibernateDAO;
+
+/**
+ * <i>DAO</i> da <code>Entidade</code> {@link Produto}. O <code>EntityManager</code> injetado pelo <i>Spring</i> é
+ * compartilhado entre as <i>threads</i>, delegando ao <code>EntityManager</code> da transação corrente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ProdutoDAO extends HibernateDAO<Produto> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	protected EntityManager getEntityManager() {
+		return entityManager;
+	}
+
+	/**
+	 * Define o valor do atributo <code>entityManager</code>.
+	 * @param entityManager
+	 */
+	@PersistenceContext(unitName = "carga")
+	public void setEntityManager(final EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Método responsável por buscar uma página de produtos ordenada pelo identificador.
+	 * @author Wesley Luiz
+	 * @param primeiro - Menor identificador da página.
+	 * @param quantidade - Quantidade máxima de produtos.
+	 * @return Retorna os produtos encontrados.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Produto> listarPagina(final int primeiro, final int quantidade) {
+		return novoCriteria().add(Restrictions.ge("id", primeiro)).addOrder(Order.asc("id")).setMaxResults(quantidade).list();
+	}
+}
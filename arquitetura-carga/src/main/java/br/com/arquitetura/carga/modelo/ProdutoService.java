@@ -0,0 +1,47 @@
+package br.com.arquitetura.carga.modelo;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.service.Service;
+
+/**
+ * <i>Serviço</i> da <code>Entidade</code> {@link Produto}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+@org.springframework.stereotype.Service
+public class ProdutoService extends Service<ProdutoDAO, Produto> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	protected HibernateDAO<Produto> getDao() {
+		return dao;
+	}
+
+	/**
+	 * Define o valor do atributo <code>dao</code>.
+	 * @param dao
+	 */
+	@Autowired
+	public void setDao(final ProdutoDAO dao) {
+		this.dao = dao;
+	}
+
+	/**
+	 * Método responsável por buscar uma página de produtos ordenada pelo identificador.
+	 * @author Wesley Luiz
+	 * @param primeiro - Menor identificador da página.
+	 * @param quantidade - Quantidade máxima de produtos.
+	 * @return Retorna os produtos encontrados.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+	public List<Produto> listarPagina(final int primeiro, final int quantidade) {
+		return ((ProdutoDAO) getDao()).listarPagina(primeiro, quantidade);
+	}
+}
@@ -0,0 +1,113 @@
+package br.com.arquitetura.carga;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Testes do {@link HistogramaLatencia}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class HistogramaLatenciaTest {
+
+	@Test
+	public void histogramaVazio() {
+		final HistogramaLatencia histograma = new HistogramaLatencia();
+
+		assertEquals(0, histograma.getTotal());
+		assertEquals(0, histograma.getMinimo());
+		assertEquals(0, histograma.getMaximo());
+		assertEquals(0, histograma.getMedia(), 0);
+		assertEquals(0, histograma.obterPercentil(99));
+	}
+
+	@Test
+	public void valoresPequenosRegistradosSemErro() {
+		final HistogramaLatencia histograma = new HistogramaLatencia();
+		for (int i = 1; i <= 1000; i++) {
+			histograma.registrar(i);
+		}
+
+		assertEquals(1000, histograma.getTotal());
+		assertEquals(1, histograma.getMinimo());
+		assertEquals(1000, histograma.getMaximo());
+		assertEquals(500.5, histograma.getMedia(), 0.0001);
+		assertEquals(1, histograma.obterPercentil(0));
+		assertEquals(500, histograma.obterPercentil(50));
+		assertEquals(990, histograma.obterPercentil(99));
+		assertEquals(999, histograma.obterPercentil(99.9));
+		assertEquals(1000, histograma.obterPercentil(100));
+	}
+
+	@Test
+	public void percentisComErroRelativoInferiorAUmMilesimo() {
+		final Random aleatorio = new Random(42);
+		final HistogramaLatencia histograma = new HistogramaLatencia();
+		final long[] valores = new long[100000];
+		for (int i = 0; i < valores.length; i++) {
+			valores[i] = (long) Math.exp(aleatorio.nextDouble() * Math.log(HistogramaLatencia.VALOR_MAXIMO));
+			histograma.registrar(valores[i]);
+		}
+		Arrays.sort(valores);
+
+		for (final double percentil : new double[] { 1, 10, 50, 90, 99, 99.9, 99.99, 100 }) {
+			final long esperado = valores[(int) Math.round(percentil / 100 * valores.length) - 1];
+			final long obtido = histograma.obterPercentil(percentil);
+			assertTrue("p" + percentil + ": " + obtido + " < " + esperado, obtido >= esperado);
+			assertTrue("p" + percentil + ": " + obtido + " > " + esperado, obtido - esperado <= esperado / 1000);
+		}
+		assertEquals(valores[0], histograma.getMinimo());
+		assertEquals(valores[valores.length - 1], histograma.getMaximo());
+	}
+
+	@Test
+	public void valoresForaDaFaixaLimitados() {
+		final HistogramaLatencia histograma = new HistogramaLatencia();
+		histograma.registrar(-5);
+		histograma.registrar(HistogramaLatencia.VALOR_MAXIMO * 2);
+
+		assertEquals(0, histograma.getMinimo());
+		assertEquals(HistogramaLatencia.VALOR_MAXIMO, histograma.getMaximo());
+		assertEquals(0, histograma.obterPercentil(50));
+		assertEquals(HistogramaLatencia.VALOR_MAXIMO, histograma.obterPercentil(100));
+	}
+
+	@Test
+	public void combinacaoEquivalenteAoRegistroEmUmUnicoHistograma() {
+		final Random aleatorio = new Random(7);
+		final HistogramaLatencia unico = new HistogramaLatencia();
+		final HistogramaLatencia primeiro = new HistogramaLatencia();
+		final HistogramaLatencia segundo = new HistogramaLatencia();
+		for (int i = 0; i < 20000; i++) {
+			final long valor = aleatorio.nextInt(5000000);
+			unico.registrar(valor);
+			(i % 3 == 0 ? primeiro : segundo).registrar(valor);
+		}
+
+		primeiro.adicionar(segundo);
+
+		assertEquals(unico.getTotal(), primeiro.getTotal());
+		assertEquals(unico.getMinimo(), primeiro.getMinimo());
+		assertEquals(unico.getMaximo(), primeiro.getMaximo());
+		assertEquals(unico.getMedia(), primeiro.getMedia(), 0);
+		for (final double percentil : new double[] { 50, 90, 99, 99.9 }) {
+			assertEquals(unico.obterPercentil(percentil), primeiro.obterPercentil(percentil));
+		}
+	}
+
+	@Test
+	public void combinacaoComHistogramaVazio() {
+		final HistogramaLatencia histograma = new HistogramaLatencia();
+		histograma.registrar(250);
+
+		histograma.adicionar(new HistogramaLatencia());
+
+		assertEquals(1, histograma.getTotal());
+		assertEquals(250, histograma.getMinimo());
+		assertEquals(250, histograma.obterPercentil(50));
+	}
+}
@@ -0,0 +1,109 @@
+package br.com.arquitetura.ambiente;
+
+import java.io.File;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Mantém os recursos de ambiente utilizados pela arquitetura: o {@link CanalMensagem}, o {@link ResolvedorCaminho} e o
+ * {@link LocalizadorBeans}.<br>
+ * Por padrão ambos utilizam o <code>FacesContext</code> corrente. Processos executados fora de um contêiner <i>web</i>, como
+ * rotinas em lote, devem configurar o ambiente antes de utilizar os <i>Serviços</i>, <i>DAO</i>(s) e relatórios. Exemplo de uso:
+ * <pre>
+ * public static void main(final String[] args) {
+ * 	AmbienteExecucao.configurarSemInterface(new File("src/main/webapp"));
+ * 	...
+ * }
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class AmbienteExecucao extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo canalMensagem. */
+	private static volatile CanalMensagem canalMensagem = new CanalMensagemJSF();
+
+	/** Atributo resolvedorCaminho. */
+	private static volatile ResolvedorCaminho resolvedorCaminho = new ResolvedorCaminhoJSF();
+
+	/** Atributo localizadorBeans. */
+	private static volatile LocalizadorBeans localizadorBeans = new LocalizadorBeansSpring();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private AmbienteExecucao() {
+		super();
+	}
+
+	/**
+	 * Método responsável por configurar o ambiente para execução sem <i>JSF</i>, registrando as mensagens em <i>log</i>
+	 * e resolvendo os caminhos a partir de um diretório.
+	 * @author Wesley Luiz
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação.
+	 */
+	public static void configurarSemInterface(final File diretorioBase) {
+		canalMensagem = new CanalMensagemLog();
+		resolvedorCaminho = new ResolvedorCaminhoDiretorio(diretorioBase);
+	}
+
+	/**
+	 * Método responsável por restaurar a configuração padrão, baseada no <code>FacesContext</code>.
+	 * @author Wesley Luiz
+	 */
+	public static void configurarJSF() {
+		canalMensagem = new CanalMensagemJSF();
+		resolvedorCaminho = new ResolvedorCaminhoJSF();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>canalMensagem</code>
+	 * @return <code>CanalMensagem</code>
+	 */
+	public static CanalMensagem getCanalMensagem() {
+		return canalMensagem;
+	}
+
+	/**
+	 * Define o valor do atributo <code>canalMensagem</code>.
+	 * @param canalMensagem
+	 */
+	public static void setCanalMensagem(final CanalMensagem canalMensagem) {
+		AmbienteExecucao.canalMensagem = canalMensagem;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>resolvedorCaminho</code>
+	 * @return <code>ResolvedorCaminho</code>
+	 */
+	public static ResolvedorCaminho getResolvedorCaminho() {
+		return resolvedorCaminho;
+	}
+
+	/**
+	 * Define o valor do atributo <code>resolvedorCaminho</code>.
+	 * @param resolvedorCaminho
+	 */
+	public static void setResolvedorCaminho(final ResolvedorCaminho resolvedorCaminho) {
+		AmbienteExecucao.resolvedorCaminho = resolvedorCaminho;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>localizadorBeans</code>
+	 * @return <code>LocalizadorBeans</code>
+	 */
+	public static LocalizadorBeans getLocalizadorBeans() {
+		return localizadorBeans;
+	}
+
+	/**
+	 * Define o valor do atributo <code>localizadorBeans</code>.
+	 * @param localizadorBeans
+	 */
+	public static void setLocalizadorBeans(final LocalizadorBeans localizadorBeans) {
+		AmbienteExecucao.localizadorBeans = localizadorBeans;
+	}
+}
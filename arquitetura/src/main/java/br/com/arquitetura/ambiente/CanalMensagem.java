@@ -0,0 +1,24 @@
+package br.com.arquitetura.ambiente;
+
+import javax.faces.application.FacesMessage.Severity;
+
+/**
+ * Destino das mensagens exibidas ao usuário pelas camadas de <i>Visão</i> e <i>Serviço</i>.<br>
+ * Em uma aplicação <i>web</i> as mensagens são adicionadas ao <code>FacesContext</code> corrente, enquanto em processos
+ * executados fora de um contêiner elas podem ser registradas em <i>log</i> ou coletadas pelo próprio processo.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see AmbienteExecucao
+ */
+public interface CanalMensagem {
+
+	/**
+	 * Método responsável por exibir uma mensagem.
+	 * @author Wesley Luiz
+	 * @param gravidade - Gravidade da mensagem, uma das constantes <code>GRAVIDADE_*</code> de {@link br.com.arquitetura.bundle.Bundle}.
+	 * @param resumo - Texto principal da mensagem.
+	 * @param detalhe - Detalhes da mensagem, pode ser <code>null</code>.
+	 */
+	void exibir(Severity gravidade, String resumo, String detalhe);
+}
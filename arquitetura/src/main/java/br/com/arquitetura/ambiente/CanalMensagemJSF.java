@@ -0,0 +1,23 @@
+package br.com.arquitetura.ambiente;
+
+import javax.faces.application.FacesMessage;
+import javax.faces.application.FacesMessage.Severity;
+import javax.faces.context.FacesContext;
+
+/**
+ * Canal de mensagens padrão das aplicações <i>web</i>, que adiciona as mensagens ao <code>FacesContext</code> da requisição corrente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class CanalMensagemJSF implements CanalMensagem {
+
+	@Override
+	public void exibir(final Severity gravidade, final String resumo, final String detalhe) {
+		final FacesContext facesContext = FacesContext.getCurrentInstance();
+		if (facesContext == null) {
+			throw new IllegalStateException("Não existe FacesContext na thread corrente, configure um CanalMensagem através de AmbienteExecucao.");
+		}
+		facesContext.addMessage(null, new FacesMessage(gravidade, resumo, detalhe));
+	}
+}
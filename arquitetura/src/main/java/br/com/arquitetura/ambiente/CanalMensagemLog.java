@@ -0,0 +1,47 @@
+package br.com.arquitetura.ambiente;
+
+import javax.faces.application.FacesMessage;
+import javax.faces.application.FacesMessage.Severity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Canal de mensagens para processos executados fora de um contêiner <i>web</i>, que registra as mensagens em <i>log</i>
+ * com o nível correspondente à gravidade.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class CanalMensagemLog implements CanalMensagem {
+
+	/** Atributo logger. */
+	private final Logger logger;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public CanalMensagemLog() {
+		this(LoggerFactory.getLogger(CanalMensagemLog.class));
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param logger - <code>Logger</code> onde as mensagens serão registradas.
+	 */
+	public CanalMensagemLog(final Logger logger) {
+		this.logger = logger;
+	}
+
+	@Override
+	public void exibir(final Severity gravidade, final String resumo, final String detalhe) {
+		final String mensagem = detalhe == null ? resumo : resumo + " " + detalhe;
+
+		if (FacesMessage.SEVERITY_FATAL.equals(gravidade) || FacesMessage.SEVERITY_ERROR.equals(gravidade)) {
+			logger.error(mensagem);
+		} else if (FacesMessage.SEVERITY_WARN.equals(gravidade)) {
+			logger.warn(mensagem);
+		} else {
+			logger.info(mensagem);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package br.com.arquitetura.ambiente;
+
+/**
+ * Responsável por localizar os <i>beans</i> da aplicação, como <i>Serviços</i> e <i>DAO</i>(s), que não são gravados junto com o
+ * estado dos objetos serializados e precisam ser obtidos novamente quando a sessão é restaurada.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see AmbienteExecucao
+ */
+public interface LocalizadorBeans {
+
+	/**
+	 * Método responsável por obter o <i>bean</i> de um determinado tipo.
+	 * @author Wesley Luiz
+	 * @param tipo - Tipo do <i>bean</i>.
+	 * @return Retorna o <i>bean</i> encontrado ou <code>null</code> caso não exista.
+	 */
+	<T> T obter(Class<T> tipo);
+}
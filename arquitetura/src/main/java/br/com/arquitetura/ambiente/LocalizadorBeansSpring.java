@@ -0,0 +1,53 @@
+package br.com.arquitetura.ambiente;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.web.context.ContextLoader;
+
+/**
+ * Localizador de <i>beans</i> que utiliza um <code>ApplicationContext</code> do <i>Spring</i>. Quando nenhum contexto é informado,
+ * utiliza o contexto da aplicação <i>web</i> corrente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class LocalizadorBeansSpring implements LocalizadorBeans {
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(LocalizadorBeansSpring.class);
+
+	/** Atributo contexto. */
+	private final ApplicationContext contexto;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public LocalizadorBeansSpring() {
+		this(null);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param contexto - <code>ApplicationContext</code> onde os <i>beans</i> serão procurados.
+	 */
+	public LocalizadorBeansSpring(final ApplicationContext contexto) {
+		this.contexto = contexto;
+	}
+
+	@Override
+	public <T> T obter(final Class<T> tipo) {
+		final ApplicationContext atual = contexto != null ? contexto : ContextLoader.getCurrentWebApplicationContext();
+		if (atual == null) {
+			return null;
+		}
+
+		try {
+			return atual.getBean(tipo);
+		} catch (final BeansException e) {
+			LOGGER.warn("Não foi possível localizar o bean do tipo " + tipo.getName() + ".", e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package br.com.arquitetura.ambiente;
+
+/**
+ * Responsável por converter os caminhos relativos à raiz da aplicação, como <code>/WEB-INF/relatorios/</code>,
+ * em caminhos do sistema de arquivos.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see AmbienteExecucao
+ */
+public interface ResolvedorCaminho {
+
+	/**
+	 * Método responsável por obter o caminho real de um recurso da aplicação.
+	 * @author Wesley Luiz
+	 * @param caminho - Caminho relativo à raiz da aplicação.
+	 * @return Retorna o caminho no sistema de arquivos.
+	 */
+	String obterCaminhoReal(String caminho);
+}
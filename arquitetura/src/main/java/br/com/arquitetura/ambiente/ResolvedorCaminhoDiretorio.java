@@ -0,0 +1,38 @@
+package br.com.arquitetura.ambiente;
+
+import java.io.File;
+
+/**
+ * Resolvedor de caminhos para processos executados fora de um contêiner <i>web</i>, que resolve os caminhos a partir de um
+ * diretório base, normalmente o diretório <i>webapp</i> da aplicação ou uma cópia dos seus recursos.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ResolvedorCaminhoDiretorio implements ResolvedorCaminho {
+
+	/** Atributo diretorioBase. */
+	private final File diretorioBase;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorioBase - Diretório correspondente à raiz da aplicação.
+	 */
+	public ResolvedorCaminhoDiretorio(final File diretorioBase) {
+		this.diretorioBase = diretorioBase;
+	}
+
+	@Override
+	public String obterCaminhoReal(final String caminho) {
+		final String caminhoReal = new File(diretorioBase, caminho).getPath();
+		return caminho.endsWith("/") || caminho.endsWith(File.separator) ? caminhoReal + File.separator : caminhoReal;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>diretorioBase</code>
+	 * @return <code>File</code>
+	 */
+	public File getDiretorioBase() {
+		return diretorioBase;
+	}
+}
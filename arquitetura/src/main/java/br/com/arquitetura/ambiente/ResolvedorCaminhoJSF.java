@@ -0,0 +1,22 @@
+package br.com.arquitetura.ambiente;
+
+import javax.faces.context.FacesContext;
+import javax.servlet.ServletContext;
+
+/**
+ * Resolvedor de caminhos padrão das aplicações <i>web</i>, que utiliza o <code>ServletContext</code> da requisição corrente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ResolvedorCaminhoJSF implements ResolvedorCaminho {
+
+	@Override
+	public String obterCaminhoReal(final String caminho) {
+		final FacesContext facesContext = FacesContext.getCurrentInstance();
+		if (facesContext == null) {
+			throw new IllegalStateException("Não existe FacesContext na thread corrente, configure um ResolvedorCaminho através de AmbienteExecucao.");
+		}
+		return ((ServletContext) facesContext.getExternalContext().getContext()).getRealPath(caminho);
+	}
+}
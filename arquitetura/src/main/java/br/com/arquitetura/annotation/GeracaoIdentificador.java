@@ -0,0 +1,66 @@
+package br.com.arquitetura.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import br.com.arquitetura.enumerator.EnumGeracaoIdentificador;
+
+/**
+ * Define a geração do identificador de uma <code>Entidade</code>, substituindo a coluna <code>IDENTITY</code> padrão por uma
+ * sequência ou tabela que reserva <code>alocacao</code> identificadores a cada acesso. Como o identificador é conhecido antes
+ * da inclusão, o <i>Hibernate</i> pode agrupar as inclusões em lotes <i>JDBC</i> (<code>hibernate.jdbc.batch_size</code>).
+ * Exemplo de uso:
+ * <pre>
+ * &#64;Entity
+ * &#64;GeracaoIdentificador(estrategia = EnumGeracaoIdentificador.SEQUENCIA, alocacao = 100)
+ * public class Lancamento extends Entidade {
+ * 	...
+ * }
+ * </pre>
+ * Ao migrar uma tabela existente, o valor inicial deve ser maior que o maior identificador já cadastrado e a coluna deve aceitar
+ * valores informados na inclusão.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.entidade.IntegradorGeracaoIdentificador
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface GeracaoIdentificador {
+
+	/**
+	 * Forma de geração do identificador.
+	 * @return <code>EnumGeracaoIdentificador</code>
+	 */
+	EnumGeracaoIdentificador estrategia() default EnumGeracaoIdentificador.SEQUENCIA;
+
+	/**
+	 * Quantidade de identificadores reservados a cada acesso à sequência ou tabela.
+	 * @return <code>int</code>
+	 */
+	int alocacao() default 50;
+
+	/**
+	 * Primeiro identificador gerado.
+	 * @return <code>int</code>
+	 */
+	int valorInicial() default 1;
+
+	/**
+	 * Nome da sequência, ou da linha na tabela de sequências. Quando não informado é utilizado o nome da tabela da
+	 * <code>Entidade</code> seguido de <code>_seq</code>, ou o próprio nome da tabela.
+	 * @return <code>String</code>
+	 */
+	String nome() default "";
+
+	/**
+	 * Indica se os identificadores são reservados no formato <i>hi/lo</i>, em que o valor gravado na sequência é multiplicado
+	 * pela alocação, em vez do formato <i>pooled</i>, em que o valor gravado é o maior identificador reservado e que permite
+	 * inclusões feitas por outros sistemas através da mesma sequência.
+	 * @return <code>boolean</code>
+	 */
+	boolean hiLo() default false;
+}
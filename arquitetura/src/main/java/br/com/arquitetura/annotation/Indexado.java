@@ -0,0 +1,18 @@
+package br.com.arquitetura.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indica que o atributo <code>String</code> de uma <code>Entidade</code> faz parte do índice em memória utilizado no autocompletar.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.indice.IndiceTexto
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Indexado {
+}
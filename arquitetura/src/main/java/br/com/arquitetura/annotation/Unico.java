@@ -0,0 +1,25 @@
+package br.com.arquitetura.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indica que o valor do atributo de uma <code>Entidade</code> não pode se repetir entre os registros, permitindo que as
+ * inclusões duplicadas sejam rejeitadas antes de chegar ao <i>Banco de Dados</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.unicidade.VerificadorUnicidade
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Unico {
+
+	/**
+	 * Indica se letras maiúsculas e minúsculas devem ser consideradas iguais, como em endereços de <i>e-mail</i>.
+	 * @return <code>boolean</code>
+	 */
+	boolean ignorarMaiusculas() default false;
+}
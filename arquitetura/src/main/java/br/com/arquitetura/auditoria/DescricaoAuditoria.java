@@ -0,0 +1,171 @@
+package br.com.arquitetura.auditoria;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.Transient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Descrição dos atributos de uma <code>Entidade</code> registrados no {@link DiarioAuditoria}, calculada uma única vez por classe.<br>
+ * São registrados os atributos persistentes, ordenados da superclasse para a subclasse e, em cada classe, pelo nome. O identificador
+ * é gravado no cabeçalho do registro, e as coleções não são registradas para que associações <i>lazy</i> não sejam carregadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class DescricaoAuditoria {
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(DescricaoAuditoria.class);
+
+	/** Constante DESCRICOES. */
+	private static final ConcurrentMap<Class<?>, DescricaoAuditoria> DESCRICOES = new ConcurrentHashMap<Class<?>, DescricaoAuditoria>();
+
+	/** Constante ORDEM_NOME. */
+	private static final Comparator<Field> ORDEM_NOME = new Comparator<Field>() {
+		@Override
+		public int compare(final Field campo, final Field outro) {
+			return campo.getName().compareTo(outro.getName());
+		}
+	};
+
+	/** Atributo classe. */
+	private final Class<?> classe;
+
+	/** Atributo campos. */
+	private final Field[] campos;
+
+	/** Atributo nomes. */
+	private final String[] nomes;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe descrita.
+	 */
+	private DescricaoAuditoria(final Class<?> classe) {
+		final List<Class<?>> hierarquia = new ArrayList<Class<?>>();
+		for (Class<?> atual = classe; atual != null && atual != Object.class; atual = atual.getSuperclass()) {
+			hierarquia.add(0, atual);
+		}
+
+		final List<Field> registrados = new ArrayList<Field>();
+		for (final Class<?> atual : hierarquia) {
+			final Field[] declarados = atual.getDeclaredFields();
+			Arrays.sort(declarados, ORDEM_NOME);
+			for (final Field campo : declarados) {
+				if (isRegistrado(atual, campo)) {
+					campo.setAccessible(true);
+					registrados.add(campo);
+				}
+			}
+		}
+
+		this.classe = classe;
+		this.campos = registrados.toArray(new Field[registrados.size()]);
+		this.nomes = new String[campos.length];
+		for (int i = 0; i < campos.length; i++) {
+			nomes[i] = campos[i].getName();
+		}
+	}
+
+	private static boolean isRegistrado(final Class<?> declarante, final Field campo) {
+		final int modificadores = campo.getModifiers();
+		if (Modifier.isStatic(modificadores) || Modifier.isTransient(modificadores) || campo.isAnnotationPresent(Transient.class)) {
+			return false;
+		}
+		if (declarante == Entidade.class && "id".equals(campo.getName())) {
+			return false;
+		}
+		final Class<?> tipo = campo.getType();
+		return !Collection.class.isAssignableFrom(tipo) && !Map.class.isAssignableFrom(tipo) && !Service.class.isAssignableFrom(tipo)
+				&& !HibernateDAO.class.isAssignableFrom(tipo);
+	}
+
+	/**
+	 * Método responsável por obter a descrição de uma classe.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @return Retorna a descrição da classe.
+	 */
+	static DescricaoAuditoria obter(final Class<?> classe) {
+		DescricaoAuditoria descricao = DESCRICOES.get(classe);
+		if (descricao == null) {
+			descricao = new DescricaoAuditoria(classe);
+			final DescricaoAuditoria existente = DESCRICOES.putIfAbsent(classe, descricao);
+			if (existente != null) {
+				descricao = existente;
+			}
+		}
+		return descricao;
+	}
+
+	/**
+	 * Método responsável por copiar os valores dos atributos registrados. Os valores são convertidos para os tipos gravados no
+	 * diário: as entidades associadas são representadas pelo identificador, as enumerações pelo nome e os tipos não suportados
+	 * pelo <code>toString()</code>.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> incluída ou alterada.
+	 * @return Retorna os valores, na ordem de {@link #getNomes()}.
+	 */
+	Object[] capturar(final Entidade entidade) {
+		final Object[] valores = new Object[campos.length];
+		for (int i = 0; i < campos.length; i++) {
+			try {
+				valores[i] = converter(campos[i].get(entidade));
+			} catch (final IllegalAccessException e) {
+				LOGGER.error("Não foi possível ler o atributo " + campos[i].getName() + " de " + classe.getName() + ".", e);
+			}
+		}
+		return valores;
+	}
+
+	private static Object converter(final Object valor) {
+		if (valor == null || valor instanceof String || valor instanceof Integer || valor instanceof Long || valor instanceof Boolean
+				|| valor instanceof Double || valor instanceof BigDecimal) {
+			return valor;
+		} else if (valor instanceof Entidade) {
+			return ((Entidade) valor).getId();
+		} else if (valor instanceof Enum) {
+			return ((Enum<?>) valor).name();
+		} else if (valor instanceof Date) {
+			return new Date(((Date) valor).getTime());
+		} else if (valor instanceof Short || valor instanceof Byte) {
+			return ((Number) valor).intValue();
+		} else if (valor instanceof Float) {
+			return ((Number) valor).doubleValue();
+		} else if (valor instanceof Character) {
+			return valor.toString();
+		}
+		return valor.toString();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class&lt;?&gt;</code>
+	 */
+	Class<?> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna os nomes dos atributos registrados.
+	 * @return <code>String[]</code>
+	 */
+	String[] getNomes() {
+		return nomes;
+	}
+}
@@ -0,0 +1,475 @@
+package br.com.arquitetura.auditoria;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.enumerator.EnumSincronizacao;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.evento.EventoEntidade;
+import br.com.arquitetura.evento.FilaCircular;
+import br.com.arquitetura.evento.OuvinteEntidade;
+
+/**
+ * Diário de auditoria que registra as inclusões, alterações e remoções de entidades em arquivos binários somente de acréscimo,
+ * substituindo as tabelas de auditoria gravadas na mesma transação.<br>
+ * O diário é inscrito como ouvinte síncrono do {@link BarramentoEventos} e, portanto, registra apenas as transações confirmadas.
+ * Na <i>thread</i> que confirmou a transação são apenas copiados os atributos da <code>Entidade</code> e incluída a cópia em uma
+ * {@link FilaCircular}; uma única <i>thread</i> gravadora retira as cópias e as grava em segmentos mapeados em memória, criando um
+ * novo segmento quando o atual está cheio. Nas alterações são gravados apenas os atributos diferentes do último registro da
+ * mesma <code>Entidade</code> no segmento. Exemplo de uso:
+ * <pre>
+ * final DiarioAuditoria diario = new DiarioAuditoria(new File("/var/auditoria"));
+ * diario.setSincronizacao(EnumSincronizacao.PERIODICA);
+ * diario.iniciar();
+ * ...
+ * diario.encerrar();
+ * </pre>
+ * Quando a fila está cheia a <i>thread</i> que confirmou a transação aguarda a gravadora em vez de descartar o registro. Os
+ * segmentos são lidos pelo {@link LeitorDiario}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see EnumSincronizacao
+ */
+public final class DiarioAuditoria implements OuvinteEntidade {
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(DiarioAuditoria.class);
+
+	/** Constante ESPERA_MAXIMA. */
+	private static final long ESPERA_MAXIMA = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/** Constante ESPERA_PRODUTOR. */
+	private static final long ESPERA_PRODUTOR = TimeUnit.MICROSECONDS.toNanos(50);
+
+	/** Atributo diretorio. */
+	private final File diretorio;
+
+	/** Atributo tamanhoSegmento. */
+	private int tamanhoSegmento = 64 * 1024 * 1024;
+
+	/** Atributo capacidade. */
+	private int capacidade = 16384;
+
+	/** Atributo estadosMantidos. */
+	private int estadosMantidos = 10000;
+
+	/** Atributo sincronizacao. */
+	private EnumSincronizacao sincronizacao = EnumSincronizacao.PERIODICA;
+
+	/** Atributo intervaloSincronizacao, em milissegundos. */
+	private long intervaloSincronizacao = 1000;
+
+	/** Atributo fila. */
+	private FilaCircular<RegistroPendente> fila;
+
+	/** Atributo gravadora. */
+	private Thread gravadora;
+
+	/** Atributo ativo. */
+	private volatile boolean ativo;
+
+	/** Atributo aguardando. */
+	private volatile boolean aguardando;
+
+	/** Atributo registrados. */
+	private final AtomicLong registrados = new AtomicLong();
+
+	/** Atributo esperas. */
+	private final AtomicLong esperas = new AtomicLong();
+
+	/** Atributo descartados. */
+	private final AtomicLong descartados = new AtomicLong();
+
+	/** Atributo gravados. */
+	private volatile long gravados;
+
+	/** Atributo sincronizacoes. */
+	private volatile long sincronizacoes;
+
+	/** Atributo segmento, utilizado apenas pela <i>thread</i> gravadora após o início. */
+	private SegmentoDiario segmento;
+
+	/** Atributo definicoes, com o índice de cada classe definida no segmento atual. */
+	private final Map<DescricaoAuditoria, Short> definicoes = new HashMap<DescricaoAuditoria, Short>();
+
+	/** Atributo estados, com os últimos valores gravados de cada <code>Entidade</code> no segmento atual. */
+	private Map<String, Object[]> estados;
+
+	/** Atributo buffer. */
+	private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+	/** Atributo crc. */
+	private final CRC32 crc = new CRC32();
+
+	/** Atributo ultimaSincronizacao. */
+	private long ultimaSincronizacao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorio - Diretório dos segmentos, criado caso não exista.
+	 */
+	public DiarioAuditoria(final File diretorio) {
+		this.diretorio = diretorio;
+	}
+
+	/**
+	 * Método responsável por criar o primeiro segmento, iniciar a <i>thread</i> gravadora e inscrever o diário no
+	 * {@link BarramentoEventos}. Os segmentos existentes no diretório são mantidos e a sequência continua a partir do último.
+	 * @author Wesley Luiz
+	 * @throws IOException Lança uma exceção caso o segmento não possa ser criado.
+	 */
+	public synchronized void iniciar() throws IOException {
+		if (ativo) {
+			return;
+		}
+		if (!diretorio.isDirectory() && !diretorio.mkdirs()) {
+			throw new IOException("Não foi possível criar o diretório do diário: " + diretorio);
+		}
+
+		long ultima = 0;
+		for (final File arquivo : LeitorDiario.listarSegmentos(diretorio)) {
+			ultima = Math.max(ultima, FormatoDiario.obterSequencia(arquivo.getName()));
+		}
+		segmento = new SegmentoDiario(diretorio, ultima + 1, tamanhoSegmento);
+		estados = criarEstados(estadosMantidos);
+		ultimaSincronizacao = System.nanoTime();
+
+		fila = new FilaCircular<RegistroPendente>(capacidade);
+		gravadora = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				gravar();
+			}
+		}, "diario-auditoria");
+		gravadora.setDaemon(true);
+		ativo = true;
+		gravadora.start();
+		BarramentoEventos.getInstance().inscrever(this);
+	}
+
+	/**
+	 * Método responsável por cancelar a inscrição no {@link BarramentoEventos}, gravar os registros ainda na fila e sincronizar
+	 * o segmento atual, exceto com a sincronização {@link EnumSincronizacao#NUNCA}.
+	 * @author Wesley Luiz
+	 * @throws InterruptedException Lança uma exceção caso a <i>thread</i> seja interrompida aguardando a gravadora.
+	 */
+	public synchronized void encerrar() throws InterruptedException {
+		if (!ativo) {
+			return;
+		}
+		BarramentoEventos.getInstance().cancelar(this);
+		ativo = false;
+		LockSupport.unpark(gravadora);
+		gravadora.join();
+	}
+
+	@Override
+	public void notificar(final EventoEntidade evento) {
+		registrar(evento.getEntidade(), evento.getOperacao(), evento.getMomento());
+	}
+
+	/**
+	 * Método responsável por registrar uma alteração diretamente, sem passar pelo {@link BarramentoEventos}. Os atributos são
+	 * copiados antes do retorno, e a gravação é feita pela <i>thread</i> gravadora.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> incluída, alterada ou removida.
+	 * @param operacao - Operação realizada.
+	 * @param momento - Momento da alteração em milissegundos.
+	 */
+	public void registrar(final Entidade entidade, final EnumOperacao operacao, final long momento) {
+		if (!ativo || entidade == null) {
+			return;
+		}
+		final DescricaoAuditoria descricao = DescricaoAuditoria.obter(entidade.getClass());
+		final Object[] valores = operacao == EnumOperacao.REMOCAO ? null : descricao.capturar(entidade);
+		final RegistroPendente registro = new RegistroPendente(descricao, entidade.getId(), operacao, momento, valores);
+
+		if (!fila.oferecer(registro)) {
+			esperas.incrementAndGet();
+			do {
+				LockSupport.unpark(gravadora);
+				LockSupport.parkNanos(this, ESPERA_PRODUTOR);
+				if (!ativo) {
+					descartados.incrementAndGet();
+					return;
+				}
+			} while (!fila.oferecer(registro));
+		}
+		registrados.incrementAndGet();
+		if (aguardando) {
+			LockSupport.unpark(gravadora);
+		}
+	}
+
+	private void gravar() {
+		final long espera = Math.min(ESPERA_MAXIMA, TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervaloSincronizacao)));
+		while (ativo || !fila.isVazia()) {
+			final RegistroPendente registro = fila.retirar();
+			if (registro == null) {
+				sincronizar(sincronizacao == EnumSincronizacao.SEMPRE);
+				aguardando = true;
+				if (ativo && fila.isVazia()) {
+					LockSupport.parkNanos(this, espera);
+				}
+				aguardando = false;
+				continue;
+			}
+
+			try {
+				gravar(registro);
+				gravados++;
+			} catch (final IOException | RuntimeException e) {
+				descartados.incrementAndGet();
+				LOGGER.error("Registro de auditoria de " + registro.getDescricao().getClasse().getName() + " descartado.", e);
+			}
+		}
+		sincronizar(sincronizacao != EnumSincronizacao.NUNCA);
+	}
+
+	/**
+	 * Método responsável por sincronizar o segmento atual de acordo com a política configurada.
+	 * @author Wesley Luiz
+	 * @param forcar - Indica se a sincronização deve ser feita independente do intervalo.
+	 */
+	private void sincronizar(final boolean forcar) {
+		final long agora = System.nanoTime();
+		final boolean vencida = sincronizacao == EnumSincronizacao.PERIODICA
+				&& agora - ultimaSincronizacao >= TimeUnit.MILLISECONDS.toNanos(intervaloSincronizacao);
+		if ((forcar || vencida) && segmento.sincronizar()) {
+			sincronizacoes++;
+			ultimaSincronizacao = agora;
+		}
+	}
+
+	/**
+	 * Método responsável por gravar um registro no segmento atual, precedido da definição da classe caso seja a primeira
+	 * ocorrência da classe no segmento.
+	 * @author Wesley Luiz
+	 * @param registro - Registro retirado da fila.
+	 * @throws IOException Lança uma exceção caso um novo segmento não possa ser criado.
+	 */
+	private void gravar(final RegistroPendente registro) throws IOException {
+		final DescricaoAuditoria descricao = registro.getDescricao();
+		final int tamanhoMaximo = medirDefinicao(descricao) + medirAlteracao(registro) + 2 * FormatoDiario.TAMANHO_MOLDURA;
+		if (tamanhoMaximo > tamanhoSegmento - FormatoDiario.TAMANHO_CABECALHO - 4) {
+			throw new IOException("Registro de " + descricao.getClasse().getName() + " maior que o tamanho do segmento.");
+		}
+		if (!segmento.caber(tamanhoMaximo)) {
+			rotacionar();
+		}
+
+		Short indice = definicoes.get(descricao);
+		if (indice == null) {
+			indice = (short) definicoes.size();
+			definicoes.put(descricao, indice);
+			prepararBuffer(medirDefinicao(descricao));
+			buffer.put(FormatoDiario.DEFINICAO).putShort(indice);
+			FormatoDiario.gravarTexto(buffer, descricao.getClasse().getName());
+			buffer.putShort((short) descricao.getNomes().length);
+			for (final String nome : descricao.getNomes()) {
+				FormatoDiario.gravarTexto(buffer, nome);
+			}
+			concluirBuffer();
+		}
+
+		prepararBuffer(medirAlteracao(registro));
+		final String chave = registro.getId() == null ? null : indice + ":" + registro.getId();
+		final Object[] valores = registro.getValores();
+		final Object[] anteriores = chave == null ? null : estados.get(chave);
+		final boolean completo = registro.getOperacao() == EnumOperacao.INCLUSAO || (valores != null && anteriores == null);
+
+		buffer.put(FormatoDiario.ALTERACAO).put((byte) registro.getOperacao().ordinal()).put(completo ? FormatoDiario.COMPLETO : 0)
+				.putLong(registro.getMomento()).putShort(indice).putInt(registro.getId() == null ? FormatoDiario.SEM_ID : registro.getId());
+		final int posicaoQuantidade = buffer.position();
+		buffer.putShort((short) 0);
+		short quantidade = 0;
+		if (valores != null) {
+			for (int i = 0; i < valores.length; i++) {
+				final boolean gravar = completo ? valores[i] != null : !Objects.equals(valores[i], anteriores[i]);
+				if (gravar) {
+					buffer.putShort((short) i);
+					FormatoDiario.gravarValor(buffer, valores[i]);
+					quantidade++;
+				}
+			}
+		}
+		buffer.putShort(posicaoQuantidade, quantidade);
+		concluirBuffer();
+
+		if (chave != null) {
+			if (valores == null) {
+				estados.remove(chave);
+			} else {
+				estados.put(chave, valores);
+			}
+		}
+	}
+
+	private void prepararBuffer(final int tamanho) {
+		if (buffer.capacity() < tamanho) {
+			buffer = ByteBuffer.allocate(Math.max(tamanho, buffer.capacity() * 2));
+		}
+		buffer.clear();
+	}
+
+	private void concluirBuffer() {
+		buffer.flip();
+		crc.reset();
+		crc.update(buffer.array(), 0, buffer.limit());
+		segmento.gravar(buffer, (int) crc.getValue());
+	}
+
+	private static int medirDefinicao(final DescricaoAuditoria descricao) {
+		int tamanho = 1 + 2 + 4 + descricao.getClasse().getName().length() * 3 + 2;
+		for (final String nome : descricao.getNomes()) {
+			tamanho += 4 + nome.length() * 3;
+		}
+		return tamanho;
+	}
+
+	private static int medirAlteracao(final RegistroPendente registro) {
+		int tamanho = 1 + 1 + 1 + 8 + 2 + 4 + 2;
+		if (registro.getValores() != null) {
+			for (final Object valor : registro.getValores()) {
+				tamanho += 2 + FormatoDiario.medirValor(valor);
+			}
+		}
+		return tamanho;
+	}
+
+	/**
+	 * Método responsável por encerrar o segmento atual e criar o próximo, que recomeça as definições de classe e os estados.
+	 * @author Wesley Luiz
+	 * @throws IOException Lança uma exceção caso o novo segmento não possa ser criado.
+	 */
+	private void rotacionar() throws IOException {
+		sincronizar(sincronizacao != EnumSincronizacao.NUNCA);
+		segmento = new SegmentoDiario(diretorio, segmento.getSequencia() + 1, tamanhoSegmento);
+		definicoes.clear();
+		estados.clear();
+	}
+
+	private static Map<String, Object[]> criarEstados(final int maximo) {
+		return new LinkedHashMap<String, Object[]>(16, 0.75f, true) {
+
+			/** Atributo serialVersionUID. */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Object[]> maisAntigo) {
+				return size() > maximo;
+			}
+		};
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>diretorio</code>
+	 * @return <code>File</code>
+	 */
+	public File getDiretorio() {
+		return diretorio;
+	}
+
+	/**
+	 * Define o tamanho, em <i>bytes</i>, de cada segmento. Deve ser definido antes de {@link #iniciar()}.
+	 * @param tamanhoSegmento
+	 */
+	public void setTamanhoSegmento(final int tamanhoSegmento) {
+		this.tamanhoSegmento = tamanhoSegmento;
+	}
+
+	/**
+	 * Define a quantidade máxima de registros aguardando gravação. Deve ser definida antes de {@link #iniciar()}.
+	 * @param capacidade
+	 */
+	public void setCapacidade(final int capacidade) {
+		this.capacidade = capacidade;
+	}
+
+	/**
+	 * Define a quantidade de entidades cujos últimos valores são mantidos para gravar apenas os atributos alterados. Deve ser
+	 * definida antes de {@link #iniciar()}.
+	 * @param estadosMantidos
+	 */
+	public void setEstadosMantidos(final int estadosMantidos) {
+		this.estadosMantidos = estadosMantidos;
+	}
+
+	/**
+	 * Define o valor do atributo <code>sincronizacao</code>. Deve ser definida antes de {@link #iniciar()}.
+	 * @param sincronizacao
+	 */
+	public void setSincronizacao(final EnumSincronizacao sincronizacao) {
+		this.sincronizacao = sincronizacao;
+	}
+
+	/**
+	 * Define o intervalo, em milissegundos, da sincronização {@link EnumSincronizacao#PERIODICA}. Deve ser definido antes de
+	 * {@link #iniciar()}.
+	 * @param intervaloSincronizacao
+	 */
+	public void setIntervaloSincronizacao(final long intervaloSincronizacao) {
+		this.intervaloSincronizacao = intervaloSincronizacao;
+	}
+
+	/**
+	 * Retorna a quantidade de registros incluídos na fila.
+	 * @return <code>long</code>
+	 */
+	public long getRegistrados() {
+		return registrados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de registros gravados nos segmentos.
+	 * @return <code>long</code>
+	 */
+	public long getGravados() {
+		return gravados;
+	}
+
+	/**
+	 * Retorna a quantidade de registros aguardando gravação.
+	 * @return <code>long</code>
+	 */
+	public long getPendentes() {
+		return fila == null ? 0 : fila.getTamanho();
+	}
+
+	/**
+	 * Retorna a quantidade de vezes em que uma <i>thread</i> aguardou espaço na fila.
+	 * @return <code>long</code>
+	 */
+	public long getEsperas() {
+		return esperas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de registros descartados por erro de gravação ou encerramento do diário.
+	 * @return <code>long</code>
+	 */
+	public long getDescartados() {
+		return descartados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de sincronizações dos segmentos com o disco.
+	 * @return <code>long</code>
+	 */
+	public long getSincronizacoes() {
+		return sincronizacoes;
+	}
+}
@@ -0,0 +1,211 @@
+package br.com.arquitetura.auditoria;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Date;
+
+/**
+ * Formato binário dos segmentos do {@link DiarioAuditoria}, compartilhado pelo gravador e pelo {@link LeitorDiario}.<br>
+ * Cada segmento inicia com um cabeçalho de {@link #TAMANHO_CABECALHO} <i>bytes</i> (<code>MAGICO</code>, versão e sequência do
+ * segmento), seguido dos registros no formato <code>[tamanho:int][crc32:int][conteúdo]</code>. Um tamanho zero indica o fim dos
+ * registros gravados, já que o arquivo é criado com o tamanho total preenchido por zeros, e um <i>CRC</i> divergente indica um
+ * registro incompleto, gravado durante uma queda do servidor.<br>
+ * O conteúdo é uma definição de classe, gravada na primeira vez em que a classe aparece no segmento, ou um registro de alteração,
+ * que referencia os atributos pelo índice da definição. Assim cada segmento pode ser lido de forma independente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class FormatoDiario {
+
+	/** Constante MAGICO. */
+	static final int MAGICO = 0x41554431;
+
+	/** Constante VERSAO. */
+	static final short VERSAO = 1;
+
+	/** Constante TAMANHO_CABECALHO. */
+	static final int TAMANHO_CABECALHO = 24;
+
+	/** Constante TAMANHO_MOLDURA, tamanho e <i>CRC</i> de cada registro. */
+	static final int TAMANHO_MOLDURA = 8;
+
+	/** Constante PREFIXO. */
+	static final String PREFIXO = "diario-";
+
+	/** Constante EXTENSAO. */
+	static final String EXTENSAO = ".seg";
+
+	/** Constante DEFINICAO. */
+	static final byte DEFINICAO = 1;
+
+	/** Constante ALTERACAO. */
+	static final byte ALTERACAO = 2;
+
+	/** Constante COMPLETO, indica que o registro contém todos os atributos. */
+	static final byte COMPLETO = 1;
+
+	/** Constante SEM_ID. */
+	static final int SEM_ID = Integer.MIN_VALUE;
+
+	/** Constante NULO. */
+	static final byte NULO = 0;
+
+	/** Constante INTEIRO. */
+	static final byte INTEIRO = 1;
+
+	/** Constante LONGO. */
+	static final byte LONGO = 2;
+
+	/** Constante REAL. */
+	static final byte REAL = 3;
+
+	/** Constante LOGICO. */
+	static final byte LOGICO = 4;
+
+	/** Constante TEXTO. */
+	static final byte TEXTO = 5;
+
+	/** Constante DATA. */
+	static final byte DATA = 6;
+
+	/** Constante DECIMAL. */
+	static final byte DECIMAL = 7;
+
+	/** Constante UTF_8. */
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private FormatoDiario() {
+		super();
+	}
+
+	/**
+	 * Método responsável por obter o nome do arquivo de um segmento. A sequência é completada com zeros para que a ordem
+	 * alfabética dos arquivos seja a ordem de gravação.
+	 * @author Wesley Luiz
+	 * @param sequencia - Sequência do segmento.
+	 * @return Retorna o nome do arquivo.
+	 */
+	static String obterNome(final long sequencia) {
+		return PREFIXO + String.format("%019d", sequencia) + EXTENSAO;
+	}
+
+	/**
+	 * Método responsável por obter a sequência de um segmento a partir do nome do arquivo.
+	 * @author Wesley Luiz
+	 * @param nome - Nome do arquivo.
+	 * @return Retorna a sequência, ou <code>-1</code> caso o arquivo não seja um segmento.
+	 */
+	static long obterSequencia(final String nome) {
+		if (!nome.startsWith(PREFIXO) || !nome.endsWith(EXTENSAO)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - EXTENSAO.length()));
+		} catch (final NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Método responsável por gravar um texto precedido do tamanho em <i>bytes</i>.
+	 * @author Wesley Luiz
+	 * @param buffer - Destino.
+	 * @param texto - Texto gravado.
+	 */
+	static void gravarTexto(final ByteBuffer buffer, final String texto) {
+		final byte[] bytes = texto.getBytes(UTF_8);
+		buffer.putInt(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Método responsável por ler um texto gravado por {@link #gravarTexto(ByteBuffer, String)}.
+	 * @author Wesley Luiz
+	 * @param buffer - Origem.
+	 * @return Retorna o texto lido.
+	 */
+	static String lerTexto(final ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	/**
+	 * Método responsável por obter a quantidade máxima de <i>bytes</i> ocupados por um valor.
+	 * @author Wesley Luiz
+	 * @param valor - Valor capturado por {@link DescricaoAuditoria}.
+	 * @return Retorna a quantidade de <i>bytes</i>, contando o indicador de tipo.
+	 */
+	static int medirValor(final Object valor) {
+		if (valor instanceof String) {
+			return 5 + ((String) valor).length() * 3;
+		} else if (valor instanceof BigDecimal) {
+			return 5 + valor.toString().length();
+		}
+		return 9;
+	}
+
+	/**
+	 * Método responsável por gravar um valor precedido do indicador de tipo.
+	 * @author Wesley Luiz
+	 * @param buffer - Destino.
+	 * @param valor - Valor capturado por {@link DescricaoAuditoria}.
+	 */
+	static void gravarValor(final ByteBuffer buffer, final Object valor) {
+		if (valor == null) {
+			buffer.put(NULO);
+		} else if (valor instanceof Integer) {
+			buffer.put(INTEIRO).putInt((Integer) valor);
+		} else if (valor instanceof Long) {
+			buffer.put(LONGO).putLong((Long) valor);
+		} else if (valor instanceof Double) {
+			buffer.put(REAL).putDouble((Double) valor);
+		} else if (valor instanceof Boolean) {
+			buffer.put(LOGICO).put((byte) ((Boolean) valor ? 1 : 0));
+		} else if (valor instanceof Date) {
+			buffer.put(DATA).putLong(((Date) valor).getTime());
+		} else if (valor instanceof BigDecimal) {
+			buffer.put(DECIMAL);
+			gravarTexto(buffer, ((BigDecimal) valor).toString());
+		} else {
+			buffer.put(TEXTO);
+			gravarTexto(buffer, valor.toString());
+		}
+	}
+
+	/**
+	 * Método responsável por ler um valor gravado por {@link #gravarValor(ByteBuffer, Object)}.
+	 * @author Wesley Luiz
+	 * @param buffer - Origem.
+	 * @return Retorna o valor lido.
+	 * @throws IllegalStateException Caso o indicador de tipo seja desconhecido.
+	 */
+	static Object lerValor(final ByteBuffer buffer) {
+		final byte tipo = buffer.get();
+		switch (tipo) {
+		case NULO:
+			return null;
+		case INTEIRO:
+			return buffer.getInt();
+		case LONGO:
+			return buffer.getLong();
+		case REAL:
+			return buffer.getDouble();
+		case LOGICO:
+			return buffer.get() != 0;
+		case DATA:
+			return new Date(buffer.getLong());
+		case DECIMAL:
+			return new BigDecimal(lerTexto(buffer));
+		case TEXTO:
+			return lerTexto(buffer);
+		default:
+			throw new IllegalStateException("Tipo de valor desconhecido: " + tipo);
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package br.com.arquitetura.auditoria;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import br.com.arquitetura.enumerator.EnumOperacao;
+
+/**
+ * Lê os segmentos gravados pelo {@link DiarioAuditoria}, entregando os registros a um {@link ProcessadorAuditoria} na ordem em
+ * que foram gravados, por exemplo para consultar o histórico de uma <code>Entidade</code> ou para reproduzir as alterações em
+ * tabelas de auditoria fora do horário de pico. Pode ser executado em paralelo ao diário, inclusive sobre o segmento em gravação.<br>
+ * A leitura de um segmento termina no primeiro registro incompleto, contabilizado em {@link #getIncompletos()}. Também pode ser
+ * utilizado pela linha de comando para listar os registros:
+ * <pre>
+ * java -cp arquitetura.jar br.com.arquitetura.auditoria.LeitorDiario /var/auditoria [Cliente [42]]
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class LeitorDiario {
+
+	/** Constante ORDEM_SEQUENCIA. */
+	private static final Comparator<File> ORDEM_SEQUENCIA = new Comparator<File>() {
+		@Override
+		public int compare(final File segmento, final File outro) {
+			return Long.compare(FormatoDiario.obterSequencia(segmento.getName()), FormatoDiario.obterSequencia(outro.getName()));
+		}
+	};
+
+	/** Atributo diretorio. */
+	private final File diretorio;
+
+	/** Atributo incompletos. */
+	private long incompletos;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorio - Diretório dos segmentos.
+	 */
+	public LeitorDiario(final File diretorio) {
+		this.diretorio = diretorio;
+	}
+
+	/**
+	 * Método responsável por listar os segmentos de um diretório na ordem de gravação.
+	 * @author Wesley Luiz
+	 * @param diretorio - Diretório dos segmentos.
+	 * @return Retorna os arquivos dos segmentos.
+	 */
+	public static File[] listarSegmentos(final File diretorio) {
+		final File[] segmentos = diretorio.listFiles(new FileFilter() {
+			@Override
+			public boolean accept(final File arquivo) {
+				return arquivo.isFile() && FormatoDiario.obterSequencia(arquivo.getName()) >= 0;
+			}
+		});
+		if (segmentos == null) {
+			return new File[0];
+		}
+		Arrays.sort(segmentos, ORDEM_SEQUENCIA);
+		return segmentos;
+	}
+
+	/**
+	 * Método responsável por ler todos os registros do diretório.
+	 * @author Wesley Luiz
+	 * @param processador - Processador que recebe os registros.
+	 * @return Retorna a quantidade de registros lidos.
+	 * @throws IOException Lança uma exceção caso algum segmento não possa ser lido.
+	 */
+	public long reproduzir(final ProcessadorAuditoria processador) throws IOException {
+		return reproduzir(Long.MIN_VALUE, processador);
+	}
+
+	/**
+	 * Método responsável por ler os registros do diretório a partir de um momento.
+	 * @author Wesley Luiz
+	 * @param desde - Momento, em milissegundos, a partir do qual os registros são entregues.
+	 * @param processador - Processador que recebe os registros.
+	 * @return Retorna a quantidade de registros entregues.
+	 * @throws IOException Lança uma exceção caso algum segmento não possa ser lido.
+	 */
+	public long reproduzir(final long desde, final ProcessadorAuditoria processador) throws IOException {
+		long lidos = 0;
+		for (final File segmento : listarSegmentos(diretorio)) {
+			lidos += ler(segmento, desde, processador);
+		}
+		return lidos;
+	}
+
+	/**
+	 * Método responsável por ler os registros de um segmento.
+	 * @author Wesley Luiz
+	 * @param arquivo - Arquivo do segmento.
+	 * @param desde - Momento, em milissegundos, a partir do qual os registros são entregues.
+	 * @param processador - Processador que recebe os registros.
+	 * @return Retorna a quantidade de registros entregues.
+	 * @throws IOException Lança uma exceção caso o arquivo não seja um segmento válido.
+	 */
+	public long ler(final File arquivo, final long desde, final ProcessadorAuditoria processador) throws IOException {
+		final MappedByteBuffer mapeado;
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "r"); FileChannel canal = acesso.getChannel()) {
+			mapeado = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+		}
+		if (mapeado.remaining() < FormatoDiario.TAMANHO_CABECALHO || mapeado.getInt() != FormatoDiario.MAGICO) {
+			throw new IOException("Arquivo não é um segmento do diário de auditoria: " + arquivo);
+		}
+		final short versao = mapeado.getShort();
+		if (versao != FormatoDiario.VERSAO) {
+			throw new IOException("Versão " + versao + " do segmento não suportada: " + arquivo);
+		}
+		mapeado.getShort();
+		final long sequencia = mapeado.getLong();
+		mapeado.getLong();
+
+		final Map<Short, String> classes = new HashMap<Short, String>();
+		final Map<Short, String[]> nomes = new HashMap<Short, String[]>();
+		final CRC32 crc = new CRC32();
+		final byte[] conteudo = new byte[0];
+		long entregues = 0;
+		byte[] bytes = conteudo;
+
+		while (mapeado.remaining() >= FormatoDiario.TAMANHO_MOLDURA) {
+			final int tamanho = mapeado.getInt();
+			if (tamanho == 0) {
+				break;
+			}
+			final int esperado = mapeado.getInt();
+			if (tamanho < 0 || tamanho > mapeado.remaining()) {
+				incompletos++;
+				break;
+			}
+			if (bytes.length < tamanho) {
+				bytes = new byte[Math.max(tamanho, bytes.length * 2)];
+			}
+			mapeado.get(bytes, 0, tamanho);
+			crc.reset();
+			crc.update(bytes, 0, tamanho);
+			if ((int) crc.getValue() != esperado) {
+				incompletos++;
+				break;
+			}
+
+			final ByteBuffer registro = ByteBuffer.wrap(bytes, 0, tamanho);
+			final byte tipo = registro.get();
+			if (tipo == FormatoDiario.DEFINICAO) {
+				final short indice = registro.getShort();
+				classes.put(indice, FormatoDiario.lerTexto(registro));
+				final String[] campos = new String[registro.getShort()];
+				for (int i = 0; i < campos.length; i++) {
+					campos[i] = FormatoDiario.lerTexto(registro);
+				}
+				nomes.put(indice, campos);
+			} else if (tipo == FormatoDiario.ALTERACAO) {
+				final EnumOperacao operacao = EnumOperacao.values()[registro.get()];
+				final boolean completo = (registro.get() & FormatoDiario.COMPLETO) != 0;
+				final long momento = registro.getLong();
+				final short indice = registro.getShort();
+				final int id = registro.getInt();
+				final short quantidade = registro.getShort();
+				final String[] campos = nomes.get(indice);
+				final Map<String, Object> valores = new LinkedHashMap<String, Object>();
+				for (int i = 0; i < quantidade; i++) {
+					final short campo = registro.getShort();
+					valores.put(campos[campo], FormatoDiario.lerValor(registro));
+				}
+				if (momento >= desde) {
+					processador.processar(new RegistroAuditoria(sequencia, classes.get(indice), id == FormatoDiario.SEM_ID ? null : id, operacao, momento,
+							completo, valores));
+					entregues++;
+				}
+			} else {
+				throw new IOException("Tipo de registro desconhecido " + tipo + " em " + arquivo);
+			}
+		}
+		return entregues;
+	}
+
+	/**
+	 * Retorna a quantidade de segmentos cuja leitura foi interrompida por um registro incompleto.
+	 * @return <code>long</code>
+	 */
+	public long getIncompletos() {
+		return incompletos;
+	}
+
+	/**
+	 * Método responsável por listar na saída padrão os registros de um diretório, filtrando opcionalmente pela classe, pelo nome
+	 * completo ou simples, e pelo identificador da <code>Entidade</code>.
+	 * @author Wesley Luiz
+	 * @param args - Diretório dos segmentos, classe e identificador.
+	 * @throws IOException Lança uma exceção caso algum segmento não possa ser lido.
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args.length == 0) {
+			System.out.println("Uso: LeitorDiario <diretorio> [classe [id]]");
+			return;
+		}
+		final String classe = args.length > 1 ? args[1] : null;
+		final Integer id = args.length > 2 ? Integer.valueOf(args[2]) : null;
+
+		final LeitorDiario leitor = new LeitorDiario(new File(args[0]));
+		final long[] exibidos = new long[1];
+		final long lidos = leitor.reproduzir(new ProcessadorAuditoria() {
+			@Override
+			public void processar(final RegistroAuditoria registro) {
+				final String nome = registro.getClasse();
+				final boolean mesmaClasse = classe == null || nome.equals(classe) || nome.endsWith("." + classe) || nome.endsWith("$" + classe);
+				if (mesmaClasse && (id == null || id.equals(registro.getId()))) {
+					System.out.println(registro);
+					exibidos[0]++;
+				}
+			}
+		});
+		System.out.println(exibidos[0] + " de " + lidos + " registro(s), " + leitor.getIncompletos() + " segmento(s) com registro incompleto.");
+	}
+}
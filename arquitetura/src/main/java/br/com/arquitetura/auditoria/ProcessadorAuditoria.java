@@ -0,0 +1,17 @@
+package br.com.arquitetura.auditoria;
+
+/**
+ * Recebe os registros lidos dos segmentos do {@link DiarioAuditoria} pelo {@link LeitorDiario}, na ordem em que foram gravados.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public interface ProcessadorAuditoria {
+
+	/**
+	 * Método chamado para cada registro lido.
+	 * @author Wesley Luiz
+	 * @param registro - Registro lido.
+	 */
+	void processar(RegistroAuditoria registro);
+}
@@ -0,0 +1,121 @@
+package br.com.arquitetura.auditoria;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import br.com.arquitetura.enumerator.EnumOperacao;
+
+/**
+ * Registro de uma inclusão, alteração ou remoção lido de um segmento do {@link DiarioAuditoria}.<br>
+ * Quando {@link #isCompleto()} os atributos contêm todo o estado da <code>Entidade</code>, sendo nulos os atributos ausentes.
+ * Caso contrário contêm apenas os atributos alterados desde o registro anterior da mesma <code>Entidade</code> no segmento.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class RegistroAuditoria {
+
+	/** Atributo segmento. */
+	private final long segmento;
+
+	/** Atributo classe. */
+	private final String classe;
+
+	/** Atributo id. */
+	private final Integer id;
+
+	/** Atributo operacao. */
+	private final EnumOperacao operacao;
+
+	/** Atributo momento. */
+	private final long momento;
+
+	/** Atributo completo. */
+	private final boolean completo;
+
+	/** Atributo campos. */
+	private final Map<String, Object> campos;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param segmento - Sequência do segmento lido.
+	 * @param classe - Nome completo da classe da <code>Entidade</code>.
+	 * @param id - Identificador da <code>Entidade</code>.
+	 * @param operacao - Operação realizada.
+	 * @param momento - Momento da alteração em milissegundos.
+	 * @param completo - Indica se os atributos contêm todo o estado da <code>Entidade</code>.
+	 * @param campos - Atributos gravados, na ordem da classe.
+	 */
+	RegistroAuditoria(final long segmento, final String classe, final Integer id, final EnumOperacao operacao, final long momento,
+			final boolean completo, final Map<String, Object> campos) {
+		this.segmento = segmento;
+		this.classe = classe;
+		this.id = id;
+		this.operacao = operacao;
+		this.momento = momento;
+		this.completo = completo;
+		this.campos = campos;
+	}
+
+	/**
+	 * Retorna a sequência do segmento de onde o registro foi lido.
+	 * @return <code>long</code>
+	 */
+	public long getSegmento() {
+		return segmento;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>String</code>
+	 */
+	public String getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>id</code>
+	 * @return <code>Integer</code>
+	 */
+	public Integer getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>operacao</code>
+	 * @return <code>EnumOperacao</code>
+	 */
+	public EnumOperacao getOperacao() {
+		return operacao;
+	}
+
+	/**
+	 * Retorna o momento da alteração em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getMomento() {
+		return momento;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>completo</code>
+	 * @return <code>boolean</code>
+	 */
+	public boolean isCompleto() {
+		return completo;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>campos</code>
+	 * @return <code>Map&lt;String, Object&gt;</code>
+	 */
+	public Map<String, Object> getCampos() {
+		return campos;
+	}
+
+	@Override
+	public String toString() {
+		return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(momento)) + " " + operacao + " " + classe + "#" + id
+				+ (completo ? " " : " ~") + campos;
+	}
+}
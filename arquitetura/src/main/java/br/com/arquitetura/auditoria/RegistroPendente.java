@@ -0,0 +1,83 @@
+package br.com.arquitetura.auditoria;
+
+import br.com.arquitetura.enumerator.EnumOperacao;
+
+/**
+ * Cópia de uma alteração aguardando gravação na fila do {@link DiarioAuditoria}, criada na <i>thread</i> que confirmou a transação.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class RegistroPendente {
+
+	/** Atributo descricao. */
+	private final DescricaoAuditoria descricao;
+
+	/** Atributo id. */
+	private final Integer id;
+
+	/** Atributo operacao. */
+	private final EnumOperacao operacao;
+
+	/** Atributo momento. */
+	private final long momento;
+
+	/** Atributo valores, <code>null</code> nas remoções. */
+	private final Object[] valores;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param descricao - Descrição da classe da <code>Entidade</code>.
+	 * @param id - Identificador da <code>Entidade</code>.
+	 * @param operacao - Operação realizada.
+	 * @param momento - Momento da alteração em milissegundos.
+	 * @param valores - Valores dos atributos registrados.
+	 */
+	RegistroPendente(final DescricaoAuditoria descricao, final Integer id, final EnumOperacao operacao, final long momento, final Object[] valores) {
+		this.descricao = descricao;
+		this.id = id;
+		this.operacao = operacao;
+		this.momento = momento;
+		this.valores = valores;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>descricao</code>
+	 * @return <code>DescricaoAuditoria</code>
+	 */
+	DescricaoAuditoria getDescricao() {
+		return descricao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>id</code>
+	 * @return <code>Integer</code>
+	 */
+	Integer getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>operacao</code>
+	 * @return <code>EnumOperacao</code>
+	 */
+	EnumOperacao getOperacao() {
+		return operacao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>momento</code>
+	 * @return <code>long</code>
+	 */
+	long getMomento() {
+		return momento;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>valores</code>
+	 * @return <code>Object[]</code>
+	 */
+	Object[] getValores() {
+		return valores;
+	}
+}
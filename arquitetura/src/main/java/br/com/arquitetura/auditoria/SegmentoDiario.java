@@ -0,0 +1,118 @@
+package br.com.arquitetura.auditoria;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Arquivo de segmento do {@link DiarioAuditoria}, criado com o tamanho total e mapeado em memória, de forma que a gravação de um
+ * registro seja apenas uma cópia para a memória mapeada. Utilizado exclusivamente pela <i>thread</i> gravadora.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see FormatoDiario
+ */
+final class SegmentoDiario {
+
+	/** Atributo arquivo. */
+	private final File arquivo;
+
+	/** Atributo sequencia. */
+	private final long sequencia;
+
+	/** Atributo mapeado. */
+	private final MappedByteBuffer mapeado;
+
+	/** Atributo pendente, indica registros gravados após a última sincronização. */
+	private boolean pendente;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorio - Diretório do diário.
+	 * @param sequencia - Sequência do segmento.
+	 * @param tamanho - Tamanho do arquivo em <i>bytes</i>.
+	 * @throws IOException Lança uma exceção caso o arquivo não possa ser criado ou mapeado.
+	 */
+	SegmentoDiario(final File diretorio, final long sequencia, final int tamanho) throws IOException {
+		this.arquivo = new File(diretorio, FormatoDiario.obterNome(sequencia));
+		this.sequencia = sequencia;
+		if (arquivo.exists()) {
+			throw new IOException("Segmento já existente: " + arquivo);
+		}
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "rw"); FileChannel canal = acesso.getChannel()) {
+			acesso.setLength(tamanho);
+			this.mapeado = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+		}
+		mapeado.putInt(FormatoDiario.MAGICO).putShort(FormatoDiario.VERSAO).putShort((short) 0).putLong(sequencia)
+				.putLong(System.currentTimeMillis());
+		pendente = true;
+	}
+
+	/**
+	 * Método responsável por verificar se um registro cabe no espaço restante, mantendo o espaço do marcador de fim.
+	 * @author Wesley Luiz
+	 * @param tamanho - Tamanho do conteúdo do registro.
+	 * @return Retorna <code>true</code> caso o registro caiba no segmento.
+	 */
+	boolean caber(final int tamanho) {
+		return mapeado.remaining() >= tamanho + FormatoDiario.TAMANHO_MOLDURA + 4;
+	}
+
+	/**
+	 * Método responsável por gravar um registro. O tamanho é gravado por último, de forma que um leitor concorrente nunca
+	 * encontre um registro parcialmente copiado.
+	 * @author Wesley Luiz
+	 * @param conteudo - Conteúdo do registro, entre a posição e o limite do <i>buffer</i>.
+	 * @param crc - <i>CRC32</i> do conteúdo.
+	 */
+	void gravar(final ByteBuffer conteudo, final int crc) {
+		final int inicio = mapeado.position();
+		final int tamanho = conteudo.remaining();
+		mapeado.position(inicio + 4);
+		mapeado.putInt(crc);
+		mapeado.put(conteudo);
+		mapeado.putInt(inicio, tamanho);
+		pendente = true;
+	}
+
+	/**
+	 * Método responsável por forçar para o disco as páginas alteradas desde a última sincronização.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso existissem páginas a sincronizar.
+	 */
+	boolean sincronizar() {
+		if (!pendente) {
+			return false;
+		}
+		mapeado.force();
+		pendente = false;
+		return true;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>arquivo</code>
+	 * @return <code>File</code>
+	 */
+	File getArquivo() {
+		return arquivo;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>sequencia</code>
+	 * @return <code>long</code>
+	 */
+	long getSequencia() {
+		return sequencia;
+	}
+
+	/**
+	 * Retorna a quantidade de <i>bytes</i> utilizados, incluindo o cabeçalho.
+	 * @return <code>int</code>
+	 */
+	int getUtilizado() {
+		return mapeado.position();
+	}
+}
@@ -1,18 +1,28 @@
 package br.com.arquitetura.bundle;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.text.MessageFormat;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.faces.application.FacesMessage;
 import javax.faces.application.FacesMessage.Severity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import br.com.arquitetura.objeto.Objeto;
 
 /**
- * Esta é uma classe <i>final</i> responsável por fornecer métodos que trabalhem com <code>ResourceBundle</code>,<br> 
+ * Esta é uma classe <i>final</i> responsável por fornecer métodos que trabalhem com <code>ResourceBundle</code>,<br>
  * oferecendo recursos de internacionalização apartir de arquivos de mensagems <i>(.properties)</i>. <br>
- * Exemplo de uso:
+ * Os <code>ResourceBundle</code>(s) são mantidos em <i>cache</i> por <code>Locale</code> e as mensagens com argumentos
+ * têm o seu <code>MessageFormat</code> compilado uma única vez. Exemplo de uso:
  * <pre>
  * protected static String getMensagem(final String key) {
- * 	return Bundle.getResourceBundle(new Locale("pt", "BR")).getString(key);
+ * 	return Bundle.getMensagem(Bundle.LOCALE_PADRAO, key);
  * }
  * </pre>
  * @author Wesley Luiz
@@ -23,27 +33,37 @@ public final class Bundle extends Objeto {
 
 	private final static long serialVersionUID = 1L;
 	private final static String BASE_NAME = "mensagem";
-	
+	private final static String EXTENSAO = "properties";
+	private final static Logger LOGGER = LoggerFactory.getLogger(Bundle.class);
+
 	public final static String LANGUAGE_PT = "pt";
 	public final static String LANGUAGE_EN = "en";
 	public final static String COUNTRY_BR = "BR";
 	public final static String COUNTRY_US = "US";
-	
+
+	public final static Locale LOCALE_PADRAO = new Locale(LANGUAGE_PT, COUNTRY_BR);
+
 	public final static Severity GRAVIDADE_ERRO = FacesMessage.SEVERITY_ERROR;
 	public final static Severity GRAVIDADE_FATAL = FacesMessage.SEVERITY_FATAL;
 	public final static Severity GRAVIDADE_INFORMATIVO = FacesMessage.SEVERITY_INFO;
 	public final static Severity GRAVIDADE_ALERTA = FacesMessage.SEVERITY_WARN;
 
-	private static Bundle sigleton;
-	private static ResourceBundle bundle;
-	
+	private final static Bundle SIGLETON = new Bundle();
+	private final static ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+	private final static ConcurrentMap<Locale, ResourceBundle> BUNDLES = new ConcurrentHashMap<Locale, ResourceBundle>();
+	private final static ConcurrentMap<String, MessageFormat> FORMATOS = new ConcurrentHashMap<String, MessageFormat>();
+	private final static ConcurrentMap<Locale, Long> MODIFICACOES = new ConcurrentHashMap<Locale, Long>();
+
+	private static volatile long intervaloRecarga;
+	private static volatile long proximaVerificacao;
+
 	/**
 	 * Responsável pela criação de novas instâncias desta classe.
 	 */
 	protected Bundle() {
 		super();
 	}
-	
+
 	/**
 	 * Método responsável por obter um objeto do tipo <code>ResourceBundle</code>.
 	 * @author Wesley Luiz
@@ -53,18 +73,143 @@ public final class Bundle extends Objeto {
 	 * @see ResourceBundle
 	 */
 	public static ResourceBundle getResourceBundle(final Locale locale) {
+		verificarRecarga();
+
+		ResourceBundle bundle = BUNDLES.get(locale);
 		if (!isReferencia(bundle)) {
+			final long modificacao = obterUltimaModificacao(locale);
 			bundle = ResourceBundle.getBundle(BASE_NAME, locale);
+			final ResourceBundle existente = BUNDLES.putIfAbsent(locale, bundle);
+			if (isReferencia(existente)) {
+				bundle = existente;
+			} else {
+				MODIFICACOES.put(locale, modificacao);
+			}
 		}
 		return bundle;
 	}
 
+	/**
+	 * Método responsável por obter uma mensagem do arquivo de mensagens, substituindo os argumentos <i>{0}, {1}...</i> quando informados.
+	 * @author Wesley Luiz
+	 * @param locale - Recebe um objeto do tipo <code>Locale</code> que é uma representação geográfica específica.
+	 * @param key - Chave da mensagem no arquivo de mensagens.
+	 * @param argumentos - Argumentos da mensagem.
+	 * @return Retorna a mensagem obtida.
+	 * @see MessageFormat
+	 */
+	public static String getMensagem(final Locale locale, final String key, final Object... argumentos) {
+		if (argumentos.length == 0) {
+			return getResourceBundle(locale).getString(key);
+		}
+
+		final MessageFormat formato = getFormato(locale, key);
+		synchronized (formato) {
+			return formato.format(argumentos);
+		}
+	}
+
+	/**
+	 * Método responsável por obter o <code>MessageFormat</code> compilado de uma mensagem.
+	 * @author Wesley Luiz
+	 * @param locale - <code>Locale</code> da mensagem.
+	 * @param key - Chave da mensagem no arquivo de mensagens.
+	 * @return Retorna o <code>MessageFormat</code> compartilhado, que deve ser utilizado de forma sincronizada.
+	 */
+	private static MessageFormat getFormato(final Locale locale, final String key) {
+		verificarRecarga();
+
+		final String chave = locale + "#" + key;
+		MessageFormat formato = FORMATOS.get(chave);
+		if (!isReferencia(formato)) {
+			formato = new MessageFormat(getResourceBundle(locale).getString(key), locale);
+			final MessageFormat existente = FORMATOS.putIfAbsent(chave, formato);
+			if (isReferencia(existente)) {
+				formato = existente;
+			}
+		}
+		return formato;
+	}
+
+	/**
+	 * Método responsável por habilitar a recarga automática dos arquivos de mensagens.<br>
+	 * A cada <code>intervalo</code> milissegundos a data de modificação dos arquivos de cada <code>Locale</code> carregado é comparada
+	 * com a data registrada quando ele foi carregado e, caso algum tenha sido alterado, os <i>caches</i> são descartados.
+	 * Apenas arquivos fora de um <i>jar</i> são verificados.
+	 * @author Wesley Luiz
+	 * @param intervalo - Intervalo entre as verificações em milissegundos, <code>0</code> desabilita a recarga.
+	 */
+	public static void habilitarRecarga(final long intervalo) {
+		proximaVerificacao = System.currentTimeMillis() + intervalo;
+		intervaloRecarga = intervalo;
+	}
+
+	/**
+	 * Método responsável por descartar os <code>ResourceBundle</code>(s) e <code>MessageFormat</code>(s) em <i>cache</i>,
+	 * fazendo com que os arquivos de mensagens sejam lidos novamente no próximo acesso.
+	 * @author Wesley Luiz
+	 */
+	public static void recarregar() {
+		ResourceBundle.clearCache(Bundle.class.getClassLoader());
+		BUNDLES.clear();
+		FORMATOS.clear();
+		MODIFICACOES.clear();
+	}
+
+	/**
+	 * Método responsável por verificar a alteração dos arquivos de mensagens quando a recarga está habilitada e o intervalo expirou.<br>
+	 * É chamado antes de qualquer <i>cache</i> ser consultado, inclusive o dos <code>MessageFormat</code>(s).
+	 * @author Wesley Luiz
+	 */
+	private static void verificarRecarga() {
+		if (intervaloRecarga > 0 && System.currentTimeMillis() >= proximaVerificacao) {
+			verificarAlteracao();
+		}
+	}
+
+	private static synchronized void verificarAlteracao() {
+		if (System.currentTimeMillis() < proximaVerificacao) {
+			return;
+		}
+
+		for (final Map.Entry<Locale, Long> carregado : MODIFICACOES.entrySet()) {
+			if (obterUltimaModificacao(carregado.getKey()) > carregado.getValue()) {
+				recarregar();
+				break;
+			}
+		}
+		proximaVerificacao = System.currentTimeMillis() + intervaloRecarga;
+	}
+
+	/**
+	 * Método responsável por obter a data de modificação mais recente dos arquivos de mensagens de um <code>Locale</code>.
+	 * @author Wesley Luiz
+	 * @param locale - <code>Locale</code> das mensagens.
+	 * @return Retorna a data em milissegundos, ou <code>0</code> caso nenhum arquivo esteja fora de um <i>jar</i>.
+	 */
+	private static long obterUltimaModificacao(final Locale locale) {
+		final ClassLoader classLoader = Bundle.class.getClassLoader();
+		long modificacao = 0;
+
+		for (final Locale candidato : CONTROL.getCandidateLocales(BASE_NAME, locale)) {
+			final URL url = classLoader.getResource(CONTROL.toResourceName(CONTROL.toBundleName(BASE_NAME, candidato), EXTENSAO));
+			if (isReferencia(url) && "file".equals(url.getProtocol())) {
+				try {
+					modificacao = Math.max(modificacao, new File(url.toURI()).lastModified());
+				} catch (final URISyntaxException e) {
+					LOGGER.warn("Endereço inválido do arquivo de mensagens " + url + ".", e);
+				}
+			}
+		}
+		return modificacao;
+	}
+
 	/**
 	 * Método responsável por obter uma única instância dessa classe.
 	 * @author Wesley Luiz
 	 * @return Retorna um objeto da própria classe.
 	 */
 	public static Bundle getInstance() {
-		return (isReferencia(sigleton) ? sigleton : new Bundle());
+		return SIGLETON;
 	}
 }
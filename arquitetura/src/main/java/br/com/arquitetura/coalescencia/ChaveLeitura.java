@@ -0,0 +1,54 @@
+package br.com.arquitetura.coalescencia;
+
+import java.util.Arrays;
+
+/**
+ * Identifica uma leitura pelo nome do método e pelos argumentos, comparados através de {@link Arrays#deepEquals(Object[], Object[])}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class ChaveLeitura {
+
+	/** Atributo metodo. */
+	private final String metodo;
+
+	/** Atributo argumentos. */
+	private final Object[] argumentos;
+
+	/** Atributo hash. */
+	private final int hash;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param metodo - Nome do método.
+	 * @param argumentos - Argumentos da leitura.
+	 */
+	ChaveLeitura(final String metodo, final Object[] argumentos) {
+		this.metodo = metodo;
+		this.argumentos = argumentos;
+		this.hash = 31 * metodo.hashCode() + Arrays.deepHashCode(argumentos);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object objeto) {
+		if (this == objeto) {
+			return true;
+		}
+		if (!(objeto instanceof ChaveLeitura)) {
+			return false;
+		}
+		final ChaveLeitura outra = (ChaveLeitura) objeto;
+		return hash == outra.hash && metodo.equals(outra.metodo) && Arrays.deepEquals(argumentos, outra.argumentos);
+	}
+
+	@Override
+	public String toString() {
+		return metodo + Arrays.deepToString(argumentos);
+	}
+}
@@ -0,0 +1,250 @@
+package br.com.arquitetura.coalescencia;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.exception.TempoEsgotadoException;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Agrupa as leituras idênticas e simultâneas de uma classe de <code>Entidade</code>, identificadas pelo nome do método e pelos
+ * argumentos, em uma única ida ao <i>Banco de Dados</i>: a primeira chamada executa a leitura e as chamadas que chegam enquanto
+ * ela está em andamento aguardam e recebem o mesmo resultado, ou a mesma exceção. Uma leitura concluída não é guardada, a chamada
+ * seguinte consulta o <i>Banco de Dados</i> novamente.<br>
+ * A chamada que executou a leitura recebe as instâncias carregadas pela própria <i>Sessão</i>, e cada chamada que aguardou recebe
+ * uma cópia desvinculada delas, obtida através da serialização, de forma que as alterações feitas por uma chamada não são vistas
+ * pelas demais. Nas cópias as associações <i>lazy</i> não carregadas pela leitura continuam não carregadas. Resultados que não
+ * podem ser serializados não são compartilhados: a chamada que aguardou executa a própria leitura.<br>
+ * As chamadas feitas dentro de uma transação de escrita não são agrupadas, pois o resultado de outra transação não enxergaria as
+ * alterações ainda não confirmadas da chamada. Exemplo de configuração:
+ * <pre>
+ * final CoalescedorLeituras coalescedor = new CoalescedorLeituras(Cidade.class);
+ * coalescedor.setTempoEspera(2000);
+ * RegistroCoalescencia.registrar(coalescedor);
+ * </pre>
+ * As chamadas que aguardam ainda abrem a própria transação, portanto não ocupam uma conexão apenas quando o
+ * <code>EntityManagerFactory</code> utiliza um <code>DataSource</code> que adia a obtenção da conexão, como o <i>proxy</i> do
+ * {@link br.com.arquitetura.roteamento.RoteadorDataSource}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see RegistroCoalescencia
+ */
+public final class CoalescedorLeituras extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante TEMPO_ESPERA_PADRAO. */
+	public static final long TEMPO_ESPERA_PADRAO = 5000;
+
+	/** Atributo classe. */
+	private final Class<? extends Entidade> classe;
+
+	/** Atributo emAndamento. */
+	private final ConcurrentMap<ChaveLeitura, LeituraCompartilhada<?>> emAndamento = new ConcurrentHashMap<ChaveLeitura, LeituraCompartilhada<?>>();
+
+	/** Atributo tempoEspera. */
+	private volatile long tempoEspera = TEMPO_ESPERA_PADRAO;
+
+	/** Atributo chamadas. */
+	private final AtomicLong chamadas = new AtomicLong();
+
+	/** Atributo executadas. */
+	private final AtomicLong executadas = new AtomicLong();
+
+	/** Atributo coalescidas. */
+	private final AtomicLong coalescidas = new AtomicLong();
+
+	/** Atributo ignoradas. */
+	private final AtomicLong ignoradas = new AtomicLong();
+
+	/** Atributo expiradas. */
+	private final AtomicLong expiradas = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe da <code>Entidade</code> cujas leituras serão agrupadas.
+	 */
+	public CoalescedorLeituras(final Class<? extends Entidade> classe) {
+		super();
+		this.classe = classe;
+	}
+
+	/**
+	 * Método responsável por executar uma leitura ou, caso uma leitura idêntica já esteja em andamento, aguardar o seu resultado.
+	 * @author Wesley Luiz
+	 * @param metodo - Nome do método que identifica a leitura.
+	 * @param argumentos - Argumentos da leitura, que devem implementar <code>equals</code> e <code>hashCode</code>.
+	 * @param leitura - Leitura a ser executada.
+	 * @param <V> - Tipo do resultado da leitura.
+	 * @return Retorna o resultado da leitura, ou uma cópia dele caso a leitura tenha sido executada por outra chamada.
+	 * @throws TempoEsgotadoException Lança uma exceção caso a leitura em andamento não seja concluída dentro do tempo de espera.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> V executar(final String metodo, final Object[] argumentos, final Callable<V> leitura) {
+		chamadas.incrementAndGet();
+		if (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			ignoradas.incrementAndGet();
+			executadas.incrementAndGet();
+			return executarDiretamente(leitura);
+		}
+
+		final ChaveLeitura chave = new ChaveLeitura(metodo, argumentos);
+		final LeituraCompartilhada<V> nova = new LeituraCompartilhada<V>(leitura);
+		final LeituraCompartilhada<?> existente = emAndamento.putIfAbsent(chave, nova);
+
+		if (!isReferencia(existente)) {
+			executadas.incrementAndGet();
+			try {
+				nova.run();
+			} finally {
+				emAndamento.remove(chave, nova);
+			}
+			return aguardar(nova, chave, Long.MAX_VALUE);
+		}
+		if (existente.getExecutora() == Thread.currentThread()) {
+			executadas.incrementAndGet();
+			nova.run();
+			return aguardar(nova, chave, Long.MAX_VALUE);
+		}
+
+		final LeituraCompartilhada<V> compartilhada = (LeituraCompartilhada<V>) existente;
+		compartilhada.participar();
+		if (aguardar(compartilhada, chave, tempoEspera) == null) {
+			coalescidas.incrementAndGet();
+			return null;
+		}
+		final V copia = compartilhada.copiarResultado();
+		if (copia == null) {
+			executadas.incrementAndGet();
+			return executarDiretamente(leitura);
+		}
+		coalescidas.incrementAndGet();
+		return copia;
+	}
+
+	private static <V> V executarDiretamente(final Callable<V> leitura) {
+		try {
+			return leitura.call();
+		} catch (final RuntimeException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Método responsável por aguardar o resultado de uma leitura, repassando a exceção lançada por ela.
+	 * @author Wesley Luiz
+	 * @param leitura - Leitura em andamento ou concluída.
+	 * @param chave - Identificação da leitura.
+	 * @param espera - Tempo máximo de espera, em milissegundos.
+	 * @param <V> - Tipo do resultado da leitura.
+	 * @return Retorna o resultado da leitura.
+	 */
+	private <V> V aguardar(final LeituraCompartilhada<V> leitura, final ChaveLeitura chave, final long espera) {
+		try {
+			return leitura.get(espera, TimeUnit.MILLISECONDS);
+		} catch (final TimeoutException e) {
+			expiradas.incrementAndGet();
+			throw new TempoEsgotadoException("Leitura " + classe.getSimpleName() + "." + chave + " não concluída em " + espera + " ms.");
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TempoEsgotadoException("Espera pela leitura " + classe.getSimpleName() + "." + chave + " interrompida.");
+		} catch (final ExecutionException e) {
+			final Throwable causa = e.getCause();
+			if (causa instanceof RuntimeException) {
+				throw (RuntimeException) causa;
+			}
+			if (causa instanceof Error) {
+				throw (Error) causa;
+			}
+			throw new IllegalStateException(causa);
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class<? extends Entidade></code>
+	 */
+	public Class<? extends Entidade> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna o tempo máximo, em milissegundos, que uma chamada aguarda a leitura idêntica em andamento.
+	 * @return <code>long</code>
+	 */
+	public long getTempoEspera() {
+		return tempoEspera;
+	}
+
+	/**
+	 * Define o valor do atributo <code>tempoEspera</code>, em milissegundos.
+	 * @param tempoEspera
+	 */
+	public void setTempoEspera(final long tempoEspera) {
+		this.tempoEspera = tempoEspera;
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas recebidas.
+	 * @return <code>long</code>
+	 */
+	public long getChamadas() {
+		return chamadas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de leituras executadas no <i>Banco de Dados</i>.
+	 * @return <code>long</code>
+	 */
+	public long getExecutadas() {
+		return executadas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas que receberam uma cópia do resultado de uma leitura idêntica, sem consultar o <i>Banco de Dados</i>.
+	 * @return <code>long</code>
+	 */
+	public long getCoalescidas() {
+		return coalescidas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas executadas sem agrupamento por estarem em uma transação de escrita.
+	 * @return <code>long</code>
+	 */
+	public long getIgnoradas() {
+		return ignoradas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas encerradas por esgotar o tempo de espera.
+	 * @return <code>long</code>
+	 */
+	public long getExpiradas() {
+		return expiradas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de leituras em andamento.
+	 * @return <code>int</code>
+	 */
+	public int getEmAndamento() {
+		return emAndamento.size();
+	}
+
+	@Override
+	public String toString() {
+		return classe.getSimpleName() + ": " + getChamadas() + " chamada(s), " + getExecutadas() + " executada(s), " + getCoalescidas()
+				+ " coalescida(s), " + getIgnoradas() + " ignorada(s), " + getExpiradas() + " expirada(s)";
+	}
+}
@@ -0,0 +1,85 @@
+package br.com.arquitetura.coalescencia;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import br.com.arquitetura.serializacao.SerializadorCompacto;
+
+/**
+ * Leitura em andamento, executada pela <i>thread</i> que a iniciou e aguardada pelas demais chamadas idênticas.<br>
+ * Quando há chamadas aguardando, o resultado é serializado pela <i>thread</i> executora antes de ser publicado, e cada chamada
+ * que aguardou recebe a própria cópia através de {@link #copiarResultado()}.
+ *
+ * @author Wesley Luiz
+ * @param <V> - Tipo do resultado da leitura.
+ * @version 1.0.0
+ */
+final class LeituraCompartilhada<V> extends FutureTask<V> {
+
+	/** Atributo executora. */
+	private final Thread executora;
+
+	/** Atributo participantes. */
+	private final AtomicInteger participantes = new AtomicInteger();
+
+	/** Atributo serializado. */
+	private volatile byte[] serializado;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param leitura - Leitura a ser executada.
+	 */
+	LeituraCompartilhada(final Callable<V> leitura) {
+		super(leitura);
+		this.executora = Thread.currentThread();
+	}
+
+	@Override
+	protected void set(final V resultado) {
+		if (participantes.get() > 0 && resultado instanceof Serializable) {
+			try {
+				serializado = SerializadorCompacto.serializar((Serializable) resultado);
+			} catch (final IOException e) {
+				serializado = null;
+			}
+		}
+		super.set(resultado);
+	}
+
+	/**
+	 * Método responsável por registrar uma chamada que aguardará o resultado, antes de aguardá-lo.
+	 * @author Wesley Luiz
+	 */
+	void participar() {
+		participantes.incrementAndGet();
+	}
+
+	/**
+	 * Método responsável por obter uma cópia do resultado concluído, desvinculada das instâncias da <i>thread</i> executora.
+	 * @author Wesley Luiz
+	 * @return Retorna a cópia, ou <code>null</code> caso o resultado não tenha sido serializado, por não ser serializável ou por
+	 *         ter sido concluído antes do registro da chamada.
+	 */
+	@SuppressWarnings("unchecked")
+	V copiarResultado() {
+		final byte[] dados = serializado;
+		if (dados == null) {
+			return null;
+		}
+		try {
+			return (V) SerializadorCompacto.desserializar(dados);
+		} catch (final IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>executora</code>
+	 * @return <code>Thread</code>
+	 */
+	Thread getExecutora() {
+		return executora;
+	}
+}
@@ -0,0 +1,68 @@
+package br.com.arquitetura.coalescencia;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>RegistroCoalescencia</code> mantém os {@link CoalescedorLeituras} da aplicação, um por classe de <code>Entidade</code>,
+ * utilizados pelo {@link br.com.arquitetura.service.Service} nas consultas. As classes sem coalescedor registrado continuam
+ * consultando o <i>Banco de Dados</i> a cada chamada.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see CoalescedorLeituras
+ */
+public final class RegistroCoalescencia extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante COALESCEDORES. */
+	private static final ConcurrentMap<Class<?>, CoalescedorLeituras> COALESCEDORES = new ConcurrentHashMap<Class<?>, CoalescedorLeituras>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private RegistroCoalescencia() {
+		super();
+	}
+
+	/**
+	 * Método responsável por registrar um coalescedor, substituindo o coalescedor anterior da mesma classe.
+	 * @author Wesley Luiz
+	 * @param coalescedor - Coalescedor a ser registrado.
+	 */
+	public static void registrar(final CoalescedorLeituras coalescedor) {
+		COALESCEDORES.put(coalescedor.getClasse(), coalescedor);
+	}
+
+	/**
+	 * Método responsável por remover o coalescedor de uma classe.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 */
+	public static void desregistrar(final Class<? extends Entidade> classe) {
+		COALESCEDORES.remove(classe);
+	}
+
+	/**
+	 * Método responsável por obter o coalescedor de uma classe. As <i>super-classes</i> também são consultadas.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @return Retorna o coalescedor ou <code>null</code> caso a classe não possua coalescedor registrado.
+	 */
+	public static CoalescedorLeituras obter(final Class<? extends Entidade> classe) {
+		if (COALESCEDORES.isEmpty()) {
+			return null;
+		}
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Entidade.class; atual = atual.getSuperclass()) {
+			final CoalescedorLeituras coalescedor = COALESCEDORES.get(atual);
+			if (isReferencia(coalescedor)) {
+				return coalescedor;
+			}
+		}
+		return null;
+	}
+}
@@ -1,9 +1,13 @@
 package br.com.arquitetura.controller;
 
+import java.io.Externalizable;
 import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.util.Collection;
 import java.util.Map;
 import javax.faces.context.FacesContext;
+import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JRException;
 import org.hibernate.exception.ConstraintViolationException;
 import br.com.arquitetura.bundle.Bundle;
@@ -11,19 +15,25 @@ import br.com.arquitetura.dao.HibernateDAO;
 import br.com.arquitetura.entidade.Entidade;
 import br.com.arquitetura.enumerator.EnumStatus;
 import br.com.arquitetura.exception.CampoVazioException;
+import br.com.arquitetura.exception.DuplicidadeException;
 import br.com.arquitetura.objeto.Generico;
 import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.serializacao.SerializadorCompacto;
 import br.com.arquitetura.service.Service;
+import br.com.arquitetura.util.DataSourceCursor;
 import br.com.arquitetura.util.UtilReports;
+import br.com.arquitetura.util.Virtualizacao;
 
 /**
  * Classe abstrata pertecente a camada de visão, reponsável por fornecer apoio ao <i>ManagedBean</i> que a implementa.<br>
- * Nesta classe é instânciada a <i>Entidade</i> que está sendo trabalhada no momento.
+ * Nesta classe é instânciada a <i>Entidade</i> que está sendo trabalhada no momento.<br>
+ * O estado dos <i>ManagedBeans</i> mantidos em sessão é serializado no formato do {@link SerializadorCompacto}. Os atributos do
+ * tipo <code>Service</code> e <code>HibernateDAO</code> não são gravados e são obtidos novamente do <i>Spring</i> quando a sessão é restaurada.
  * 
  * @author Wesley Luiz
  * @version 1.0.0
  */
-public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO<E>, E extends Entidade> extends Generico<E> {
+public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO<E>, E extends Entidade> extends Generico<E> implements Externalizable {
 
 	/** Atributo SPACE. */
 	private static final String SPACE = " ";
@@ -50,7 +60,7 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 	private E entidade;
 
 	/** Atributo service. */
-	protected Service<D, E> service;
+	protected transient Service<D, E> service;
 
 	/**
 	 * Responsável pela criação de novas instâncias desta classe.
@@ -72,6 +82,16 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 		iniciarDados();
 	}
 
+	@Override
+	public void writeExternal(final ObjectOutput out) throws IOException {
+		SerializadorCompacto.escrever(this, out);
+	}
+
+	@Override
+	public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+		SerializadorCompacto.ler(this, in);
+	}
+
 	/**
 	 * Método responsável por obter uma nova instância da <code>Entidade</code> que está sendo trabalhada no momento.<br>
 	 * Se o método de inclusão dessa classe for chamado este "restart" e efetuado automaticamente.
@@ -124,11 +144,13 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 			getService().validarCamposVazios(getEntidade());
 			getService().salvar(getEntidade());
 			iniciarDados();
-			exibirMensagem(FacesContext.getCurrentInstance(), getMensagem(MSG_SALVAR_SUCESSO));
+			notificar(Bundle.GRAVIDADE_INFORMATIVO, getMensagem(MSG_SALVAR_SUCESSO), null);
 		} catch (final CampoVazioException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+			notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+		} catch (final DuplicidadeException e) {
+			notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_DADO_DUPLICADO).concat(SPACE + e.getCampo()), null);
 		} catch (final ConstraintViolationException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), obterCausaExcecao(e));
+			notificar(Bundle.GRAVIDADE_ALERTA, obterCausaExcecao(e), null);
 		}
 	}
 
@@ -143,11 +165,11 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 			getService().validarCamposVazios(getEntidade());
 			getService().alterar(getEntidade());
 			iniciarDados();
-			exibirMensagem(FacesContext.getCurrentInstance(), getMensagem(MSG_EDITAR_SUCESSO));
+			notificar(Bundle.GRAVIDADE_INFORMATIVO, getMensagem(MSG_EDITAR_SUCESSO), null);
 		} catch (final CampoVazioException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+			notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
 		} catch (final ConstraintViolationException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), obterCausaExcecao(e));
+			notificar(Bundle.GRAVIDADE_ALERTA, obterCausaExcecao(e), null);
 		}
 	}
 
@@ -162,11 +184,13 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 			getService().validarCamposVazios(getEntidade());
 			getService().salvarOuAlterar(getEntidade());
 			iniciarDados();
-			exibirMensagem(FacesContext.getCurrentInstance(), getMensagem(MSG_SALVAR_SUCESSO));
+			notificar(Bundle.GRAVIDADE_INFORMATIVO, getMensagem(MSG_SALVAR_SUCESSO), null);
 		} catch (final CampoVazioException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+			notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+		} catch (final DuplicidadeException e) {
+			notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_DADO_DUPLICADO).concat(SPACE + e.getCampo()), null);
 		} catch (final ConstraintViolationException e) {
-			exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), obterCausaExcecao(e));
+			notificar(Bundle.GRAVIDADE_ALERTA, obterCausaExcecao(e), null);
 		}
 	}
 
@@ -179,7 +203,7 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 	public void remover() {
 		getService().remover(getEntidade());
 		iniciarDados();
-		exibirMensagem(FacesContext.getCurrentInstance(), getMensagem(MSG_REMOVER_SUCESSO));
+		notificar(Bundle.GRAVIDADE_INFORMATIVO, getMensagem(MSG_REMOVER_SUCESSO), null);
 	}
 
 	/**
@@ -213,6 +237,27 @@ public abstract class Controller<S extends Service<D, E>, D extends HibernateDAO
 		}
 	}
 
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.pdf</i> a partir de uma fonte de dados <i>JasperReports</i>,
+	 * evitando que todos os registros precisem ser carregados em memória antes do preenchimento. Exemplo:
+	 * <pre>
+	 * gerarRelatorioPDF(new DataSourceCursor(clienteDAO), parametros, "relatorio.jasper", FacesContext.getCurrentInstance());
+	 * </pre>
+	 * @author Wesley Luiz
+	 * @param dataSource - Recebe a fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param context - Recebe uma instância do contexto corrente da aplicação.
+	 * @see DataSourceCursor
+	 */
+	protected void gerarRelatorioPDF(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext context) {
+		try {
+			UtilReports.gerarRelatorioPDF(dataSource, parametros, jasperFileName, context, false, Virtualizacao.AUTOMATICA);
+		} catch (IOException | JRException e) {
+			e.printStackTrace();
+		}
+	}
+
 	/**
 	 * Retorna o valor do atributo <code>entidade</code>
 	 * @return <code>E</code>
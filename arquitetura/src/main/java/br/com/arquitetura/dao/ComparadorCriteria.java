@@ -0,0 +1,191 @@
+package br.com.arquitetura.dao;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.criterion.CriteriaSpecification;
+import org.hibernate.criterion.Order;
+import org.hibernate.internal.CriteriaImpl;
+import org.hibernate.proxy.HibernateProxy;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * <code>Comparator</code> equivalente às ordens adicionadas a um <code>Criteria</code> através de <code>addOrder</code>, utilizado pelo
+ * {@link HibernateDAOParticionado} para intercalar as linhas já ordenadas de cada partição.<br>
+ * Os valores são lidos dos atributos das entidades retornadas, inclusive através das associações de <code>createAlias</code> e
+ * <code>createCriteria</code>. Os nulos são posicionados após os demais valores em ordem ascendente, como no <i>PostgreSQL</i> e no
+ * <i>Oracle</i>, e os textos são comparados pela ordem do <code>String</code>, que corresponde às <i>collations</i> binárias. Ordens
+ * sobre projeções ou com outro <code>ResultTransformer</code> são recusadas, pois as linhas não são entidades.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class ComparadorCriteria extends Objeto implements Comparator<Object> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante PROPRIEDADE. */
+	private static final Field PROPRIEDADE = obterCampoOrdem("propertyName");
+
+	/** Constante ASCENDENTE. */
+	private static final Field ASCENDENTE = obterCampoOrdem("ascending");
+
+	/** Constante IGNORAR_CAIXA. */
+	private static final Field IGNORAR_CAIXA = obterCampoOrdem("ignoreCase");
+
+	/** Atributo caminhos. */
+	private final List<String[]> caminhos = new ArrayList<String[]>();
+
+	/** Atributo ascendentes. */
+	private final List<Boolean> ascendentes = new ArrayList<Boolean>();
+
+	/** Atributo ignorarCaixa. */
+	private final List<Boolean> ignorarCaixa = new ArrayList<Boolean>();
+
+	private ComparadorCriteria() {
+		super();
+	}
+
+	/**
+	 * Método responsável por criar o <code>Comparator</code> das ordens de um <code>Criteria</code>.
+	 * @author Wesley Luiz
+	 * @param criteria - <code>Criteria</code> com as ordens.
+	 * @return Retorna o <code>Comparator</code>, ou <code>null</code> caso o <code>Criteria</code> não possua ordens.
+	 * @throws HibernateException Lança uma exceção caso o <code>Criteria</code> possua ordens e retorne projeções ou outro tipo de linha.
+	 */
+	static ComparadorCriteria criar(final CriteriaImpl criteria) {
+		final Iterator<?> ordens = criteria.iterateOrderings();
+		if (!ordens.hasNext()) {
+			return null;
+		}
+		if (isReferencia(criteria.getProjection()) || (criteria.getResultTransformer() != CriteriaSpecification.ROOT_ENTITY
+				&& criteria.getResultTransformer() != CriteriaSpecification.DISTINCT_ROOT_ENTITY)) {
+			throw new HibernateException("addOrder é suportado em consultas a todas as partições apenas quando são retornadas as "
+					+ "entidades. Utilize novoCriteria(int) ou consultarParticoes para combinar projeções ordenadas.");
+		}
+
+		final Map<Criteria, String> associacoes = new HashMap<Criteria, String>();
+		final Map<String, String> apelidos = new HashMap<String, String>();
+		associacoes.put(criteria, "");
+		apelidos.put(criteria.getAlias(), "");
+		for (final Iterator<?> iterator = criteria.iterateSubcriteria(); iterator.hasNext();) {
+			final CriteriaImpl.Subcriteria subcriteria = (CriteriaImpl.Subcriteria) iterator.next();
+			final String caminho = concatenar(associacoes.get(subcriteria.getParent()), resolver(apelidos, subcriteria.getPath()));
+			associacoes.put(subcriteria, caminho);
+			if (isReferencia(subcriteria.getAlias())) {
+				apelidos.put(subcriteria.getAlias(), caminho);
+			}
+		}
+
+		final ComparadorCriteria comparador = new ComparadorCriteria();
+		while (ordens.hasNext()) {
+			final CriteriaImpl.OrderEntry entrada = (CriteriaImpl.OrderEntry) ordens.next();
+			final Order ordem = entrada.getOrder();
+			final String propriedade = (String) ler(PROPRIEDADE, ordem);
+			final String caminho = entrada.getCriteria() == criteria ? resolver(apelidos, propriedade)
+					: concatenar(associacoes.get(entrada.getCriteria()), propriedade);
+			comparador.caminhos.add(caminho.split("\\."));
+			comparador.ascendentes.add((Boolean) ler(ASCENDENTE, ordem));
+			comparador.ignorarCaixa.add((Boolean) ler(IGNORAR_CAIXA, ordem));
+		}
+		return comparador;
+	}
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public int compare(final Object e1, final Object e2) {
+		for (int i = 0; i < caminhos.size(); i++) {
+			Object v1 = obterValor(e1, caminhos.get(i));
+			Object v2 = obterValor(e2, caminhos.get(i));
+			int resultado;
+			if (!isReferencia(v1) || !isReferencia(v2)) {
+				resultado = isReferencia(v1) ? -1 : isReferencia(v2) ? 1 : 0;
+			} else {
+				if (ignorarCaixa.get(i) && v1 instanceof String && v2 instanceof String) {
+					v1 = ((String) v1).toLowerCase();
+					v2 = ((String) v2).toLowerCase();
+				}
+				if (!(v1 instanceof Comparable)) {
+					throw new HibernateException("O atributo " + juntar(caminhos.get(i)) + " não pode ser utilizado para intercalar as partições.");
+				}
+				resultado = ((Comparable) v1).compareTo(v2);
+			}
+			if (resultado != 0) {
+				return ascendentes.get(i) ? resultado : -resultado;
+			}
+		}
+		return 0;
+	}
+
+	private static Object obterValor(final Object entidade, final String[] caminho) {
+		Object valor = entidade;
+		for (final String atributo : caminho) {
+			if (!isReferencia(valor)) {
+				return null;
+			}
+			if (valor instanceof HibernateProxy) {
+				valor = ((HibernateProxy) valor).getHibernateLazyInitializer().getImplementation();
+			}
+			valor = ler(obterCampo(valor.getClass(), atributo, caminho), valor);
+		}
+		return valor;
+	}
+
+	private static Field obterCampo(final Class<?> classe, final String nome, final String[] caminho) {
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Object.class; atual = atual.getSuperclass()) {
+			try {
+				final Field campo = atual.getDeclaredField(nome);
+				campo.setAccessible(true);
+				return campo;
+			} catch (final NoSuchFieldException e) {
+				continue;
+			}
+		}
+		throw new HibernateException("Atributo " + juntar(caminho) + " da ordem não encontrado em " + classe.getSimpleName() + ".");
+	}
+
+	private static String resolver(final Map<String, String> apelidos, final String propriedade) {
+		final int ponto = propriedade.indexOf('.');
+		if (ponto > 0 && apelidos.containsKey(propriedade.substring(0, ponto))) {
+			return concatenar(apelidos.get(propriedade.substring(0, ponto)), propriedade.substring(ponto + 1));
+		}
+		return propriedade;
+	}
+
+	private static String concatenar(final String prefixo, final String propriedade) {
+		return !isReferencia(prefixo) || prefixo.isEmpty() ? propriedade : prefixo + "." + propriedade;
+	}
+
+	private static String juntar(final String[] caminho) {
+		final StringBuilder texto = new StringBuilder();
+		for (final String atributo : caminho) {
+			texto.append(texto.length() > 0 ? "." : "").append(atributo);
+		}
+		return texto.toString();
+	}
+
+	private static Object ler(final Field campo, final Object objeto) {
+		try {
+			return campo.get(objeto);
+		} catch (final IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Field obterCampoOrdem(final String nome) {
+		try {
+			final Field campo = Order.class.getDeclaredField(nome);
+			campo.setAccessible(true);
+			return campo;
+		} catch (final NoSuchFieldException e) {
+			throw new IllegalStateException("Versão do Hibernate sem o atributo " + nome + " em Order.", e);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package br.com.arquitetura.dao;
+
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Interface responsável por escolher a partição em que uma nova <code>Entidade</code> será persistida pelo
+ * {@link HibernateDAOParticionado}, a partir de uma chave de partição como o cliente ou a filial a que ela pertence.<br>
+ * O identificador gerado para a <code>Entidade</code> indica a partição escolhida, de forma que as buscas por <i>id</i>
+ * continuam sendo encaminhadas diretamente à partição correta.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public interface EstrategiaParticao<E extends Entidade> {
+
+	/**
+	 * Método responsável por escolher a partição de uma nova <code>Entidade</code>.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> que será persistida.
+	 * @param particoes - Quantidade de partições.
+	 * @return Retorna o índice da partição, de <code>0</code> a <code>particoes - 1</code>.
+	 */
+	int obterParticao(E entidade, int particoes);
+}
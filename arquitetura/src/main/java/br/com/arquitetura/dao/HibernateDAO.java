@@ -1,10 +1,22 @@
 package br.com.arquitetura.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import javax.persistence.EntityManager;
+import org.hibernate.CacheMode;
 import org.hibernate.Criteria;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.criterion.Criterion;
+import org.hibernate.criterion.Projections;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import br.com.arquitetura.entidade.Entidade;
 import br.com.arquitetura.objeto.Generico;
 
@@ -12,6 +24,8 @@ import br.com.arquitetura.objeto.Generico;
  * Pertecente à camada de <i>Persistência</i> esta classe é responsável por
  * fornecer acesso e manipulação de dados em um determinado <code>Banco de Dados.</code> <br>
  * As classes que à extenderem terão todas as funções básicas para implementar um <i>CRUD (Create Read Update and Delete)</i>.
+ * As instruções executadas podem ser medidas por requisição configurando o
+ * {@link br.com.arquitetura.monitoramento.MonitorDataSource} como <code>DataSource</code> do <code>EntityManagerFactory</code>.
  * 
  * @author Wesley Luiz
  * @param E - Recebe uma classe que <i>extende</i> {@link Entidade}.
@@ -81,6 +95,77 @@ public abstract class HibernateDAO<E extends Entidade> extends Generico<E> imple
 		return getSession().createCriteria(obterTipoDaClasse());
 	}
 
+	/**
+	 * Método responsável por percorrer o resultado de um <code>Criteria</code> através de um cursor somente leitura,
+	 * buscando os registros no <i>Banco de Dados</i> em lotes de <code>tamanhoLote</code> linhas.<br>
+	 * Os objetos lidos não são armazenados no cache de segundo nível e continuam associados à <i>Sessão</i>
+	 * até que sejam desassociados por {@link #desassociarCarregados(Set)} ou {@link #limparSessao()}.<br>
+	 * O <code>Criteria</code> informado é alterado para somente leitura, sem cache e com o <i>fetch size</i> do lote, e deve ser
+	 * descartado após a chamada: as entidades de um <code>list()</code> posterior também seriam somente leitura e as suas
+	 * alterações não seriam gravadas.
+	 * 
+	 * @author Wesley Luiz
+	 * @param criteria - <code>Criteria</code> que será percorrido, podendo conter projeções. Não deve ser reutilizado.
+	 * @param tamanhoLote - Quantidade de linhas buscadas a cada ida ao <i>Banco de Dados</i>.
+	 * @return Retorna um cursor posicionado antes do primeiro registro, que deve ser fechado após o uso.
+	 * @see ScrollableResults
+	 */
+	public ScrollableResults percorrer(final Criteria criteria, final int tamanhoLote) {
+		return criteria.setReadOnly(true).setCacheMode(CacheMode.IGNORE).setFetchSize(tamanhoLote).scroll(ScrollMode.FORWARD_ONLY);
+	}
+
+	/**
+	 * Método responsável por obter as entidades associadas à <i>Sessão</i> neste momento, permitindo desassociar depois apenas
+	 * as entidades carregadas a partir de então através de {@link #desassociarCarregados(Set)}.
+	 * 
+	 * @author Wesley Luiz
+	 * @return Retorna um conjunto, por identidade, com as entidades da <i>Sessão</i>.
+	 */
+	public Set<Object> obterEntidadesSessao() {
+		final Set<Object> entidades = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		for (final Session sessao : obterSessoesAbertas()) {
+			entidades.addAll(((SessionImplementor) sessao).getPersistenceContext().getEntitiesByKey().values());
+		}
+		return entidades;
+	}
+
+	/**
+	 * Método responsável por desassociar da <i>Sessão</i> as entidades carregadas depois de {@link #obterEntidadesSessao()},
+	 * junto com as suas coleções, mantendo as entidades que já estavam associadas e as suas alterações pendentes.
+	 * 
+	 * @author Wesley Luiz
+	 * @param anteriores - Entidades obtidas por {@link #obterEntidadesSessao()}, que permanecem associadas.
+	 */
+	public void desassociarCarregados(final Set<Object> anteriores) {
+		for (final Session sessao : obterSessoesAbertas()) {
+			final PersistenceContext contexto = ((SessionImplementor) sessao).getPersistenceContext();
+			for (final Object entidade : new ArrayList<Object>(contexto.getEntitiesByKey().values())) {
+				if (!anteriores.contains(entidade)) {
+					sessao.evict(entidade);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por obter as <i>Sessões</i> utilizadas pelo <i>DAO</i> na transação corrente.
+	 * 
+	 * @author Wesley Luiz
+	 * @return Retorna as <i>Sessões</i> abertas.
+	 */
+	protected List<Session> obterSessoesAbertas() {
+		return Collections.singletonList(getSession());
+	}
+
+	/**
+	 * Método responsável por desassociar da <i>Sessão</i> do <code>Hibernate</code> todos os objetos carregados até o momento.
+	 * 
+	 * @author Wesley Luiz
+	 */
+	public void limparSessao() {
+		getSession().clear();
+	}
+
 	@Override
 	public void salvar(final E entidade) {
 		getSession().save(entidade);
@@ -117,4 +202,58 @@ public abstract class HibernateDAO<E extends Entidade> extends Generico<E> imple
 	public List<E> listar() {
 		return novoCriteria().list();
 	}
+
+	/**
+	 * Método responsável por contar os registros da <i>tabela</i> em questão.
+	 * 
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de registros.
+	 */
+	public long contar() {
+		return ((Number) novoCriteria().setProjection(Projections.rowCount()).uniqueResult()).longValue();
+	}
+
+	/**
+	 * Método responsável por buscar as entidades que atendem a um critério, limitando a quantidade de resultados.
+	 * 
+	 * @author Wesley Luiz
+	 * @param criterio - Critério da pesquisa.
+	 * @param limite - Quantidade máxima de resultados.
+	 * @return Retorna as entidades encontradas.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> pesquisar(final Criterion criterio, final int limite) {
+		return novoCriteria().add(criterio).setMaxResults(limite).list();
+	}
+
+	/**
+	 * Método responsável por persistir uma lista de entidades com um único <code>flush</code>, desassociando-as da <i>Sessão</i>
+	 * ao final para que a memória ocupada não cresça ao longo de uma carga em lotes.
+	 * 
+	 * @author Wesley Luiz
+	 * @param entidades - Entidades a serem persistidas.
+	 */
+	public void salvarLote(final List<E> entidades) {
+		final Session session = getSession();
+		for (final E entidade : entidades) {
+			session.save(entidade);
+		}
+		session.flush();
+		session.clear();
+	}
+
+	/**
+	 * Método responsável por buscar as entidades correspondentes a uma coleção de identificadores em uma única consulta.
+	 * 
+	 * @author Wesley Luiz
+	 * @param ids - Identificadores das entidades.
+	 * @return Retorna as entidades encontradas, sem ordem definida.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> listarPorIds(final Collection<Integer> ids) {
+		if (ids.isEmpty()) {
+			return new ArrayList<E>();
+		}
+		return novoCriteria().add(Restrictions.in("id", ids)).list();
+	}
 }
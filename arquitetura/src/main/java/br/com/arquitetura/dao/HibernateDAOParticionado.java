@@ -0,0 +1,909 @@
+package br.com.arquitetura.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.NonUniqueResultException;
+import org.hibernate.ReplicationMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.criterion.Criterion;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.criterion.RowCountProjection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CriteriaImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumGeracaoIdentificador;
+import br.com.arquitetura.monitoramento.MonitorConsultas;
+
+/**
+ * Variação do {@link HibernateDAO} que distribui os registros de uma <code>Entidade</code> entre vários <i>Bancos de Dados</i>
+ * (partições), cada um acessado por um <code>EntityManagerFactory</code>.<br>
+ * A partição de um registro é obtida pelo <i>hash</i> do seu <i>id</i> módulo a quantidade de partições. Ao persistir uma nova
+ * <code>Entidade</code> a partição é escolhida pela {@link EstrategiaParticao} configurada, ou de forma alternada quando não há
+ * estratégia, e o <i>id</i> é obtido da sequência ou tabela da própria partição, definida por {@link GeracaoIdentificador}, e
+ * multiplicado pela quantidade de partições somado ao índice da partição. Assim o <i>id</i> indica a partição e é único entre
+ * todas as instâncias da aplicação. Entidades com <i>id</i> <code>IDENTITY</code> são recusadas na criação do <i>DAO</i>, pois o
+ * <i>Banco de Dados</i> substituiria o <i>id</i> atribuído.
+ * <ul>
+ * <li><code>obterPorId</code>, <code>alterar</code> e <code>remover</code> são executados apenas na partição do registro.</li>
+ * <li><code>listar</code>, <code>contar</code> e <code>pesquisar</code> consultam todas as partições em paralelo e intercalam os
+ * resultados, que já chegam ordenados de cada partição.</li>
+ * <li>O <code>Criteria</code> de {@link #novoCriteria()} é executado em cada partição, em sequência. Sem <code>addOrder</code>,
+ * <code>list()</code> e o cursor de {@link #percorrer(Criteria, int)} devolvem as linhas partição a partição. Com <code>addOrder</code>,
+ * as linhas de cada partição são intercaladas pelos mesmos atributos, e <code>setMaxResults</code> retorna as primeiras linhas de
+ * todas as partições. <code>uniqueResult()</code> soma as contagens de <code>Projections.rowCount()</code>.</li>
+ * </ul>
+ * As escritas utilizam o <code>EntityManager</code> da transação corrente de cada partição. As partições que não pertencem ao
+ * gerenciador de transações do <i>Spring</i> têm a sua transação confirmada imediatamente antes da transação principal, o que não
+ * garante atomicidade caso a confirmação da transação principal falhe. Fora de transações de escrita as consultas paralelas
+ * utilizam <code>EntityManager</code>(s) próprios, retornando entidades desassociadas.<br>
+ * Consultas que precisam de outra forma de combinação, como somas e médias, devem utilizar {@link #novoCriteria(int)} ou
+ * {@link #consultarParticoes(ConsultaParticao)}. Exemplo de uso:
+ * <pre>
+ * &#64;Entity
+ * &#64;GeracaoIdentificador(estrategia = EnumGeracaoIdentificador.SEQUENCIA)
+ * public class Cliente extends Entidade {
+ * 	...
+ * }
+ *
+ * public class ClienteDAO extends HibernateDAOParticionado&lt;Cliente&gt; {
+ * 	public ClienteDAO(final List&lt;EntityManagerFactory&gt; fabricas) {
+ * 		super(fabricas);
+ * 	}
+ * }
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @param E - Recebe uma classe que <i>extende</i> {@link Entidade}.
+ * @version 1.0.0
+ */
+public abstract class HibernateDAOParticionado<E extends Entidade> extends HibernateDAO<E> {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(HibernateDAOParticionado.class);
+
+	/** Constante THREADS_POR_PARTICAO. */
+	public static final int THREADS_POR_PARTICAO = 4;
+
+	/** Constante ORDEM_ID. */
+	private static final Comparator<Entidade> ORDEM_ID = new Comparator<Entidade>() {
+		@Override
+		public int compare(final Entidade e1, final Entidade e2) {
+			return e1.getId().compareTo(e2.getId());
+		}
+	};
+
+	/** Atributo fabricas. */
+	private final List<EntityManagerFactory> fabricas;
+
+	/** Atributo distribuicao. */
+	private final AtomicInteger distribuicao = new AtomicInteger();
+
+	/** Atributo estrategia. */
+	private volatile EstrategiaParticao<? super E> estrategia;
+
+	/** Atributo threadsConsultas. */
+	private volatile int threadsConsultas;
+
+	/** Atributo executor. */
+	private transient volatile ThreadPoolExecutor executor;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param fabricas - <code>EntityManagerFactory</code> de cada partição. A ordem não deve ser alterada após a gravação de registros.
+	 * @throws IllegalStateException Lança uma exceção caso a <code>Entidade</code> não defina uma sequência ou tabela através de
+	 *         {@link GeracaoIdentificador}.
+	 */
+	public HibernateDAOParticionado(final List<EntityManagerFactory> fabricas) {
+		super();
+		this.fabricas = new ArrayList<EntityManagerFactory>(fabricas);
+		this.threadsConsultas = fabricas.size() * THREADS_POR_PARTICAO;
+		final GeracaoIdentificador geracao = obterTipoDaClasse().getAnnotation(GeracaoIdentificador.class);
+		if (!isReferencia(geracao) || geracao.estrategia() == EnumGeracaoIdentificador.IDENTIDADE) {
+			throw new IllegalStateException(obterTipoDaClasse().getSimpleName()
+					+ " deve definir @GeracaoIdentificador com sequência ou tabela para ser gravada em partições.");
+		}
+	}
+
+	/**
+	 * Interface responsável por definir uma consulta executada em cada partição por {@link HibernateDAOParticionado#consultarParticoes(ConsultaParticao)}.
+	 * @param R - Tipo do resultado de cada partição.
+	 */
+	protected interface ConsultaParticao<R> {
+
+		/**
+		 * Método responsável por executar a consulta em uma partição.
+		 * @author Wesley Luiz
+		 * @param sessao - <i>Sessão</i> da partição.
+		 * @return Retorna o resultado da partição.
+		 */
+		R executar(Session sessao);
+	}
+
+	/**
+	 * Método responsável por obter a partição de um registro a partir do seu <i>id</i>.
+	 * @author Wesley Luiz
+	 * @param id - Identificador do registro.
+	 * @return Retorna o índice da partição.
+	 */
+	public int obterParticao(final Integer id) {
+		return (id.hashCode() & Integer.MAX_VALUE) % fabricas.size();
+	}
+
+	/**
+	 * Retorna a quantidade de partições.
+	 * @return <code>int</code>
+	 */
+	public int getParticoes() {
+		return fabricas.size();
+	}
+
+	/**
+	 * Retorna o <code>EntityManager</code> da primeira partição, utilizado pelas consultas das subclasses a tabelas que não são
+	 * particionadas. As consultas da <code>Entidade</code> devem utilizar {@link #novoCriteria()} ou {@link #obterEntityManager(int)}.
+	 * @return <code>EntityManager</code>
+	 */
+	@Override
+	protected EntityManager getEntityManager() {
+		return obterEntityManager(0);
+	}
+
+	/**
+	 * Método responsável por obter o <code>EntityManager</code> de uma partição associado à transação corrente.<br>
+	 * Caso a partição não pertença ao gerenciador de transações, um <code>EntityManager</code> é criado com uma transação própria,
+	 * confirmada antes da transação principal ou desfeita junto com ela.
+	 * @author Wesley Luiz
+	 * @param particao - Índice da partição.
+	 * @return Retorna o <code>EntityManager</code> da partição.
+	 */
+	protected EntityManager obterEntityManager(final int particao) {
+		final EntityManagerFactory fabrica = fabricas.get(particao);
+		final EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(fabrica);
+		if (isReferencia(holder)) {
+			return holder.getEntityManager();
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Não existe uma transação ativa para acessar a partição " + particao + ".");
+		}
+
+		final EntityManager entityManager = fabrica.createEntityManager();
+		entityManager.getTransaction().begin();
+		TransactionSynchronizationManager.bindResource(fabrica, new EntityManagerHolder(entityManager));
+		TransactionSynchronizationManager.registerSynchronization(new TransacaoParticao(fabrica, entityManager));
+		return entityManager;
+	}
+
+	/**
+	 * Método responsável por obter a <i>Sessão</i> do <code>Hibernate</code> de uma partição.
+	 * @author Wesley Luiz
+	 * @param particao - Índice da partição.
+	 * @return Retorna a <i>Sessão</i> da partição.
+	 */
+	protected Session obterSessao(final int particao) {
+		return (Session) obterEntityManager(particao).getDelegate();
+	}
+
+	/**
+	 * Método responsável por criar um <code>Criteria</code> executado em todas as partições, em sequência, utilizando o
+	 * <code>EntityManager</code> de cada partição associado à transação corrente.
+	 * @author Wesley Luiz
+	 * @return Retorna uma instância de <code>Criteria</code>.
+	 */
+	@Override
+	public Criteria novoCriteria() {
+		return new CriteriaParticoes();
+	}
+
+	/**
+	 * Método responsável por criar um <code>Criteria</code> na <i>Sessão</i> de uma partição.
+	 * @author Wesley Luiz
+	 * @param particao - Índice da partição.
+	 * @return Retorna uma instância de <code>Criteria</code>.
+	 */
+	public Criteria novoCriteria(final int particao) {
+		return obterSessao(particao).createCriteria(obterTipoDaClasse());
+	}
+
+	@Override
+	public void limparSessao() {
+		for (final Session sessao : obterSessoesAbertas()) {
+			sessao.clear();
+		}
+	}
+
+	@Override
+	protected List<Session> obterSessoesAbertas() {
+		final List<Session> sessoes = new ArrayList<Session>();
+		for (final EntityManagerFactory fabrica : fabricas) {
+			final EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(fabrica);
+			if (isReferencia(holder)) {
+				sessoes.add((Session) holder.getEntityManager().getDelegate());
+			}
+		}
+		return sessoes;
+	}
+
+	@Override
+	public void salvar(final E entidade) {
+		final int particao = escolherParticao(entidade);
+		final Session sessao = obterSessao(particao);
+		entidade.setId(gerarId(sessao, particao, entidade));
+		sessao.replicate(entidade, ReplicationMode.EXCEPTION);
+		sessao.flush();
+	}
+
+	@Override
+	public void alterar(final E entidade) {
+		final Session sessao = obterSessao(obterParticao(entidade.getId()));
+		sessao.update(entidade);
+		sessao.flush();
+	}
+
+	@Override
+	public void salvarOuAlterar(final E entidade) {
+		if (isReferencia(entidade.getId())) {
+			alterar(entidade);
+		} else {
+			salvar(entidade);
+		}
+	}
+
+	@Override
+	public void remover(final E entidade) {
+		final Session sessao = obterSessao(obterParticao(entidade.getId()));
+		sessao.load(entidade, entidade.getId());
+		sessao.delete(entidade);
+		sessao.flush();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E obterPorId(final Integer id) {
+		return (E) novoCriteria(obterParticao(id)).add(Restrictions.eq("id", id)).uniqueResult();
+	}
+
+	@Override
+	public void salvarLote(final List<E> entidades) {
+		final List<List<E>> particoes = new ArrayList<List<E>>();
+		for (int i = 0; i < fabricas.size(); i++) {
+			particoes.add(new ArrayList<E>());
+		}
+		for (final E entidade : entidades) {
+			final int particao = escolherParticao(entidade);
+			entidade.setId(gerarId(obterSessao(particao), particao, entidade));
+			particoes.get(particao).add(entidade);
+		}
+
+		for (int i = 0; i < particoes.size(); i++) {
+			if (particoes.get(i).isEmpty()) {
+				continue;
+			}
+			final Session sessao = obterSessao(i);
+			for (final E entidade : particoes.get(i)) {
+				sessao.replicate(entidade, ReplicationMode.EXCEPTION);
+			}
+			sessao.flush();
+			sessao.clear();
+		}
+	}
+
+	@Override
+	public List<E> listar() {
+		return listar(Order.asc("id"), ORDEM_ID);
+	}
+
+	/**
+	 * Método responsável por buscar todos os registros de todas as partições em uma determinada ordem.
+	 * @author Wesley Luiz
+	 * @param ordem - Ordem aplicada à consulta de cada partição.
+	 * @param comparador - <code>Comparator</code> equivalente à <code>ordem</code>, utilizado para intercalar os resultados.
+	 * @return Retorna os registros de todas as partições, ordenados.
+	 */
+	public List<E> listar(final Order ordem, final Comparator<? super E> comparador) {
+		return intercalar(consultarParticoes(new ConsultaParticao<List<E>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public List<E> executar(final Session sessao) {
+				return sessao.createCriteria(obterTipoDaClasse()).addOrder(ordem).list();
+			}
+		}), comparador, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public long contar() {
+		long total = 0;
+		for (final Number quantidade : consultarParticoes(new ConsultaParticao<Number>() {
+			@Override
+			public Number executar(final Session sessao) {
+				return (Number) sessao.createCriteria(obterTipoDaClasse()).setProjection(Projections.rowCount()).uniqueResult();
+			}
+		})) {
+			total += quantidade.longValue();
+		}
+		return total;
+	}
+
+	@Override
+	public List<E> pesquisar(final Criterion criterio, final int limite) {
+		return intercalar(consultarParticoes(new ConsultaParticao<List<E>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public List<E> executar(final Session sessao) {
+				return sessao.createCriteria(obterTipoDaClasse()).add(criterio).addOrder(Order.asc("id")).setMaxResults(limite).list();
+			}
+		}), ORDEM_ID, limite);
+	}
+
+	@Override
+	public List<E> listarPorIds(final Collection<Integer> ids) {
+		final List<List<Integer>> particoes = new ArrayList<List<Integer>>();
+		for (int i = 0; i < fabricas.size(); i++) {
+			particoes.add(new ArrayList<Integer>());
+		}
+		for (final Integer id : ids) {
+			particoes.get(obterParticao(id)).add(id);
+		}
+
+		final List<E> resultado = new ArrayList<E>(ids.size());
+		for (int i = 0; i < particoes.size(); i++) {
+			if (!particoes.get(i).isEmpty()) {
+				@SuppressWarnings("unchecked")
+				final List<E> encontradas = novoCriteria(i).add(Restrictions.in("id", particoes.get(i))).list();
+				resultado.addAll(encontradas);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por executar uma consulta em todas as partições.<br>
+	 * Dentro de uma transação de escrita as partições são consultadas em sequência, utilizando os <code>EntityManager</code>(s) da
+	 * transação, para que as alterações ainda não confirmadas sejam consideradas. Nos demais casos as partições são consultadas em
+	 * paralelo, cada uma em um <code>EntityManager</code> próprio que é fechado ao final da consulta, e as instruções executadas são
+	 * atribuídas ao {@link br.com.arquitetura.monitoramento.RegistroConsultas} da <i>thread</i> que iniciou a consulta.
+	 * @author Wesley Luiz
+	 * @param consulta - Consulta a ser executada.
+	 * @return Retorna os resultados de cada partição, na ordem das partições.
+	 */
+	protected <R> List<R> consultarParticoes(final ConsultaParticao<R> consulta) {
+		final List<R> resultados = new ArrayList<R>(fabricas.size());
+		if (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			for (int i = 0; i < fabricas.size(); i++) {
+				resultados.add(consulta.executar(obterSessao(i)));
+			}
+			return resultados;
+		}
+
+		final List<Future<R>> futuros = new ArrayList<Future<R>>(fabricas.size());
+		for (final EntityManagerFactory fabrica : fabricas) {
+			futuros.add(obterExecutor().submit(MonitorConsultas.propagar(new Callable<R>() {
+				@Override
+				public R call() {
+					final EntityManager entityManager = fabrica.createEntityManager();
+					try {
+						final Session sessao = (Session) entityManager.getDelegate();
+						sessao.setDefaultReadOnly(true);
+						return consulta.executar(sessao);
+					} finally {
+						entityManager.close();
+					}
+				}
+			})));
+		}
+
+		try {
+			for (final Future<R> futuro : futuros) {
+				resultados.add(futuro.get());
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Consulta às partições interrompida.", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			for (final Future<R> futuro : futuros) {
+				futuro.cancel(true);
+			}
+		}
+		return resultados;
+	}
+
+	/**
+	 * Método responsável por intercalar listas já ordenadas em uma única lista ordenada.
+	 * @author Wesley Luiz
+	 * @param listas - Listas ordenadas de cada partição.
+	 * @param comparador - Ordem das listas.
+	 * @param limite - Quantidade máxima de elementos do resultado.
+	 * @return Retorna a lista intercalada.
+	 */
+	static <T> List<T> intercalar(final List<List<T>> listas, final Comparator<? super T> comparador, final int limite) {
+		final PriorityQueue<Cursor<T>> fila = new PriorityQueue<Cursor<T>>(Math.max(1, listas.size()), new Comparator<Cursor<T>>() {
+			@Override
+			public int compare(final Cursor<T> c1, final Cursor<T> c2) {
+				return comparador.compare(c1.getAtual(), c2.getAtual());
+			}
+		});
+
+		int total = 0;
+		for (final List<T> lista : listas) {
+			total += lista.size();
+			if (!lista.isEmpty()) {
+				fila.add(new Cursor<T>(lista));
+			}
+		}
+
+		final List<T> resultado = new ArrayList<T>(Math.min(total, limite));
+		while (!fila.isEmpty() && resultado.size() < limite) {
+			final Cursor<T> cursor = fila.poll();
+			resultado.add(cursor.getAtual());
+			if (cursor.avancar()) {
+				fila.add(cursor);
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por escolher a partição de uma nova <code>Entidade</code>.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> que será persistida.
+	 * @return Retorna o índice da partição.
+	 */
+	private int escolherParticao(final E entidade) {
+		if (isReferencia(estrategia)) {
+			return estrategia.obterParticao(entidade, fabricas.size());
+		}
+		return (distribuicao.getAndIncrement() & Integer.MAX_VALUE) % fabricas.size();
+	}
+
+	/**
+	 * Método responsável por gerar um novo <i>id</i> pertencente a uma partição, ou seja, cujo resto da divisão pela quantidade de
+	 * partições é o índice da partição. O valor é obtido da sequência ou tabela da partição, compartilhada por todas as instâncias
+	 * da aplicação, e multiplicado pela quantidade de partições somado ao índice da partição.
+	 * @author Wesley Luiz
+	 * @param sessao - <i>Sessão</i> da partição.
+	 * @param particao - Índice da partição.
+	 * @param entidade - <code>Entidade</code> que será persistida.
+	 * @return Retorna o <i>id</i> gerado.
+	 */
+	private Integer gerarId(final Session sessao, final int particao, final E entidade) {
+		final SessionImplementor implementador = (SessionImplementor) sessao;
+		final Number valor = (Number) implementador.getFactory().getEntityPersister(implementador.bestGuessEntityName(entidade))
+				.getIdentifierGenerator().generate(implementador, entidade);
+		final long id = valor.longValue() * fabricas.size() + particao;
+		if (id > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Sequência de " + obterTipoDaClasse().getSimpleName() + " esgotada na partição " + particao + ".");
+		}
+		return (int) id;
+	}
+
+	/**
+	 * Método responsável por obter o <code>ExecutorService</code> das consultas paralelas, criado no primeiro uso com
+	 * {@link #getThreadsConsultas()} <i>threads</i>.
+	 * @author Wesley Luiz
+	 * @return Retorna o <code>ExecutorService</code>.
+	 */
+	private ExecutorService obterExecutor() {
+		ThreadPoolExecutor atual = executor;
+		if (!isReferencia(atual)) {
+			synchronized (this) {
+				atual = executor;
+				if (!isReferencia(atual)) {
+					atual = new ThreadPoolExecutor(threadsConsultas, threadsConsultas, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+						@Override
+						public Thread newThread(final Runnable tarefa) {
+							final Thread thread = new Thread(tarefa, "particao-" + obterTipoDaClasse().getSimpleName());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+					executor = atual;
+				}
+			}
+		}
+		return atual;
+	}
+
+	/**
+	 * Método responsável por encerrar as <i>threads</i> das consultas paralelas.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void encerrar() {
+		if (isReferencia(executor)) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de <i>threads</i> que executam as consultas paralelas às partições, compartilhadas por todas as
+	 * requisições que utilizam este <i>DAO</i>.
+	 * @return <code>int</code>
+	 */
+	public int getThreadsConsultas() {
+		return threadsConsultas;
+	}
+
+	/**
+	 * Define a quantidade de <i>threads</i> das consultas paralelas. O padrão é {@value #THREADS_POR_PARTICAO} por partição, o que
+	 * permite que algumas consultas lentas em uma partição não bloqueiem as demais requisições; cada consulta utiliza uma
+	 * <i>thread</i> e uma conexão de cada partição, e o valor deve ser compatível com os <i>pools</i> de conexões.
+	 * @param threadsConsultas
+	 */
+	public synchronized void setThreadsConsultas(final int threadsConsultas) {
+		if (threadsConsultas < 1) {
+			throw new IllegalArgumentException("A quantidade de threads deve ser positiva.");
+		}
+		this.threadsConsultas = threadsConsultas;
+		if (isReferencia(executor)) {
+			if (threadsConsultas > executor.getMaximumPoolSize()) {
+				executor.setMaximumPoolSize(threadsConsultas);
+				executor.setCorePoolSize(threadsConsultas);
+			} else {
+				executor.setCorePoolSize(threadsConsultas);
+				executor.setMaximumPoolSize(threadsConsultas);
+			}
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>estrategia</code>
+	 * @return <code>EstrategiaParticao</code>
+	 */
+	public EstrategiaParticao<? super E> getEstrategia() {
+		return estrategia;
+	}
+
+	/**
+	 * Define o valor do atributo <code>estrategia</code>.
+	 * @param estrategia
+	 */
+	public void setEstrategia(final EstrategiaParticao<? super E> estrategia) {
+		this.estrategia = estrategia;
+	}
+
+	/**
+	 * Retorna os <code>EntityManagerFactory</code> das partições.
+	 * @return <code>List&lt;EntityManagerFactory&gt;</code>
+	 */
+	public List<EntityManagerFactory> getFabricas() {
+		return Collections.unmodifiableList(fabricas);
+	}
+
+	/**
+	 * <code>Criteria</code> executado em cada partição, em sequência, associando-se à <i>Sessão</i> da partição antes de cada execução.
+	 */
+	private final class CriteriaParticoes extends CriteriaImpl {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		CriteriaParticoes() {
+			super(obterTipoDaClasse().getName(), null);
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public List list() {
+			final ComparadorCriteria comparador = ComparadorCriteria.criar(this);
+			final List<List<Object>> particoes = listarParticoes();
+			final int limite = isReferencia(getMaxResults()) ? getMaxResults() : Integer.MAX_VALUE;
+			if (isReferencia(comparador)) {
+				return intercalar(particoes, comparador, limite);
+			}
+			final List<Object> resultado = new ArrayList<Object>();
+			for (final List<Object> particao : particoes) {
+				resultado.addAll(particao.subList(0, Math.min(particao.size(), limite - resultado.size())));
+			}
+			return resultado;
+		}
+
+		@Override
+		public Object uniqueResult() {
+			final List<Object> resultados = new ArrayList<Object>();
+			for (final List<Object> particao : listarParticoes()) {
+				resultados.addAll(particao);
+			}
+			if (getProjection() instanceof RowCountProjection) {
+				long total = 0;
+				for (final Object quantidade : resultados) {
+					total += ((Number) quantidade).longValue();
+				}
+				return total;
+			}
+			Object unico = null;
+			for (final Object resultado : resultados) {
+				if (isReferencia(unico) && unico != resultado) {
+					throw new NonUniqueResultException(resultados.size());
+				}
+				unico = resultado;
+			}
+			return unico;
+		}
+
+		@Override
+		public ScrollableResults scroll() {
+			return scroll(ScrollMode.FORWARD_ONLY);
+		}
+
+		@Override
+		public ScrollableResults scroll(final ScrollMode modo) {
+			validarPrimeiroResultado();
+			return ScrollableResults.class.cast(Proxy.newProxyInstance(HibernateDAOParticionado.class.getClassLoader(),
+					new Class<?>[] { ScrollableResults.class }, new CursorParticoes(this, modo, ComparadorCriteria.criar(this))));
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<List<Object>> listarParticoes() {
+			validarPrimeiroResultado();
+			final List<List<Object>> resultado = new ArrayList<List<Object>>(fabricas.size());
+			for (int i = 0; i < fabricas.size(); i++) {
+				associar(i);
+				resultado.add(super.list());
+			}
+			return resultado;
+		}
+
+		private ScrollableResults percorrerParticao(final int particao, final ScrollMode modo) {
+			associar(particao);
+			return super.scroll(modo);
+		}
+
+		private int contarParticoes() {
+			return fabricas.size();
+		}
+
+		private void associar(final int particao) {
+			setSession((SessionImplementor) obterSessao(particao));
+		}
+
+		private void validarPrimeiroResultado() {
+			final Integer primeiro = getFirstResult();
+			if (isReferencia(primeiro) && primeiro > 0) {
+				throw new HibernateException("setFirstResult não é suportado em consultas a todas as partições.");
+			}
+		}
+	}
+
+	/**
+	 * Cursor que percorre as partições em sequência, abrindo o cursor de cada partição após o término da anterior. Quando o
+	 * <code>Criteria</code> possui ordens, os cursores de todas as partições são abertos e a cada avanço é retornada a menor linha entre
+	 * as correntes de cada partição. Apenas o avanço através de <code>next()</code> é suportado, e <code>setMaxResults</code> limita o
+	 * total de linhas.
+	 */
+	private static final class CursorParticoes implements InvocationHandler {
+
+		/** Atributo criteria. */
+		private final HibernateDAOParticionado<?>.CriteriaParticoes criteria;
+
+		/** Atributo modo. */
+		private final ScrollMode modo;
+
+		/** Atributo comparador. */
+		private final Comparator<Object> comparador;
+
+		/** Atributo abertos. */
+		private List<ScrollableResults> abertos;
+
+		/** Atributo atual. */
+		private ScrollableResults atual;
+
+		/** Atributo particao. */
+		private int particao = -1;
+
+		/** Atributo linha. */
+		private int linha = -1;
+
+		/** Atributo fechado. */
+		private boolean fechado;
+
+		CursorParticoes(final HibernateDAOParticionado<?>.CriteriaParticoes criteria, final ScrollMode modo, final Comparator<Object> comparador) {
+			this.criteria = criteria;
+			this.modo = modo;
+			this.comparador = comparador;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) throws Throwable {
+			if (metodo.getDeclaringClass() == Object.class) {
+				return metodo.invoke(this, args);
+			}
+			switch (metodo.getName()) {
+			case "next":
+				return avancar();
+			case "close":
+				fechado = true;
+				if (isReferencia(abertos)) {
+					for (final ScrollableResults aberto : abertos) {
+						aberto.close();
+					}
+					abertos.clear();
+					atual = null;
+				}
+				fecharAtual();
+				return null;
+			case "getRowNumber":
+				return linha;
+			case "isFirst":
+				return linha == 0;
+			default:
+				if (!metodo.getName().startsWith("get")) {
+					throw new HibernateException("O cursor de um DAO particionado permite apenas avançar, " + metodo.getName() + " não é suportado.");
+				}
+				if (!isReferencia(atual)) {
+					throw new HibernateException("O cursor não está posicionado em uma linha.");
+				}
+				try {
+					return metodo.invoke(atual, args);
+				} catch (final InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		}
+
+		private boolean avancar() {
+			final Integer limite = criteria.getMaxResults();
+			if (fechado || isReferencia(limite) && linha + 1 >= limite) {
+				return false;
+			}
+			if (isReferencia(comparador)) {
+				return intercalar();
+			}
+			while (!fechado) {
+				if (isReferencia(atual) && atual.next()) {
+					linha++;
+					return true;
+				}
+				fecharAtual();
+				if (particao + 1 >= criteria.contarParticoes()) {
+					return false;
+				}
+				particao++;
+				atual = criteria.percorrerParticao(particao, modo);
+			}
+			return false;
+		}
+
+		private boolean intercalar() {
+			if (!isReferencia(abertos)) {
+				abertos = new ArrayList<ScrollableResults>(criteria.contarParticoes());
+				for (int i = 0; i < criteria.contarParticoes(); i++) {
+					final ScrollableResults cursor = criteria.percorrerParticao(i, modo);
+					if (cursor.next()) {
+						abertos.add(cursor);
+					} else {
+						cursor.close();
+					}
+				}
+			} else if (isReferencia(atual) && !atual.next()) {
+				abertos.remove(atual);
+				fecharAtual();
+			}
+
+			atual = null;
+			for (final ScrollableResults cursor : abertos) {
+				if (!isReferencia(atual) || comparador.compare(cursor.get(0), atual.get(0)) < 0) {
+					atual = cursor;
+				}
+			}
+			if (!isReferencia(atual)) {
+				return false;
+			}
+			linha++;
+			return true;
+		}
+
+		private void fecharAtual() {
+			if (isReferencia(atual)) {
+				atual.close();
+				atual = null;
+			}
+		}
+	}
+
+	/**
+	 * Posição corrente em uma lista ordenada durante a intercalação.
+	 */
+	private static final class Cursor<E> {
+
+		/** Atributo lista. */
+		private final List<E> lista;
+
+		/** Atributo posicao. */
+		private int posicao;
+
+		Cursor(final List<E> lista) {
+			this.lista = lista;
+		}
+
+		E getAtual() {
+			return lista.get(posicao);
+		}
+
+		boolean avancar() {
+			return ++posicao < lista.size();
+		}
+	}
+
+	/**
+	 * Transação de uma partição que não pertence ao gerenciador de transações, acompanhando a transação principal.
+	 */
+	private static final class TransacaoParticao extends TransactionSynchronizationAdapter {
+
+		/** Atributo fabrica. */
+		private final EntityManagerFactory fabrica;
+
+		/** Atributo entityManager. */
+		private final EntityManager entityManager;
+
+		TransacaoParticao(final EntityManagerFactory fabrica, final EntityManager entityManager) {
+			this.fabrica = fabrica;
+			this.entityManager = entityManager;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(fabrica);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(fabrica, new EntityManagerHolder(entityManager));
+		}
+
+		@Override
+		public void beforeCommit(final boolean readOnly) {
+			entityManager.getTransaction().commit();
+		}
+
+		@Override
+		public void afterCompletion(final int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(fabrica);
+			try {
+				if (entityManager.getTransaction().isActive()) {
+					entityManager.getTransaction().rollback();
+				}
+			} catch (final RuntimeException e) {
+				LOGGER.error("Falha ao desfazer a transação de uma partição.", e);
+			} finally {
+				entityManager.close();
+			}
+		}
+	}
+}
@@ -1,5 +1,9 @@
 package br.com.arquitetura.entidade;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -10,6 +14,7 @@ import br.com.arquitetura.dao.DAO;
 import br.com.arquitetura.dao.HibernateDAO;
 import br.com.arquitetura.enumerator.EnumStatus;
 import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.serializacao.SerializadorCompacto;
 import br.com.arquitetura.service.Service;
 
 /**
@@ -17,6 +22,11 @@ import br.com.arquitetura.service.Service;
  * é persistida num <code>Banco de Dados.</code><br>
  * As entidades que forem persistidas utilizando {@link HibernateDAO} deverão
  * extender esta classe.<br>
+ * As entidades são serializadas no formato do {@link SerializadorCompacto}, reduzindo o tamanho das sessões <i>HTTP</i> replicadas
+ * ou passivadas. Por utilizar <code>Externalizable</code>, as subclasses devem possuir um construtor público sem argumentos, verificado
+ * na criação do <code>SessionFactory</code> pelo {@link br.com.arquitetura.serializacao.IntegradorSerializacao}.<br>
+ * O identificador é gerado por uma coluna <code>IDENTITY</code>. Entidades com grande volume de inclusões podem utilizar uma
+ * sequência ou tabela através de {@link br.com.arquitetura.annotation.GeracaoIdentificador}, permitindo inclusões em lote.<br>
  * <br>
  * 
  * @author Wesley Luiz
@@ -26,7 +36,7 @@ import br.com.arquitetura.service.Service;
  * @see Service
  */
 @MappedSuperclass
-public class Entidade extends Objeto {
+public class Entidade extends Objeto implements Externalizable {
 
 	/** Atributo serialVersionUID. */
 	private static final long serialVersionUID = 1L;
@@ -38,6 +48,16 @@ public class Entidade extends Objeto {
 	@Enumerated(EnumType.ORDINAL)
 	private EnumStatus status;
 
+	@Override
+	public void writeExternal(final ObjectOutput out) throws IOException {
+		SerializadorCompacto.escrever(this, out);
+	}
+
+	@Override
+	public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+		SerializadorCompacto.ler(this, in);
+	}
+
 	/**
 	 * Método responsável por obter o valor do status da <i>entidade</i> na forma <i>booleana</i>.
 	 * 
@@ -0,0 +1,98 @@
+package br.com.arquitetura.entidade;
+
+import java.util.Iterator;
+import java.util.Properties;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.SimpleValue;
+import org.hibernate.metamodel.source.MetadataImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+import br.com.arquitetura.enumerator.EnumGeracaoIdentificador;
+
+/**
+ * Aplica a {@link GeracaoIdentificador} das entidades ao mapeamento do <i>Hibernate</i>, antes que os geradores de
+ * identificadores e o esquema do <i>Banco de Dados</i> sejam criados.<br>
+ * O identificador de {@link Entidade} é mapeado como <code>IDENTITY</code> e, como o <i>JPA</i> não permite que uma subclasse
+ * redefina a geração do identificador de uma <code>MappedSuperclass</code>, as entidades anotadas têm a estratégia substituída
+ * pelo {@link SequenceStyleGenerator} ou pelo {@link TableGenerator}, com o otimizador <i>pooled</i> ou <i>hi/lo</i>.
+ * As entidades sem a anotação continuam utilizando <code>IDENTITY</code>.<br>
+ * É registrado automaticamente através de <code>META-INF/services/org.hibernate.integrator.spi.Integrator</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class IntegradorGeracaoIdentificador implements Integrator {
+
+	/** Constante SUFIXO_SEQUENCIA. */
+	private static final String SUFIXO_SEQUENCIA = "_seq";
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void integrate(final Configuration configuration, final SessionFactoryImplementor sessionFactory,
+			final SessionFactoryServiceRegistry serviceRegistry) {
+		final Iterator<PersistentClass> classes = configuration.getClassMappings();
+		while (classes.hasNext()) {
+			final PersistentClass classe = classes.next();
+			final Class<?> mapeada = classe.getMappedClass();
+			if (classe.isInherited() || !(classe.getIdentifier() instanceof SimpleValue) || mapeada == null) {
+				continue;
+			}
+
+			final GeracaoIdentificador geracao = mapeada.getAnnotation(GeracaoIdentificador.class);
+			if (geracao != null && geracao.estrategia() != EnumGeracaoIdentificador.IDENTIDADE) {
+				configurar((SimpleValue) classe.getIdentifier(), classe.getTable().getName(), geracao);
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por substituir a estratégia de geração de um identificador.
+	 * @author Wesley Luiz
+	 * @param identificador - Mapeamento do identificador.
+	 * @param tabela - Nome da tabela da <code>Entidade</code>.
+	 * @param geracao - Configuração da geração.
+	 */
+	private void configurar(final SimpleValue identificador, final String tabela, final GeracaoIdentificador geracao) {
+		final Properties parametros = new Properties();
+		if (identificador.getIdentifierGeneratorProperties() != null) {
+			parametros.putAll(identificador.getIdentifierGeneratorProperties());
+		}
+
+		final boolean nomeInformado = !geracao.nome().isEmpty();
+		if (geracao.estrategia() == EnumGeracaoIdentificador.TABELA) {
+			identificador.setIdentifierGeneratorStrategy(TableGenerator.class.getName());
+			parametros.setProperty(TableGenerator.SEGMENT_VALUE_PARAM, nomeInformado ? geracao.nome() : tabela);
+			parametros.setProperty(TableGenerator.INCREMENT_PARAM, String.valueOf(geracao.alocacao()));
+			parametros.setProperty(TableGenerator.INITIAL_PARAM, String.valueOf(geracao.valorInicial()));
+			parametros.setProperty(TableGenerator.OPT_PARAM, obterOtimizador(geracao));
+		} else {
+			identificador.setIdentifierGeneratorStrategy(SequenceStyleGenerator.class.getName());
+			parametros.setProperty(SequenceStyleGenerator.SEQUENCE_PARAM, nomeInformado ? geracao.nome() : tabela + SUFIXO_SEQUENCIA);
+			parametros.setProperty(SequenceStyleGenerator.INCREMENT_PARAM, String.valueOf(geracao.alocacao()));
+			parametros.setProperty(SequenceStyleGenerator.INITIAL_PARAM, String.valueOf(geracao.valorInicial()));
+			parametros.setProperty(SequenceStyleGenerator.OPT_PARAM, obterOtimizador(geracao));
+		}
+		identificador.setIdentifierGeneratorProperties(parametros);
+	}
+
+	private String obterOtimizador(final GeracaoIdentificador geracao) {
+		if (geracao.alocacao() <= 1) {
+			return "none";
+		}
+		return geracao.hiLo() ? "hilo" : "pooled";
+	}
+
+	@Override
+	public void integrate(final MetadataImplementor metadata, final SessionFactoryImplementor sessionFactory,
+			final SessionFactoryServiceRegistry serviceRegistry) {
+	}
+
+	@Override
+	public void disintegrate(final SessionFactoryImplementor sessionFactory, final SessionFactoryServiceRegistry serviceRegistry) {
+	}
+}
@@ -0,0 +1,19 @@
+package br.com.arquitetura.enumerator;
+
+import br.com.arquitetura.roteamento.RoteadorDataSource;
+
+/**
+ * Este <code>Enumerator</code> é responsável por identificar o <i>Banco de Dados</i> para o qual o {@link RoteadorDataSource}
+ * encaminha uma conexão.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public enum EnumDestino {
+
+	/** Banco de dados principal, que recebe as escritas. */
+	PRIMARIO,
+
+	/** Réplica de leitura do banco de dados principal. */
+	REPLICA
+}
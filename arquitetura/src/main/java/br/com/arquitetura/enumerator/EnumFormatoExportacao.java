@@ -0,0 +1,44 @@
+package br.com.arquitetura.enumerator;
+
+/**
+ * Este <code>Enumerator</code> é responsável por definir os formatos suportados pela exportação tabular de dados,
+ * informando o tipo de conteúdo e a extensão de cada arquivo gerado.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public enum EnumFormatoExportacao {
+
+	CSV("text/csv; charset=UTF-8", ".csv"),
+	XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", ".xlsx");
+
+	private String mimeType;
+
+	private String extensao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param mimeType
+	 * @param extensao
+	 */
+	private EnumFormatoExportacao(final String mimeType, final String extensao) {
+		this.mimeType = mimeType;
+		this.extensao = extensao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>mimeType</code>
+	 * @return <code>String</code>
+	 */
+	public String getMimeType() {
+		return mimeType;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>extensao</code>
+	 * @return <code>String</code>
+	 */
+	public String getExtensao() {
+		return extensao;
+	}
+}
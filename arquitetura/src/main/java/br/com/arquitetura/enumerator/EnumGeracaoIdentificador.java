@@ -0,0 +1,22 @@
+package br.com.arquitetura.enumerator;
+
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+
+/**
+ * Este <code>Enumerator</code> é responsável por definir a forma como o identificador de uma <code>Entidade</code> é gerado.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see GeracaoIdentificador
+ */
+public enum EnumGeracaoIdentificador {
+
+	/** Coluna <code>IDENTITY</code> preenchida pelo <i>Banco de Dados</i>, exigindo a execução imediata de cada inclusão. */
+	IDENTIDADE,
+
+	/** Sequência do <i>Banco de Dados</i>, ou uma tabela equivalente caso o <i>Banco de Dados</i> não possua sequências. */
+	SEQUENCIA,
+
+	/** Tabela compartilhada de sequências, com uma linha por <code>Entidade</code>. */
+	TABELA
+}
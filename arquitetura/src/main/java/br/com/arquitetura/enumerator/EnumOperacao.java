@@ -0,0 +1,22 @@
+package br.com.arquitetura.enumerator;
+
+import br.com.arquitetura.evento.EventoEntidade;
+
+/**
+ * Este <code>Enumerator</code> é responsável por identificar a operação realizada sobre uma <code>Entidade</code>
+ * em um {@link EventoEntidade}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public enum EnumOperacao {
+
+	/** A <code>Entidade</code> foi incluída. */
+	INCLUSAO,
+
+	/** A <code>Entidade</code> foi alterada. */
+	ALTERACAO,
+
+	/** A <code>Entidade</code> foi removida. */
+	REMOCAO
+}
@@ -0,0 +1,22 @@
+package br.com.arquitetura.enumerator;
+
+import br.com.arquitetura.auditoria.DiarioAuditoria;
+
+/**
+ * Este <code>Enumerator</code> é responsável por definir quando os registros gravados pelo {@link DiarioAuditoria} são
+ * forçados para o disco.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public enum EnumSincronizacao {
+
+	/** O sistema operacional decide quando gravar as páginas alteradas. Registros podem ser perdidos em uma queda do servidor. */
+	NUNCA,
+
+	/** As páginas alteradas são forçadas para o disco a cada intervalo configurado, limitando a perda ao último intervalo. */
+	PERIODICA,
+
+	/** As páginas alteradas são forçadas para o disco sempre que a fila de registros é esvaziada. */
+	SEMPRE
+}
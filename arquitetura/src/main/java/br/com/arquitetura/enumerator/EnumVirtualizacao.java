@@ -0,0 +1,23 @@
+package br.com.arquitetura.enumerator;
+
+import br.com.arquitetura.util.Virtualizacao;
+
+/**
+ * Este <code>Enumerator</code> é responsável por definir a forma como as páginas de um relatório são
+ * descarregadas da memória para o disco durante o preenchimento.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see Virtualizacao
+ */
+public enum EnumVirtualizacao {
+
+	/** As páginas permanecem integralmente em memória. */
+	NENHUMA,
+
+	/** Cada página descarregada é gravada em um arquivo temporário próprio. */
+	ARQUIVO,
+
+	/** As páginas descarregadas são gravadas em blocos de um único arquivo de <i>swap</i>. */
+	ARQUIVO_SWAP
+}
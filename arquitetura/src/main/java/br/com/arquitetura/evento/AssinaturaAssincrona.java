@@ -0,0 +1,184 @@
+package br.com.arquitetura.evento;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Assinatura de um {@link OuvinteEntidade} que recebe os eventos em uma <i>thread</i> própria.<br>
+ * Os eventos são colocados em uma fila circular sem bloqueios, de modo que a <i>thread</i> que confirmou a transação não aguarda
+ * o ouvinte. Quando a fila está cheia o evento é descartado para esta assinatura e contabilizado em {@link #getDescartados()}.
+ * As métricas de atraso permitem identificar ouvintes que não acompanham o volume de alterações.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see BarramentoEventos#inscreverAssincrono(OuvinteEntidade, int)
+ */
+public final class AssinaturaAssincrona {
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(AssinaturaAssincrona.class);
+
+	/** Constante ESPERA_MAXIMA. */
+	private static final long ESPERA_MAXIMA = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/** Atributo ouvinte. */
+	private final OuvinteEntidade ouvinte;
+
+	/** Atributo fila. */
+	private final FilaCircular<EventoEntidade> fila;
+
+	/** Atributo consumidor. */
+	private final Thread consumidor;
+
+	/** Atributo ativa. */
+	private volatile boolean ativa = true;
+
+	/** Atributo aguardando. */
+	private volatile boolean aguardando;
+
+	/** Atributo descartados. */
+	private final AtomicLong descartados = new AtomicLong();
+
+	/** Atributo falhas. */
+	private final AtomicLong falhas = new AtomicLong();
+
+	/** Atributo atrasoUltimo. */
+	private volatile long atrasoUltimo;
+
+	/** Atributo atrasoMaximo. */
+	private volatile long atrasoMaximo;
+
+	AssinaturaAssincrona(final OuvinteEntidade ouvinte, final int capacidade) {
+		this.ouvinte = ouvinte;
+		this.fila = new FilaCircular<EventoEntidade>(capacidade);
+		this.consumidor = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				consumir();
+			}
+		}, "eventos-" + ouvinte.getClass().getSimpleName());
+		this.consumidor.setDaemon(true);
+	}
+
+	void iniciar() {
+		consumidor.start();
+	}
+
+	/**
+	 * Método responsável por enfileirar um evento sem bloquear a <i>thread</i> que publica.
+	 * @author Wesley Luiz
+	 * @param evento - Evento publicado.
+	 */
+	void oferecer(final EventoEntidade evento) {
+		if (!ativa || !fila.oferecer(evento)) {
+			descartados.incrementAndGet();
+			return;
+		}
+		if (aguardando) {
+			LockSupport.unpark(consumidor);
+		}
+	}
+
+	/**
+	 * Método responsável por encerrar a assinatura após a entrega dos eventos já enfileirados.
+	 * @author Wesley Luiz
+	 */
+	void cancelar() {
+		ativa = false;
+		LockSupport.unpark(consumidor);
+	}
+
+	private void consumir() {
+		while (ativa || !fila.isVazia()) {
+			final EventoEntidade evento = fila.retirar();
+			if (evento == null) {
+				aguardando = true;
+				if (ativa && fila.isVazia()) {
+					LockSupport.parkNanos(this, ESPERA_MAXIMA);
+				}
+				aguardando = false;
+				continue;
+			}
+
+			final long atraso = System.currentTimeMillis() - evento.getMomento();
+			atrasoUltimo = atraso;
+			if (atraso > atrasoMaximo) {
+				atrasoMaximo = atraso;
+			}
+
+			try {
+				ouvinte.notificar(evento);
+			} catch (final RuntimeException e) {
+				falhas.incrementAndGet();
+				LOGGER.error("Falha do ouvinte " + ouvinte.getClass().getName() + " ao processar " + evento + ".", e);
+			}
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>ouvinte</code>
+	 * @return <code>OuvinteEntidade</code>
+	 */
+	public OuvinteEntidade getOuvinte() {
+		return ouvinte;
+	}
+
+	/**
+	 * Retorna a quantidade de eventos aguardando entrega, que representa o atraso do ouvinte em eventos.
+	 * @return <code>long</code>
+	 */
+	public long getPendentes() {
+		return fila.getTamanho();
+	}
+
+	/**
+	 * Retorna a quantidade de eventos entregues ao ouvinte.
+	 * @return <code>long</code>
+	 */
+	public long getEntregues() {
+		return fila.getConsumidos();
+	}
+
+	/**
+	 * Retorna a quantidade de eventos descartados por falta de espaço na fila.
+	 * @return <code>long</code>
+	 */
+	public long getDescartados() {
+		return descartados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de eventos em que o ouvinte lançou exceção.
+	 * @return <code>long</code>
+	 */
+	public long getFalhas() {
+		return falhas.get();
+	}
+
+	/**
+	 * Retorna o tempo em milissegundos entre a publicação e a entrega do último evento.
+	 * @return <code>long</code>
+	 */
+	public long getAtrasoUltimo() {
+		return atrasoUltimo;
+	}
+
+	/**
+	 * Retorna o maior tempo em milissegundos entre a publicação e a entrega de um evento.
+	 * @return <code>long</code>
+	 */
+	public long getAtrasoMaximo() {
+		return atrasoMaximo;
+	}
+
+	/**
+	 * Retorna a capacidade da fila da assinatura.
+	 * @return <code>int</code>
+	 */
+	public int getCapacidade() {
+		return fila.getCapacidade();
+	}
+}
@@ -0,0 +1,224 @@
+package br.com.arquitetura.evento;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>BarramentoEventos</code> distribui aos ouvintes inscritos os eventos de inclusão, alteração e remoção de
+ * entidades realizadas pelo {@link br.com.arquitetura.service.Service}.<br>
+ * Quando existe uma transação do <i>Spring</i> em andamento os eventos são acumulados e entregues apenas após a sua confirmação,
+ * sendo descartados em caso de <i>rollback</i>. Fora de uma transação os eventos são entregues imediatamente.
+ * Os ouvintes síncronos são chamados na própria <i>thread</i> que confirmou a transação, enquanto os assíncronos recebem os
+ * eventos através de uma fila circular e de uma <i>thread</i> própria. Exemplo de uso:
+ * <pre>
+ * final AssinaturaAssincrona assinatura = BarramentoEventos.getInstance().inscreverAssincrono(new OuvinteEntidade() {
+ * 	public void notificar(final EventoEntidade evento) {
+ * 		...
+ * 	}
+ * }, 4096);
+ * </pre>
+ * Nenhum ouvinte é inscrito por padrão: cada recurso se inscreve quando é configurado, como o
+ * {@link br.com.arquitetura.util.CacheRelatorios} ao ser habilitado e os registros de índices, verificadores de unicidade e
+ * <i>caches</i> de referência ao receberem o primeiro item, de forma que a publicação não tem custo para os recursos não utilizados.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see EventoEntidade
+ */
+public final class BarramentoEventos extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(BarramentoEventos.class);
+
+	/** Constante INSTANCIA. */
+	private static final BarramentoEventos INSTANCIA = new BarramentoEventos();
+
+	/** Atributo sincronos. */
+	private final CopyOnWriteArrayList<OuvinteEntidade> sincronos = new CopyOnWriteArrayList<OuvinteEntidade>();
+
+	/** Atributo assincronos. */
+	private final List<AssinaturaAssincrona> assincronos = new CopyOnWriteArrayList<AssinaturaAssincrona>();
+
+	/** Atributo publicados. */
+	private final AtomicLong publicados = new AtomicLong();
+
+	/** Atributo falhas. */
+	private final AtomicLong falhas = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private BarramentoEventos() {
+		super();
+	}
+
+	/**
+	 * Método responsável por obter uma única instância dessa classe.
+	 * @author Wesley Luiz
+	 * @return Retorna um objeto da própria classe.
+	 */
+	public static BarramentoEventos getInstance() {
+		return INSTANCIA;
+	}
+
+	/**
+	 * Método responsável por inscrever um ouvinte síncrono, chamado na <i>thread</i> que confirmou a transação. Um ouvinte
+	 * já inscrito não é inscrito novamente.
+	 * @author Wesley Luiz
+	 * @param ouvinte - Ouvinte a ser inscrito.
+	 */
+	public void inscrever(final OuvinteEntidade ouvinte) {
+		sincronos.addIfAbsent(ouvinte);
+	}
+
+	/**
+	 * Método responsável por inscrever um ouvinte assíncrono, que recebe os eventos em uma <i>thread</i> própria.
+	 * @author Wesley Luiz
+	 * @param ouvinte - Ouvinte a ser inscrito.
+	 * @param capacidade - Quantidade máxima de eventos aguardando entrega.
+	 * @return Retorna a assinatura, que fornece as métricas de atraso do ouvinte.
+	 */
+	public AssinaturaAssincrona inscreverAssincrono(final OuvinteEntidade ouvinte, final int capacidade) {
+		final AssinaturaAssincrona assinatura = new AssinaturaAssincrona(ouvinte, capacidade);
+		assinatura.iniciar();
+		assincronos.add(assinatura);
+		return assinatura;
+	}
+
+	/**
+	 * Método responsável por cancelar a inscrição de um ouvinte. Os eventos já enfileirados para um ouvinte assíncrono ainda são entregues.
+	 * @author Wesley Luiz
+	 * @param ouvinte - Ouvinte inscrito.
+	 */
+	public void cancelar(final OuvinteEntidade ouvinte) {
+		sincronos.remove(ouvinte);
+		for (final AssinaturaAssincrona assinatura : assincronos) {
+			if (assinatura.getOuvinte() == ouvinte) {
+				assincronos.remove(assinatura);
+				assinatura.cancelar();
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por publicar um evento, que é entregue após a confirmação da transação corrente ou imediatamente
+	 * caso não exista transação em andamento.
+	 * @author Wesley Luiz
+	 * @param evento - Evento a ser publicado.
+	 */
+	public void publicar(final EventoEntidade evento) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			obterPendentes().add(evento);
+		} else {
+			entregar(Collections.singletonList(evento));
+		}
+	}
+
+	/**
+	 * Método responsável por obter os eventos acumulados na transação corrente, registrando a sincronização na primeira publicação.
+	 * @author Wesley Luiz
+	 * @return Retorna a lista de eventos da transação.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<EventoEntidade> obterPendentes() {
+		List<EventoEntidade> pendentes = (List<EventoEntidade>) TransactionSynchronizationManager.getResource(this);
+		if (!isReferencia(pendentes)) {
+			pendentes = new ArrayList<EventoEntidade>();
+			TransactionSynchronizationManager.bindResource(this, pendentes);
+			TransactionSynchronizationManager.registerSynchronization(new Sincronizacao(pendentes));
+		}
+		return pendentes;
+	}
+
+	private void entregar(final List<EventoEntidade> eventos) {
+		for (final EventoEntidade evento : eventos) {
+			publicados.incrementAndGet();
+			for (final OuvinteEntidade ouvinte : sincronos) {
+				try {
+					ouvinte.notificar(evento);
+				} catch (final RuntimeException e) {
+					falhas.incrementAndGet();
+					LOGGER.error("Falha do ouvinte " + ouvinte.getClass().getName() + " ao processar " + evento + ".", e);
+				}
+			}
+			for (final AssinaturaAssincrona assinatura : assincronos) {
+				assinatura.oferecer(evento);
+			}
+		}
+	}
+
+	/**
+	 * Retorna a quantidade de eventos entregues aos ouvintes.
+	 * @return <code>long</code>
+	 */
+	public long getPublicados() {
+		return publicados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de exceções lançadas pelos ouvintes síncronos.
+	 * @return <code>long</code>
+	 */
+	public long getFalhas() {
+		return falhas.get();
+	}
+
+	/**
+	 * Retorna os ouvintes síncronos inscritos.
+	 * @return <code>List&lt;OuvinteEntidade&gt;</code>
+	 */
+	public List<OuvinteEntidade> getOuvintes() {
+		return Collections.unmodifiableList(sincronos);
+	}
+
+	/**
+	 * Retorna as assinaturas assíncronas ativas, com as suas métricas de atraso.
+	 * @return <code>List&lt;AssinaturaAssincrona&gt;</code>
+	 */
+	public List<AssinaturaAssincrona> getAssinaturas() {
+		return Collections.unmodifiableList(assincronos);
+	}
+
+	/**
+	 * Sincronização registrada na transação que entrega os eventos acumulados após a confirmação.
+	 */
+	private final class Sincronizacao extends TransactionSynchronizationAdapter {
+
+		/** Atributo pendentes. */
+		private final List<EventoEntidade> pendentes;
+
+		Sincronizacao(final List<EventoEntidade> pendentes) {
+			this.pendentes = pendentes;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResourceIfPossible(BarramentoEventos.this);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(BarramentoEventos.this, pendentes);
+		}
+
+		@Override
+		public void afterCompletion(final int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(BarramentoEventos.this);
+			if (status == TransactionSynchronization.STATUS_COMMITTED) {
+				entregar(pendentes);
+			}
+		}
+	}
+}
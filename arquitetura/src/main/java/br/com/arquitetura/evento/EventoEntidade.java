@@ -0,0 +1,106 @@
+package br.com.arquitetura.evento;
+
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.enumerator.EnumStatus;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Evento publicado pelo {@link BarramentoEventos} após a confirmação de uma transação que incluiu, alterou ou removeu uma <code>Entidade</code>.<br>
+ * A classe, o identificador, a operação e o <i>status</i> são copiados no momento da publicação. A própria <code>Entidade</code>
+ * também é disponibilizada, mas ouvintes assíncronos devem considerar que ela pode ter sido alterada depois da publicação.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class EventoEntidade extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo classe. */
+	private final Class<? extends Entidade> classe;
+
+	/** Atributo id. */
+	private final Integer id;
+
+	/** Atributo operacao. */
+	private final EnumOperacao operacao;
+
+	/** Atributo status. */
+	private final EnumStatus status;
+
+	/** Atributo momento. */
+	private final long momento;
+
+	/** Atributo entidade. */
+	private final transient Entidade entidade;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param entidade - <code>Entidade</code> incluída, alterada ou removida.
+	 * @param operacao - Operação realizada.
+	 */
+	public EventoEntidade(final Entidade entidade, final EnumOperacao operacao) {
+		super();
+		this.classe = entidade.getClass();
+		this.id = entidade.getId();
+		this.operacao = operacao;
+		this.status = entidade.getStatus();
+		this.momento = System.currentTimeMillis();
+		this.entidade = entidade;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class&lt;? extends Entidade&gt;</code>
+	 */
+	public Class<? extends Entidade> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>id</code>
+	 * @return <code>Integer</code>
+	 */
+	public Integer getId() {
+		return id;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>operacao</code>
+	 * @return <code>EnumOperacao</code>
+	 */
+	public EnumOperacao getOperacao() {
+		return operacao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>status</code>
+	 * @return <code>EnumStatus</code>
+	 */
+	public EnumStatus getStatus() {
+		return status;
+	}
+
+	/**
+	 * Retorna o momento da publicação em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getMomento() {
+		return momento;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>entidade</code>
+	 * @return <code>Entidade</code>
+	 */
+	public Entidade getEntidade() {
+		return entidade;
+	}
+
+	@Override
+	public String toString() {
+		return operacao + " " + classe.getSimpleName() + "#" + id;
+	}
+}
@@ -0,0 +1,110 @@
+package br.com.arquitetura.evento;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fila circular de capacidade fixa, sem bloqueios, para vários produtores e um único consumidor.<br>
+ * Os produtores reservam uma posição com <i>compare-and-set</i> e o consumidor libera as posições na ordem em que foram reservadas.
+ * Utilizada pelas {@link AssinaturaAssincrona} e pelo {@link br.com.arquitetura.auditoria.DiarioAuditoria}.
+ *
+ * @author Wesley Luiz
+ * @param <T> - Tipo dos elementos.
+ * @version 1.0.0
+ */
+public final class FilaCircular<T> {
+
+	/** Atributo posicoes. */
+	private final AtomicReferenceArray<T> posicoes;
+
+	/** Atributo mascara. */
+	private final int mascara;
+
+	/** Atributo produzidos. */
+	private final AtomicLong produzidos = new AtomicLong();
+
+	/** Atributo consumidos. */
+	private final AtomicLong consumidos = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param capacidade - Capacidade mínima, arredondada para a próxima potência de dois.
+	 */
+	public FilaCircular(final int capacidade) {
+		int tamanho = 1;
+		while (tamanho < capacidade) {
+			tamanho <<= 1;
+		}
+		this.posicoes = new AtomicReferenceArray<T>(tamanho);
+		this.mascara = tamanho - 1;
+	}
+
+	/**
+	 * Método responsável por incluir um elemento, podendo ser chamado por várias <i>threads</i>.
+	 * @author Wesley Luiz
+	 * @param elemento - Elemento a ser incluído.
+	 * @return Retorna <code>false</code> caso a fila esteja cheia.
+	 */
+	public boolean oferecer(final T elemento) {
+		long posicao;
+		do {
+			posicao = produzidos.get();
+			if (posicao - consumidos.get() > mascara) {
+				return false;
+			}
+		} while (!produzidos.compareAndSet(posicao, posicao + 1));
+
+		posicoes.lazySet((int) posicao & mascara, elemento);
+		return true;
+	}
+
+	/**
+	 * Método responsável por retirar o próximo elemento, devendo ser chamado apenas pela <i>thread</i> consumidora.
+	 * @author Wesley Luiz
+	 * @return Retorna o elemento ou <code>null</code> caso a fila esteja vazia.
+	 */
+	public T retirar() {
+		final long posicao = consumidos.get();
+		final int indice = (int) posicao & mascara;
+		final T elemento = posicoes.get(indice);
+		if (elemento == null) {
+			return null;
+		}
+		posicoes.lazySet(indice, null);
+		consumidos.lazySet(posicao + 1);
+		return elemento;
+	}
+
+	/**
+	 * Método responsável por verificar se todos os elementos incluídos já foram retirados.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso a fila esteja vazia.
+	 */
+	public boolean isVazia() {
+		return produzidos.get() == consumidos.get();
+	}
+
+	/**
+	 * Retorna a quantidade de elementos aguardando retirada.
+	 * @return <code>long</code>
+	 */
+	public long getTamanho() {
+		return produzidos.get() - consumidos.get();
+	}
+
+	/**
+	 * Retorna a quantidade de elementos retirados.
+	 * @return <code>long</code>
+	 */
+	public long getConsumidos() {
+		return consumidos.get();
+	}
+
+	/**
+	 * Retorna a capacidade da fila, arredondada para a próxima potência de dois.
+	 * @return <code>int</code>
+	 */
+	public int getCapacidade() {
+		return mascara + 1;
+	}
+}
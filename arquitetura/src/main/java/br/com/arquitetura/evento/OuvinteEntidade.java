@@ -0,0 +1,17 @@
+package br.com.arquitetura.evento;
+
+/**
+ * Ouvinte dos eventos de alteração de entidades publicados pelo {@link BarramentoEventos}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public interface OuvinteEntidade {
+
+	/**
+	 * Método chamado para cada <code>Entidade</code> incluída, alterada ou removida em uma transação confirmada.
+	 * @author Wesley Luiz
+	 * @param evento - Evento publicado.
+	 */
+	void notificar(EventoEntidade evento);
+}
@@ -0,0 +1,33 @@
+package br.com.arquitetura.exception;
+
+/**
+ * Classe responsável por tratar exceções de valores duplicados em atributos anotados com
+ * {@link br.com.arquitetura.annotation.Unico} das <i>classes</i> que herdam de <code>Entidade</code>.
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class DuplicidadeException extends ValidacaoException {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo campo. */
+	private final String campo;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param campo - Recebe o campo que gerou a exceção.
+	 */
+	public DuplicidadeException(final String campo) {
+		super("Já existe registro cadastrado para o campo '" + campo + "'!");
+		this.campo = campo;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>campo</code>
+	 * @return <code>String</code>
+	 */
+	public String getCampo() {
+		return campo;
+	}
+}
@@ -0,0 +1,21 @@
+package br.com.arquitetura.exception;
+
+/**
+ * Classe responsável por lançar exceções quando uma operação não é concluída dentro do tempo de espera configurado, como as
+ * leituras aguardadas pelo {@link br.com.arquitetura.coalescencia.CoalescedorLeituras}.
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class TempoEsgotadoException extends RuntimeException {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param msg - Recebe a mensagem da exceção.
+	 */
+	public TempoEsgotadoException(final String msg) {
+		super(msg);
+	}
+}
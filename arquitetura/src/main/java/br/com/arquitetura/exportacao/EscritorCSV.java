@@ -0,0 +1,103 @@
+package br.com.arquitetura.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Escritor de arquivos <i>CSV</i> separados por ponto e vírgula, no formato aberto diretamente pelo <i>Excel</i> em pt-BR.<br>
+ * O arquivo é gravado em <i>UTF-8</i> com <i>BOM</i> e os campos que contêm separador, aspas ou quebra de linha são escapados.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class EscritorCSV implements EscritorTabular {
+
+	/** Constante SEPARADOR. */
+	private static final char SEPARADOR = ';';
+
+	/** Constante ASPAS. */
+	private static final char ASPAS = '"';
+
+	/** Constante QUEBRA_LINHA. */
+	private static final String QUEBRA_LINHA = "\r\n";
+
+	/** Constante BOM. */
+	private static final char BOM = '\uFEFF';
+
+	/** Atributo writer. */
+	private final Writer writer;
+
+	/** Atributo formatoData. */
+	private final SimpleDateFormat formatoData = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param saida - <code>OutputStream</code> de destino.
+	 */
+	public EscritorCSV(final OutputStream saida) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(saida, Charset.forName("UTF-8")), 64 * 1024);
+	}
+
+	@Override
+	public void iniciar(final String[] titulos) throws IOException {
+		writer.write(BOM);
+		escrever(titulos);
+	}
+
+	@Override
+	public void escrever(final Object[] valores) throws IOException {
+		for (int i = 0; i < valores.length; i++) {
+			if (i > 0) {
+				writer.write(SEPARADOR);
+			}
+			escreverCampo(formatar(valores[i]));
+		}
+		writer.write(QUEBRA_LINHA);
+	}
+
+	@Override
+	public void finalizar() throws IOException {
+		writer.flush();
+	}
+
+	private String formatar(final Object valor) {
+		if (valor == null) {
+			return "";
+		} else if (valor instanceof Date) {
+			return formatoData.format((Date) valor);
+		} else if (valor instanceof BigDecimal) {
+			return ((BigDecimal) valor).toPlainString();
+		}
+		return valor.toString();
+	}
+
+	private void escreverCampo(final String campo) throws IOException {
+		boolean escapar = false;
+		for (int i = 0; i < campo.length() && !escapar; i++) {
+			final char c = campo.charAt(i);
+			escapar = c == SEPARADOR || c == ASPAS || c == '\n' || c == '\r';
+		}
+
+		if (!escapar) {
+			writer.write(campo);
+			return;
+		}
+
+		writer.write(ASPAS);
+		for (int i = 0; i < campo.length(); i++) {
+			final char c = campo.charAt(i);
+			if (c == ASPAS) {
+				writer.write(ASPAS);
+			}
+			writer.write(c);
+		}
+		writer.write(ASPAS);
+	}
+}
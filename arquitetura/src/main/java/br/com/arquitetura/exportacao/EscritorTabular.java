@@ -0,0 +1,39 @@
+package br.com.arquitetura.exportacao;
+
+import java.io.IOException;
+
+/**
+ * Interface responsável por definir o contrato dos escritores utilizados pelo {@link ExportadorTabular}.<br>
+ * As implementações devem escrever cada linha assim que recebida, sem manter as linhas anteriores em memória.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public interface EscritorTabular {
+
+	/**
+	 * Método responsável por escrever a linha de títulos das colunas.
+	 *
+	 * @author Wesley Luiz
+	 * @param titulos - Títulos das colunas.
+	 * @throws IOException
+	 */
+	void iniciar(final String[] titulos) throws IOException;
+
+	/**
+	 * Método responsável por escrever uma linha de dados.
+	 *
+	 * @author Wesley Luiz
+	 * @param valores - Valores da linha, na mesma ordem dos títulos.
+	 * @throws IOException
+	 */
+	void escrever(final Object[] valores) throws IOException;
+
+	/**
+	 * Método responsável por concluir o arquivo. O <code>OutputStream</code> de destino não é fechado.
+	 *
+	 * @author Wesley Luiz
+	 * @throws IOException
+	 */
+	void finalizar() throws IOException;
+}
@@ -0,0 +1,271 @@
+package br.com.arquitetura.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Escritor de planilhas <i>XLSX (Office Open XML)</i> que grava cada linha diretamente no arquivo compactado,
+ * mantendo em memória apenas a linha corrente.<br>
+ * Os textos são gravados como <i>inline strings</i>, dispensando a tabela de textos compartilhados, e ao atingir o limite de
+ * linhas de uma planilha uma nova planilha é iniciada com a mesma linha de títulos.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class EscritorXLSX implements EscritorTabular {
+
+	/** Constante LIMITE_LINHAS_PLANILHA. */
+	public static final int LIMITE_LINHAS_PLANILHA = 1048576;
+
+	/** Constante MILISSEGUNDOS_DIA. */
+	private static final double MILISSEGUNDOS_DIA = 86400000d;
+
+	/** Constante DIAS_ATE_1970. */
+	private static final int DIAS_ATE_1970 = 25569;
+
+	/** Constante ESTILO_DATA. */
+	private static final String ESTILO_DATA = "1";
+
+	/** Constante NAMESPACE. */
+	private static final String NAMESPACE = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+	/** Constante NAMESPACE_RELACIONAMENTO. */
+	private static final String NAMESPACE_RELACIONAMENTO = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+	/** Constante CABECALHO_XML. */
+	private static final String CABECALHO_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+
+	/** Atributo zip. */
+	private final ZipOutputStream zip;
+
+	/** Atributo writer. */
+	private final Writer writer;
+
+	/** Atributo limiteLinhas. */
+	private final int limiteLinhas;
+
+	/** Atributo titulos. */
+	private String[] titulos;
+
+	/** Atributo colunas. */
+	private String[] colunas;
+
+	/** Atributo planilhas. */
+	private int planilhas;
+
+	/** Atributo linha. */
+	private int linha;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param saida - <code>OutputStream</code> de destino.
+	 */
+	public EscritorXLSX(final OutputStream saida) {
+		this(saida, LIMITE_LINHAS_PLANILHA);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param saida - <code>OutputStream</code> de destino.
+	 * @param limiteLinhas - Quantidade de linhas de cada planilha, incluindo a linha de títulos.
+	 */
+	EscritorXLSX(final OutputStream saida, final int limiteLinhas) {
+		this.zip = new ZipOutputStream(saida);
+		this.writer = new BufferedWriter(new OutputStreamWriter(zip, Charset.forName("UTF-8")), 64 * 1024);
+		this.limiteLinhas = limiteLinhas;
+	}
+
+	@Override
+	public void iniciar(final String[] titulos) throws IOException {
+		this.titulos = titulos;
+		this.colunas = new String[titulos.length];
+		for (int i = 0; i < titulos.length; i++) {
+			colunas[i] = obterNomeColuna(i);
+		}
+		iniciarPlanilha();
+	}
+
+	@Override
+	public void escrever(final Object[] valores) throws IOException {
+		if (linha == limiteLinhas) {
+			finalizarPlanilha();
+			iniciarPlanilha();
+		}
+		escreverLinha(valores);
+	}
+
+	@Override
+	public void finalizar() throws IOException {
+		finalizarPlanilha();
+		escreverEntrada("[Content_Types].xml", obterTiposConteudo());
+		escreverEntrada("_rels/.rels", CABECALHO_XML
+				+ "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+				+ "<Relationship Id=\"rId1\" Type=\"" + NAMESPACE_RELACIONAMENTO + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+				+ "</Relationships>");
+		escreverEntrada("xl/workbook.xml", obterPastaTrabalho());
+		escreverEntrada("xl/_rels/workbook.xml.rels", obterRelacionamentosPastaTrabalho());
+		escreverEntrada("xl/styles.xml", CABECALHO_XML
+				+ "<styleSheet xmlns=\"" + NAMESPACE + "\">"
+				+ "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+				+ "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>"
+				+ "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+				+ "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+				+ "<cellXfs count=\"2\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+				+ "<xf numFmtId=\"22\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/></cellXfs>"
+				+ "</styleSheet>");
+		zip.finish();
+		zip.flush();
+	}
+
+	private void iniciarPlanilha() throws IOException {
+		planilhas++;
+		linha = 0;
+		zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + planilhas + ".xml"));
+		writer.write(CABECALHO_XML);
+		writer.write("<worksheet xmlns=\"" + NAMESPACE + "\"><sheetData>");
+		escreverLinha(titulos);
+	}
+
+	private void finalizarPlanilha() throws IOException {
+		writer.write("</sheetData></worksheet>");
+		writer.flush();
+		zip.closeEntry();
+	}
+
+	private void escreverLinha(final Object[] valores) throws IOException {
+		linha++;
+		writer.write("<row r=\"");
+		writer.write(Integer.toString(linha));
+		writer.write("\">");
+
+		for (int i = 0; i < valores.length; i++) {
+			final Object valor = valores[i];
+			if (valor == null) {
+				continue;
+			}
+
+			writer.write("<c r=\"");
+			writer.write(colunas[i]);
+			writer.write(Integer.toString(linha));
+
+			if (valor instanceof Number) {
+				writer.write("\"><v>");
+				writer.write(valor instanceof BigDecimal ? ((BigDecimal) valor).toPlainString() : valor.toString());
+				writer.write("</v></c>");
+			} else if (valor instanceof Date) {
+				writer.write("\" s=\"" + ESTILO_DATA + "\"><v>");
+				writer.write(Double.toString(converterData((Date) valor)));
+				writer.write("</v></c>");
+			} else if (valor instanceof Boolean) {
+				writer.write("\" t=\"b\"><v>");
+				writer.write(((Boolean) valor) ? "1" : "0");
+				writer.write("</v></c>");
+			} else {
+				writer.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+				escreverTexto(valor.toString());
+				writer.write("</t></is></c>");
+			}
+		}
+		writer.write("</row>");
+	}
+
+	private void escreverTexto(final String texto) throws IOException {
+		for (int i = 0; i < texto.length(); i++) {
+			final char c = texto.charAt(i);
+			switch (c) {
+			case '&':
+				writer.write("&amp;");
+				break;
+			case '<':
+				writer.write("&lt;");
+				break;
+			case '>':
+				writer.write("&gt;");
+				break;
+			case '"':
+				writer.write("&quot;");
+				break;
+			default:
+				if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+					writer.write(c);
+				}
+			}
+		}
+	}
+
+	private void escreverEntrada(final String nome, final String conteudo) throws IOException {
+		zip.putNextEntry(new ZipEntry(nome));
+		writer.write(conteudo);
+		writer.flush();
+		zip.closeEntry();
+	}
+
+	private String obterTiposConteudo() {
+		final StringBuilder sb = new StringBuilder(CABECALHO_XML);
+		sb.append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">");
+		sb.append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>");
+		sb.append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>");
+		sb.append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+		sb.append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+		for (int i = 1; i <= planilhas; i++) {
+			sb.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+					.append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+		}
+		return sb.append("</Types>").toString();
+	}
+
+	private String obterPastaTrabalho() {
+		final StringBuilder sb = new StringBuilder(CABECALHO_XML);
+		sb.append("<workbook xmlns=\"").append(NAMESPACE).append("\" xmlns:r=\"").append(NAMESPACE_RELACIONAMENTO).append("\"><sheets>");
+		for (int i = 1; i <= planilhas; i++) {
+			sb.append("<sheet name=\"Planilha").append(i).append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+		}
+		return sb.append("</sheets></workbook>").toString();
+	}
+
+	private String obterRelacionamentosPastaTrabalho() {
+		final StringBuilder sb = new StringBuilder(CABECALHO_XML);
+		sb.append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+		for (int i = 1; i <= planilhas; i++) {
+			sb.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(NAMESPACE_RELACIONAMENTO)
+					.append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+		}
+		sb.append("<Relationship Id=\"rId").append(planilhas + 1).append("\" Type=\"").append(NAMESPACE_RELACIONAMENTO)
+				.append("/styles\" Target=\"styles.xml\"/>");
+		return sb.append("</Relationships>").toString();
+	}
+
+	/**
+	 * Método responsável por converter uma data para o número serial utilizado pelo <i>Excel</i>, no fuso horário local.
+	 * @author Wesley Luiz
+	 * @param data - Data a ser convertida.
+	 * @return Retorna a quantidade de dias desde 30/12/1899.
+	 */
+	private static double converterData(final Date data) {
+		final long millis = data.getTime();
+		return (millis + TimeZone.getDefault().getOffset(millis)) / MILISSEGUNDOS_DIA + DIAS_ATE_1970;
+	}
+
+	/**
+	 * Método responsável por obter o nome de uma coluna da planilha a partir de seu índice, por exemplo <i>A</i>, <i>Z</i>, <i>AA</i>.
+	 * @author Wesley Luiz
+	 * @param indice - Índice da coluna, iniciando em zero.
+	 * @return Retorna o nome da coluna.
+	 */
+	private static String obterNomeColuna(final int indice) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = indice + 1; i > 0; i = (i - 1) / 26) {
+			sb.insert(0, (char) ('A' + (i - 1) % 26));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,223 @@
+package br.com.arquitetura.exportacao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.faces.context.FacesContext;
+import javax.servlet.http.HttpServletResponse;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import org.hibernate.internal.CriteriaImpl;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.enumerator.EnumFormatoExportacao;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.util.Texto;
+
+/**
+ * A classe <code>ExportadorTabular</code> é responsável por exportar listagens em <i>CSV</i> ou <i>XLSX</i> sem a utilização de
+ * um <i>layout JasperReports</i>.<br>
+ * Os registros são lidos de um {@link HibernateDAO} através de um cursor e cada linha é escrita diretamente no destino,
+ * dessa forma o consumo de memória permanece constante independente da quantidade de registros. A cada lote as entidades
+ * carregadas pelo cursor são desassociadas da <i>Sessão</i>, mantendo as que a requisição já utilizava. Exemplo de uso:
+ * <pre>
+ * new ExportadorTabular(clienteDAO, new String[] { "nome", "cidade.nome", "dataCadastro" }, new String[] { "Nome", "Cidade", "Cadastro" })
+ * 	.exportar(EnumFormatoExportacao.XLSX, "clientes", FacesContext.getCurrentInstance());
+ * </pre>
+ * As colunas são definidas pelas propriedades da <code>Entidade</code>, aceitando propriedades aninhadas separadas por ponto.
+ * Quando o <code>Criteria</code> possuir projeção, a projeção deve ter uma coluna para cada propriedade, na mesma ordem.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see EscritorCSV
+ * @see EscritorXLSX
+ */
+public class ExportadorTabular extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante TAMANHO_LOTE. */
+	private static final int TAMANHO_LOTE = 1000;
+
+	/** Atributo dao. */
+	private final HibernateDAO<?> dao;
+
+	/** Atributo criteria. */
+	private final Criteria criteria;
+
+	/** Atributo propriedades. */
+	private final String[][] propriedades;
+
+	/** Atributo titulos. */
+	private final String[] titulos;
+
+	/** Atributo getters. */
+	private final Map<String, Method> getters = new HashMap<String, Method>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe, exportando todas as entidades do <i>DAO</i>.
+	 * @param dao - <i>DAO</i> de onde os registros serão lidos.
+	 * @param propriedades - Propriedades que compõem as colunas.
+	 * @param titulos - Títulos das colunas, ou <code>null</code> para utilizar o nome das propriedades.
+	 */
+	public ExportadorTabular(final HibernateDAO<?> dao, final String[] propriedades, final String[] titulos) {
+		this(dao, dao.novoCriteria(), propriedades, titulos);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param dao - <i>DAO</i> de onde os registros serão lidos.
+	 * @param criteria - <code>Criteria</code> criado a partir do <i>DAO</i>.
+	 * @param propriedades - Propriedades que compõem as colunas.
+	 * @param titulos - Títulos das colunas, ou <code>null</code> para utilizar o nome das propriedades.
+	 */
+	public ExportadorTabular(final HibernateDAO<?> dao, final Criteria criteria, final String[] propriedades, final String[] titulos) {
+		super();
+		this.dao = dao;
+		this.criteria = criteria;
+		this.propriedades = new String[propriedades.length][];
+		this.titulos = isReferencia(titulos) ? titulos : new String[propriedades.length];
+
+		for (int i = 0; i < propriedades.length; i++) {
+			this.propriedades[i] = propriedades[i].split("\\.");
+			if (!isReferencia(titulos)) {
+				this.titulos[i] = Texto.toPrimeiraLetraMaiuscula(propriedades[i]);
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por exportar os registros para a resposta da requisição corrente como um arquivo anexo.<br>
+	 * O tamanho do conteúdo não é informado, pois o arquivo é enviado enquanto é gerado.
+	 * @author Wesley Luiz
+	 * @param formato - Formato do arquivo.
+	 * @param nomeArquivo - Nome do arquivo, sem extensão.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @return Retorna o resultado da exportação.
+	 * @throws IOException
+	 */
+	public ResultadoExportacao exportar(final EnumFormatoExportacao formato, final String nomeArquivo, final FacesContext facesContext) throws IOException {
+		final HttpServletResponse response = (HttpServletResponse) facesContext.getExternalContext().getResponse();
+		response.setContentType(formato.getMimeType());
+		response.setHeader("Content-disposition", "attachment; filename=\"" + nomeArquivo + formato.getExtensao() + "\"");
+
+		final OutputStream outputStream = response.getOutputStream();
+		final ResultadoExportacao resultado = exportar(formato, outputStream);
+		outputStream.close();
+
+		facesContext.responseComplete();
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por exportar os registros para um <code>OutputStream</code>, que não é fechado ao final.
+	 * @author Wesley Luiz
+	 * @param formato - Formato do arquivo.
+	 * @param saida - <code>OutputStream</code> de destino.
+	 * @return Retorna o resultado da exportação.
+	 * @throws IOException
+	 */
+	public ResultadoExportacao exportar(final EnumFormatoExportacao formato, final OutputStream saida) throws IOException {
+		final long inicio = System.currentTimeMillis();
+		final EscritorTabular escritor = formato == EnumFormatoExportacao.XLSX ? new EscritorXLSX(saida) : new EscritorCSV(saida);
+		final Object[] valores = new Object[propriedades.length];
+		final boolean isProjecao = isProjecao(criteria);
+		final Set<Object> anteriores = dao.obterEntidadesSessao();
+		final ScrollableResults cursor = dao.percorrer(criteria, TAMANHO_LOTE);
+		long linhas = 0;
+
+		try {
+			escritor.iniciar(titulos);
+
+			while (cursor.next()) {
+				final Object[] linha = cursor.get();
+				if (isProjecao && linha.length != propriedades.length) {
+					throw new IllegalStateException("A projeção possui " + linha.length + " coluna(s), mas foram informadas " + propriedades.length
+							+ " propriedade(s).");
+				}
+
+				for (int i = 0; i < propriedades.length; i++) {
+					valores[i] = isProjecao ? linha[i] : obterValor(linha[0], propriedades[i]);
+				}
+				escritor.escrever(valores);
+
+				if (++linhas % TAMANHO_LOTE == 0) {
+					dao.desassociarCarregados(anteriores);
+				}
+			}
+			escritor.finalizar();
+		} finally {
+			cursor.close();
+			dao.desassociarCarregados(anteriores);
+		}
+		return new ResultadoExportacao(linhas, System.currentTimeMillis() - inicio);
+	}
+
+	/**
+	 * Método responsável por verificar se o <code>Criteria</code>, ou o <code>Criteria</code> principal no caso de um
+	 * <i>subcriteria</i>, possui projeção.
+	 * @author Wesley Luiz
+	 * @param criteria - <code>Criteria</code> a ser exportado.
+	 * @return Retorna <code>true</code> caso cada linha seja uma projeção, ou <code>false</code> caso seja uma <code>Entidade</code>.
+	 */
+	private static boolean isProjecao(final Criteria criteria) {
+		Criteria atual = criteria;
+		while (atual instanceof CriteriaImpl.Subcriteria) {
+			atual = ((CriteriaImpl.Subcriteria) atual).getParent();
+		}
+		if (!(atual instanceof CriteriaImpl)) {
+			throw new IllegalArgumentException("O Criteria deve ser criado a partir do DAO.");
+		}
+		return isReferencia(((CriteriaImpl) atual).getProjection());
+	}
+
+	/**
+	 * Método responsável por obter o valor de uma propriedade, navegando pelas propriedades aninhadas.
+	 * @author Wesley Luiz
+	 * @param bean - Objeto que possui a propriedade.
+	 * @param caminho - Nomes das propriedades, do objeto até o valor.
+	 * @return Retorna o valor obtido ou <code>null</code> caso alguma propriedade do caminho seja nula.
+	 */
+	private Object obterValor(final Object bean, final String[] caminho) {
+		Object valor = bean;
+		for (int i = 0; i < caminho.length && isReferencia(valor); i++) {
+			try {
+				valor = obterGetter(valor.getClass(), caminho[i]).invoke(valor);
+			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+				throw new IllegalStateException("Não foi possível obter a propriedade '" + caminho[i] + "'.", e);
+			}
+		}
+		return valor;
+	}
+
+	/**
+	 * Método responsável por obter o método de acesso a uma propriedade, armazenando-o para as próximas linhas.
+	 * @author Wesley Luiz
+	 * @param classe - Classe que possui a propriedade.
+	 * @param propriedade - Nome da propriedade.
+	 * @return Retorna o método <i>get</i> ou <i>is</i> da propriedade.
+	 */
+	private Method obterGetter(final Class<?> classe, final String propriedade) {
+		final String chave = classe.getName() + '#' + propriedade;
+		Method getter = getters.get(chave);
+
+		if (!isReferencia(getter)) {
+			final String sufixo = Texto.toPrimeiraLetraMaiuscula(propriedade);
+			try {
+				getter = classe.getMethod("get" + sufixo);
+			} catch (final NoSuchMethodException e) {
+				try {
+					getter = classe.getMethod("is" + sufixo);
+				} catch (final NoSuchMethodException ex) {
+					throw new IllegalArgumentException("A propriedade '" + propriedade + "' não existe em " + classe.getName() + ".", ex);
+				}
+			}
+			getters.put(chave, getter);
+		}
+		return getter;
+	}
+}
@@ -0,0 +1,62 @@
+package br.com.arquitetura.exportacao;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>ResultadoExportacao</code> reúne a quantidade de linhas exportadas e o tempo gasto pelo {@link ExportadorTabular}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ResultadoExportacao extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo linhas. */
+	private final long linhas;
+
+	/** Atributo duracao. */
+	private final long duracao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param linhas - Quantidade de linhas exportadas, sem contar os títulos.
+	 * @param duracao - Tempo gasto em milissegundos.
+	 */
+	public ResultadoExportacao(final long linhas, final long duracao) {
+		super();
+		this.linhas = linhas;
+		this.duracao = duracao;
+	}
+
+	/**
+	 * Método responsável por obter a vazão da exportação.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de linhas exportadas por segundo.
+	 */
+	public double getLinhasPorSegundo() {
+		return duracao > 0 ? linhas * 1000d / duracao : linhas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>linhas</code>
+	 * @return <code>long</code>
+	 */
+	public long getLinhas() {
+		return linhas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>duracao</code>
+	 * @return <code>long</code>
+	 */
+	public long getDuracao() {
+		return duracao;
+	}
+
+	@Override
+	public String toString() {
+		return linhas + " linhas em " + duracao + " ms (" + Math.round(getLinhasPorSegundo()) + " linhas/s)";
+	}
+}
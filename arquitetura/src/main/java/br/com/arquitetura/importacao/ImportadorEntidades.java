@@ -0,0 +1,528 @@
+package br.com.arquitetura.importacao;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.exception.CampoVazioException;
+import br.com.arquitetura.exception.DuplicidadeException;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.service.Service;
+import br.com.arquitetura.unicidade.RegistroUnicidade;
+import br.com.arquitetura.unicidade.VerificadorUnicidade;
+
+/**
+ * A classe <code>ImportadorEntidades</code> importa arquivos <i>CSV</i> ou de largura fixa para uma <code>Entidade</code>,
+ * executando as etapas da importação de forma simultânea:
+ * <ol>
+ * <li>uma <i>thread</i> lê o arquivo através de um <code>FileChannel</code> e agrupa as linhas em lotes;</li>
+ * <li>as <i>threads</i> de processamento interpretam as linhas, criam as entidades e validam os campos {@link br.com.arquitetura.annotation.NaoVazio};</li>
+ * <li>a <i>thread</i> que chamou {@link #importar(File, File)} grava os lotes, na ordem do arquivo, através de {@link Service#salvarLote(List)}.</li>
+ * </ol>
+ * As etapas são ligadas por uma fila limitada ao dobro da quantidade de <i>threads</i>, de modo que a leitura aguarda quando a
+ * gravação não acompanha, mantendo a memória ocupada constante. As linhas rejeitadas são gravadas no arquivo de erros no formato
+ * <code>linha;motivo;conteúdo</code> e, após cada lote confirmado, um ponto de controle é gravado em <code>arquivo.controle</code>.
+ * Caso a importação seja interrompida, uma nova chamada retoma a partir do último lote confirmado. O lote que estava sendo gravado
+ * no momento da interrupção pode ter sido confirmado sem que o ponto de controle avançasse, e é gravado novamente considerando
+ * importadas as linhas que o {@link VerificadorUnicidade} da <code>Entidade</code> indicar como cadastradas; sem um verificador
+ * carregado a retomada é recusada, pois as linhas seriam duplicadas (veja {@link PontoControle}).<br>
+ * Os valores dos atributos {@link br.com.arquitetura.annotation.Unico} também são comparados entre as linhas do próprio arquivo,
+ * na ordem do arquivo, e as repetições são rejeitadas mesmo que ainda não tenham sido confirmadas. Exemplo de uso:
+ * <pre>
+ * final ImportadorEntidades&lt;Cliente&gt; importador = new ImportadorEntidades&lt;Cliente&gt;(clienteService, new InterpretadorCSV(), new MapeadorCliente());
+ * importador.setPularCabecalho(true);
+ * final ResultadoImportacao resultado = importador.importar(new File("clientes.csv"), new File("clientes.erros.csv"));
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @param <E> - Tipo da <code>Entidade</code> importada.
+ * @version 1.0.0
+ */
+public class ImportadorEntidades<E extends Entidade> extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante TAMANHO_LOTE_PADRAO. */
+	public static final int TAMANHO_LOTE_PADRAO = 500;
+
+	/** Constante EXTENSAO_CONTROLE. */
+	public static final String EXTENSAO_CONTROLE = ".controle";
+
+	/** Constante MSG_CAMPOS_OBRIGATORIOS. */
+	private static final String MSG_CAMPOS_OBRIGATORIOS = "arquitetura.msg.camposObrigatorios";
+
+	/** Constante MSG_DADO_DUPLICADO. */
+	private static final String MSG_DADO_DUPLICADO = "arquitetura.msg.dadoDuplicado";
+
+	/** Constante SEPARADOR. */
+	private static final char SEPARADOR = ';';
+
+	/** Atributo service. */
+	private final transient Service<?, E> service;
+
+	/** Atributo interpretador. */
+	private final transient InterpretadorLinha interpretador;
+
+	/** Atributo mapeador. */
+	private final transient MapeadorRegistro<E> mapeador;
+
+	/** Atributo tamanhoLote. */
+	private int tamanhoLote = TAMANHO_LOTE_PADRAO;
+
+	/** Atributo threads. */
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	/** Atributo charset. */
+	private Charset charset = Charset.forName("UTF-8");
+
+	/** Atributo pularCabecalho. */
+	private boolean pularCabecalho;
+
+	/** Atributo progresso. */
+	private transient ProgressoImportacao progresso;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param service - <i>Serviço</i> da <code>Entidade</code>, utilizado na validação e na gravação dos lotes.
+	 * @param interpretador - Interpretador das linhas do arquivo.
+	 * @param mapeador - Conversor dos campos de cada linha em <code>Entidade</code>.
+	 */
+	public ImportadorEntidades(final Service<?, E> service, final InterpretadorLinha interpretador, final MapeadorRegistro<E> mapeador) {
+		super();
+		this.service = service;
+		this.interpretador = interpretador;
+		this.mapeador = mapeador;
+	}
+
+	/**
+	 * Método responsável por importar um arquivo, retomando a partir do ponto de controle caso exista.
+	 * @author Wesley Luiz
+	 * @param arquivo - Arquivo a ser importado.
+	 * @param arquivoErros - Arquivo onde as linhas rejeitadas serão gravadas.
+	 * @return Retorna o resultado da importação.
+	 * @throws IOException Lança uma exceção caso ocorra erro na leitura do arquivo ou na gravação dos arquivos de erros e de controle.
+	 */
+	public ResultadoImportacao importar(final File arquivo, final File arquivoErros) throws IOException {
+		final long inicio = System.currentTimeMillis();
+		final PontoControle controle = PontoControle.carregar(new File(arquivo.getPath() + EXTENSAO_CONTROLE));
+		final boolean isRetomada = controle.getPosicao() > 0 || controle.getPendente() > 0;
+		if (isRetomada && arquivoErros.length() > controle.getErros()) {
+			try (RandomAccessFile descartados = new RandomAccessFile(arquivoErros, "rw")) {
+				descartados.setLength(controle.getErros());
+			}
+		}
+		final Set<String> unicos = new HashSet<String>();
+		final BlockingQueue<Future<BlocoProcessado<E>>> fila = new ArrayBlockingQueue<Future<BlocoProcessado<E>>>(threads * 2);
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final Thread leitor = new Thread(new Leitura(arquivo, controle, fila, executor), "importacao-" + arquivo.getName());
+		long lidas = 0;
+		long lotes = 0;
+
+		leitor.setDaemon(true);
+		leitor.start();
+
+		try (FileOutputStream saidaErros = new FileOutputStream(arquivoErros, isRetomada);
+				Writer erros = new BufferedWriter(new OutputStreamWriter(saidaErros, charset))) {
+			final FileChannel canalErros = saidaErros.getChannel();
+			while (true) {
+				final BlocoProcessado<E> bloco = fila.take().get();
+				if (bloco.isFim()) {
+					break;
+				}
+
+				validarRecuperacao(bloco);
+				removerRepetidas(bloco, unicos);
+				controle.iniciarLote(bloco.posicaoFinal);
+				final long importadas = gravar(bloco, unicos) + bloco.recuperadas;
+				for (final String rejeitada : bloco.rejeitadas) {
+					erros.write(rejeitada);
+					erros.write(System.lineSeparator());
+				}
+				erros.flush();
+
+				controle.avancar(bloco.posicaoFinal, bloco.linhaFinal, importadas, bloco.rejeitadas.size(), canalErros.size());
+				lidas += bloco.lidas;
+				lotes++;
+
+				if (isReferencia(progresso)) {
+					progresso.loteGravado(new ResultadoImportacao(lidas, controle.getImportadas(), controle.getRejeitadas(), lotes, System.currentTimeMillis() - inicio));
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("A importação foi interrompida.", e);
+		} catch (final ExecutionException e) {
+			throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+		} finally {
+			leitor.interrupt();
+			executor.shutdownNow();
+		}
+
+		controle.remover();
+		return new ResultadoImportacao(lidas, controle.getImportadas(), controle.getRejeitadas(), lotes, System.currentTimeMillis() - inicio);
+	}
+
+	/**
+	 * Método responsável por recusar a gravação de um lote que pode ter sido confirmado antes da interrupção da importação
+	 * quando a <code>Entidade</code> não possui um {@link VerificadorUnicidade} carregado para identificar os registros já gravados.
+	 * @author Wesley Luiz
+	 * @param bloco - Lote processado.
+	 * @throws IOException Lança uma exceção caso o lote não possa ser gravado novamente sem duplicar registros.
+	 */
+	private void validarRecuperacao(final BlocoProcessado<E> bloco) throws IOException {
+		if (!bloco.recuperacao) {
+			return;
+		}
+		for (final E entidade : bloco.entidades) {
+			final VerificadorUnicidade<Entidade> verificador = RegistroUnicidade.obter(entidade.getClass());
+			if (!isReferencia(verificador) || !verificador.isCarregado()) {
+				throw new IOException("As linhas até " + bloco.linhaFinal + " podem ter sido gravadas antes da interrupção da importação e "
+						+ entidade.getClass().getSimpleName() + " não possui um VerificadorUnicidade carregado para identificá-las.");
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por rejeitar as entidades cujos atributos {@link br.com.arquitetura.annotation.Unico} repetem valores
+	 * de linhas anteriores do arquivo, registrando os valores das demais.
+	 * @author Wesley Luiz
+	 * @param bloco - Lote processado.
+	 * @param unicos - Valores já encontrados no arquivo.
+	 */
+	private void removerRepetidas(final BlocoProcessado<E> bloco, final Set<String> unicos) {
+		for (int i = 0; i < bloco.entidades.size(); i++) {
+			final List<String> chaves = obterChavesUnicas(bloco.entidades.get(i));
+			for (final String chave : chaves) {
+				if (unicos.contains(chave)) {
+					final String campo = chave.substring(0, chave.indexOf(SEPARADOR));
+					bloco.rejeitadas.add(formatarRejeicao(bloco.linhas.get(i), getMensagem(MSG_DADO_DUPLICADO) + " " + campo, bloco.textos.get(i)));
+					bloco.remover(i--);
+					chaves.clear();
+					break;
+				}
+			}
+			unicos.addAll(chaves);
+		}
+	}
+
+	/**
+	 * Método responsável por gravar as entidades de um lote em uma única chamada ao <i>Serviço</i>.<br>
+	 * Caso a gravação do lote falhe, as entidades são gravadas uma a uma para que apenas as linhas com problema sejam rejeitadas,
+	 * e os valores únicos das linhas rejeitadas deixam de ser considerados repetidos nas linhas seguintes.
+	 * @author Wesley Luiz
+	 * @param bloco - Lote processado.
+	 * @param unicos - Valores já encontrados no arquivo.
+	 * @return Retorna a quantidade de entidades gravadas.
+	 */
+	private long gravar(final BlocoProcessado<E> bloco, final Set<String> unicos) {
+		if (bloco.entidades.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			service.salvarLote(bloco.entidades);
+			return bloco.entidades.size();
+		} catch (final RuntimeException e) {
+			long gravadas = 0;
+			for (int i = 0; i < bloco.entidades.size(); i++) {
+				final E entidade = bloco.entidades.get(i);
+				entidade.setId(null);
+				try {
+					service.salvar(entidade);
+					gravadas++;
+				} catch (final RuntimeException erro) {
+					unicos.removeAll(obterChavesUnicas(entidade));
+					bloco.rejeitadas.add(formatarRejeicao(bloco.linhas.get(i), obterMotivo(erro), bloco.textos.get(i)));
+				}
+			}
+			return gravadas;
+		}
+	}
+
+	private static List<String> obterChavesUnicas(final Entidade entidade) {
+		final List<String> chaves = new ArrayList<String>();
+		for (final Field campo : VerificadorUnicidade.obterCampos(entidade.getClass())) {
+			try {
+				final Object valor = campo.get(entidade);
+				if (isReferencia(valor)) {
+					chaves.add(campo.getName() + SEPARADOR + VerificadorUnicidade.gerarChave(campo, valor));
+				}
+			} catch (final IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return chaves;
+	}
+
+	/**
+	 * Método responsável por interpretar, converter e validar uma linha, executado pelas <i>threads</i> de processamento.<br>
+	 * Nas linhas de um lote que pode ter sido confirmado antes da interrupção, a duplicidade indica que a linha já foi importada.
+	 * @author Wesley Luiz
+	 * @param numero - Número da linha no arquivo.
+	 * @param texto - Conteúdo da linha.
+	 * @param recuperacao - Indica se a linha pertence ao lote pendente de uma importação interrompida.
+	 * @param resultado - Lote onde a <code>Entidade</code> ou a rejeição será registrada.
+	 */
+	private void processar(final long numero, final String texto, final boolean recuperacao, final BlocoProcessado<E> resultado) {
+		try {
+			final E entidade = mapeador.mapear(interpretador.interpretar(texto));
+			service.validarCamposVazios(entidade);
+			service.validarUnicidade(entidade);
+			resultado.entidades.add(entidade);
+			resultado.linhas.add(numero);
+			resultado.textos.add(texto);
+		} catch (final CampoVazioException e) {
+			resultado.rejeitadas.add(formatarRejeicao(numero, getMensagem(MSG_CAMPOS_OBRIGATORIOS) + " " + e.getMessage(), texto));
+		} catch (final DuplicidadeException e) {
+			if (recuperacao) {
+				resultado.recuperadas++;
+			} else {
+				resultado.rejeitadas.add(formatarRejeicao(numero, getMensagem(MSG_DADO_DUPLICADO) + " " + e.getCampo(), texto));
+			}
+		} catch (final Exception e) {
+			resultado.rejeitadas.add(formatarRejeicao(numero, obterMotivo(e), texto));
+		}
+	}
+
+	private static String obterMotivo(final Throwable erro) {
+		Throwable causa = erro;
+		while (isReferencia(causa.getCause()) && causa.getCause() != causa) {
+			causa = causa.getCause();
+		}
+		return isReferencia(causa.getMessage()) ? causa.getMessage() : causa.getClass().getSimpleName();
+	}
+
+	private static String formatarRejeicao(final long numero, final String motivo, final String texto) {
+		final String motivoLimpo = motivo.replace(SEPARADOR, ',').replace('\r', ' ').replace('\n', ' ');
+		return numero + String.valueOf(SEPARADOR) + motivoLimpo + SEPARADOR + texto;
+	}
+
+	/**
+	 * Leitura do arquivo, executada em uma <i>thread</i> própria, que envia cada lote para processamento e o coloca na fila de gravação.
+	 */
+	private final class Leitura implements Runnable {
+
+		/** Atributo arquivo. */
+		private final File arquivo;
+
+		/** Atributo controle. */
+		private final PontoControle controle;
+
+		/** Atributo fila. */
+		private final BlockingQueue<Future<BlocoProcessado<E>>> fila;
+
+		/** Atributo executor. */
+		private final ExecutorService executor;
+
+		Leitura(final File arquivo, final PontoControle controle, final BlockingQueue<Future<BlocoProcessado<E>>> fila, final ExecutorService executor) {
+			this.arquivo = arquivo;
+			this.controle = controle;
+			this.fila = fila;
+			this.executor = executor;
+		}
+
+		@Override
+		public void run() {
+			Future<BlocoProcessado<E>> fim;
+			try {
+				ler();
+				fim = concluir(null);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (final IOException e) {
+				fim = concluir(e);
+			} catch (final RuntimeException e) {
+				fim = concluir(new IOException(e));
+			}
+
+			try {
+				fila.put(fim);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void ler() throws IOException, InterruptedException {
+			try (LeitorLinhas leitor = new LeitorLinhas(arquivo, charset, controle.getPosicao())) {
+				long numero = controle.getLinha();
+				if (pularCabecalho && controle.getPosicao() == 0 && isReferencia(leitor.proxima())) {
+					numero++;
+				}
+
+				List<Object[]> linhas = new ArrayList<Object[]>(tamanhoLote);
+				long inicio = leitor.getPosicao();
+				String texto;
+				while ((texto = leitor.proxima()) != null) {
+					numero++;
+					if (!texto.trim().isEmpty()) {
+						linhas.add(new Object[] { numero, texto, inicio < controle.getPendente() });
+					}
+					inicio = leitor.getPosicao();
+					if (linhas.size() == tamanhoLote) {
+						fila.put(executor.submit(new Processamento(linhas, leitor.getPosicao(), numero)));
+						linhas = new ArrayList<Object[]>(tamanhoLote);
+					}
+				}
+				if (!linhas.isEmpty()) {
+					fila.put(executor.submit(new Processamento(linhas, leitor.getPosicao(), numero)));
+				}
+			}
+		}
+
+		private Future<BlocoProcessado<E>> concluir(final IOException erro) {
+			final FutureTask<BlocoProcessado<E>> fim = new FutureTask<BlocoProcessado<E>>(new Callable<BlocoProcessado<E>>() {
+				@Override
+				public BlocoProcessado<E> call() throws IOException {
+					if (isReferencia(erro)) {
+						throw erro;
+					}
+					return new BlocoProcessado<E>(0, 0, 0);
+				}
+			});
+			fim.run();
+			return fim;
+		}
+	}
+
+	/**
+	 * Processamento de um lote de linhas, executado em uma das <i>threads</i> de processamento.
+	 */
+	private final class Processamento implements Callable<BlocoProcessado<E>> {
+
+		/** Atributo linhas. */
+		private final List<Object[]> linhas;
+
+		/** Atributo posicaoFinal. */
+		private final long posicaoFinal;
+
+		/** Atributo linhaFinal. */
+		private final long linhaFinal;
+
+		Processamento(final List<Object[]> linhas, final long posicaoFinal, final long linhaFinal) {
+			this.linhas = linhas;
+			this.posicaoFinal = posicaoFinal;
+			this.linhaFinal = linhaFinal;
+		}
+
+		@Override
+		public BlocoProcessado<E> call() {
+			final BlocoProcessado<E> resultado = new BlocoProcessado<E>(linhas.size(), posicaoFinal, linhaFinal);
+			for (final Object[] linha : linhas) {
+				processar((Long) linha[0], (String) linha[1], (Boolean) linha[2], resultado);
+				resultado.recuperacao |= (Boolean) linha[2];
+			}
+			return resultado;
+		}
+	}
+
+	/**
+	 * Resultado do processamento de um lote: as entidades válidas, com a linha de origem de cada uma, e as linhas rejeitadas.
+	 * Um lote sem linhas lidas indica o fim do arquivo.
+	 */
+	private static final class BlocoProcessado<E> {
+
+		/** Atributo entidades. */
+		private final List<E> entidades = new ArrayList<E>();
+
+		/** Atributo linhas. */
+		private final List<Long> linhas = new ArrayList<Long>();
+
+		/** Atributo textos. */
+		private final List<String> textos = new ArrayList<String>();
+
+		/** Atributo rejeitadas. */
+		private final List<String> rejeitadas = new ArrayList<String>();
+
+		/** Atributo recuperadas. */
+		private int recuperadas;
+
+		/** Atributo recuperacao. */
+		private boolean recuperacao;
+
+		/** Atributo lidas. */
+		private final int lidas;
+
+		/** Atributo posicaoFinal. */
+		private final long posicaoFinal;
+
+		/** Atributo linhaFinal. */
+		private final long linhaFinal;
+
+		BlocoProcessado(final int lidas, final long posicaoFinal, final long linhaFinal) {
+			this.lidas = lidas;
+			this.posicaoFinal = posicaoFinal;
+			this.linhaFinal = linhaFinal;
+		}
+
+		boolean isFim() {
+			return lidas == 0;
+		}
+
+		void remover(final int indice) {
+			entidades.remove(indice);
+			linhas.remove(indice);
+			textos.remove(indice);
+		}
+	}
+
+	/**
+	 * Define a quantidade de linhas de cada lote, que também é a quantidade de registros gravados em cada transação.
+	 * @param tamanhoLote
+	 */
+	public void setTamanhoLote(final int tamanhoLote) {
+		this.tamanhoLote = tamanhoLote;
+	}
+
+	/**
+	 * Define a quantidade de <i>threads</i> de processamento.
+	 * @param threads
+	 */
+	public void setThreads(final int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Define a codificação do arquivo importado e do arquivo de erros. O padrão é <i>UTF-8</i>.
+	 * @param charset
+	 */
+	public void setCharset(final Charset charset) {
+		this.charset = charset;
+	}
+
+	/**
+	 * Define se a primeira linha do arquivo contém os títulos e deve ser ignorada.
+	 * @param pularCabecalho
+	 */
+	public void setPularCabecalho(final boolean pularCabecalho) {
+		this.pularCabecalho = pularCabecalho;
+	}
+
+	/**
+	 * Define o receptor do andamento da importação.
+	 * @param progresso
+	 */
+	public void setProgresso(final ProgressoImportacao progresso) {
+		this.progresso = progresso;
+	}
+}
@@ -0,0 +1,72 @@
+package br.com.arquitetura.importacao;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Interpretador de linhas <i>CSV</i>, com campos opcionalmente delimitados por aspas duplas e aspas escapadas por duplicação.<br>
+ * Cada registro deve ocupar uma única linha do arquivo.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class InterpretadorCSV implements InterpretadorLinha {
+
+	/** Constante SEPARADOR_PADRAO. */
+	public static final char SEPARADOR_PADRAO = ';';
+
+	/** Constante ASPAS. */
+	private static final char ASPAS = '"';
+
+	/** Atributo separador. */
+	private final char separador;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe, utilizando {@link #SEPARADOR_PADRAO}.
+	 */
+	public InterpretadorCSV() {
+		this(SEPARADOR_PADRAO);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param separador - Separador dos campos.
+	 */
+	public InterpretadorCSV(final char separador) {
+		this.separador = separador;
+	}
+
+	@Override
+	public String[] interpretar(final String linha) {
+		final List<String> campos = new ArrayList<String>();
+		final StringBuilder campo = new StringBuilder();
+		boolean entreAspas = false;
+
+		for (int i = 0; i < linha.length(); i++) {
+			final char c = linha.charAt(i);
+			if (entreAspas) {
+				if (c != ASPAS) {
+					campo.append(c);
+				} else if (i + 1 < linha.length() && linha.charAt(i + 1) == ASPAS) {
+					campo.append(ASPAS);
+					i++;
+				} else {
+					entreAspas = false;
+				}
+			} else if (c == separador) {
+				campos.add(campo.toString());
+				campo.setLength(0);
+			} else if (c == ASPAS && campo.length() == 0) {
+				entreAspas = true;
+			} else {
+				campo.append(c);
+			}
+		}
+
+		if (entreAspas) {
+			throw new IllegalArgumentException("Aspas não fechadas na linha.");
+		}
+		campos.add(campo.toString());
+		return campos.toArray(new String[campos.size()]);
+	}
+}
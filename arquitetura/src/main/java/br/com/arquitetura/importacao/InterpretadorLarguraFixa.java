@@ -0,0 +1,35 @@
+package br.com.arquitetura.importacao;
+
+/**
+ * Interpretador de linhas de largura fixa, em que cada campo ocupa uma quantidade fixa de caracteres.<br>
+ * Os espaços das extremidades de cada campo são removidos e os campos além do fim de uma linha curta são vazios.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class InterpretadorLarguraFixa implements InterpretadorLinha {
+
+	/** Atributo larguras. */
+	private final int[] larguras;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param larguras - Quantidade de caracteres de cada campo, na ordem da linha.
+	 */
+	public InterpretadorLarguraFixa(final int... larguras) {
+		this.larguras = larguras.clone();
+	}
+
+	@Override
+	public String[] interpretar(final String linha) {
+		final String[] campos = new String[larguras.length];
+		int inicio = 0;
+
+		for (int i = 0; i < larguras.length; i++) {
+			final int fim = Math.min(inicio + larguras[i], linha.length());
+			campos[i] = inicio < fim ? linha.substring(inicio, fim).trim() : "";
+			inicio += larguras[i];
+		}
+		return campos;
+	}
+}
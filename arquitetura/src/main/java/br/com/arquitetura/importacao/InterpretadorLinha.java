@@ -0,0 +1,21 @@
+package br.com.arquitetura.importacao;
+
+/**
+ * Responsável por separar uma linha do arquivo importado em campos.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see InterpretadorCSV
+ * @see InterpretadorLarguraFixa
+ */
+public interface InterpretadorLinha {
+
+	/**
+	 * Método responsável por separar os campos de uma linha. As implementações devem ser seguras para uso simultâneo por várias <i>threads</i>.
+	 * @author Wesley Luiz
+	 * @param linha - Linha lida do arquivo, sem a quebra de linha.
+	 * @return Retorna os campos da linha.
+	 * @throws IllegalArgumentException Lança uma exceção caso a linha esteja mal formada.
+	 */
+	String[] interpretar(String linha);
+}
@@ -0,0 +1,106 @@
+package br.com.arquitetura.importacao;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Leitor de linhas baseado em <code>FileChannel</code>, que mantém a posição em <i>bytes</i> do fim da última linha lida,
+ * permitindo retomar a leitura exatamente do ponto em que parou.<br>
+ * As linhas são separadas pelo <i>byte</i> <code>\n</code>, o que é seguro para <i>UTF-8</i> e para as codificações de um <i>byte</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class LeitorLinhas implements Closeable {
+
+	/** Constante TAMANHO_BUFFER. */
+	private static final int TAMANHO_BUFFER = 256 * 1024;
+
+	/** Constante BOM. */
+	private static final char BOM = '\uFEFF';
+
+	/** Atributo canal. */
+	private final FileChannel canal;
+
+	/** Atributo charset. */
+	private final Charset charset;
+
+	/** Atributo buffer. */
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+
+	/** Atributo linha. */
+	private byte[] linha = new byte[512];
+
+	/** Atributo tamanho. */
+	private int tamanho;
+
+	/** Atributo posicao. */
+	private long posicao;
+
+	LeitorLinhas(final File arquivo, final Charset charset, final long posicaoInicial) throws IOException {
+		this.canal = new FileInputStream(arquivo).getChannel();
+		this.charset = charset;
+		this.posicao = posicaoInicial;
+		canal.position(posicaoInicial);
+		buffer.flip();
+	}
+
+	/**
+	 * Método responsável por ler a próxima linha.
+	 * @author Wesley Luiz
+	 * @return Retorna a linha sem a quebra de linha, ou <code>null</code> no fim do arquivo.
+	 * @throws IOException
+	 */
+	String proxima() throws IOException {
+		final boolean primeira = posicao == 0;
+		tamanho = 0;
+
+		while (true) {
+			if (!buffer.hasRemaining()) {
+				buffer.clear();
+				final int lidos = canal.read(buffer);
+				buffer.flip();
+				if (lidos < 0) {
+					return tamanho == 0 ? null : criarLinha(primeira);
+				}
+			}
+
+			while (buffer.hasRemaining()) {
+				final byte b = buffer.get();
+				posicao++;
+				if (b == '\n') {
+					return criarLinha(primeira);
+				}
+				if (tamanho == linha.length) {
+					linha = Arrays.copyOf(linha, tamanho * 2);
+				}
+				linha[tamanho++] = b;
+			}
+		}
+	}
+
+	private String criarLinha(final boolean primeira) {
+		final int fim = tamanho > 0 && linha[tamanho - 1] == '\r' ? tamanho - 1 : tamanho;
+		final String texto = new String(linha, 0, fim, charset);
+		return primeira && !texto.isEmpty() && texto.charAt(0) == BOM ? texto.substring(1) : texto;
+	}
+
+	/**
+	 * Retorna a posição em <i>bytes</i> logo após a última linha lida.
+	 * @return <code>long</code>
+	 */
+	long getPosicao() {
+		return posicao;
+	}
+
+	@Override
+	public void close() throws IOException {
+		canal.close();
+	}
+}
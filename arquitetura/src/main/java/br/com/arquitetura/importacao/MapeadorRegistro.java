@@ -0,0 +1,23 @@
+package br.com.arquitetura.importacao;
+
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Responsável por converter os campos de uma linha do arquivo importado em uma <code>Entidade</code>.
+ *
+ * @author Wesley Luiz
+ * @param <E> - Tipo da <code>Entidade</code> importada.
+ * @version 1.0.0
+ */
+public interface MapeadorRegistro<E extends Entidade> {
+
+	/**
+	 * Método responsável por criar a <code>Entidade</code> correspondente a uma linha. As implementações devem ser seguras
+	 * para uso simultâneo por várias <i>threads</i>.
+	 * @author Wesley Luiz
+	 * @param campos - Campos da linha.
+	 * @return Retorna a <code>Entidade</code> criada.
+	 * @throws Exception Lança uma exceção caso algum campo não possa ser convertido, rejeitando a linha.
+	 */
+	E mapear(String[] campos) throws Exception;
+}
@@ -0,0 +1,176 @@
+package br.com.arquitetura.importacao;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Ponto de controle de uma importação, gravado após cada lote confirmado no <i>Banco de Dados</i>.<br>
+ * Registra a posição do arquivo logo após a última linha do lote, permitindo que uma importação interrompida seja retomada
+ * sem gravar novamente os registros já confirmados, e o tamanho do arquivo de erros nesse momento.<br>
+ * Como o arquivo não participa da transação, antes de gravar cada lote é registrado o fim do lote {@link #getPendente() pendente}.
+ * Caso a importação seja interrompida entre a confirmação do lote e o avanço do ponto de controle, a retomada encontra o lote
+ * pendente e não sabe se ele foi confirmado, e as linhas dele são gravadas novamente considerando como já importadas as que
+ * o {@link br.com.arquitetura.unicidade.VerificadorUnicidade} indicar como cadastradas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class PontoControle {
+
+	/** Constante POSICAO. */
+	private static final String POSICAO = "posicao";
+
+	/** Constante LINHA. */
+	private static final String LINHA = "linha";
+
+	/** Constante IMPORTADAS. */
+	private static final String IMPORTADAS = "importadas";
+
+	/** Constante REJEITADAS. */
+	private static final String REJEITADAS = "rejeitadas";
+
+	/** Constante ERROS. */
+	private static final String ERROS = "erros";
+
+	/** Constante PENDENTE. */
+	private static final String PENDENTE = "pendente";
+
+	/** Atributo arquivo. */
+	private final File arquivo;
+
+	/** Atributo posicao. */
+	private long posicao;
+
+	/** Atributo linha. */
+	private long linha;
+
+	/** Atributo importadas. */
+	private long importadas;
+
+	/** Atributo rejeitadas. */
+	private long rejeitadas;
+
+	/** Atributo erros. */
+	private long erros;
+
+	/** Atributo pendente. */
+	private long pendente;
+
+	private PontoControle(final File arquivo) {
+		this.arquivo = arquivo;
+	}
+
+	/**
+	 * Método responsável por carregar o ponto de controle de um arquivo, ou criar um ponto inicial caso ele não exista.
+	 * @author Wesley Luiz
+	 * @param arquivo - Arquivo do ponto de controle.
+	 * @return Retorna o ponto de controle.
+	 * @throws IOException
+	 */
+	static PontoControle carregar(final File arquivo) throws IOException {
+		final PontoControle controle = new PontoControle(arquivo);
+		if (arquivo.isFile()) {
+			final Properties propriedades = new Properties();
+			try (InputStream entrada = new FileInputStream(arquivo)) {
+				propriedades.load(entrada);
+			}
+			controle.posicao = Long.parseLong(propriedades.getProperty(POSICAO, "0"));
+			controle.linha = Long.parseLong(propriedades.getProperty(LINHA, "0"));
+			controle.importadas = Long.parseLong(propriedades.getProperty(IMPORTADAS, "0"));
+			controle.rejeitadas = Long.parseLong(propriedades.getProperty(REJEITADAS, "0"));
+			controle.erros = Long.parseLong(propriedades.getProperty(ERROS, "0"));
+			controle.pendente = Long.parseLong(propriedades.getProperty(PENDENTE, "0"));
+		}
+		return controle;
+	}
+
+	/**
+	 * Método responsável por registrar, antes da gravação de um lote, a posição do arquivo após a última linha do lote.
+	 * @author Wesley Luiz
+	 * @param posicaoFinal - Posição do arquivo após a última linha do lote.
+	 * @throws IOException
+	 */
+	void iniciarLote(final long posicaoFinal) throws IOException {
+		if (posicaoFinal > pendente) {
+			pendente = posicaoFinal;
+			gravar();
+		}
+	}
+
+	/**
+	 * Método responsável por avançar o ponto de controle e gravá-lo, substituindo o arquivo anterior de forma atômica.
+	 * @author Wesley Luiz
+	 * @param novaPosicao - Posição do arquivo após a última linha do lote.
+	 * @param novaLinha - Número da última linha do lote.
+	 * @param importadasLote - Quantidade de registros gravados no lote.
+	 * @param rejeitadasLote - Quantidade de linhas rejeitadas no lote.
+	 * @param tamanhoErros - Tamanho do arquivo de erros após as rejeições do lote.
+	 * @throws IOException
+	 */
+	void avancar(final long novaPosicao, final long novaLinha, final long importadasLote, final long rejeitadasLote, final long tamanhoErros) throws IOException {
+		posicao = novaPosicao;
+		linha = novaLinha;
+		importadas += importadasLote;
+		rejeitadas += rejeitadasLote;
+		erros = tamanhoErros;
+		if (pendente <= posicao) {
+			pendente = 0;
+		}
+		gravar();
+	}
+
+	private void gravar() throws IOException {
+		final Properties propriedades = new Properties();
+		propriedades.setProperty(POSICAO, Long.toString(posicao));
+		propriedades.setProperty(LINHA, Long.toString(linha));
+		propriedades.setProperty(IMPORTADAS, Long.toString(importadas));
+		propriedades.setProperty(REJEITADAS, Long.toString(rejeitadas));
+		propriedades.setProperty(ERROS, Long.toString(erros));
+		propriedades.setProperty(PENDENTE, Long.toString(pendente));
+
+		final File temporario = new File(arquivo.getPath() + ".tmp");
+		try (OutputStream saida = new FileOutputStream(temporario)) {
+			propriedades.store(saida, null);
+		}
+		Files.move(temporario.toPath(), arquivo.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Método responsável por remover o ponto de controle ao fim da importação.
+	 * @author Wesley Luiz
+	 */
+	void remover() {
+		arquivo.delete();
+	}
+
+	long getPosicao() {
+		return posicao;
+	}
+
+	long getLinha() {
+		return linha;
+	}
+
+	long getImportadas() {
+		return importadas;
+	}
+
+	long getRejeitadas() {
+		return rejeitadas;
+	}
+
+	long getErros() {
+		return erros;
+	}
+
+	long getPendente() {
+		return pendente;
+	}
+}
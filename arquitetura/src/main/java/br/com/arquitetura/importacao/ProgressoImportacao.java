@@ -0,0 +1,18 @@
+package br.com.arquitetura.importacao;
+
+/**
+ * Receptor do andamento de uma importação, notificado após a gravação de cada lote.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see ImportadorEntidades
+ */
+public interface ProgressoImportacao {
+
+	/**
+	 * Método chamado após a gravação de um lote, na <i>thread</i> que executa a importação.
+	 * @author Wesley Luiz
+	 * @param parcial - Resultado acumulado até o lote gravado.
+	 */
+	void loteGravado(ResultadoImportacao parcial);
+}
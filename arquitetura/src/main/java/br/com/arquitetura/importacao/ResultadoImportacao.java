@@ -0,0 +1,105 @@
+package br.com.arquitetura.importacao;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>ResultadoImportacao</code> reúne as quantidades de linhas lidas, importadas e rejeitadas por um
+ * {@link ImportadorEntidades}, além da vazão sustentada da execução corrente.<br>
+ * Em uma importação retomada, <code>importadas</code> e <code>rejeitadas</code> incluem as execuções anteriores, enquanto
+ * <code>lidas</code> e a vazão consideram apenas a execução corrente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ResultadoImportacao extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo lidas. */
+	private final long lidas;
+
+	/** Atributo importadas. */
+	private final long importadas;
+
+	/** Atributo rejeitadas. */
+	private final long rejeitadas;
+
+	/** Atributo lotes. */
+	private final long lotes;
+
+	/** Atributo duracao. */
+	private final long duracao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param lidas - Quantidade de linhas lidas na execução corrente.
+	 * @param importadas - Quantidade total de registros gravados.
+	 * @param rejeitadas - Quantidade total de linhas rejeitadas.
+	 * @param lotes - Quantidade de lotes gravados na execução corrente.
+	 * @param duracao - Tempo gasto em milissegundos na execução corrente.
+	 */
+	public ResultadoImportacao(final long lidas, final long importadas, final long rejeitadas, final long lotes, final long duracao) {
+		super();
+		this.lidas = lidas;
+		this.importadas = importadas;
+		this.rejeitadas = rejeitadas;
+		this.lotes = lotes;
+		this.duracao = duracao;
+	}
+
+	/**
+	 * Método responsável por obter a vazão sustentada da importação.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de linhas processadas por segundo na execução corrente.
+	 */
+	public double getLinhasPorSegundo() {
+		return duracao > 0 ? lidas * 1000d / duracao : lidas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>lidas</code>
+	 * @return <code>long</code>
+	 */
+	public long getLidas() {
+		return lidas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>importadas</code>
+	 * @return <code>long</code>
+	 */
+	public long getImportadas() {
+		return importadas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>rejeitadas</code>
+	 * @return <code>long</code>
+	 */
+	public long getRejeitadas() {
+		return rejeitadas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>lotes</code>
+	 * @return <code>long</code>
+	 */
+	public long getLotes() {
+		return lotes;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>duracao</code>
+	 * @return <code>long</code>
+	 */
+	public long getDuracao() {
+		return duracao;
+	}
+
+	@Override
+	public String toString() {
+		return importadas + " importadas, " + rejeitadas + " rejeitadas, " + lidas + " linhas lidas em " + duracao + " ms ("
+				+ Math.round(getLinhasPorSegundo()) + " linhas/s)";
+	}
+}
@@ -0,0 +1,22 @@
+package br.com.arquitetura.indice;
+
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.evento.EventoEntidade;
+import br.com.arquitetura.evento.OuvinteEntidade;
+
+/**
+ * Ouvinte que mantém os índices registrados no {@link RegistroIndices} atualizados com as alterações confirmadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.evento.BarramentoEventos
+ */
+public class AtualizadorIndices implements OuvinteEntidade {
+
+	@Override
+	public void notificar(final EventoEntidade evento) {
+		if (evento.getEntidade() != null) {
+			RegistroIndices.atualizar(evento.getEntidade(), evento.getOperacao() == EnumOperacao.REMOCAO);
+		}
+	}
+}
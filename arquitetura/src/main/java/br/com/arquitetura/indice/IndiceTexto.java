@@ -0,0 +1,468 @@
+package br.com.arquitetura.indice;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.hibernate.ScrollableResults;
+import org.hibernate.criterion.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.annotation.Indexado;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.util.Texto;
+
+/**
+ * A classe <code>IndiceTexto</code> mantém em memória um índice de trigramas sobre os atributos anotados com {@link Indexado}
+ * de uma <code>Entidade</code>, permitindo pesquisas por trecho de texto sem consultas <code>LIKE '%x%'</code> ao <i>Banco de Dados</i>.<br>
+ * Os textos são normalizados através de {@link Texto#gerarChaveBusca(String)}, portanto as pesquisas ignoram acentos,
+ * maiúsculas e espaços repetidos. Os resultados são ordenados pelos registros que começam com o termo, depois pelos que possuem
+ * uma palavra iniciada pelo termo e por fim pelos que apenas contêm o termo. Exemplo de uso:
+ * <pre>
+ * final IndiceTexto&lt;Cliente&gt; indice = new IndiceTexto&lt;Cliente&gt;(Cliente.class, 32 * 1024 * 1024);
+ * indice.reconstruir(clienteDAO);
+ * RegistroIndices.registrar(indice);
+ * </pre>
+ * Após registrado, o índice é atualizado pelo {@link br.com.arquitetura.service.Service} a cada inclusão, alteração e remoção.
+ * Caso o limite de memória seja atingido o índice passa a ser considerado incompleto e as pesquisas voltam a ser feitas no <i>Banco de Dados</i>.
+ *
+ * @author Wesley Luiz
+ * @param <E> - Tipo da <code>Entidade</code> indexada.
+ * @version 1.0.0
+ * @see RegistroIndices
+ */
+public class IndiceTexto<E extends Entidade> extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(IndiceTexto.class);
+
+	/** Constante TAMANHO_MINIMO_TERMO. */
+	public static final int TAMANHO_MINIMO_TERMO = 2;
+
+	/** Constante TAMANHO_LOTE. */
+	private static final int TAMANHO_LOTE = 1000;
+
+	/** Constante BYTES_POR_TRIGRAMA. */
+	private static final int BYTES_POR_TRIGRAMA = 96;
+
+	/** Constante BYTES_POR_TEXTO. */
+	private static final int BYTES_POR_TEXTO = 88;
+
+	/** Atributo classe. */
+	private final Class<E> classe;
+
+	/** Atributo campos. */
+	private final List<Field> campos;
+
+	/** Atributo bytesMaximos. */
+	private final long bytesMaximos;
+
+	/** Atributo lock. */
+	private final transient ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** Atributo estrutura. */
+	private transient Estrutura estrutura = new Estrutura();
+
+	/** Atributo pendentes. */
+	private transient List<Object[]> pendentes;
+
+	/** Atributo reconstrucoes. */
+	private final AtomicLong reconstrucoes = new AtomicLong();
+
+	/** Atributo duracaoReconstrucao. */
+	private volatile long duracaoReconstrucao;
+
+	/** Atributo consultas. */
+	private final AtomicLong consultas = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe da <code>Entidade</code> indexada.
+	 * @param bytesMaximos - Quantidade estimada de memória que o índice pode ocupar.
+	 */
+	public IndiceTexto(final Class<E> classe, final long bytesMaximos) {
+		super();
+		this.classe = classe;
+		this.campos = obterCampos(classe);
+		this.bytesMaximos = bytesMaximos;
+
+		if (campos.isEmpty()) {
+			throw new IllegalArgumentException("A classe " + classe.getName() + " não possui atributos anotados com @Indexado.");
+		}
+	}
+
+	/**
+	 * Método responsável por obter os atributos anotados com {@link Indexado} de uma classe e de suas <i>super-classes</i>.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @return Retorna a lista de atributos, já acessíveis por reflexão.
+	 */
+	public static List<Field> obterCampos(final Class<?> classe) {
+		final List<Field> campos = new ArrayList<Field>();
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Object.class; atual = atual.getSuperclass()) {
+			for (final Field field : atual.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Indexado.class)) {
+					field.setAccessible(true);
+					campos.add(field);
+				}
+			}
+		}
+		return campos;
+	}
+
+	/**
+	 * Método responsável por reconstruir o índice a partir de todos os registros do <i>DAO</i>, percorridos através de um cursor.<br>
+	 * As pesquisas continuam sendo atendidas pelo índice anterior até o fim da reconstrução, e as alterações feitas nesse
+	 * intervalo são aplicadas ao novo índice. A cada lote apenas as entidades carregadas pelo cursor são desassociadas da <i>Sessão</i>.
+	 * @author Wesley Luiz
+	 * @param dao - <i>DAO</i> da <code>Entidade</code> indexada.
+	 */
+	public void reconstruir(final HibernateDAO<E> dao) {
+		final long inicio = System.currentTimeMillis();
+
+		lock.writeLock().lock();
+		try {
+			pendentes = new ArrayList<Object[]>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		final Estrutura nova = new Estrutura();
+		final Set<Object> anteriores = dao.obterEntidadesSessao();
+		final ScrollableResults cursor = dao.percorrer(dao.novoCriteria().addOrder(Order.asc("id")), TAMANHO_LOTE);
+		try {
+			long lidos = 0;
+			while (cursor.next()) {
+				final Entidade entidade = (Entidade) cursor.get(0);
+				nova.adicionar(entidade.getId(), obterTexto(entidade), bytesMaximos);
+				if (++lidos % TAMANHO_LOTE == 0) {
+					dao.desassociarCarregados(anteriores);
+				}
+			}
+		} finally {
+			cursor.close();
+			dao.desassociarCarregados(anteriores);
+		}
+
+		lock.writeLock().lock();
+		try {
+			for (final Object[] pendente : pendentes) {
+				aplicar(nova, (Integer) pendente[0], (String) pendente[1]);
+			}
+			estrutura = nova;
+			pendentes = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		reconstrucoes.incrementAndGet();
+		duracaoReconstrucao = System.currentTimeMillis() - inicio;
+	}
+
+	/**
+	 * Método responsável por incluir ou atualizar uma <code>Entidade</code> no índice.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> persistida ou alterada.
+	 */
+	public void indexar(final Entidade entidade) {
+		if (isReferencia(entidade.getId())) {
+			atualizar(entidade.getId(), obterTexto(entidade));
+		}
+	}
+
+	/**
+	 * Método responsável por remover uma <code>Entidade</code> do índice.
+	 * @author Wesley Luiz
+	 * @param id - Identificador da <code>Entidade</code> removida.
+	 */
+	public void remover(final Integer id) {
+		if (isReferencia(id)) {
+			atualizar(id, null);
+		}
+	}
+
+	/**
+	 * Método responsável por pesquisar os identificadores das entidades que contêm um termo.
+	 * @author Wesley Luiz
+	 * @param termo - Termo pesquisado, com pelo menos {@link #TAMANHO_MINIMO_TERMO} caracteres. Termos menores que três
+	 * caracteres são pesquisados apenas no início das palavras.
+	 * @param limite - Quantidade máxima de resultados.
+	 * @return Retorna os identificadores ordenados por relevância.
+	 */
+	public List<Integer> pesquisar(final String termo, final int limite) {
+		consultas.incrementAndGet();
+		final String chave = Texto.gerarChaveBusca(termo);
+		if (chave.length() < TAMANHO_MINIMO_TERMO) {
+			return Collections.emptyList();
+		}
+
+		lock.readLock().lock();
+		try {
+			return estrutura.pesquisar(chave, limite);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void atualizar(final Integer id, final String texto) {
+		lock.writeLock().lock();
+		try {
+			aplicar(estrutura, id, texto);
+			if (isReferencia(pendentes)) {
+				pendentes.add(new Object[] { id, texto });
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void aplicar(final Estrutura destino, final Integer id, final String texto) {
+		destino.remover(id);
+		if (isReferencia(texto)) {
+			destino.adicionar(id, texto, bytesMaximos);
+		}
+	}
+
+	/**
+	 * Método responsável por obter o texto normalizado de uma <code>Entidade</code>, formado pelos atributos indexados.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> a ser indexada.
+	 * @return Retorna o texto normalizado.
+	 */
+	private String obterTexto(final Entidade entidade) {
+		final StringBuilder sb = new StringBuilder();
+		for (final Field campo : campos) {
+			try {
+				final Object valor = campo.get(entidade);
+				if (isReferencia(valor)) {
+					if (sb.length() > 0) {
+						sb.append(' ');
+					}
+					sb.append(valor);
+				}
+			} catch (final IllegalAccessException e) {
+				LOGGER.error("Não foi possível ler o atributo " + campo.getName() + " de " + classe.getName() + ".", e);
+			}
+		}
+		return Texto.gerarChaveBusca(sb.toString());
+	}
+
+	/**
+	 * Método responsável por verificar se todos os registros couberam no limite de memória do índice.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso o índice contenha todos os registros.
+	 */
+	public boolean isCompleto() {
+		lock.readLock().lock();
+		try {
+			return estrutura.completo;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Método responsável por obter a quantidade de registros indexados.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de registros.
+	 */
+	public int getRegistros() {
+		lock.readLock().lock();
+		try {
+			return estrutura.textos.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Método responsável por obter a quantidade estimada de memória ocupada pelo índice.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de <i>bytes</i>.
+	 */
+	public long getBytesEstimados() {
+		lock.readLock().lock();
+		try {
+			return estrutura.bytes;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class&lt;E&gt;</code>
+	 */
+	public Class<E> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>campos</code>
+	 * @return <code>List&lt;Field&gt;</code>
+	 */
+	public List<Field> getCampos() {
+		return Collections.unmodifiableList(campos);
+	}
+
+	/**
+	 * Retorna a quantidade de reconstruções executadas.
+	 * @return <code>long</code>
+	 */
+	public long getReconstrucoes() {
+		return reconstrucoes.get();
+	}
+
+	/**
+	 * Retorna a duração da última reconstrução em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getDuracaoReconstrucao() {
+		return duracaoReconstrucao;
+	}
+
+	/**
+	 * Retorna a quantidade de pesquisas atendidas pelo índice.
+	 * @return <code>long</code>
+	 */
+	public long getConsultas() {
+		return consultas.get();
+	}
+
+	/**
+	 * Estrutura do índice: listas de ocorrências por trigrama e o texto normalizado de cada registro.
+	 */
+	private static final class Estrutura {
+
+		/** Atributo trigramas. */
+		private final Map<Long, ListaIds> trigramas = new HashMap<Long, ListaIds>();
+
+		/** Atributo textos. */
+		private final Map<Integer, String> textos = new HashMap<Integer, String>();
+
+		/** Atributo bytes. */
+		private long bytes;
+
+		/** Atributo completo. */
+		private boolean completo = true;
+
+		void adicionar(final int id, final String texto, final long bytesMaximos) {
+			final long custoTexto = BYTES_POR_TEXTO + texto.length() * 2L;
+			if (bytes + custoTexto > bytesMaximos) {
+				completo = false;
+				return;
+			}
+
+			textos.put(id, texto);
+			bytes += custoTexto;
+
+			for (final Long trigrama : obterTrigramas(' ' + texto)) {
+				ListaIds lista = trigramas.get(trigrama);
+				if (lista == null) {
+					lista = new ListaIds();
+					trigramas.put(trigrama, lista);
+					bytes += BYTES_POR_TRIGRAMA + lista.getCapacidade() * 4L;
+				}
+				bytes += lista.adicionar(id);
+			}
+
+			if (bytes > bytesMaximos) {
+				remover(id);
+				completo = false;
+			}
+		}
+
+		void remover(final int id) {
+			final String texto = textos.remove(id);
+			if (texto == null) {
+				return;
+			}
+
+			bytes -= BYTES_POR_TEXTO + texto.length() * 2L;
+			for (final Long trigrama : obterTrigramas(' ' + texto)) {
+				final ListaIds lista = trigramas.get(trigrama);
+				if (lista != null) {
+					lista.remover(id);
+					if (lista.getTamanho() == 0) {
+						trigramas.remove(trigrama);
+						bytes -= BYTES_POR_TRIGRAMA + lista.getCapacidade() * 4L;
+					}
+				}
+			}
+		}
+
+		List<Integer> pesquisar(final String termo, final int limite) {
+			final boolean somenteInicioPalavra = termo.length() < 3;
+			final Set<Long> trigramasTermo = obterTrigramas(somenteInicioPalavra ? ' ' + termo : termo);
+			final List<ListaIds> listas = new ArrayList<ListaIds>();
+
+			for (final Long trigrama : trigramasTermo) {
+				final ListaIds lista = trigramas.get(trigrama);
+				if (lista == null) {
+					return Collections.emptyList();
+				}
+				listas.add(lista);
+			}
+
+			Collections.sort(listas, new Comparator<ListaIds>() {
+				@Override
+				public int compare(final ListaIds a, final ListaIds b) {
+					return Integer.compare(a.getTamanho(), b.getTamanho());
+				}
+			});
+
+			final int[] candidatos = listas.get(0).copiar();
+			int quantidade = candidatos.length;
+			for (int i = 1; i < listas.size() && quantidade > 0; i++) {
+				quantidade = listas.get(i).intersecao(candidatos, quantidade);
+			}
+
+			final long[] classificados = new long[quantidade];
+			int encontrados = 0;
+			for (int i = 0; i < quantidade; i++) {
+				final String texto = textos.get(candidatos[i]);
+				final int posicao = texto.indexOf(termo);
+				if (posicao < 0) {
+					continue;
+				}
+
+				final boolean inicioPalavra = posicao == 0 || texto.charAt(posicao - 1) == ' ';
+				if (somenteInicioPalavra && !inicioPalavra) {
+					continue;
+				}
+
+				final long relevancia = posicao == 0 ? 0 : inicioPalavra ? 1 : 2;
+				classificados[encontrados++] = relevancia << 56 | (long) Math.min(texto.length(), 0xFFFFFF) << 32 | candidatos[i];
+			}
+
+			Arrays.sort(classificados, 0, encontrados);
+			final List<Integer> ids = new ArrayList<Integer>(Math.min(encontrados, limite));
+			for (int i = 0; i < encontrados && i < limite; i++) {
+				ids.add((int) classificados[i]);
+			}
+			return ids;
+		}
+
+		private static Set<Long> obterTrigramas(final String texto) {
+			final Set<Long> resultado = new HashSet<Long>();
+			for (int i = 0; i + 3 <= texto.length(); i++) {
+				resultado.add((long) texto.charAt(i) << 32 | (long) texto.charAt(i + 1) << 16 | texto.charAt(i + 2));
+			}
+			return resultado;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package br.com.arquitetura.indice;
+
+import java.util.Arrays;
+
+/**
+ * Lista ordenada de identificadores armazenada em um <i>array</i> de <code>int</code>, utilizada como lista de ocorrências
+ * de cada trigrama do {@link IndiceTexto}. Não é <i>thread-safe</i>, o acesso é controlado pelo índice.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class ListaIds {
+
+	/** Constante CAPACIDADE_INICIAL. */
+	private static final int CAPACIDADE_INICIAL = 4;
+
+	/** Atributo ids. */
+	private int[] ids = new int[CAPACIDADE_INICIAL];
+
+	/** Atributo tamanho. */
+	private int tamanho;
+
+	/**
+	 * Método responsável por adicionar um identificador, mantendo a ordem crescente.
+	 * @author Wesley Luiz
+	 * @param id - Identificador a ser adicionado.
+	 * @return Retorna a quantidade de <i>bytes</i> acrescentada à lista.
+	 */
+	int adicionar(final int id) {
+		final int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+		if (posicao >= 0) {
+			return 0;
+		}
+
+		int acrescimo = 0;
+		if (tamanho == ids.length) {
+			final int capacidade = ids.length + (ids.length >> 1);
+			acrescimo = (capacidade - ids.length) * 4;
+			ids = Arrays.copyOf(ids, capacidade);
+		}
+
+		final int insercao = -posicao - 1;
+		System.arraycopy(ids, insercao, ids, insercao + 1, tamanho - insercao);
+		ids[insercao] = id;
+		tamanho++;
+		return acrescimo;
+	}
+
+	/**
+	 * Método responsável por remover um identificador.
+	 * @author Wesley Luiz
+	 * @param id - Identificador a ser removido.
+	 */
+	void remover(final int id) {
+		final int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+		if (posicao >= 0) {
+			System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+			tamanho--;
+		}
+	}
+
+	/**
+	 * Método responsável por obter a interseção entre os identificadores desta lista e um conjunto de candidatos.
+	 * @author Wesley Luiz
+	 * @param candidatos - Identificadores candidatos em ordem crescente.
+	 * @param quantidade - Quantidade de candidatos válidos.
+	 * @return Retorna a quantidade de candidatos que permaneceram no início do <i>array</i>.
+	 */
+	int intersecao(final int[] candidatos, final int quantidade) {
+		int i = 0;
+		int j = 0;
+		int resultado = 0;
+		while (i < quantidade && j < tamanho) {
+			if (candidatos[i] < ids[j]) {
+				i++;
+			} else if (candidatos[i] > ids[j]) {
+				j++;
+			} else {
+				candidatos[resultado++] = candidatos[i++];
+				j++;
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por copiar os identificadores para um novo <i>array</i>.
+	 * @author Wesley Luiz
+	 * @return Retorna os identificadores em ordem crescente.
+	 */
+	int[] copiar() {
+		return Arrays.copyOf(ids, tamanho);
+	}
+
+	int getTamanho() {
+		return tamanho;
+	}
+
+	int getCapacidade() {
+		return ids.length;
+	}
+}
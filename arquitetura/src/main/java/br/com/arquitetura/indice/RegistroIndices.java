@@ -0,0 +1,96 @@
+package br.com.arquitetura.indice;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>RegistroIndices</code> mantém os {@link IndiceTexto}(s) da aplicação, um por classe de <code>Entidade</code>,
+ * e repassa a eles as inclusões, alterações e remoções feitas pelo {@link br.com.arquitetura.service.Service}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see IndiceTexto
+ */
+public final class RegistroIndices extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante ATUALIZADOR. */
+	private static final AtualizadorIndices ATUALIZADOR = new AtualizadorIndices();
+
+	/** Constante INDICES. */
+	private static final ConcurrentMap<Class<?>, IndiceTexto<?>> INDICES = new ConcurrentHashMap<Class<?>, IndiceTexto<?>>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private RegistroIndices() {
+		super();
+	}
+
+	/**
+	 * Método responsável por registrar um índice, substituindo o índice anterior da mesma classe, e inscrever o
+	 * {@link AtualizadorIndices} no {@link BarramentoEventos}.
+	 * @author Wesley Luiz
+	 * @param indice - Índice a ser registrado.
+	 */
+	public static synchronized void registrar(final IndiceTexto<?> indice) {
+		INDICES.put(indice.getClasse(), indice);
+		BarramentoEventos.getInstance().inscrever(ATUALIZADOR);
+	}
+
+	/**
+	 * Método responsável por remover o índice de uma classe. Sem índices registrados, a inscrição do {@link AtualizadorIndices} é cancelada.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 */
+	public static synchronized void desregistrar(final Class<? extends Entidade> classe) {
+		INDICES.remove(classe);
+		if (INDICES.isEmpty()) {
+			BarramentoEventos.getInstance().cancelar(ATUALIZADOR);
+		}
+	}
+
+	/**
+	 * Método responsável por obter o índice de uma classe. As <i>super-classes</i> também são consultadas,
+	 * permitindo localizar o índice a partir de um <i>proxy</i> do <i>Hibernate</i>.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 * @return Retorna o índice ou <code>null</code> caso a classe não possua índice registrado.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Entidade> IndiceTexto<E> obter(final Class<? extends E> classe) {
+		if (INDICES.isEmpty()) {
+			return null;
+		}
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Entidade.class; atual = atual.getSuperclass()) {
+			final IndiceTexto<?> indice = INDICES.get(atual);
+			if (isReferencia(indice)) {
+				return (IndiceTexto<E>) indice;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Método responsável por atualizar o índice da classe de uma <code>Entidade</code>, caso exista.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> persistida, alterada ou removida.
+	 * @param isRemovida - Indica se a <code>Entidade</code> foi removida.
+	 */
+	public static void atualizar(final Entidade entidade, final boolean isRemovida) {
+		final IndiceTexto<Entidade> indice = obter(entidade.getClass());
+		if (isReferencia(indice)) {
+			if (isRemovida) {
+				indice.remover(entidade.getId());
+			} else {
+				indice.indexar(entidade);
+			}
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package br.com.arquitetura.monitoramento;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Acumula as execuções de uma mesma instrução <i>SQL</i>, já normalizada, dentro de um {@link RegistroConsultas}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class EstatisticaConsulta extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo sql. */
+	private final String sql;
+
+	/** Atributo execucoes. */
+	private int execucoes;
+
+	/** Atributo tempoTotal. */
+	private long tempoTotal;
+
+	/** Atributo tempoMaximo. */
+	private long tempoMaximo;
+
+	/** Atributo linhas. */
+	private long linhas;
+
+	/** Atributo tempoLeitura. */
+	private long tempoLeitura;
+
+	/** Atributo chamador. */
+	private String chamador;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param sql - Instrução normalizada.
+	 */
+	public EstatisticaConsulta(final String sql) {
+		super();
+		this.sql = sql;
+	}
+
+	/**
+	 * Método responsável por acumular uma execução da instrução.
+	 * @author Wesley Luiz
+	 * @param nanos - Duração da execução, em nanossegundos.
+	 * @param quantidadeLinhas - Linhas lidas ou alteradas.
+	 */
+	void registrar(final long nanos, final long quantidadeLinhas) {
+		execucoes++;
+		tempoTotal += nanos;
+		tempoMaximo = Math.max(tempoMaximo, nanos);
+		linhas += quantidadeLinhas;
+	}
+
+	/**
+	 * Método responsável por acumular a leitura das linhas de uma execução da instrução.
+	 * @author Wesley Luiz
+	 * @param nanos - Tempo gasto buscando as linhas, em nanossegundos.
+	 * @param quantidadeLinhas - Linhas lidas.
+	 */
+	void registrarLeitura(final long nanos, final long quantidadeLinhas) {
+		tempoLeitura += nanos;
+		linhas += quantidadeLinhas;
+	}
+
+	@Override
+	public String toString() {
+		return execucoes + "x, " + getTempoTotal() + " ms, " + linhas + " linha(s) em " + getTempoLeitura() + " ms" + (isReferencia(chamador) ? ", " + chamador : "") + ": " + sql;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>sql</code>
+	 * @return <code>String</code>
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>execucoes</code>
+	 * @return <code>int</code>
+	 */
+	public int getExecucoes() {
+		return execucoes;
+	}
+
+	/**
+	 * Retorna a soma das durações das execuções, sem a leitura das linhas, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getTempoTotal() {
+		return tempoTotal / 1000000L;
+	}
+
+	/**
+	 * Retorna a soma dos tempos de leitura das linhas, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getTempoLeitura() {
+		return tempoLeitura / 1000000L;
+	}
+
+	/**
+	 * Retorna a duração da execução mais lenta, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getTempoMaximo() {
+		return tempoMaximo / 1000000L;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>linhas</code>
+	 * @return <code>long</code>
+	 */
+	public long getLinhas() {
+		return linhas;
+	}
+
+	/**
+	 * Retorna o método do <i>Serviço</i> que executou a instrução quando ela passou a ser considerada repetida.
+	 * @return <code>String</code>
+	 */
+	public String getChamador() {
+		return chamador;
+	}
+
+	/**
+	 * Define o valor do atributo <code>chamador</code>.
+	 * @param chamador
+	 */
+	void setChamador(final String chamador) {
+		this.chamador = chamador;
+	}
+}
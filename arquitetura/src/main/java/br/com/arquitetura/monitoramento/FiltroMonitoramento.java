@@ -0,0 +1,55 @@
+package br.com.arquitetura.monitoramento;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Filtro responsável por registrar as instruções <i>SQL</i> executadas em cada requisição e, ao final, relatar as instruções
+ * repetidas através do {@link MonitorConsultas}. Exemplo de configuração no <i>web.xml</i>:
+ * <pre>
+ * &lt;filter&gt;
+ * 	&lt;filter-name&gt;monitoramento&lt;/filter-name&gt;
+ * 	&lt;filter-class&gt;br.com.arquitetura.monitoramento.FiltroMonitoramento&lt;/filter-class&gt;
+ * &lt;/filter&gt;
+ * &lt;filter-mapping&gt;
+ * 	&lt;filter-name&gt;monitoramento&lt;/filter-name&gt;
+ * 	&lt;url-pattern&gt;*.jsf&lt;/url-pattern&gt;
+ * &lt;/filter-mapping&gt;
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class FiltroMonitoramento implements Filter {
+
+	@Override
+	public void init(final FilterConfig filterConfig) throws ServletException {
+	}
+
+	@Override
+	public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+		if (!MonitorConsultas.isHabilitado() || !(request instanceof HttpServletRequest)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		final HttpServletRequest requisicao = (HttpServletRequest) request;
+		final RegistroConsultas registro = MonitorConsultas.iniciar(requisicao.getMethod() + " " + requisicao.getRequestURI());
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			MonitorConsultas.encerrar(registro);
+			MonitorConsultas.relatar(registro);
+		}
+	}
+
+	@Override
+	public void destroy() {
+	}
+}
@@ -0,0 +1,358 @@
+package br.com.arquitetura.monitoramento;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Recebe as instruções <i>SQL</i> interceptadas pelo {@link MonitorDataSource}, registrando em <i>log</i> as instruções mais
+ * lentas que o limite configurado, junto com o método do <i>Serviço</i> que as executou, e contabilizando as instruções no
+ * {@link RegistroConsultas} da <i>thread</i> corrente.<br>
+ * Ao fim de cada requisição o {@link FiltroMonitoramento} chama {@link #relatar(RegistroConsultas)}, que aponta as instruções
+ * executadas mais vezes que {@link #getLimiteRepeticoes()}, um indício de consultas feitas dentro de laços <i>(N+1)</i>.
+ * As instruções são agrupadas após a substituição dos valores literais por <code>?</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see OrcamentoConsultas
+ */
+public final class MonitorConsultas extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(MonitorConsultas.class);
+
+	/** Constante REGISTRO. */
+	private static final ThreadLocal<RegistroConsultas> REGISTRO = new ThreadLocal<RegistroConsultas>();
+
+	/** Constante TEXTO. */
+	private static final Pattern TEXTO = Pattern.compile("'(?:[^']|'')*'");
+
+	/** Constante NUMERO. */
+	private static final Pattern NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+	/** Constante LISTA. */
+	private static final Pattern LISTA = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+	/** Constante ESPACOS. */
+	private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+	/** Constante LIMITE_NORMALIZADAS. */
+	private static final int LIMITE_NORMALIZADAS = 2048;
+
+	/** Constante NORMALIZADAS. */
+	private static final ConcurrentMap<String, String> NORMALIZADAS = new ConcurrentHashMap<String, String>();
+
+	/** Constante PACOTES_INFRAESTRUTURA. */
+	private static final String[] PACOTES_INFRAESTRUTURA = { "br.com.arquitetura.monitoramento.", "br.com.arquitetura.dao.", "org.hibernate.",
+			"org.springframework.", "java.", "javax.", "jdk.", "sun.", "com.sun." };
+
+	/** Constante SERVICOS. */
+	private static final ConcurrentMap<String, Boolean> SERVICOS = new ConcurrentHashMap<String, Boolean>();
+
+	/** Atributo habilitado. */
+	private static volatile boolean habilitado = true;
+
+	/** Atributo limiteLento. */
+	private static volatile long limiteLento = 500;
+
+	/** Atributo limiteRepeticoes. */
+	private static volatile int limiteRepeticoes = 10;
+
+	/** Constante CONSULTAS_LENTAS. */
+	private static final AtomicLong CONSULTAS_LENTAS = new AtomicLong();
+
+	/** Constante UNIDADES_REPETIDAS. */
+	private static final AtomicLong UNIDADES_REPETIDAS = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private MonitorConsultas() {
+		super();
+	}
+
+	/**
+	 * Método responsável por iniciar um novo {@link RegistroConsultas} na <i>thread</i> corrente. Um registro já ativo continua
+	 * contabilizando as instruções até que o novo registro seja encerrado.
+	 * @author Wesley Luiz
+	 * @param descricao - Descrição da unidade de trabalho, como o endereço da requisição.
+	 * @return Retorna o registro iniciado, que deve ser encerrado através de {@link #encerrar(RegistroConsultas)}.
+	 */
+	public static RegistroConsultas iniciar(final String descricao) {
+		final RegistroConsultas registro = new RegistroConsultas(descricao, REGISTRO.get());
+		REGISTRO.set(registro);
+		return registro;
+	}
+
+	/**
+	 * Método responsável por encerrar um registro, restaurando o registro que estava ativo quando ele foi iniciado.
+	 * @author Wesley Luiz
+	 * @param registro - Registro iniciado por {@link #iniciar(String)}.
+	 */
+	public static void encerrar(final RegistroConsultas registro) {
+		if (isReferencia(registro.getAnterior())) {
+			REGISTRO.set(registro.getAnterior());
+		} else {
+			REGISTRO.remove();
+		}
+	}
+
+	/**
+	 * Método responsável por obter o registro ativo na <i>thread</i> corrente.
+	 * @author Wesley Luiz
+	 * @return Retorna o registro ativo, ou <code>null</code> caso nenhum tenha sido iniciado.
+	 */
+	public static RegistroConsultas obterRegistro() {
+		return REGISTRO.get();
+	}
+
+	/**
+	 * Método responsável por criar uma tarefa que executa outra em uma <i>thread</i> auxiliar com o registro ativo na <i>thread</i>
+	 * corrente, de forma que as instruções executadas em paralelo, como as consultas às partições de um
+	 * {@link br.com.arquitetura.dao.HibernateDAOParticionado}, sejam atribuídas à requisição que as originou.
+	 * @author Wesley Luiz
+	 * @param tarefa - Tarefa a ser executada na <i>thread</i> auxiliar.
+	 * @param <V> - Tipo do resultado da tarefa.
+	 * @return Retorna a tarefa que associa o registro, ou a própria tarefa caso não exista registro ativo.
+	 */
+	public static <V> Callable<V> propagar(final Callable<V> tarefa) {
+		final RegistroConsultas registro = REGISTRO.get();
+		if (!isReferencia(registro)) {
+			return tarefa;
+		}
+		return new Callable<V>() {
+			@Override
+			public V call() throws Exception {
+				final RegistroConsultas anterior = REGISTRO.get();
+				REGISTRO.set(registro);
+				try {
+					return tarefa.call();
+				} finally {
+					if (isReferencia(anterior)) {
+						REGISTRO.set(anterior);
+					} else {
+						REGISTRO.remove();
+					}
+				}
+			}
+		};
+	}
+
+	/**
+	 * Método responsável por registrar a execução de uma instrução, chamado pelo {@link MonitorDataSource} assim que a execução
+	 * retorna.
+	 * @author Wesley Luiz
+	 * @param sql - Instrução executada.
+	 * @param nanos - Duração da execução, sem a leitura das linhas de uma consulta, em nanossegundos.
+	 * @param linhas - Linhas alteradas.
+	 */
+	static void registrar(final String sql, final long nanos, final long linhas) {
+		String chamador = null;
+		if (nanos >= limiteLento * 1000000L) {
+			CONSULTAS_LENTAS.incrementAndGet();
+			chamador = obterChamador();
+			LOGGER.warn("Consulta lenta (" + nanos / 1000000L + " ms) em " + chamador + ": " + sql);
+		}
+
+		RegistroConsultas registro = REGISTRO.get();
+		if (!isReferencia(registro)) {
+			return;
+		}
+
+		final String normalizada = normalizar(sql);
+		final int repeticoes = limiteRepeticoes;
+		for (; isReferencia(registro); registro = registro.getAnterior()) {
+			final EstatisticaConsulta estatistica = registro.registrar(normalizada, nanos, linhas);
+			if (estatistica.getExecucoes() == repeticoes + 1) {
+				if (!isReferencia(chamador)) {
+					chamador = obterChamador();
+				}
+				estatistica.setChamador(chamador);
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por registrar a leitura das linhas de uma consulta já registrada, chamado pelo {@link MonitorDataSource}
+	 * quando o <code>ResultSet</code> é fechado.
+	 * @author Wesley Luiz
+	 * @param sql - Instrução executada.
+	 * @param nanos - Tempo gasto buscando as linhas no <i>Banco de Dados</i>, em nanossegundos.
+	 * @param linhas - Linhas lidas.
+	 */
+	static void registrarLeitura(final String sql, final long nanos, final long linhas) {
+		if (nanos >= limiteLento * 1000000L) {
+			CONSULTAS_LENTAS.incrementAndGet();
+			LOGGER.warn("Leitura lenta (" + nanos / 1000000L + " ms, " + linhas + " linha(s)) em " + obterChamador() + ": " + sql);
+		}
+		RegistroConsultas registro = REGISTRO.get();
+		if (!isReferencia(registro) || (nanos == 0 && linhas == 0)) {
+			return;
+		}
+		final String normalizada = normalizar(sql);
+		for (; isReferencia(registro); registro = registro.getAnterior()) {
+			registro.registrarLeitura(normalizada, nanos, linhas);
+		}
+	}
+
+	/**
+	 * Método responsável por registrar em <i>log</i> as instruções repetidas de um registro encerrado e, no nível
+	 * <code>DEBUG</code>, o resumo das instruções executadas.
+	 * @author Wesley Luiz
+	 * @param registro - Registro da unidade de trabalho.
+	 */
+	public static void relatar(final RegistroConsultas registro) {
+		final List<EstatisticaConsulta> repetidas = registro.obterRepetidas(limiteRepeticoes);
+		if (!repetidas.isEmpty()) {
+			UNIDADES_REPETIDAS.incrementAndGet();
+			for (final EstatisticaConsulta estatistica : repetidas) {
+				LOGGER.warn("Possível consulta N+1 em " + registro.getDescricao() + ": " + estatistica);
+			}
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug(registro.toString());
+		}
+	}
+
+	/**
+	 * Método responsável por substituir os valores literais de uma instrução por <code>?</code>, reduzir as listas de parâmetros
+	 * a um único parâmetro e os espaços a um único espaço, de forma que instruções semelhantes sejam agrupadas.
+	 * @author Wesley Luiz
+	 * @param sql - Instrução executada.
+	 * @return Retorna a instrução normalizada.
+	 */
+	public static String normalizar(final String sql) {
+		String normalizada = NORMALIZADAS.get(sql);
+		if (!isReferencia(normalizada)) {
+			normalizada = TEXTO.matcher(sql).replaceAll("?");
+			normalizada = NUMERO.matcher(normalizada).replaceAll("?");
+			normalizada = LISTA.matcher(normalizada).replaceAll("(?)");
+			normalizada = ESPACOS.matcher(normalizada).replaceAll(" ").trim();
+			if (NORMALIZADAS.size() < LIMITE_NORMALIZADAS) {
+				NORMALIZADAS.put(sql, normalizada);
+			}
+		}
+		return normalizada;
+	}
+
+	/**
+	 * Método responsável por localizar na pilha de execução o primeiro método de uma classe que extende {@link Service}.
+	 * @author Wesley Luiz
+	 * @return Retorna o método encontrado, ou a origem mais próxima fora da infraestrutura de persistência.
+	 */
+	private static String obterChamador() {
+		final StackTraceElement[] pilha = new Throwable().getStackTrace();
+		for (final StackTraceElement elemento : pilha) {
+			if (isServico(elemento.getClassName())) {
+				return elemento.toString();
+			}
+		}
+		for (final StackTraceElement elemento : pilha) {
+			if (!isInfraestrutura(elemento.getClassName())) {
+				return elemento.toString();
+			}
+		}
+		return "origem desconhecida";
+	}
+
+	private static boolean isInfraestrutura(final String classe) {
+		if (classe.contains("$Proxy")) {
+			return true;
+		}
+		for (final String pacote : PACOTES_INFRAESTRUTURA) {
+			if (classe.startsWith(pacote)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isServico(final String classe) {
+		Boolean servico = SERVICOS.get(classe);
+		if (!isReferencia(servico)) {
+			try {
+				servico = !classe.contains("$$")
+						&& Service.class.isAssignableFrom(Class.forName(classe, false, Thread.currentThread().getContextClassLoader()));
+			} catch (final ClassNotFoundException | LinkageError e) {
+				servico = Boolean.FALSE;
+			}
+			SERVICOS.put(classe, servico);
+		}
+		return servico;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>habilitado</code>
+	 * @return <code>boolean</code>
+	 */
+	public static boolean isHabilitado() {
+		return habilitado;
+	}
+
+	/**
+	 * Define se o {@link MonitorDataSource} deve interceptar as novas conexões.
+	 * @param habilitado
+	 */
+	public static void setHabilitado(final boolean habilitado) {
+		MonitorConsultas.habilitado = habilitado;
+	}
+
+	/**
+	 * Retorna a duração, em milissegundos, a partir da qual uma instrução é registrada como lenta.
+	 * @return <code>long</code>
+	 */
+	public static long getLimiteLento() {
+		return limiteLento;
+	}
+
+	/**
+	 * Define o valor do atributo <code>limiteLento</code>, em milissegundos.
+	 * @param limiteLento
+	 */
+	public static void setLimiteLento(final long limiteLento) {
+		MonitorConsultas.limiteLento = limiteLento;
+	}
+
+	/**
+	 * Retorna a quantidade máxima de execuções de uma mesma instrução por unidade de trabalho antes que ela seja apontada
+	 * como repetida.
+	 * @return <code>int</code>
+	 */
+	public static int getLimiteRepeticoes() {
+		return limiteRepeticoes;
+	}
+
+	/**
+	 * Define o valor do atributo <code>limiteRepeticoes</code>.
+	 * @param limiteRepeticoes
+	 */
+	public static void setLimiteRepeticoes(final int limiteRepeticoes) {
+		MonitorConsultas.limiteRepeticoes = limiteRepeticoes;
+	}
+
+	/**
+	 * Retorna a quantidade de instruções registradas como lentas.
+	 * @return <code>long</code>
+	 */
+	public static long getConsultasLentas() {
+		return CONSULTAS_LENTAS.get();
+	}
+
+	/**
+	 * Retorna a quantidade de unidades de trabalho relatadas com instruções repetidas.
+	 * @return <code>long</code>
+	 */
+	public static long getUnidadesRepetidas() {
+		return UNIDADES_REPETIDAS.get();
+	}
+}
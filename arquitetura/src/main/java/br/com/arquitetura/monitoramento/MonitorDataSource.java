@@ -0,0 +1,268 @@
+package br.com.arquitetura.monitoramento;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * <code>DataSource</code> que intercepta as instruções executadas pelas conexões de outro <code>DataSource</code>, medindo a
+ * duração e a quantidade de linhas de cada instrução e repassando-as ao {@link MonitorConsultas}.<br>
+ * A duração da execução é contabilizada assim que o método <code>execute*</code> retorna. A leitura das linhas de um
+ * <code>ResultSet</code> é contabilizada separadamente quando o <code>ResultSet</code> ou o comando é fechado, somando apenas o
+ * tempo gasto em <code>next()</code>, de forma que o processamento da aplicação entre as linhas de um cursor não seja medido.
+ * Deve ser configurado entre o <code>EntityManagerFactory</code> e o <code>DataSource</code> utilizado pela aplicação, podendo
+ * envolver o {@link br.com.arquitetura.roteamento.RoteadorDataSource}. Exemplo de configuração:
+ * <pre>
+ * &lt;bean id="dataSource" class="br.com.arquitetura.monitoramento.MonitorDataSource"&gt;
+ * 	&lt;constructor-arg ref="dataSourceAplicacao" /&gt;
+ * &lt;/bean&gt;
+ * </pre>
+ * Enquanto {@link MonitorConsultas#isHabilitado()} for <code>false</code> as conexões são entregues sem interceptação.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class MonitorDataSource extends DelegatingDataSource {
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	public MonitorDataSource() {
+		super();
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param alvo - <code>DataSource</code> monitorado.
+	 */
+	public MonitorDataSource(final DataSource alvo) {
+		super(alvo);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return interceptar(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		return interceptar(super.getConnection(username, password));
+	}
+
+	private static Connection interceptar(final Connection conexao) {
+		if (!MonitorConsultas.isHabilitado()) {
+			return conexao;
+		}
+		return criarProxy(Connection.class, new InterceptadorConexao(conexao));
+	}
+
+	private static <T> T criarProxy(final Class<T> tipo, final InvocationHandler interceptador) {
+		return tipo.cast(Proxy.newProxyInstance(MonitorDataSource.class.getClassLoader(), new Class<?>[] { tipo }, interceptador));
+	}
+
+	private static Object invocar(final Object alvo, final Method metodo, final Object[] args) throws Throwable {
+		try {
+			return metodo.invoke(alvo, args);
+		} catch (final InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	/**
+	 * Leitura das linhas de uma consulta ainda não contabilizada.
+	 */
+	private static final class Leitura {
+
+		/** Atributo sql. */
+		private final String sql;
+
+		/** Atributo nanos. */
+		private long nanos;
+
+		/** Atributo linhas. */
+		private long linhas;
+
+		/** Atributo finalizada. */
+		private boolean finalizada;
+
+		Leitura(final String sql) {
+			this.sql = sql;
+		}
+
+		void finalizar() {
+			if (!finalizada) {
+				finalizada = true;
+				MonitorConsultas.registrarLeitura(sql, nanos, linhas);
+			}
+		}
+	}
+
+	/**
+	 * Intercepta a criação dos comandos de uma conexão.
+	 */
+	private static final class InterceptadorConexao implements InvocationHandler {
+
+		/** Atributo alvo. */
+		private final Connection alvo;
+
+		InterceptadorConexao(final Connection alvo) {
+			this.alvo = alvo;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) throws Throwable {
+			final Object resultado = invocar(alvo, metodo, args);
+			if (resultado instanceof Statement) {
+				final String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+				return criarProxy(metodo.getReturnType(), new InterceptadorComando((Statement) resultado, sql, (Connection) proxy));
+			}
+			return resultado;
+		}
+	}
+
+	/**
+	 * Intercepta as execuções de um comando.
+	 */
+	private static final class InterceptadorComando implements InvocationHandler {
+
+		/** Atributo alvo. */
+		private final Statement alvo;
+
+		/** Atributo sql. */
+		private final String sql;
+
+		/** Atributo conexao. */
+		private final Connection conexao;
+
+		/** Atributo sqlLote. */
+		private String sqlLote;
+
+		/** Atributo pendente. */
+		private Leitura pendente;
+
+		InterceptadorComando(final Statement alvo, final String sql, final Connection conexao) {
+			this.alvo = alvo;
+			this.sql = sql;
+			this.conexao = conexao;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) throws Throwable {
+			final String nome = metodo.getName();
+			if ("getConnection".equals(nome)) {
+				return conexao;
+			} else if ("addBatch".equals(nome) && args != null && args.length == 1) {
+				sqlLote = (String) args[0];
+			} else if ("close".equals(nome)) {
+				finalizarPendente();
+			} else if ("getResultSet".equals(nome)) {
+				final ResultSet resultado = (ResultSet) invocar(alvo, metodo, args);
+				return resultado != null && pendente != null ? interceptar(resultado, pendente, proxy) : resultado;
+			} else if (nome.startsWith("execute")) {
+				return executar(proxy, metodo, args);
+			}
+			return invocar(alvo, metodo, args);
+		}
+
+		private Object executar(final Object proxy, final Method metodo, final Object[] args) throws Throwable {
+			finalizarPendente();
+			String executada = sql;
+			if (args != null && args.length > 0 && args[0] instanceof String) {
+				executada = (String) args[0];
+			} else if (executada == null) {
+				executada = sqlLote;
+			}
+			executada = String.valueOf(executada);
+			final long inicio = System.nanoTime();
+			Object resultado = null;
+			try {
+				resultado = invocar(alvo, metodo, args);
+			} finally {
+				final long nanos = System.nanoTime() - inicio;
+				if (resultado instanceof ResultSet || Boolean.TRUE.equals(resultado)) {
+					MonitorConsultas.registrar(executada, nanos, 0);
+					pendente = new Leitura(executada);
+				} else {
+					MonitorConsultas.registrar(executada, nanos, contarAlteradas(resultado));
+				}
+			}
+			return resultado instanceof ResultSet ? interceptar((ResultSet) resultado, pendente, proxy) : resultado;
+		}
+
+		private long contarAlteradas(final Object resultado) {
+			long linhas = 0;
+			if (resultado instanceof Number) {
+				linhas = ((Number) resultado).longValue();
+			} else if (resultado instanceof int[]) {
+				for (final int quantidade : (int[]) resultado) {
+					linhas += Math.max(quantidade, 0);
+				}
+			} else if (Boolean.FALSE.equals(resultado)) {
+				try {
+					linhas = Math.max(alvo.getUpdateCount(), 0);
+				} catch (final SQLException e) {
+					linhas = 0;
+				}
+			}
+			return linhas;
+		}
+
+		private void finalizarPendente() {
+			if (pendente != null) {
+				pendente.finalizar();
+				pendente = null;
+			}
+		}
+
+		private static ResultSet interceptar(final ResultSet resultado, final Leitura leitura, final Object comando) {
+			return criarProxy(ResultSet.class, new InterceptadorResultado(resultado, leitura, (Statement) comando));
+		}
+	}
+
+	/**
+	 * Conta as linhas lidas de um <code>ResultSet</code> e o tempo gasto em <code>next()</code>.
+	 */
+	private static final class InterceptadorResultado implements InvocationHandler {
+
+		/** Atributo alvo. */
+		private final ResultSet alvo;
+
+		/** Atributo leitura. */
+		private final Leitura leitura;
+
+		/** Atributo comando. */
+		private final Statement comando;
+
+		InterceptadorResultado(final ResultSet alvo, final Leitura leitura, final Statement comando) {
+			this.alvo = alvo;
+			this.leitura = leitura;
+			this.comando = comando;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) throws Throwable {
+			final String nome = metodo.getName();
+			if ("next".equals(nome)) {
+				final long inicio = System.nanoTime();
+				final Object resultado = invocar(alvo, metodo, args);
+				leitura.nanos += System.nanoTime() - inicio;
+				if (Boolean.TRUE.equals(resultado)) {
+					leitura.linhas++;
+				}
+				return resultado;
+			} else if ("close".equals(nome)) {
+				leitura.finalizar();
+			} else if ("getStatement".equals(nome)) {
+				return comando;
+			}
+			return invocar(alvo, metodo, args);
+		}
+	}
+}
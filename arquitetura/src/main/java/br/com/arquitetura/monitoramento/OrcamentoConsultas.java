@@ -0,0 +1,117 @@
+package br.com.arquitetura.monitoramento;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Limita a quantidade de instruções <i>SQL</i> executadas por um trecho de código, utilizado em testes para impedir que
+ * consultas N+1 ou consultas desnecessárias voltem a ser introduzidas. Exemplo de uso em um teste:
+ * <pre>
+ * &#64;Test
+ * public void listarComEnderecos() {
+ * 	try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(2, 1)) {
+ * 		clienteService.listarComEnderecos();
+ * 	}
+ * }
+ * </pre>
+ * Ao ser fechado o orçamento lança um <code>AssertionError</code>, tratado como falha pelo <i>JUnit</i>, caso as instruções
+ * executadas ultrapassem os limites. Apenas as instruções executadas pelas conexões de um {@link MonitorDataSource} são
+ * contabilizadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class OrcamentoConsultas extends Objeto implements AutoCloseable {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo registro. */
+	private final RegistroConsultas registro;
+
+	/** Atributo maximoConsultas. */
+	private final int maximoConsultas;
+
+	/** Atributo maximoRepeticoes. */
+	private final int maximoRepeticoes;
+
+	/** Atributo encerrado. */
+	private boolean encerrado;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param maximoConsultas - Quantidade máxima de instruções.
+	 * @param maximoRepeticoes - Quantidade máxima de execuções de uma mesma instrução.
+	 */
+	private OrcamentoConsultas(final int maximoConsultas, final int maximoRepeticoes) {
+		super();
+		this.maximoConsultas = maximoConsultas;
+		this.maximoRepeticoes = maximoRepeticoes;
+		this.registro = MonitorConsultas.iniciar("orçamento de " + maximoConsultas + " consulta(s)");
+	}
+
+	/**
+	 * Método responsável por iniciar um orçamento na <i>thread</i> corrente.
+	 * @author Wesley Luiz
+	 * @param maximoConsultas - Quantidade máxima de instruções.
+	 * @return Retorna o orçamento iniciado.
+	 */
+	public static OrcamentoConsultas limitar(final int maximoConsultas) {
+		return new OrcamentoConsultas(maximoConsultas, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Método responsável por iniciar um orçamento na <i>thread</i> corrente, limitando também as repetições de cada instrução.
+	 * @author Wesley Luiz
+	 * @param maximoConsultas - Quantidade máxima de instruções.
+	 * @param maximoRepeticoes - Quantidade máxima de execuções de uma mesma instrução.
+	 * @return Retorna o orçamento iniciado.
+	 */
+	public static OrcamentoConsultas limitar(final int maximoConsultas, final int maximoRepeticoes) {
+		return new OrcamentoConsultas(maximoConsultas, maximoRepeticoes);
+	}
+
+	/**
+	 * Método responsável por verificar se as instruções executadas até o momento estão dentro dos limites.
+	 * @author Wesley Luiz
+	 * @throws AssertionError Caso algum limite tenha sido ultrapassado.
+	 */
+	public void verificar() {
+		if (registro.getConsultas() > maximoConsultas) {
+			throw new AssertionError("Esperado no máximo " + maximoConsultas + " consulta(s), executada(s) " + registro.getConsultas() + ":"
+					+ descrever());
+		}
+		if (!registro.obterRepetidas(maximoRepeticoes).isEmpty()) {
+			throw new AssertionError("Esperado no máximo " + maximoRepeticoes + " execução(ões) de cada consulta:" + descrever());
+		}
+	}
+
+	private String descrever() {
+		final StringBuilder descricao = new StringBuilder();
+		for (final EstatisticaConsulta estatistica : registro.getEstatisticas()) {
+			descricao.append("\n\t").append(estatistica);
+		}
+		return descricao.toString();
+	}
+
+	/**
+	 * Método responsável por encerrar o orçamento e verificar os limites.
+	 * @author Wesley Luiz
+	 * @throws AssertionError Caso algum limite tenha sido ultrapassado.
+	 */
+	@Override
+	public void close() {
+		if (!encerrado) {
+			encerrado = true;
+			MonitorConsultas.encerrar(registro);
+			verificar();
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>registro</code>
+	 * @return <code>RegistroConsultas</code>
+	 */
+	public RegistroConsultas getRegistro() {
+		return registro;
+	}
+}
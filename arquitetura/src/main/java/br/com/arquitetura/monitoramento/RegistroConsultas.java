@@ -0,0 +1,186 @@
+package br.com.arquitetura.monitoramento;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Registra as instruções <i>SQL</i> executadas por uma unidade de trabalho, como uma requisição ou um {@link OrcamentoConsultas},
+ * agrupadas pela instrução normalizada.<br>
+ * Um registro pode receber as instruções das <i>threads</i> auxiliares da sua unidade de trabalho, através de
+ * {@link MonitorConsultas#propagar(java.util.concurrent.Callable)}, portanto os seus métodos são sincronizados. Um registro
+ * iniciado dentro de outro também contabiliza as suas instruções no registro anterior.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see MonitorConsultas
+ */
+public class RegistroConsultas extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo descricao. */
+	private final String descricao;
+
+	/** Atributo anterior. */
+	private final RegistroConsultas anterior;
+
+	/** Atributo estatisticas. */
+	private final Map<String, EstatisticaConsulta> estatisticas = new LinkedHashMap<String, EstatisticaConsulta>();
+
+	/** Atributo inicio. */
+	private final long inicio = System.nanoTime();
+
+	/** Atributo consultas. */
+	private int consultas;
+
+	/** Atributo linhas. */
+	private long linhas;
+
+	/** Atributo tempoConsultas. */
+	private long tempoConsultas;
+
+	/** Atributo tempoLeitura. */
+	private long tempoLeitura;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param descricao - Descrição da unidade de trabalho, como o endereço da requisição.
+	 * @param anterior - Registro ativo quando este foi iniciado, ou <code>null</code>.
+	 */
+	RegistroConsultas(final String descricao, final RegistroConsultas anterior) {
+		super();
+		this.descricao = descricao;
+		this.anterior = anterior;
+	}
+
+	/**
+	 * Método responsável por registrar uma execução de instrução.
+	 * @author Wesley Luiz
+	 * @param sql - Instrução normalizada.
+	 * @param nanos - Duração da execução, em nanossegundos.
+	 * @param quantidadeLinhas - Linhas lidas ou alteradas.
+	 * @return Retorna as estatísticas acumuladas da instrução neste registro.
+	 */
+	synchronized EstatisticaConsulta registrar(final String sql, final long nanos, final long quantidadeLinhas) {
+		final EstatisticaConsulta estatistica = obterEstatistica(sql);
+		estatistica.registrar(nanos, quantidadeLinhas);
+		consultas++;
+		linhas += quantidadeLinhas;
+		tempoConsultas += nanos;
+		return estatistica;
+	}
+
+	/**
+	 * Método responsável por registrar a leitura das linhas de uma consulta.
+	 * @author Wesley Luiz
+	 * @param sql - Instrução normalizada.
+	 * @param nanos - Tempo gasto buscando as linhas, em nanossegundos.
+	 * @param quantidadeLinhas - Linhas lidas.
+	 */
+	synchronized void registrarLeitura(final String sql, final long nanos, final long quantidadeLinhas) {
+		obterEstatistica(sql).registrarLeitura(nanos, quantidadeLinhas);
+		linhas += quantidadeLinhas;
+		tempoLeitura += nanos;
+	}
+
+	private EstatisticaConsulta obterEstatistica(final String sql) {
+		EstatisticaConsulta estatistica = estatisticas.get(sql);
+		if (estatistica == null) {
+			estatistica = new EstatisticaConsulta(sql);
+			estatisticas.put(sql, estatistica);
+		}
+		return estatistica;
+	}
+
+	/**
+	 * Método responsável por obter as instruções executadas mais vezes que o limite informado, que indicam consultas feitas
+	 * dentro de laços <i>(N+1)</i>.
+	 * @author Wesley Luiz
+	 * @param limite - Quantidade máxima de execuções aceitas para uma mesma instrução.
+	 * @return Retorna as estatísticas das instruções repetidas.
+	 */
+	public synchronized List<EstatisticaConsulta> obterRepetidas(final int limite) {
+		final List<EstatisticaConsulta> repetidas = new ArrayList<EstatisticaConsulta>();
+		for (final EstatisticaConsulta estatistica : estatisticas.values()) {
+			if (estatistica.getExecucoes() > limite) {
+				repetidas.add(estatistica);
+			}
+		}
+		return repetidas;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return descricao + ": " + consultas + " consulta(s) em " + getTempoConsultas() + " ms, " + linhas + " linha(s) lida(s) em " + getTempoLeitura()
+				+ " ms, " + getTempoDecorrido() + " ms no total";
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>descricao</code>
+	 * @return <code>String</code>
+	 */
+	public String getDescricao() {
+		return descricao;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>anterior</code>
+	 * @return <code>RegistroConsultas</code>
+	 */
+	RegistroConsultas getAnterior() {
+		return anterior;
+	}
+
+	/**
+	 * Retorna as estatísticas de cada instrução, na ordem da primeira execução.
+	 * @return <code>Collection&lt;EstatisticaConsulta&gt;</code>
+	 */
+	public synchronized Collection<EstatisticaConsulta> getEstatisticas() {
+		return new ArrayList<EstatisticaConsulta>(estatisticas.values());
+	}
+
+	/**
+	 * Retorna a quantidade de instruções executadas.
+	 * @return <code>int</code>
+	 */
+	public synchronized int getConsultas() {
+		return consultas;
+	}
+
+	/**
+	 * Retorna a quantidade de linhas lidas ou alteradas.
+	 * @return <code>long</code>
+	 */
+	public synchronized long getLinhas() {
+		return linhas;
+	}
+
+	/**
+	 * Retorna a soma das durações das execuções das instruções, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public synchronized long getTempoConsultas() {
+		return tempoConsultas / 1000000L;
+	}
+
+	/**
+	 * Retorna a soma dos tempos de leitura das linhas das consultas, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public synchronized long getTempoLeitura() {
+		return tempoLeitura / 1000000L;
+	}
+
+	/**
+	 * Retorna o tempo decorrido desde o início do registro, em milissegundos.
+	 * @return <code>long</code>
+	 */
+	public long getTempoDecorrido() {
+		return (System.nanoTime() - inicio) / 1000000L;
+	}
+}
@@ -2,10 +2,10 @@ package br.com.arquitetura.objeto;
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.Locale;
 import javax.faces.application.FacesMessage;
 import javax.faces.application.FacesMessage.Severity;
 import javax.faces.context.FacesContext;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
 import br.com.arquitetura.bundle.Bundle;
 
 /**
@@ -20,7 +20,7 @@ public abstract class Objeto implements Serializable {
 
 	/** Atributo serialVersionUID. */
 	private static final long serialVersionUID = 1L;
-	
+	
 	/**
 	 * Método responsável por exibir uma mensagem na tela após alguma operação que seja necessário retornar alguma informação ao usuário.
 	 * 
@@ -75,6 +75,26 @@ public abstract class Objeto implements Serializable {
 		context.addMessage(null, new FacesMessage(severity, summary, detail));
 	}
 
+	/**
+	 * Método responsável por exibir uma mensagem através do {@link br.com.arquitetura.ambiente.CanalMensagem} configurado em
+	 * {@link AmbienteExecucao}. Em uma aplicação <i>web</i> a mensagem é adicionada ao <code>FacesContext</code> corrente e,
+	 * fora dela, ao canal configurado para a rotina em execução. Exemplo:
+	 * 
+	 * <pre>
+	 * public void exemploMensagem() {
+	 *	notificar(Bundle.GRAVIDADE_INFORMATIVO, getMensagem("msg.exemplo"), null);
+	 * }</pre>
+	 * 
+	 * @author Wesley Luiz
+	 * @param severity - Objeto pela qual exibe a gravidade da mensagem retornada.
+	 * @param summary - <code>String</code> que pela qual leva a mensagem que vai ser apresentada.
+	 * @param detail - Detalhes da mensagem, pode ser <code>null</code>.
+	 * @see Severity
+	 */
+	protected static void notificar(final Severity severity, final String summary, final String detail) {
+		AmbienteExecucao.getCanalMensagem().exibir(severity, summary, detail);
+	}
+
 	/**
 	 * Método responsável por obter uma mensagem de um arquivo de mensagens apartir de uma <b>chave</b>.<br>
 	 * Essa chave nada mais é do que a referencia a uma determinada mensagem do arquivo <i>.properties</i>.
@@ -83,7 +103,19 @@ public abstract class Objeto implements Serializable {
 	 * @return Retorna um objeto do tipo <code>String</code> com a mensagem obtida.
 	 */
 	protected String getMensagem(final String key) {
-		return isReferencia(key) ? Bundle.getResourceBundle(new Locale(Bundle.LANGUAGE_PT, Bundle.COUNTRY_BR)).getString(key) : null;
+		return isReferencia(key) ? Bundle.getMensagem(Bundle.LOCALE_PADRAO, key) : null;
+	}
+
+	/**
+	 * Método responsável por obter uma mensagem de um arquivo de mensagens apartir de uma <b>chave</b>, substituindo os
+	 * argumentos <i>{0}, {1}...</i> da mensagem pelos valores informados.
+	 * @author Wesley Luiz
+	 * @param key - Recebe uma <code>String</code> referente a chave da mensagem do arquivo de mensagens.
+	 * @param argumentos - Valores que substituem os argumentos da mensagem.
+	 * @return Retorna um objeto do tipo <code>String</code> com a mensagem obtida.
+	 */
+	protected String getMensagem(final String key, final Object... argumentos) {
+		return isReferencia(key) ? Bundle.getMensagem(Bundle.LOCALE_PADRAO, key, argumentos) : null;
 	}
 
 	/**
@@ -0,0 +1,33 @@
+package br.com.arquitetura.referencia;
+
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.evento.EventoEntidade;
+import br.com.arquitetura.evento.OuvinteEntidade;
+
+/**
+ * Ouvinte que mantém os <i>caches</i> registrados no {@link RegistroReferencias} atualizados com as alterações confirmadas.<br>
+ * A <code>Entidade</code> do evento é a instância editada pela requisição; o {@link CacheReferencia} guarda uma cópia dela, e as
+ * edições posteriores da mesma instância não ficam visíveis para as demais requisições.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.evento.BarramentoEventos
+ */
+public class AtualizadorReferencias implements OuvinteEntidade {
+
+	@Override
+	public void notificar(final EventoEntidade evento) {
+		final CacheReferencia<Entidade> cache = RegistroReferencias.obter(evento.getClasse());
+		if (cache == null) {
+			return;
+		}
+		if (evento.getOperacao() == EnumOperacao.REMOCAO) {
+			cache.remover(evento.getId());
+		} else if (evento.getEntidade() != null) {
+			cache.atualizar(evento.getEntidade());
+		} else {
+			cache.invalidar();
+		}
+	}
+}
@@ -0,0 +1,291 @@
+package br.com.arquitetura.referencia;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.serializacao.SerializadorCompacto;
+
+/**
+ * Mantém em memória todas as entidades de uma tabela de dados de referência, como cidades, categorias e tipos, devolvidas pelo
+ * {@link br.com.arquitetura.service.Service#listar()} sem consultar o <i>Banco de Dados</i> após a primeira carga.<br>
+ * As inclusões, alterações e remoções confirmadas são aplicadas pelo {@link AtualizadorReferencias}, e o conteúdo pode ser gravado
+ * em disco e restaurado na inicialização através do {@link InstantaneoReferencias}. Cada alteração incrementa a {@link #getVersao()
+ * versão} do <i>cache</i>, de forma que uma carga feita em paralelo a uma alteração seja descartada em vez de sobrescrevê-la.<br>
+ * O conteúdo é mantido serializado, e cada chamada de {@link #listar()} recebe as próprias cópias das entidades: as instâncias
+ * carregadas pela requisição, com a <i>Sessão</i> e as associações <i>lazy</i> dela, nunca são compartilhadas, e as alterações
+ * feitas por uma requisição antes de salvar não são vistas pelas demais.<br>
+ * O {@link AtualizadorReferencias} recebe apenas os eventos publicados nesta JVM: em uma implantação com vários nós, as alterações
+ * confirmadas por outro nó só são vistas quando o conteúdo expira, após o {@link #getTempoValidade() tempo de validade}, e é
+ * carregado novamente do <i>Banco de Dados</i>. O tempo de validade deve ser ajustado ao atraso aceitável para os dados da tabela.
+ *
+ * @author Wesley Luiz
+ * @param <E> - Tipo da <code>Entidade</code>.
+ * @version 1.0.0
+ * @see RegistroReferencias
+ */
+public final class CacheReferencia<E extends Entidade> extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(CacheReferencia.class);
+
+	/** Constante TEMPO_VALIDADE_PADRAO. */
+	public static final long TEMPO_VALIDADE_PADRAO = 600000;
+
+	/** Atributo classe. */
+	private final Class<E> classe;
+
+	/** Atributo entidades. */
+	private volatile List<E> entidades;
+
+	/** Atributo dados. */
+	private volatile byte[] dados;
+
+	/** Atributo versao. */
+	private volatile long versao;
+
+	/** Atributo carregamento. */
+	private volatile long carregamento;
+
+	/** Atributo tempoValidade. */
+	private volatile long tempoValidade = TEMPO_VALIDADE_PADRAO;
+
+	/** Atributo expiracoes. */
+	private final AtomicLong expiracoes = new AtomicLong();
+
+	/** Atributo acertos. */
+	private final AtomicLong acertos = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe da <code>Entidade</code>.
+	 */
+	public CacheReferencia(final Class<E> classe) {
+		super();
+		this.classe = classe;
+	}
+
+	/**
+	 * Método responsável por obter as entidades do <i>cache</i>. Cada chamada recebe as próprias cópias, lidas da forma
+	 * serializada mantida pelo <i>cache</i>, de forma que as alterações feitas pela requisição não são vistas pelas demais.
+	 * @author Wesley Luiz
+	 * @return Retorna uma nova lista com as entidades, ou <code>null</code> caso o <i>cache</i> ainda não tenha sido carregado
+	 *         ou o conteúdo tenha expirado.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> listar() {
+		final byte[] atuais = dados;
+		if (!isReferencia(atuais)) {
+			return null;
+		}
+		if (isExpirado()) {
+			expiracoes.incrementAndGet();
+			return null;
+		}
+		try {
+			final List<E> copias = (List<E>) SerializadorCompacto.desserializar(atuais);
+			acertos.incrementAndGet();
+			return copias;
+		} catch (final IOException e) {
+			LOGGER.warn("Conteúdo do cache de " + classe.getSimpleName() + " ilegível, consultando o Banco de Dados: " + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Método responsável por substituir todo o conteúdo do <i>cache</i>, desde que nenhuma alteração tenha sido aplicada desde
+	 * que a versão informada foi obtida. O <i>cache</i> guarda cópias das entidades, e as instâncias informadas continuam
+	 * pertencendo a quem as carregou.
+	 * @author Wesley Luiz
+	 * @param carregadas - Entidades lidas do <i>Banco de Dados</i> ou de um instantâneo.
+	 * @param versaoLeitura - Versão do <i>cache</i> obtida antes da leitura das entidades.
+	 * @return Retorna <code>true</code> caso o conteúdo tenha sido substituído.
+	 */
+	public synchronized boolean substituir(final List<E> carregadas, final long versaoLeitura) {
+		if (versao != versaoLeitura || !armazenar(new ArrayList<E>(carregadas))) {
+			return false;
+		}
+		carregamento = System.currentTimeMillis();
+		versao++;
+		return true;
+	}
+
+	/**
+	 * Método responsável por incluir ou substituir uma <code>Entidade</code>, pelo identificador, em um <i>cache</i> carregado.
+	 * O <i>cache</i> guarda uma cópia da instância informada.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> incluída ou alterada.
+	 */
+	public synchronized void atualizar(final E entidade) {
+		versao++;
+		if (!isReferencia(entidades)) {
+			return;
+		}
+		final ArrayList<E> novas = new ArrayList<E>(entidades);
+		final int posicao = localizar(novas, entidade.getId());
+		if (posicao < 0) {
+			novas.add(entidade);
+		} else {
+			novas.set(posicao, entidade);
+		}
+		if (!armazenar(novas)) {
+			descartar();
+		}
+	}
+
+	/**
+	 * Método responsável por remover uma <code>Entidade</code>, pelo identificador, de um <i>cache</i> carregado.
+	 * @author Wesley Luiz
+	 * @param id - Identificador da <code>Entidade</code> removida.
+	 */
+	public synchronized void remover(final Integer id) {
+		versao++;
+		if (!isReferencia(entidades)) {
+			return;
+		}
+		final int posicao = localizar(entidades, id);
+		if (posicao >= 0) {
+			final ArrayList<E> novas = new ArrayList<E>(entidades);
+			novas.remove(posicao);
+			if (!armazenar(novas)) {
+				descartar();
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por descartar o conteúdo do <i>cache</i>, que volta a ser carregado na próxima consulta.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void invalidar() {
+		versao++;
+		descartar();
+	}
+
+	private void descartar() {
+		dados = null;
+		entidades = null;
+	}
+
+	/**
+	 * Método responsável por guardar a forma serializada das entidades e uma cópia desvinculada delas, utilizada nas
+	 * alterações e na gravação do instantâneo.
+	 * @author Wesley Luiz
+	 * @param novas - Novo conteúdo do <i>cache</i>.
+	 * @return Retorna <code>false</code> caso alguma <code>Entidade</code> não possa ser serializada, mantendo o conteúdo anterior.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean armazenar(final ArrayList<E> novas) {
+		try {
+			final byte[] serializadas = SerializadorCompacto.serializar(novas);
+			entidades = Collections.unmodifiableList((List<E>) SerializadorCompacto.desserializar(serializadas));
+			dados = serializadas;
+			return true;
+		} catch (final IOException e) {
+			LOGGER.warn("Entidades de " + classe.getSimpleName() + " não serializáveis, cache descartado: " + e);
+			return false;
+		}
+	}
+
+	private static int localizar(final List<? extends Entidade> lista, final Integer id) {
+		if (isReferencia(id)) {
+			for (int i = 0; i < lista.size(); i++) {
+				if (id.equals(lista.get(i).getId())) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class<E></code>
+	 */
+	public Class<E> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna as cópias mantidas pelo <i>cache</i>, que não devem ser alteradas, ou <code>null</code> caso ainda não tenha sido carregado.
+	 * @return <code>List<E></code>
+	 */
+	List<E> getEntidades() {
+		return entidades;
+	}
+
+	/**
+	 * Retorna se o <i>cache</i> foi carregado.
+	 * @return <code>boolean</code>
+	 */
+	public boolean isCarregado() {
+		return isReferencia(entidades);
+	}
+
+	/**
+	 * Retorna se o conteúdo foi carregado há mais tempo que o tempo de validade.
+	 * @return <code>boolean</code>
+	 */
+	public boolean isExpirado() {
+		final long validade = tempoValidade;
+		return validade > 0 && System.currentTimeMillis() - carregamento > validade;
+	}
+
+	/**
+	 * Retorna o tempo, em milissegundos, que o conteúdo carregado é utilizado antes de ser lido novamente do <i>Banco de Dados</i>.
+	 * @return <code>long</code>
+	 */
+	public long getTempoValidade() {
+		return tempoValidade;
+	}
+
+	/**
+	 * Define o valor do atributo <code>tempoValidade</code>, em milissegundos. Com zero o conteúdo não expira, o que é seguro
+	 * apenas quando a aplicação é executada em um único nó.
+	 * @param tempoValidade
+	 */
+	public void setTempoValidade(final long tempoValidade) {
+		this.tempoValidade = tempoValidade;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>versao</code>
+	 * @return <code>long</code>
+	 */
+	public long getVersao() {
+		return versao;
+	}
+
+	/**
+	 * Retorna a quantidade de consultas atendidas pelo <i>cache</i>.
+	 * @return <code>long</code>
+	 */
+	public long getAcertos() {
+		return acertos.get();
+	}
+
+	/**
+	 * Retorna a quantidade de consultas que encontraram o conteúdo expirado.
+	 * @return <code>long</code>
+	 */
+	public long getExpiracoes() {
+		return expiracoes.get();
+	}
+
+	/**
+	 * Retorna a quantidade de entidades no <i>cache</i>.
+	 * @return <code>int</code>
+	 */
+	public int getQuantidade() {
+		final List<E> atuais = entidades;
+		return isReferencia(atuais) ? atuais.size() : 0;
+	}
+}
@@ -0,0 +1,56 @@
+package br.com.arquitetura.referencia;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * <code>InputStream</code> que lê diretamente de um <code>ByteBuffer</code>, permitindo desserializar um arquivo mapeado em
+ * memória sem copiá-lo para a <i>heap</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class EntradaMapeada extends InputStream {
+
+	/** Atributo buffer. */
+	private final ByteBuffer buffer;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param buffer - Dados a serem lidos, a partir da posição atual.
+	 */
+	EntradaMapeada(final ByteBuffer buffer) {
+		super();
+		this.buffer = buffer;
+	}
+
+	@Override
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(final byte[] destino, final int inicio, final int tamanho) {
+		if (tamanho == 0) {
+			return 0;
+		}
+		if (!buffer.hasRemaining()) {
+			return -1;
+		}
+		final int lidos = Math.min(tamanho, buffer.remaining());
+		buffer.get(destino, inicio, lidos);
+		return lidos;
+	}
+
+	@Override
+	public long skip(final long quantidade) {
+		final int ignorados = (int) Math.max(0, Math.min(quantidade, buffer.remaining()));
+		buffer.position(buffer.position() + ignorados);
+		return ignorados;
+	}
+
+	@Override
+	public int available() {
+		return buffer.remaining();
+	}
+}
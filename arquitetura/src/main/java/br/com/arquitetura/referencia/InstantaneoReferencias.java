@@ -0,0 +1,478 @@
+package br.com.arquitetura.referencia;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.serializacao.SerializadorCompacto;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Grava em disco o conteúdo dos {@link CacheReferencia}(s) e os restaura na inicialização da aplicação, evitando que cada nó
+ * consulte todas as tabelas de referência no <i>Banco de Dados</i> logo após uma implantação.<br>
+ * Cada <i>cache</i> é gravado em um arquivo próprio, com um cabeçalho contendo a versão da aplicação, a quantidade de entidades e
+ * o <i>CRC32</i> do conteúdo, seguido dos atributos de cada entidade no formato do {@link SerializadorCompacto}.
+ * Na restauração o arquivo é mapeado em memória e descartado caso a versão da aplicação, a quantidade, o <i>CRC32</i> ou os
+ * atributos da classe não correspondam ao que foi gravado. Em seguida, em uma <i>thread</i> própria, cada <i>cache</i> é
+ * reconciliado com o <i>Banco de Dados</i> através do {@link Service#listarSemCache()}. Exemplo de configuração:
+ * <pre>
+ * final InstantaneoReferencias instantaneo = new InstantaneoReferencias(new File("/var/cache/aplicacao"), "2.3.0");
+ * instantaneo.adicionar(new CacheReferencia&lt;Cidade&gt;(Cidade.class), cidadeService);
+ * instantaneo.setIntervaloGravacao(600000);
+ * instantaneo.iniciar();
+ * ...
+ * instantaneo.encerrar();
+ * </pre>
+ * O método {@link #encerrar()} grava os <i>caches</i> e pode ser configurado como <code>destroy-method</code> do <i>bean</i>.
+ * As entidades de referência não devem possuir associações <i>lazy</i>, que seriam restauradas sem <i>Sessão</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see RegistroReferencias
+ */
+public class InstantaneoReferencias {
+
+	/** Constante MAGICO. */
+	private static final int MAGICO = 0x52454631;
+
+	/** Constante VERSAO_FORMATO. */
+	private static final short VERSAO_FORMATO = 1;
+
+	/** Constante EXTENSAO. */
+	private static final String EXTENSAO = ".ref";
+
+	/** Constante TENTATIVAS. */
+	private static final int TENTATIVAS = 3;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(InstantaneoReferencias.class);
+
+	/** Atributo diretorio. */
+	private final File diretorio;
+
+	/** Atributo versaoAplicacao. */
+	private final String versaoAplicacao;
+
+	/** Atributo fontes. */
+	private final List<Fonte<?>> fontes = new CopyOnWriteArrayList<Fonte<?>>();
+
+	/** Atributo intervaloGravacao. */
+	private long intervaloGravacao;
+
+	/** Atributo agendador. */
+	private ScheduledExecutorService agendador;
+
+	/** Atributo restaurados. */
+	private final AtomicLong restaurados = new AtomicLong();
+
+	/** Atributo tempoRestauracao. */
+	private final AtomicLong tempoRestauracao = new AtomicLong();
+
+	/** Atributo reconciliados. */
+	private final AtomicLong reconciliados = new AtomicLong();
+
+	/** Atributo gravados. */
+	private final AtomicLong gravados = new AtomicLong();
+
+	/** Atributo falhas. */
+	private final AtomicLong falhas = new AtomicLong();
+
+	/**
+	 * <i>Cache</i> acompanhado do <i>Serviço</i> utilizado para reconciliá-lo.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 */
+	private static final class Fonte<E extends Entidade> {
+
+		/** Atributo cache. */
+		private final CacheReferencia<E> cache;
+
+		/** Atributo service. */
+		private final Service<?, E> service;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 * @param cache - <i>Cache</i> das entidades.
+		 * @param service - <i>Serviço</i> da <code>Entidade</code>.
+		 */
+		private Fonte(final CacheReferencia<E> cache, final Service<?, E> service) {
+			this.cache = cache;
+			this.service = service;
+		}
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorio - Diretório local dos arquivos.
+	 * @param versaoAplicacao - Versão da aplicação. Os arquivos gravados por outra versão são descartados.
+	 */
+	public InstantaneoReferencias(final File diretorio, final String versaoAplicacao) {
+		this.diretorio = diretorio;
+		this.versaoAplicacao = versaoAplicacao;
+	}
+
+	/**
+	 * Método responsável por incluir um <i>cache</i> no instantâneo, registrando-o no {@link RegistroReferencias}.
+	 * @author Wesley Luiz
+	 * @param cache - <i>Cache</i> das entidades.
+	 * @param service - <i>Serviço</i> utilizado na reconciliação com o <i>Banco de Dados</i>.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 */
+	public <E extends Entidade> void adicionar(final CacheReferencia<E> cache, final Service<?, E> service) {
+		RegistroReferencias.registrar(cache);
+		fontes.add(new Fonte<E>(cache, service));
+	}
+
+	/**
+	 * Método responsável por restaurar os <i>caches</i> gravados e iniciar a <i>thread</i> que os reconcilia com o <i>Banco de Dados</i>
+	 * e, caso o intervalo de gravação seja maior que zero, os grava periodicamente.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void iniciar() {
+		if (agendador != null) {
+			return;
+		}
+		restaurar();
+		agendador = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable tarefa) {
+				final Thread thread = new Thread(tarefa, "instantaneo-referencias");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		agendador.execute(new Runnable() {
+			@Override
+			public void run() {
+				reconciliar();
+			}
+		});
+		if (intervaloGravacao > 0) {
+			agendador.scheduleWithFixedDelay(new Runnable() {
+				@Override
+				public void run() {
+					gravar();
+				}
+			}, intervaloGravacao, intervaloGravacao, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Método responsável por interromper a <i>thread</i> do instantâneo e gravar os <i>caches</i> carregados.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void encerrar() {
+		if (agendador != null) {
+			agendador.shutdownNow();
+			try {
+				agendador.awaitTermination(10, TimeUnit.SECONDS);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			agendador = null;
+		}
+		gravar();
+	}
+
+	/**
+	 * Método responsável por restaurar os <i>caches</i> a partir dos arquivos gravados. Os arquivos inexistentes ou inválidos
+	 * são ignorados e o <i>cache</i> correspondente é carregado na primeira consulta ou na reconciliação.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de <i>caches</i> restaurados.
+	 */
+	public int restaurar() {
+		int quantidade = 0;
+		for (final Fonte<?> fonte : fontes) {
+			if (restaurar(fonte.cache)) {
+				quantidade++;
+			}
+		}
+		return quantidade;
+	}
+
+	private <E extends Entidade> boolean restaurar(final CacheReferencia<E> cache) {
+		final File arquivo = obterArquivo(cache);
+		if (!arquivo.isFile()) {
+			return false;
+		}
+		final long inicio = System.nanoTime();
+		final long versao = cache.getVersao();
+		try {
+			final List<E> entidades = ler(arquivo, cache.getClasse());
+			if (cache.substituir(entidades, versao)) {
+				final long milissegundos = (System.nanoTime() - inicio) / 1000000L;
+				restaurados.incrementAndGet();
+				tempoRestauracao.addAndGet(milissegundos);
+				LOGGER.info("Restaurado(s) " + entidades.size() + " registro(s) de " + cache.getClasse().getSimpleName() + " em " + milissegundos + " ms.");
+				return true;
+			}
+		} catch (final IOException | ClassNotFoundException e) {
+			falhas.incrementAndGet();
+			LOGGER.warn("Instantâneo " + arquivo + " descartado: " + e);
+		}
+		return false;
+	}
+
+	/**
+	 * Método responsável por ler as entidades de um arquivo, validando o cabeçalho e o conteúdo.
+	 * @author Wesley Luiz
+	 * @param arquivo - Arquivo gravado por {@link #gravar()}.
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 * @return Retorna as entidades lidas.
+	 * @throws IOException Lança uma exceção caso o arquivo seja inválido ou não corresponda à versão da aplicação.
+	 * @throws ClassNotFoundException Lança uma exceção caso a classe de algum valor não seja encontrada.
+	 */
+	private <E extends Entidade> List<E> ler(final File arquivo, final Class<E> classe) throws IOException, ClassNotFoundException {
+		final MappedByteBuffer mapeado;
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "r"); FileChannel canal = acesso.getChannel()) {
+			mapeado = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+		}
+
+		final DataInputStream cabecalho = new DataInputStream(new EntradaMapeada(mapeado));
+		if (cabecalho.readInt() != MAGICO || cabecalho.readShort() != VERSAO_FORMATO) {
+			throw new StreamCorruptedException("formato inválido");
+		}
+		final String versao = cabecalho.readUTF();
+		if (!versao.equals(versaoAplicacao)) {
+			throw new IOException("gravado pela versão " + versao);
+		}
+		if (!cabecalho.readUTF().equals(classe.getName())) {
+			throw new IOException("gravado para outra classe");
+		}
+		final int quantidade = cabecalho.readInt();
+		final int crc = cabecalho.readInt();
+		final int tamanho = cabecalho.readInt();
+		if (quantidade < 0 || tamanho != mapeado.remaining()) {
+			throw new StreamCorruptedException("tamanho inválido");
+		}
+
+		final ByteBuffer conteudo = mapeado.slice();
+		if (calcularCrc(conteudo.duplicate()) != crc) {
+			throw new StreamCorruptedException("CRC32 inválido");
+		}
+
+		final List<E> entidades = new ArrayList<E>(quantidade);
+		try (ObjectInputStream entrada = new ObjectInputStream(new EntradaMapeada(conteudo))) {
+			for (int i = 0; i < quantidade; i++) {
+				final E entidade = classe.getDeclaredConstructor().newInstance();
+				SerializadorCompacto.ler(entidade, entrada);
+				entidades.add(entidade);
+			}
+		} catch (final ReflectiveOperationException e) {
+			throw new InvalidClassException(classe.getName(), "sem construtor público sem argumentos");
+		}
+		return entidades;
+	}
+
+	private static int calcularCrc(final ByteBuffer conteudo) {
+		final CRC32 crc = new CRC32();
+		final byte[] bloco = new byte[8192];
+		while (conteudo.hasRemaining()) {
+			final int tamanho = Math.min(bloco.length, conteudo.remaining());
+			conteudo.get(bloco, 0, tamanho);
+			crc.update(bloco, 0, tamanho);
+		}
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Método responsável por gravar os <i>caches</i> carregados, substituindo os arquivos anteriores.
+	 * @author Wesley Luiz
+	 * @return Retorna a quantidade de <i>caches</i> gravados.
+	 */
+	public int gravar() {
+		if (!diretorio.isDirectory() && !diretorio.mkdirs()) {
+			LOGGER.warn("Diretório " + diretorio + " indisponível para os instantâneos.");
+			return 0;
+		}
+		int quantidade = 0;
+		for (final Fonte<?> fonte : fontes) {
+			final List<? extends Entidade> entidades = fonte.cache.getEntidades();
+			if (entidades == null) {
+				continue;
+			}
+			try {
+				gravar(fonte.cache, entidades);
+				gravados.incrementAndGet();
+				quantidade++;
+			} catch (final IOException e) {
+				falhas.incrementAndGet();
+				LOGGER.warn("Falha ao gravar o instantâneo de " + fonte.cache.getClasse().getSimpleName() + ": " + e);
+			}
+		}
+		return quantidade;
+	}
+
+	/**
+	 * Método responsável por gravar as entidades de um <i>cache</i> em um arquivo temporário, que substitui o arquivo anterior
+	 * apenas após ser completamente gravado.
+	 * @author Wesley Luiz
+	 * @param cache - <i>Cache</i> das entidades.
+	 * @param entidades - Entidades do <i>cache</i>.
+	 * @throws IOException Lança uma exceção caso ocorra um erro na gravação.
+	 */
+	private void gravar(final CacheReferencia<?> cache, final List<? extends Entidade> entidades) throws IOException {
+		final ByteArrayOutputStream conteudo = new ByteArrayOutputStream();
+		try (ObjectOutputStream saida = new ObjectOutputStream(conteudo)) {
+			for (final Entidade entidade : entidades) {
+				SerializadorCompacto.escrever(entidade, saida);
+			}
+		}
+		final byte[] bytes = conteudo.toByteArray();
+		final CRC32 crc = new CRC32();
+		crc.update(bytes);
+
+		final File arquivo = obterArquivo(cache);
+		final File temporario = new File(diretorio, arquivo.getName() + ".tmp");
+		try (FileOutputStream fluxo = new FileOutputStream(temporario); DataOutputStream saida = new DataOutputStream(fluxo)) {
+			saida.writeInt(MAGICO);
+			saida.writeShort(VERSAO_FORMATO);
+			saida.writeUTF(versaoAplicacao);
+			saida.writeUTF(cache.getClasse().getName());
+			saida.writeInt(entidades.size());
+			saida.writeInt((int) crc.getValue());
+			saida.writeInt(bytes.length);
+			saida.write(bytes);
+			saida.flush();
+			fluxo.getFD().sync();
+		}
+		Files.move(temporario.toPath(), arquivo.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Método responsável por substituir o conteúdo de cada <i>cache</i> pelas entidades lidas do <i>Banco de Dados</i>. Caso uma
+	 * alteração seja aplicada ao <i>cache</i> durante a leitura, a leitura é repetida e, esgotadas as tentativas, o <i>cache</i> é
+	 * descartado para ser carregado na próxima consulta, em vez de manter o conteúdo restaurado do arquivo.
+	 * @author Wesley Luiz
+	 */
+	public void reconciliar() {
+		for (final Fonte<?> fonte : fontes) {
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			try {
+				reconciliar(fonte);
+			} catch (final RuntimeException e) {
+				falhas.incrementAndGet();
+				LOGGER.warn("Falha ao reconciliar " + fonte.cache.getClasse().getSimpleName() + " com o Banco de Dados: " + e);
+			}
+		}
+	}
+
+	private <E extends Entidade> void reconciliar(final Fonte<E> fonte) {
+		for (int tentativa = 0; tentativa < TENTATIVAS; tentativa++) {
+			final long versao = fonte.cache.getVersao();
+			final int anteriores = fonte.cache.getQuantidade();
+			final List<E> entidades = fonte.service.listarSemCache();
+			if (fonte.cache.substituir(entidades, versao)) {
+				reconciliados.incrementAndGet();
+				LOGGER.info("Reconciliado(s) " + entidades.size() + " registro(s) de " + fonte.cache.getClasse().getSimpleName() + ", "
+						+ anteriores + " no cache.");
+				return;
+			}
+		}
+		fonte.cache.invalidar();
+		LOGGER.warn("Reconciliação de " + fonte.cache.getClasse().getSimpleName() + " interrompida por alterações concorrentes, cache descartado.");
+	}
+
+	private File obterArquivo(final CacheReferencia<?> cache) {
+		return new File(diretorio, cache.getClasse().getName() + EXTENSAO);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>diretorio</code>
+	 * @return <code>File</code>
+	 */
+	public File getDiretorio() {
+		return diretorio;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>versaoAplicacao</code>
+	 * @return <code>String</code>
+	 */
+	public String getVersaoAplicacao() {
+		return versaoAplicacao;
+	}
+
+	/**
+	 * Retorna o intervalo, em milissegundos, entre as gravações periódicas.
+	 * @return <code>long</code>
+	 */
+	public long getIntervaloGravacao() {
+		return intervaloGravacao;
+	}
+
+	/**
+	 * Define o valor do atributo <code>intervaloGravacao</code>, em milissegundos. Com zero os <i>caches</i> são gravados apenas
+	 * no encerramento.
+	 * @param intervaloGravacao
+	 */
+	public void setIntervaloGravacao(final long intervaloGravacao) {
+		this.intervaloGravacao = intervaloGravacao;
+	}
+
+	/**
+	 * Retorna a quantidade de <i>caches</i> restaurados a partir dos arquivos.
+	 * @return <code>long</code>
+	 */
+	public long getRestaurados() {
+		return restaurados.get();
+	}
+
+	/**
+	 * Retorna o tempo total, em milissegundos, gasto nas restaurações.
+	 * @return <code>long</code>
+	 */
+	public long getTempoRestauracao() {
+		return tempoRestauracao.get();
+	}
+
+	/**
+	 * Retorna a quantidade de reconciliações concluídas.
+	 * @return <code>long</code>
+	 */
+	public long getReconciliados() {
+		return reconciliados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de arquivos gravados.
+	 * @return <code>long</code>
+	 */
+	public long getGravados() {
+		return gravados.get();
+	}
+
+	/**
+	 * Retorna a quantidade de arquivos descartados e de falhas de gravação ou reconciliação.
+	 * @return <code>long</code>
+	 */
+	public long getFalhas() {
+		return falhas.get();
+	}
+}
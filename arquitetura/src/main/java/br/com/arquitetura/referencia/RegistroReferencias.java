@@ -0,0 +1,90 @@
+package br.com.arquitetura.referencia;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>RegistroReferencias</code> mantém os {@link CacheReferencia}(s) da aplicação, um por classe de <code>Entidade</code>,
+ * consultados pelo {@link br.com.arquitetura.service.Service#listar()}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see CacheReferencia
+ */
+public final class RegistroReferencias extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante ATUALIZADOR. */
+	private static final AtualizadorReferencias ATUALIZADOR = new AtualizadorReferencias();
+
+	/** Constante CACHES. */
+	private static final ConcurrentMap<Class<?>, CacheReferencia<?>> CACHES = new ConcurrentHashMap<Class<?>, CacheReferencia<?>>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private RegistroReferencias() {
+		super();
+	}
+
+	/**
+	 * Método responsável por registrar um <i>cache</i>, substituindo o <i>cache</i> anterior da mesma classe, e inscrever o
+	 * {@link AtualizadorReferencias} no {@link BarramentoEventos}.
+	 * @author Wesley Luiz
+	 * @param cache - <i>Cache</i> a ser registrado.
+	 */
+	public static synchronized void registrar(final CacheReferencia<?> cache) {
+		CACHES.put(cache.getClasse(), cache);
+		BarramentoEventos.getInstance().inscrever(ATUALIZADOR);
+	}
+
+	/**
+	 * Método responsável por remover o <i>cache</i> de uma classe. Sem <i>caches</i> registrados, a inscrição do
+	 * {@link AtualizadorReferencias} é cancelada.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 */
+	public static synchronized void desregistrar(final Class<? extends Entidade> classe) {
+		CACHES.remove(classe);
+		if (CACHES.isEmpty()) {
+			BarramentoEventos.getInstance().cancelar(ATUALIZADOR);
+		}
+	}
+
+	/**
+	 * Método responsável por obter o <i>cache</i> de uma classe. As <i>super-classes</i> também são consultadas,
+	 * permitindo localizar o <i>cache</i> a partir de um <i>proxy</i> do <i>Hibernate</i>.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 * @return Retorna o <i>cache</i> ou <code>null</code> caso a classe não possua <i>cache</i> registrado.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Entidade> CacheReferencia<E> obter(final Class<? extends E> classe) {
+		if (CACHES.isEmpty()) {
+			return null;
+		}
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Entidade.class; atual = atual.getSuperclass()) {
+			final CacheReferencia<?> cache = CACHES.get(atual);
+			if (isReferencia(cache)) {
+				return (CacheReferencia<E>) cache;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Método responsável por obter todos os <i>caches</i> registrados.
+	 * @author Wesley Luiz
+	 * @return Retorna os <i>caches</i> registrados.
+	 */
+	public static Collection<CacheReferencia<?>> listar() {
+		return CACHES.values();
+	}
+}
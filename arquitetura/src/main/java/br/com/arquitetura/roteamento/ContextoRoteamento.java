@@ -0,0 +1,80 @@
+package br.com.arquitetura.roteamento;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Associa à <i>thread</i> corrente a {@link MarcaEscrita} da sessão que está sendo atendida.<br>
+ * Em uma aplicação <i>web</i> a associação é feita pelo {@link FiltroRoteamento} a cada requisição. Nas <i>threads</i> sem
+ * associação, como rotinas em lote, cada <i>thread</i> possui a sua própria marca.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ContextoRoteamento extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante MARCA. */
+	private static final ThreadLocal<MarcaEscrita> MARCA = new ThreadLocal<MarcaEscrita>() {
+		@Override
+		protected MarcaEscrita initialValue() {
+			return new MarcaEscrita();
+		}
+	};
+
+	/** Constante PRIMARIO_FORCADO. */
+	private static final ThreadLocal<Boolean> PRIMARIO_FORCADO = new ThreadLocal<Boolean>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private ContextoRoteamento() {
+		super();
+	}
+
+	/**
+	 * Método responsável por associar uma {@link MarcaEscrita} à <i>thread</i> corrente.
+	 * @author Wesley Luiz
+	 * @param marca - Marca da sessão atendida pela <i>thread</i>.
+	 */
+	public static void vincular(final MarcaEscrita marca) {
+		MARCA.set(marca);
+	}
+
+	/**
+	 * Método responsável por remover as associações da <i>thread</i> corrente.
+	 * @author Wesley Luiz
+	 */
+	public static void desvincular() {
+		MARCA.remove();
+		PRIMARIO_FORCADO.remove();
+	}
+
+	/**
+	 * Método responsável por obter a {@link MarcaEscrita} associada à <i>thread</i> corrente.
+	 * @author Wesley Luiz
+	 * @return Retorna a marca associada.
+	 */
+	public static MarcaEscrita obterMarca() {
+		return MARCA.get();
+	}
+
+	/**
+	 * Método responsável por encaminhar ao banco principal todas as leituras da <i>thread</i> corrente, até que
+	 * {@link #desvincular()} seja chamado ou o valor seja redefinido.
+	 * @author Wesley Luiz
+	 * @param forcar - <code>true</code> para utilizar apenas o banco principal.
+	 */
+	public static void setPrimarioForcado(final boolean forcar) {
+		PRIMARIO_FORCADO.set(forcar ? Boolean.TRUE : null);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>primarioForcado</code>
+	 * @return <code>boolean</code>
+	 */
+	public static boolean isPrimarioForcado() {
+		return PRIMARIO_FORCADO.get() != null;
+	}
+}
@@ -0,0 +1,64 @@
+package br.com.arquitetura.roteamento;
+
+import java.io.IOException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Filtro responsável por associar a cada requisição a {@link MarcaEscrita} mantida na sessão do usuário, garantindo que
+ * um usuário leia as próprias escritas mesmo quando a réplica estiver atrasada. Exemplo de configuração no <i>web.xml</i>:
+ * <pre>
+ * &lt;filter&gt;
+ * 	&lt;filter-name&gt;roteamento&lt;/filter-name&gt;
+ * 	&lt;filter-class&gt;br.com.arquitetura.roteamento.FiltroRoteamento&lt;/filter-class&gt;
+ * &lt;/filter&gt;
+ * &lt;filter-mapping&gt;
+ * 	&lt;filter-name&gt;roteamento&lt;/filter-name&gt;
+ * 	&lt;url-pattern&gt;/*&lt;/url-pattern&gt;
+ * &lt;/filter-mapping&gt;
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class FiltroRoteamento implements Filter {
+
+	/** Constante ATRIBUTO_MARCA. */
+	public static final String ATRIBUTO_MARCA = MarcaEscrita.class.getName();
+
+	@Override
+	public void init(final FilterConfig filterConfig) throws ServletException {
+	}
+
+	@Override
+	public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+		if (!(request instanceof HttpServletRequest)) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		final HttpSession sessao = ((HttpServletRequest) request).getSession();
+		MarcaEscrita marca = (MarcaEscrita) sessao.getAttribute(ATRIBUTO_MARCA);
+		if (marca == null) {
+			marca = new MarcaEscrita();
+			sessao.setAttribute(ATRIBUTO_MARCA, marca);
+		}
+
+		ContextoRoteamento.vincular(marca);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			ContextoRoteamento.desvincular();
+		}
+	}
+
+	@Override
+	public void destroy() {
+	}
+}
@@ -0,0 +1,46 @@
+package br.com.arquitetura.roteamento;
+
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Registra o momento da última escrita confirmada por uma sessão de usuário, permitindo que o {@link RoteadorDataSource}
+ * encaminhe ao banco principal as leituras feitas logo após uma escrita, enquanto a réplica ainda pode não tê-la recebido.<br>
+ * Uma instância é mantida na sessão <i>HTTP</i> pelo {@link FiltroRoteamento}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class MarcaEscrita extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo ultimaEscrita. */
+	private volatile long ultimaEscrita;
+
+	/**
+	 * Método responsável por registrar que uma escrita acabou de ser confirmada.
+	 * @author Wesley Luiz
+	 */
+	public void registrar() {
+		ultimaEscrita = System.currentTimeMillis();
+	}
+
+	/**
+	 * Método responsável por verificar se houve uma escrita dentro de uma janela de tempo.
+	 * @author Wesley Luiz
+	 * @param janela - Janela de tempo em milissegundos.
+	 * @return Retorna <code>true</code> caso a última escrita tenha ocorrido dentro da janela.
+	 */
+	public boolean isRecente(final long janela) {
+		return ultimaEscrita > 0 && System.currentTimeMillis() - ultimaEscrita < janela;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>ultimaEscrita</code>
+	 * @return <code>long</code>
+	 */
+	public long getUltimaEscrita() {
+		return ultimaEscrita;
+	}
+}
@@ -0,0 +1,259 @@
+package br.com.arquitetura.roteamento;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.enumerator.EnumDestino;
+
+/**
+ * <code>DataSource</code> responsável por encaminhar as conexões das transações somente leitura
+ * <i>(<code>@Transactional(readOnly = true)</code>)</i> para uma réplica, e as demais para o banco principal.<br>
+ * Para que a transação já esteja marcada como somente leitura quando a conexão for obtida, o <code>EntityManagerFactory</code> deve
+ * utilizar o <i>proxy</i> retornado por {@link #criarProxy()}, que adia a obtenção da conexão até o primeiro comando <i>SQL</i>.
+ * <ul>
+ * <li>Após confirmar uma escrita, as leituras da mesma sessão são encaminhadas ao banco principal durante a
+ * {@link #setJanelaLeituraAposEscrita(long) janela de leitura após escrita}, evitando que o usuário deixe de ver o que acabou de gravar
+ * enquanto a réplica estiver atrasada.</li>
+ * <li>Caso não seja possível conectar à réplica, a leitura é feita no banco principal e a réplica só volta a ser utilizada após o
+ * {@link #setIntervaloNovaTentativa(long) intervalo de nova tentativa}.</li>
+ * </ul>
+ * Exemplo de configuração com dois bancos embarcados:
+ * <pre>
+ * final DataSource primario = new EmbeddedDatabaseBuilder().setName("primario").build();
+ * final DataSource replica = new EmbeddedDatabaseBuilder().setName("replica").build();
+ * final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+ * entityManagerFactoryBean.setDataSource(roteador.criarProxy());
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see FiltroRoteamento
+ */
+public class RoteadorDataSource extends AbstractRoutingDataSource {
+
+	/** Constante JANELA_PADRAO. */
+	public static final long JANELA_PADRAO = 5000;
+
+	/** Constante INTERVALO_PADRAO. */
+	public static final long INTERVALO_PADRAO = 30000;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(RoteadorDataSource.class);
+
+	/** Atributo primario. */
+	private final DataSource primario;
+
+	/** Atributo replica. */
+	private final DataSource replica;
+
+	/** Atributo janelaLeituraAposEscrita. */
+	private volatile long janelaLeituraAposEscrita = JANELA_PADRAO;
+
+	/** Atributo intervaloNovaTentativa. */
+	private volatile long intervaloNovaTentativa = INTERVALO_PADRAO;
+
+	/** Atributo replicaIndisponivelAte. */
+	private volatile long replicaIndisponivelAte;
+
+	/** Atributo conexoesPrimario. */
+	private final AtomicLong conexoesPrimario = new AtomicLong();
+
+	/** Atributo conexoesReplica. */
+	private final AtomicLong conexoesReplica = new AtomicLong();
+
+	/** Atributo falhasReplica. */
+	private final AtomicLong falhasReplica = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param primario - <code>DataSource</code> do banco principal.
+	 * @param replica - <code>DataSource</code> da réplica de leitura, quando <code>null</code> todas as conexões são do banco principal.
+	 */
+	public RoteadorDataSource(final DataSource primario, final DataSource replica) {
+		super();
+		this.primario = primario;
+		this.replica = replica;
+
+		final Map<Object, Object> destinos = new HashMap<Object, Object>();
+		destinos.put(EnumDestino.PRIMARIO, primario);
+		if (replica != null) {
+			destinos.put(EnumDestino.REPLICA, replica);
+		}
+		setTargetDataSources(destinos);
+		setDefaultTargetDataSource(primario);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * Método responsável por criar o <i>proxy</i> que deve ser entregue ao <code>EntityManagerFactory</code>, adiando a obtenção da
+	 * conexão até que a transação tenha sido iniciada.
+	 * @author Wesley Luiz
+	 * @return Retorna o <code>DataSource</code> a ser utilizado pela aplicação.
+	 */
+	public DataSource criarProxy() {
+		return new LazyConnectionDataSourceProxy(this);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			registrarEscrita();
+			return EnumDestino.PRIMARIO;
+		}
+		if (replica == null || ContextoRoteamento.isPrimarioForcado() || !isReplicaDisponivel()
+				|| ContextoRoteamento.obterMarca().isRecente(janelaLeituraAposEscrita)) {
+			return EnumDestino.PRIMARIO;
+		}
+		return EnumDestino.REPLICA;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return obterConexao(null, null);
+	}
+
+	@Override
+	public Connection getConnection(final String usuario, final String senha) throws SQLException {
+		return obterConexao(usuario, senha);
+	}
+
+	/**
+	 * Método responsável por obter uma conexão do destino da transação corrente, utilizando o banco principal caso a réplica
+	 * esteja indisponível.
+	 * @author Wesley Luiz
+	 * @param usuario - Usuário da conexão, ou <code>null</code> para o usuário padrão.
+	 * @param senha - Senha do usuário.
+	 * @return Retorna a conexão obtida.
+	 * @throws SQLException Caso não seja possível conectar ao banco principal.
+	 */
+	private Connection obterConexao(final String usuario, final String senha) throws SQLException {
+		if (determineCurrentLookupKey() == EnumDestino.REPLICA) {
+			try {
+				final Connection conexao = conectar(replica, usuario, senha);
+				conexoesReplica.incrementAndGet();
+				return conexao;
+			} catch (final SQLException | RuntimeException e) {
+				falhasReplica.incrementAndGet();
+				replicaIndisponivelAte = System.currentTimeMillis() + intervaloNovaTentativa;
+				LOGGER.warn("Réplica indisponível, as leituras serão feitas no banco principal por " + intervaloNovaTentativa + " ms.", e);
+			}
+		}
+
+		final Connection conexao = conectar(primario, usuario, senha);
+		conexoesPrimario.incrementAndGet();
+		return conexao;
+	}
+
+	private static Connection conectar(final DataSource dataSource, final String usuario, final String senha) throws SQLException {
+		return usuario == null ? dataSource.getConnection() : dataSource.getConnection(usuario, senha);
+	}
+
+	/**
+	 * Método responsável por registrar, ao final de uma transação de escrita confirmada, a escrita na {@link MarcaEscrita} da sessão corrente.
+	 * @author Wesley Luiz
+	 */
+	private void registrarEscrita() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(this)) {
+			return;
+		}
+
+		final MarcaEscrita marca = ContextoRoteamento.obterMarca();
+		TransactionSynchronizationManager.bindResource(this, marca);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void suspend() {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RoteadorDataSource.this);
+			}
+
+			@Override
+			public void resume() {
+				TransactionSynchronizationManager.bindResource(RoteadorDataSource.this, marca);
+			}
+
+			@Override
+			public void afterCompletion(final int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RoteadorDataSource.this);
+				if (status == TransactionSynchronization.STATUS_COMMITTED) {
+					marca.registrar();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Método responsável por verificar se a réplica pode ser utilizada.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>false</code> durante o intervalo de nova tentativa após uma falha de conexão.
+	 */
+	public boolean isReplicaDisponivel() {
+		return System.currentTimeMillis() >= replicaIndisponivelAte;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>janelaLeituraAposEscrita</code>
+	 * @return <code>long</code>
+	 */
+	public long getJanelaLeituraAposEscrita() {
+		return janelaLeituraAposEscrita;
+	}
+
+	/**
+	 * Define o tempo, em milissegundos, durante o qual as leituras de uma sessão são feitas no banco principal após uma escrita.
+	 * Deve ser maior que o atraso esperado da réplica, <code>0</code> desabilita a leitura após escrita.
+	 * @param janelaLeituraAposEscrita
+	 */
+	public void setJanelaLeituraAposEscrita(final long janelaLeituraAposEscrita) {
+		this.janelaLeituraAposEscrita = janelaLeituraAposEscrita;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>intervaloNovaTentativa</code>
+	 * @return <code>long</code>
+	 */
+	public long getIntervaloNovaTentativa() {
+		return intervaloNovaTentativa;
+	}
+
+	/**
+	 * Define o tempo, em milissegundos, em que a réplica deixa de ser utilizada após uma falha de conexão.
+	 * @param intervaloNovaTentativa
+	 */
+	public void setIntervaloNovaTentativa(final long intervaloNovaTentativa) {
+		this.intervaloNovaTentativa = intervaloNovaTentativa;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>conexoesPrimario</code>
+	 * @return <code>long</code>
+	 */
+	public long getConexoesPrimario() {
+		return conexoesPrimario.get();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>conexoesReplica</code>
+	 * @return <code>long</code>
+	 */
+	public long getConexoesReplica() {
+		return conexoesReplica.get();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>falhasReplica</code>
+	 * @return <code>long</code>
+	 */
+	public long getFalhasReplica() {
+		return falhasReplica.get();
+	}
+}
@@ -0,0 +1,72 @@
+package br.com.arquitetura.serializacao;
+
+import java.io.Externalizable;
+import java.io.InvalidClassException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.metamodel.source.MetadataImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Verifica, na criação do <code>SessionFactory</code>, se as entidades gravadas pelo {@link SerializadorCompacto} através de
+ * <code>Externalizable</code> possuem o construtor público sem argumentos exigido na leitura. O <i>JPA</i> permite entidades com
+ * o construtor <code>protected</code>, que só falhariam ao restaurar uma sessão <i>HTTP</i> replicada ou passivada, em outro nó.<br>
+ * É registrado automaticamente através de <code>META-INF/services/org.hibernate.integrator.spi.Integrator</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class IntegradorSerializacao implements Integrator {
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void integrate(final Configuration configuration, final SessionFactoryImplementor sessionFactory,
+			final SessionFactoryServiceRegistry serviceRegistry) {
+		final List<Class<?>> mapeadas = new ArrayList<Class<?>>();
+		final Iterator<PersistentClass> classes = configuration.getClassMappings();
+		while (classes.hasNext()) {
+			mapeadas.add(classes.next().getMappedClass());
+		}
+		validar(mapeadas);
+	}
+
+	/**
+	 * Método responsável por verificar as classes mapeadas, ignorando as abstratas, que não são instanciadas.
+	 * @author Wesley Luiz
+	 * @param mapeadas - Classes das entidades.
+	 * @throws HibernateException Lança uma exceção com todas as classes <code>Externalizable</code> sem construtor público sem argumentos.
+	 */
+	static void validar(final List<Class<?>> mapeadas) {
+		final StringBuilder recusadas = new StringBuilder();
+		for (final Class<?> mapeada : mapeadas) {
+			if (mapeada == null || !Externalizable.class.isAssignableFrom(mapeada) || Modifier.isAbstract(mapeada.getModifiers())) {
+				continue;
+			}
+			try {
+				SerializadorCompacto.validar(mapeada);
+			} catch (final InvalidClassException e) {
+				recusadas.append(recusadas.length() > 0 ? ", " : "").append(mapeada.getName());
+			}
+		}
+		if (recusadas.length() > 0) {
+			throw new HibernateException("As entidades " + recusadas
+					+ " devem possuir um construtor público sem argumentos para serem lidas pelo SerializadorCompacto.");
+		}
+	}
+
+	@Override
+	public void integrate(final MetadataImplementor metadata, final SessionFactoryImplementor sessionFactory,
+			final SessionFactoryServiceRegistry serviceRegistry) {
+	}
+
+	@Override
+	public void disintegrate(final SessionFactoryImplementor sessionFactory, final SessionFactoryServiceRegistry serviceRegistry) {
+	}
+}
@@ -0,0 +1,281 @@
+package br.com.arquitetura.serializacao;
+
+import java.io.Externalizable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Descrição dos atributos gravados pelo {@link SerializadorCompacto} para uma classe, calculada uma única vez por classe.<br>
+ * Os atributos são ordenados da superclasse para a subclasse e, em cada classe, pelo nome, de forma que o índice de cada atributo
+ * seja estável. Os atributos do tipo <code>Service</code> ou <code>HibernateDAO</code> não são gravados e são localizados
+ * novamente na leitura pelo tipo concreto informado nos <i>Generics</i> da classe, como o <code>Service</code> de um
+ * <code>Controller&lt;ClienteService, ClienteDAO, Cliente&gt;</code>, evitando a busca ambígua pelo tipo declarado do atributo.<br>
+ * A assinatura inclui a {@link #VERSAO_FORMATO versão do formato}, de forma que os dados gravados por uma versão anterior do
+ * {@link SerializadorCompacto}, como os enumerados gravados pela posição, sejam rejeitados em vez de lidos incorretamente.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+final class LayoutClasse {
+
+	/** Tipos de codificação dos atributos. */
+	enum Tipo {
+		INTEIRO, LONGO, CURTO, BYTE, CARACTERE, LOGICO, REAL, DUPLO, TEXTO, DATA, DECIMAL, ENUMERADO, OBJETO
+	}
+
+	/** Constante VERSAO_FORMATO. */
+	static final int VERSAO_FORMATO = 2;
+
+	/** Constante LAYOUTS. */
+	private static final ConcurrentMap<Class<?>, LayoutClasse> LAYOUTS = new ConcurrentHashMap<Class<?>, LayoutClasse>();
+
+	/** Constante ORDEM_NOME. */
+	private static final Comparator<Field> ORDEM_NOME = new Comparator<Field>() {
+		@Override
+		public int compare(final Field f1, final Field f2) {
+			return f1.getName().compareTo(f2.getName());
+		}
+	};
+
+	/** Atributo campos. */
+	private final Field[] campos;
+
+	/** Atributo tipos. */
+	private final Tipo[] tipos;
+
+	/** Atributo padroes. */
+	private final Object[] padroes;
+
+	/** Atributo recursos. */
+	private final Field[] recursos;
+
+	/** Atributo tiposRecursos. */
+	private final Class<?>[] tiposRecursos;
+
+	/** Atributo assinatura. */
+	private final int assinatura;
+
+	/** Atributo instanciavel. */
+	private final boolean instanciavel;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe descrita.
+	 */
+	private LayoutClasse(final Class<?> classe) {
+		final List<Class<?>> hierarquia = new ArrayList<Class<?>>();
+		for (Class<?> atual = classe; atual != null && atual != Object.class; atual = atual.getSuperclass()) {
+			hierarquia.add(0, atual);
+		}
+
+		final List<Field> gravados = new ArrayList<Field>();
+		final List<Field> localizados = new ArrayList<Field>();
+		final StringBuilder descricao = new StringBuilder().append(VERSAO_FORMATO).append(';');
+		for (final Class<?> atual : hierarquia) {
+			final Field[] declarados = atual.getDeclaredFields();
+			Arrays.sort(declarados, ORDEM_NOME);
+			for (final Field campo : declarados) {
+				final int modificadores = campo.getModifiers();
+				if (Modifier.isStatic(modificadores)) {
+					continue;
+				}
+				campo.setAccessible(true);
+				if (Service.class.isAssignableFrom(campo.getType()) || HibernateDAO.class.isAssignableFrom(campo.getType())) {
+					localizados.add(campo);
+				} else if (!Modifier.isTransient(modificadores)) {
+					gravados.add(campo);
+					descricao.append(atual.getName()).append('.').append(campo.getName()).append(':').append(campo.getType().getName()).append(';');
+				}
+			}
+		}
+
+		this.campos = gravados.toArray(new Field[gravados.size()]);
+		this.recursos = localizados.toArray(new Field[localizados.size()]);
+		this.tiposRecursos = new Class<?>[recursos.length];
+		for (int i = 0; i < recursos.length; i++) {
+			tiposRecursos[i] = obterTipoRecurso(classe, recursos[i]);
+		}
+		this.tipos = new Tipo[campos.length];
+		this.padroes = new Object[campos.length];
+		for (int i = 0; i < campos.length; i++) {
+			tipos[i] = obterTipo(campos[i].getType());
+			padroes[i] = obterPadrao(campos[i].getType());
+		}
+		this.assinatura = descricao.toString().hashCode();
+		this.instanciavel = !Externalizable.class.isAssignableFrom(classe) || isConstrutorPublico(classe);
+	}
+
+	private static boolean isConstrutorPublico(final Class<?> classe) {
+		try {
+			return Modifier.isPublic(classe.getModifiers()) && Modifier.isPublic(classe.getConstructor().getModifiers());
+		} catch (final NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Método responsável por obter o <i>layout</i> de uma classe.
+	 * @author Wesley Luiz
+	 * @param classe - Classe do objeto serializado.
+	 * @return Retorna o <i>layout</i> da classe.
+	 */
+	static LayoutClasse obter(final Class<?> classe) {
+		LayoutClasse layout = LAYOUTS.get(classe);
+		if (layout == null) {
+			layout = new LayoutClasse(classe);
+			final LayoutClasse existente = LAYOUTS.putIfAbsent(classe, layout);
+			if (existente != null) {
+				layout = existente;
+			}
+		}
+		return layout;
+	}
+
+	/**
+	 * Método responsável por obter o tipo concreto de um atributo localizado na leitura, procurando entre os argumentos dos
+	 * <i>Generics</i> das superclasses, da classe descrita até a classe que declara o atributo, um único tipo compatível com o
+	 * tipo declarado.
+	 * @author Wesley Luiz
+	 * @param classe - Classe descrita.
+	 * @param recurso - Atributo do tipo <code>Service</code> ou <code>HibernateDAO</code>.
+	 * @return Retorna o tipo concreto ou o tipo declarado do atributo, caso não exista um único tipo compatível.
+	 */
+	private static Class<?> obterTipoRecurso(final Class<?> classe, final Field recurso) {
+		final Class<?> declarado = recurso.getType();
+		Class<?> encontrado = null;
+		for (Class<?> atual = classe; atual != null && atual != recurso.getDeclaringClass(); atual = atual.getSuperclass()) {
+			final Type superclasse = atual.getGenericSuperclass();
+			if (!(superclasse instanceof ParameterizedType)) {
+				continue;
+			}
+			for (final Type argumento : ((ParameterizedType) superclasse).getActualTypeArguments()) {
+				if (argumento instanceof Class && declarado.isAssignableFrom((Class<?>) argumento)) {
+					if (encontrado != null && encontrado != argumento) {
+						return declarado;
+					}
+					encontrado = (Class<?>) argumento;
+				}
+			}
+		}
+		return encontrado != null ? encontrado : declarado;
+	}
+
+	private static Tipo obterTipo(final Class<?> tipo) {
+		if (tipo == int.class || tipo == Integer.class) {
+			return Tipo.INTEIRO;
+		} else if (tipo == long.class || tipo == Long.class) {
+			return Tipo.LONGO;
+		} else if (tipo == short.class || tipo == Short.class) {
+			return Tipo.CURTO;
+		} else if (tipo == byte.class || tipo == Byte.class) {
+			return Tipo.BYTE;
+		} else if (tipo == char.class || tipo == Character.class) {
+			return Tipo.CARACTERE;
+		} else if (tipo == boolean.class || tipo == Boolean.class) {
+			return Tipo.LOGICO;
+		} else if (tipo == float.class || tipo == Float.class) {
+			return Tipo.REAL;
+		} else if (tipo == double.class || tipo == Double.class) {
+			return Tipo.DUPLO;
+		} else if (tipo == String.class) {
+			return Tipo.TEXTO;
+		} else if (tipo == Date.class) {
+			return Tipo.DATA;
+		} else if (tipo == BigDecimal.class) {
+			return Tipo.DECIMAL;
+		} else if (tipo.isEnum()) {
+			return Tipo.ENUMERADO;
+		}
+		return Tipo.OBJETO;
+	}
+
+	private static Object obterPadrao(final Class<?> tipo) {
+		if (!tipo.isPrimitive()) {
+			return null;
+		} else if (tipo == int.class) {
+			return 0;
+		} else if (tipo == long.class) {
+			return 0L;
+		} else if (tipo == short.class) {
+			return (short) 0;
+		} else if (tipo == byte.class) {
+			return (byte) 0;
+		} else if (tipo == char.class) {
+			return (char) 0;
+		} else if (tipo == boolean.class) {
+			return false;
+		} else if (tipo == float.class) {
+			return 0f;
+		}
+		return 0d;
+	}
+
+	/**
+	 * Retorna os atributos gravados.
+	 * @return <code>Field[]</code>
+	 */
+	Field[] getCampos() {
+		return campos;
+	}
+
+	/**
+	 * Retorna a codificação de cada atributo gravado.
+	 * @return <code>Tipo[]</code>
+	 */
+	Tipo[] getTipos() {
+		return tipos;
+	}
+
+	/**
+	 * Retorna o valor padrão de cada atributo gravado, atribuído quando o valor não está presente nos dados.
+	 * @return <code>Object[]</code>
+	 */
+	Object[] getPadroes() {
+		return padroes;
+	}
+
+	/**
+	 * Retorna os atributos localizados novamente na leitura.
+	 * @return <code>Field[]</code>
+	 */
+	Field[] getRecursos() {
+		return recursos;
+	}
+
+	/**
+	 * Retorna o tipo utilizado na localização de cada atributo de {@link #getRecursos()}.
+	 * @return <code>Class<?>[]</code>
+	 */
+	Class<?>[] getTiposRecursos() {
+		return tiposRecursos;
+	}
+
+	/**
+	 * Retorna se os objetos da classe podem ser criados na leitura, o que exige das classes <code>Externalizable</code> que a
+	 * classe e o construtor sem argumentos sejam públicos.
+	 * @return <code>boolean</code>
+	 */
+	boolean isInstanciavel() {
+		return instanciavel;
+	}
+
+	/**
+	 * Retorna a assinatura dos atributos gravados, utilizada para rejeitar dados gravados por uma versão diferente da classe.
+	 * @return <code>int</code>
+	 */
+	int getAssinatura() {
+		return assinatura;
+	}
+}
@@ -0,0 +1,427 @@
+package br.com.arquitetura.serializacao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Date;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>SerializadorCompacto</code> grava e lê os atributos de um objeto em um formato binário indexado por atributo,
+ * utilizado pela <code>Entidade</code> e pelo <code>Controller</code> através de <code>Externalizable</code>.<br>
+ * Em vez de descrever as classes e os atributos como a serialização padrão, cada objeto grava apenas a assinatura do seu
+ * <i>layout</i> seguida dos pares <i>índice/valor</i> dos atributos preenchidos. Números são gravados com tamanho variável,
+ * textos em <i>UTF-8</i>, datas em milissegundos e enumerados pelo nome, permitindo incluir ou reordenar constantes entre
+ * versões. Os demais tipos, como coleções e outras entidades, são gravados pelo próprio <code>ObjectOutput</code>, mantendo as
+ * referências compartilhadas.<br>
+ * Como a leitura de um objeto <code>Externalizable</code> cria a instância pelo construtor público sem argumentos, as classes
+ * sem esse construtor, como entidades com o construtor <code>protected</code> permitido pelo <i>JPA</i>, são recusadas na
+ * gravação e, no caso das entidades, na criação do <code>SessionFactory</code> pelo {@link IntegradorSerializacao}.<br>
+ * Os atributos do tipo <code>Service</code> ou <code>HibernateDAO</code> não são gravados e, na leitura, são obtidos através do
+ * {@link br.com.arquitetura.ambiente.LocalizadorBeans} configurado em {@link AmbienteExecucao}. Exemplo de uso:
+ * <pre>
+ * public void writeExternal(final ObjectOutput out) throws IOException {
+ * 	SerializadorCompacto.escrever(this, out);
+ * }
+ *
+ * public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+ * 	SerializadorCompacto.ler(this, in);
+ * }
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class SerializadorCompacto extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** Constante FIM. */
+	private static final int FIM = 0;
+
+	/** Constante GRAVADO_PELO_STREAM. */
+	private static final int GRAVADO_PELO_STREAM = 1;
+
+	/** Constante MSG_SEM_CONSTRUTOR. */
+	private static final String MSG_SEM_CONSTRUTOR = "Externalizable sem construtor público sem argumentos";
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private SerializadorCompacto() {
+		super();
+	}
+
+	/**
+	 * Método responsável por gravar os atributos de um objeto.
+	 * @author Wesley Luiz
+	 * @param objeto - Objeto a ser gravado.
+	 * @param saida - Destino dos dados.
+	 * @throws IOException Caso ocorra um erro na gravação.
+	 */
+	public static void escrever(final Object objeto, final ObjectOutput saida) throws IOException {
+		final LayoutClasse layout = LayoutClasse.obter(objeto.getClass());
+		if (!layout.isInstanciavel()) {
+			throw new InvalidClassException(objeto.getClass().getName(), MSG_SEM_CONSTRUTOR);
+		}
+		final Field[] campos = layout.getCampos();
+		final LayoutClasse.Tipo[] tipos = layout.getTipos();
+
+		saida.writeInt(layout.getAssinatura());
+		try {
+			for (int i = 0; i < campos.length; i++) {
+				final Object valor = campos[i].get(objeto);
+				if (!isPreenchido(valor, layout.getPadroes()[i])) {
+					continue;
+				}
+
+				final int indice = (i + 1) << 1;
+				if (isCodificavel(tipos[i], valor)) {
+					escreverVarint(saida, indice);
+					escreverValor(tipos[i], valor, saida);
+				} else {
+					escreverVarint(saida, indice | GRAVADO_PELO_STREAM);
+					saida.writeObject(valor);
+				}
+			}
+		} catch (final IllegalAccessException e) {
+			throw new IOException(e);
+		}
+		escreverVarint(saida, FIM);
+	}
+
+	/**
+	 * Método responsável por ler os atributos de um objeto gravados por {@link #escrever(Object, ObjectOutput)}, atribuindo o valor
+	 * padrão aos atributos ausentes e localizando os atributos do tipo <code>Service</code> e <code>HibernateDAO</code> pelo tipo concreto
+	 * informado nos <i>Generics</i> da classe.
+	 * @author Wesley Luiz
+	 * @param objeto - Objeto que receberá os valores.
+	 * @param entrada - Origem dos dados.
+	 * @throws IOException Caso ocorra um erro na leitura ou os dados tenham sido gravados por outra versão da classe.
+	 * @throws ClassNotFoundException Caso a classe de um valor não seja encontrada.
+	 */
+	public static void ler(final Object objeto, final ObjectInput entrada) throws IOException, ClassNotFoundException {
+		final LayoutClasse layout = LayoutClasse.obter(objeto.getClass());
+		final Field[] campos = layout.getCampos();
+		final LayoutClasse.Tipo[] tipos = layout.getTipos();
+
+		if (entrada.readInt() != layout.getAssinatura()) {
+			throw new InvalidClassException(objeto.getClass().getName(), "atributos diferentes dos gravados");
+		}
+
+		try {
+			final boolean[] lidos = new boolean[campos.length];
+			for (int indice = lerVarint(entrada); indice != FIM; indice = lerVarint(entrada)) {
+				final int i = (indice >>> 1) - 1;
+				if (i < 0 || i >= campos.length) {
+					throw new StreamCorruptedException("Atributo inválido: " + i);
+				}
+				final Object valor = (indice & GRAVADO_PELO_STREAM) != 0 ? entrada.readObject() : lerValor(tipos[i], campos[i].getType(), entrada);
+				campos[i].set(objeto, valor);
+				lidos[i] = true;
+			}
+
+			for (int i = 0; i < campos.length; i++) {
+				if (!lidos[i]) {
+					campos[i].set(objeto, layout.getPadroes()[i]);
+				}
+			}
+
+			final Field[] recursos = layout.getRecursos();
+			for (int i = 0; i < recursos.length; i++) {
+				final Object bean = AmbienteExecucao.getLocalizadorBeans().obter(layout.getTiposRecursos()[i]);
+				if (isReferencia(bean)) {
+					recursos[i].set(objeto, bean);
+				}
+			}
+		} catch (final IllegalAccessException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Método responsável por verificar se os objetos de uma classe gravados por {@link #escrever(Object, ObjectOutput)} poderão
+	 * ser lidos, o que exige das classes <code>Externalizable</code> um construtor público sem argumentos.
+	 * @author Wesley Luiz
+	 * @param classe - Classe verificada.
+	 * @throws InvalidClassException Caso a classe não possa ser instanciada na leitura.
+	 */
+	public static void validar(final Class<?> classe) throws InvalidClassException {
+		if (!LayoutClasse.obter(classe).isInstanciavel()) {
+			throw new InvalidClassException(classe.getName(), MSG_SEM_CONSTRUTOR);
+		}
+	}
+
+	/**
+	 * Método responsável por gravar um objeto e todo o grafo alcançável a partir dele através da serialização, gerando uma cópia
+	 * que pode ser lida várias vezes por {@link #desserializar(byte[])}.
+	 * @author Wesley Luiz
+	 * @param objeto - Objeto a ser gravado.
+	 * @return Retorna os <i>bytes</i> gravados.
+	 * @throws IOException Caso algum objeto do grafo não seja serializável.
+	 */
+	public static byte[] serializar(final Serializable objeto) throws IOException {
+		final ByteArrayOutputStream conteudo = new ByteArrayOutputStream();
+		try (ObjectOutputStream saida = new ObjectOutputStream(conteudo)) {
+			saida.writeObject(objeto);
+		}
+		return conteudo.toByteArray();
+	}
+
+	/**
+	 * Método responsável por ler um objeto gravado por {@link #serializar(Serializable)}. As classes são procuradas primeiro no
+	 * <code>ClassLoader</code> da <i>thread</i> corrente, que em uma aplicação <i>web</i> é o que carrega as entidades.
+	 * @author Wesley Luiz
+	 * @param dados - <i>Bytes</i> gravados.
+	 * @return Retorna um novo objeto, sem referências compartilhadas com o objeto gravado.
+	 * @throws IOException Caso os dados sejam inválidos ou a classe de algum objeto não seja encontrada.
+	 */
+	public static Object desserializar(final byte[] dados) throws IOException {
+		try (ObjectInputStream entrada = new EntradaContexto(new ByteArrayInputStream(dados))) {
+			return entrada.readObject();
+		} catch (final ClassNotFoundException e) {
+			throw new InvalidClassException(e.getMessage(), "classe não encontrada");
+		}
+	}
+
+	/**
+	 * Método responsável por criar uma cópia profunda de um objeto, desvinculada da instância e, no caso das entidades, da
+	 * <i>Sessão</i> que as carregou. Associações <i>lazy</i> não carregadas continuam não carregadas na cópia.
+	 * @author Wesley Luiz
+	 * @param objeto - Objeto a ser copiado.
+	 * @param <T> - Tipo do objeto.
+	 * @return Retorna a cópia.
+	 * @throws IOException Caso algum objeto do grafo não seja serializável.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Serializable> T copiar(final T objeto) throws IOException {
+		return (T) desserializar(serializar(objeto));
+	}
+
+	/**
+	 * <code>ObjectInputStream</code> que resolve as classes pelo <code>ClassLoader</code> da <i>thread</i> corrente.
+	 */
+	private static final class EntradaContexto extends ObjectInputStream {
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 * @param origem - Origem dos dados.
+		 * @throws IOException Caso o cabeçalho seja inválido.
+		 */
+		private EntradaContexto(final InputStream origem) throws IOException {
+			super(origem);
+		}
+
+		@Override
+		protected Class<?> resolveClass(final ObjectStreamClass descricao) throws IOException, ClassNotFoundException {
+			final ClassLoader carregador = Thread.currentThread().getContextClassLoader();
+			if (carregador != null) {
+				try {
+					return Class.forName(descricao.getName(), false, carregador);
+				} catch (final ClassNotFoundException e) {
+					return super.resolveClass(descricao);
+				}
+			}
+			return super.resolveClass(descricao);
+		}
+	}
+
+	private static boolean isPreenchido(final Object valor, final Object padrao) {
+		return valor != null && !valor.equals(padrao);
+	}
+
+	/**
+	 * Método responsável por verificar se um valor pode ser gravado no formato compacto. Subclasses de <code>Date</code> e
+	 * <code>BigDecimal</code>, como <code>Timestamp</code>, são gravadas pelo <code>ObjectOutput</code> para preservar o tipo.
+	 * @author Wesley Luiz
+	 * @param tipo - Codificação do atributo.
+	 * @param valor - Valor do atributo.
+	 * @return Retorna <code>true</code> caso o valor seja gravado no formato compacto.
+	 */
+	private static boolean isCodificavel(final LayoutClasse.Tipo tipo, final Object valor) {
+		switch (tipo) {
+		case OBJETO:
+			return false;
+		case DATA:
+			return valor.getClass() == Date.class;
+		case DECIMAL:
+			return valor.getClass() == BigDecimal.class;
+		default:
+			return true;
+		}
+	}
+
+	private static void escreverValor(final LayoutClasse.Tipo tipo, final Object valor, final ObjectOutput saida) throws IOException {
+		switch (tipo) {
+		case INTEIRO:
+			escreverVarint(saida, zigzag((Integer) valor));
+			break;
+		case LONGO:
+			escreverVarlong(saida, zigzag((Long) valor));
+			break;
+		case CURTO:
+			escreverVarint(saida, zigzag((Short) valor));
+			break;
+		case BYTE:
+			saida.writeByte((Byte) valor);
+			break;
+		case CARACTERE:
+			escreverVarint(saida, (Character) valor);
+			break;
+		case LOGICO:
+			saida.writeBoolean((Boolean) valor);
+			break;
+		case REAL:
+			saida.writeFloat((Float) valor);
+			break;
+		case DUPLO:
+			saida.writeDouble((Double) valor);
+			break;
+		case TEXTO:
+			final byte[] bytes = ((String) valor).getBytes(UTF_8);
+			escreverVarint(saida, bytes.length);
+			saida.write(bytes);
+			break;
+		case DATA:
+			escreverVarlong(saida, zigzag(((Date) valor).getTime()));
+			break;
+		case DECIMAL:
+			final BigDecimal decimal = (BigDecimal) valor;
+			final byte[] numero = decimal.unscaledValue().toByteArray();
+			escreverVarint(saida, zigzag(decimal.scale()));
+			escreverVarint(saida, numero.length);
+			saida.write(numero);
+			break;
+		case ENUMERADO:
+			escreverValor(LayoutClasse.Tipo.TEXTO, ((Enum<?>) valor).name(), saida);
+			break;
+		default:
+			throw new IllegalArgumentException(tipo.name());
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object lerValor(final LayoutClasse.Tipo tipo, final Class<?> classe, final ObjectInput entrada) throws IOException {
+		switch (tipo) {
+		case INTEIRO:
+			return dezigzag(lerVarint(entrada));
+		case LONGO:
+			return dezigzag(lerVarlong(entrada));
+		case CURTO:
+			return (short) dezigzag(lerVarint(entrada));
+		case BYTE:
+			return entrada.readByte();
+		case CARACTERE:
+			return (char) lerVarint(entrada);
+		case LOGICO:
+			return entrada.readBoolean();
+		case REAL:
+			return entrada.readFloat();
+		case DUPLO:
+			return entrada.readDouble();
+		case TEXTO:
+			final byte[] bytes = new byte[lerVarint(entrada)];
+			entrada.readFully(bytes);
+			return new String(bytes, UTF_8);
+		case DATA:
+			return new Date(dezigzag(lerVarlong(entrada)));
+		case DECIMAL:
+			final int escala = dezigzag(lerVarint(entrada));
+			final byte[] numero = new byte[lerVarint(entrada)];
+			entrada.readFully(numero);
+			return new BigDecimal(new BigInteger(numero), escala);
+		case ENUMERADO:
+			final String nome = (String) lerValor(LayoutClasse.Tipo.TEXTO, String.class, entrada);
+			try {
+				return Enum.valueOf((Class<? extends Enum>) classe, nome);
+			} catch (final IllegalArgumentException e) {
+				throw new InvalidClassException(classe.getName(), "constante inexistente: " + nome);
+			}
+		default:
+			throw new IllegalArgumentException(tipo.name());
+		}
+	}
+
+	private static int zigzag(final int valor) {
+		return (valor << 1) ^ (valor >> 31);
+	}
+
+	private static long zigzag(final long valor) {
+		return (valor << 1) ^ (valor >> 63);
+	}
+
+	private static int dezigzag(final int valor) {
+		return (valor >>> 1) ^ -(valor & 1);
+	}
+
+	private static long dezigzag(final long valor) {
+		return (valor >>> 1) ^ -(valor & 1);
+	}
+
+	/**
+	 * Método responsável por gravar um inteiro sem sinal em 1 a 5 <i>bytes</i>, 7 <i>bits</i> por <i>byte</i>.
+	 * @author Wesley Luiz
+	 * @param saida - Destino dos dados.
+	 * @param valor - Valor a ser gravado.
+	 * @throws IOException Caso ocorra um erro na gravação.
+	 */
+	private static void escreverVarint(final ObjectOutput saida, final int valor) throws IOException {
+		int restante = valor;
+		while ((restante & ~0x7F) != 0) {
+			saida.writeByte((restante & 0x7F) | 0x80);
+			restante >>>= 7;
+		}
+		saida.writeByte(restante);
+	}
+
+	private static void escreverVarlong(final ObjectOutput saida, final long valor) throws IOException {
+		long restante = valor;
+		while ((restante & ~0x7FL) != 0) {
+			saida.writeByte((int) (restante & 0x7F) | 0x80);
+			restante >>>= 7;
+		}
+		saida.writeByte((int) restante);
+	}
+
+	private static int lerVarint(final ObjectInput entrada) throws IOException {
+		int valor = 0;
+		for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+			final byte b = entrada.readByte();
+			valor |= (b & 0x7F) << deslocamento;
+			if (b >= 0) {
+				return valor;
+			}
+		}
+		throw new StreamCorruptedException("Inteiro com tamanho inválido.");
+	}
+
+	private static long lerVarlong(final ObjectInput entrada) throws IOException {
+		long valor = 0;
+		for (int deslocamento = 0; deslocamento < 70; deslocamento += 7) {
+			final byte b = entrada.readByte();
+			valor |= (long) (b & 0x7F) << deslocamento;
+			if (b >= 0) {
+				return valor;
+			}
+		}
+		throw new StreamCorruptedException("Inteiro com tamanho inválido.");
+	}
+}
@@ -1,21 +1,43 @@
 package br.com.arquitetura.service;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import javax.faces.context.FacesContext;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.hibernate.criterion.Disjunction;
+import org.hibernate.criterion.MatchMode;
+import org.hibernate.criterion.Restrictions;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import br.com.arquitetura.annotation.NaoVazio;
 import br.com.arquitetura.bundle.Bundle;
+import br.com.arquitetura.coalescencia.CoalescedorLeituras;
+import br.com.arquitetura.coalescencia.RegistroCoalescencia;
 import br.com.arquitetura.dao.HibernateDAO;
 import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.evento.EventoEntidade;
 import br.com.arquitetura.exception.CampoVazioException;
+import br.com.arquitetura.exception.DuplicidadeException;
+import br.com.arquitetura.indice.IndiceTexto;
+import br.com.arquitetura.indice.RegistroIndices;
 import br.com.arquitetura.objeto.Generico;
+import br.com.arquitetura.referencia.CacheReferencia;
+import br.com.arquitetura.referencia.RegistroReferencias;
+import br.com.arquitetura.unicidade.RegistroUnicidade;
+import br.com.arquitetura.unicidade.VerificadorUnicidade;
 import br.com.arquitetura.util.Texto;
 
 /**
  * Fornece implementação das regras de negócio de um caso de uso, pertence a
- * camada de <i>Serviço</i>
+ * camada de <i>Serviço</i>.<br>
+ * As consultas são executadas em transações somente leitura, que podem ser encaminhadas a uma réplica pelo
+ * {@link br.com.arquitetura.roteamento.RoteadorDataSource}. Quando a classe da <code>Entidade</code> possui um
+ * {@link CoalescedorLeituras} registrado, as consultas idênticas e simultâneas compartilham uma única ida ao <i>Banco de Dados</i>,
+ * e quando possui um {@link CacheReferencia} registrado o {@link #listar()} é atendido pelo <i>cache</i>.
  * 
  * @author Wesley Luiz
  * @version 1.0.0
@@ -45,11 +67,13 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 * @param entidade - Recebe a <code>Entidade</code> que será validada.
 	 * @throws CampoVazioException Lança uma exceção caso haja campos obrigatórios vazios.
 	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public void validarCamposVazios(final Entidade entidade) throws CampoVazioException {
 		for (final Field field : obterCamposEntidade(entidade)) {
 			if (isPossuiAnotacao(field, NaoVazio.class)) {
 
-				if (isVazio(invocarMetodo("get" + Texto.toPrimeiraLetraMaiuscula(field.getName()), entidade).toString())) {
+				final Object valor = invocarMetodo("get" + Texto.toPrimeiraLetraMaiuscula(field.getName()), entidade);
+				if (!isReferencia(valor) || isVazio(valor.toString())) {
 					throw new CampoVazioException(field.getName());
 				}
 			}
@@ -57,12 +81,29 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	}
 
 	/**
-	 * Método responsável por exibir uma mensagem de alerta na tela, dizendo que existe(m) campo(s) de preenchimento obrigatório vazio(s).
+	 * Método responsável por verificar se os atributos anotados com {@link br.com.arquitetura.annotation.Unico} de uma nova
+	 * <code>Entidade</code> já estão cadastrados, através do {@link VerificadorUnicidade} registrado para a sua classe.<br>
+	 * O <i>Banco de Dados</i> só é consultado quando o filtro do verificador indica que o valor possivelmente existe.
+	 * Entidades já persistidas e classes sem verificador registrado não são verificadas.
+	 * @author Wesley Luiz
+	 * @param entidade - Recebe a <code>Entidade</code> que será incluída.
+	 * @throws DuplicidadeException Lança uma exceção caso algum valor único já esteja cadastrado.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public void validarUnicidade(final E entidade) throws DuplicidadeException {
+		final VerificadorUnicidade<E> verificador = RegistroUnicidade.obter(obterTipoDaClasse(1));
+		if (isReferencia(verificador) && !isReferencia(entidade.getId())) {
+			verificador.verificar(entidade, getDao());
+		}
+	}
+
+	/**
+	 * Método responsável por exibir uma mensagem de alerta, dizendo que existe(m) campo(s) de preenchimento obrigatório vazio(s).
 	 * @param e - Recebe a exceção lançada.
 	 * @author Wesley Luiz
 	 */
 	protected void exibirMensagemCamposObrigatorios(final CampoVazioException e) {
-		exibirMensagem(Bundle.GRAVIDADE_ALERTA, FacesContext.getCurrentInstance(), getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
+		notificar(Bundle.GRAVIDADE_ALERTA, getMensagem(MSG_CAMPOS_OBRIGATORIOS), e.getMessage());
 	}
 
 	/**
@@ -72,7 +113,29 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 * @param entidade - Recebe uma instância de <code>Entidade</code>.
 	 */
 	public void salvar(final E entidade) {
+		validarUnicidade(entidade);
 		getDao().salvar(entidade);
+		publicarEvento(entidade, EnumOperacao.INCLUSAO);
+	}
+
+	/**
+	 * Método responsável por persistir uma lista de entidades em uma única transação, utilizado em cargas em lotes
+	 * como as do {@link br.com.arquitetura.importacao.ImportadorEntidades}.
+	 * @author Wesley Luiz
+	 * @param entidades - Recebe as entidades a serem persistidas.
+	 */
+	public void salvarLote(final List<E> entidades) {
+		if (entidades.isEmpty()) {
+			return;
+		}
+		final VerificadorUnicidade<E> verificador = RegistroUnicidade.obter(obterTipoDaClasse(1));
+		if (isReferencia(verificador)) {
+			verificador.verificar(entidades, getDao());
+		}
+		getDao().salvarLote(entidades);
+		for (final E entidade : entidades) {
+			publicarEvento(entidade, EnumOperacao.INCLUSAO);
+		}
 	}
 
 	/**
@@ -83,6 +146,7 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 */
 	public void alterar(final E entidade) {
 		getDao().alterar(entidade);
+		publicarEvento(entidade, EnumOperacao.ALTERACAO);
 	}
 
 	/**
@@ -91,7 +155,12 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 * @param entidade - Recebe uma instância de <code>Entidade</code>.
 	 */
 	public void salvarOuAlterar(final E entidade) {
+		final EnumOperacao operacao = isReferencia(entidade.getId()) ? EnumOperacao.ALTERACAO : EnumOperacao.INCLUSAO;
+		if (operacao == EnumOperacao.INCLUSAO) {
+			validarUnicidade(entidade);
+		}
 		getDao().salvarOuAlterar(entidade);
+		publicarEvento(entidade, operacao);
 	}
 
 	/**
@@ -102,6 +171,18 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 */
 	public void remover(final E entidade) {
 		getDao().remover(entidade);
+		publicarEvento(entidade, EnumOperacao.REMOCAO);
+	}
+
+	/**
+	 * Método responsável por publicar no {@link BarramentoEventos} a alteração de uma <code>Entidade</code>, que é entregue aos
+	 * ouvintes, como os <i>caches</i> de relatórios e os índices em memória, após a confirmação da transação.
+	 * @author Wesley Luiz
+	 * @param entidade - Recebe a <code>Entidade</code> persistida, alterada ou removida.
+	 * @param operacao - Operação realizada.
+	 */
+	protected void publicarEvento(final E entidade, final EnumOperacao operacao) {
+		BarramentoEventos.getInstance().publicar(new EventoEntidade(entidade, operacao));
 	}
 
 	/**
@@ -110,17 +191,134 @@ public abstract class Service<T extends HibernateDAO<E>, E extends Entidade> ext
 	 * @param id - Identificador da {@link Entidade} que deve ser pesquisada no <i>Banco de Dados</i>.
 	 * @return Retorna o objeto encontrado.
 	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
 	public E obterPorId(final Integer id) {
-		return getDao().obterPorId(id);
+		return coalescer("obterPorId", new Object[] { id }, new Callable<E>() {
+			@Override
+			public E call() {
+				return getDao().obterPorId(id);
+			}
+		});
 	}
 
 	/**
-	 * Método responsável por buscar uma lista objetos no <i>Banco de Dados</i>.
+	 * Método responsável por buscar uma lista objetos no <i>Banco de Dados</i>, ou no {@link CacheReferencia} da <code>Entidade</code>
+	 * quando registrado e carregado. O <i>cache</i> guarda e devolve cópias, portanto as entidades retornadas pertencem à chamada
+	 * e podem ser alteradas.
 	 * @author Wesley Luiz
 	 * @return Retorna uma lista ({@link List}) de objetos contendo todos os registros no <i>Banco de Dados</i> referente a <i>tabela</i> em questão.
 	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
 	public List<E> listar() {
-		return getDao().listar();
+		final CacheReferencia<E> cache = RegistroReferencias.obter(obterTipoDaClasse(1));
+		if (!isReferencia(cache)) {
+			return listarSemCache();
+		}
+
+		final List<E> armazenadas = cache.listar();
+		if (isReferencia(armazenadas)) {
+			return armazenadas;
+		}
+		final long versao = cache.getVersao();
+		final List<E> entidades = listarSemCache();
+		cache.substituir(entidades, versao);
+		return entidades;
+	}
+
+	/**
+	 * Método responsável por buscar uma lista objetos diretamente no <i>Banco de Dados</i>, sem consultar o {@link CacheReferencia},
+	 * utilizado também na reconciliação do {@link br.com.arquitetura.referencia.InstantaneoReferencias}.
+	 * @author Wesley Luiz
+	 * @return Retorna uma lista ({@link List}) de objetos contendo todos os registros no <i>Banco de Dados</i> referente a <i>tabela</i> em questão.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+	public List<E> listarSemCache() {
+		final List<E> entidades = coalescer("listar", new Object[0], new Callable<List<E>>() {
+			@Override
+			public List<E> call() {
+				return getDao().listar();
+			}
+		});
+		return new ArrayList<E>(entidades);
+	}
+
+	/**
+	 * Método responsável por executar uma consulta através do {@link CoalescedorLeituras} registrado para a classe da
+	 * <code>Entidade</code>, permitindo que as consultas das subclasses também sejam agrupadas. Sem coalescedor registrado a
+	 * consulta é executada diretamente.<br>
+	 * A chamada que executa a consulta recebe o próprio resultado e as chamadas que a aguardaram recebem cópias desvinculadas dele,
+	 * portanto o resultado pode ser editado. Chamadas feitas dentro de uma transação de escrita não são agrupadas.
+	 * <pre>
+	 * public List&lt;Cidade&gt; listarPorEstado(final String uf) {
+	 * 	return coalescer("listarPorEstado", new Object[] { uf }, new Callable&lt;List&lt;Cidade&gt;&gt;() {
+	 * 		public List&lt;Cidade&gt; call() {
+	 * 			return getDao().listarPorEstado(uf);
+	 * 		}
+	 * 	});
+	 * }
+	 * </pre>
+	 * @author Wesley Luiz
+	 * @param metodo - Nome do método que identifica a consulta.
+	 * @param argumentos - Argumentos da consulta.
+	 * @param consulta - Consulta a ser executada.
+	 * @param <V> - Tipo do resultado da consulta.
+	 * @return Retorna o resultado da consulta, ou uma cópia do resultado de uma chamada idêntica simultânea.
+	 */
+	protected <V> V coalescer(final String metodo, final Object[] argumentos, final Callable<V> consulta) {
+		final CoalescedorLeituras coalescedor = RegistroCoalescencia.obter(obterTipoDaClasse(1));
+		if (isReferencia(coalescedor)) {
+			return coalescedor.executar(metodo, argumentos, consulta);
+		}
+		try {
+			return consulta.call();
+		} catch (final RuntimeException e) {
+			throw e;
+		} catch (final Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Método responsável por buscar as entidades cujos atributos anotados com {@link br.com.arquitetura.annotation.Indexado}
+	 * contêm um termo, utilizado no autocompletar das telas.<br>
+	 * Quando existe um {@link IndiceTexto} completo registrado a pesquisa é feita em memória, caso contrário é feita no <i>Banco de Dados</i>.
+	 * Entidades sem atributos anotados não possuem onde pesquisar e retornam uma lista vazia.
+	 * @author Wesley Luiz
+	 * @param termo - Termo digitado pelo usuário.
+	 * @param limite - Quantidade máxima de resultados.
+	 * @return Retorna as entidades encontradas, ordenadas por relevância quando pesquisadas no índice.
+	 */
+	@Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+	public List<E> autocompletar(final String termo, final int limite) {
+		final Class<E> classe = obterTipoDaClasse(1);
+		final IndiceTexto<E> indice = RegistroIndices.obter(classe);
+
+		if (!isReferencia(indice) || !indice.isCompleto()) {
+			final List<Field> campos = IndiceTexto.obterCampos(classe);
+			if (campos.isEmpty()) {
+				return new ArrayList<E>();
+			}
+			final Disjunction disjunction = Restrictions.disjunction();
+			for (final Field campo : campos) {
+				disjunction.add(Restrictions.ilike(campo.getName(), termo, MatchMode.ANYWHERE));
+			}
+			return getDao().pesquisar(disjunction, limite);
+		}
+
+		final List<Integer> ids = indice.pesquisar(termo, limite);
+		final Map<Integer, E> encontradas = new HashMap<Integer, E>();
+		for (final E entidade : getDao().listarPorIds(ids)) {
+			encontradas.put(entidade.getId(), entidade);
+		}
+
+		final List<E> resultado = new ArrayList<E>(ids.size());
+		for (final Integer id : ids) {
+			final E entidade = encontradas.get(id);
+			if (isReferencia(entidade)) {
+				resultado.add(entidade);
+			}
+		}
+		return resultado;
 	}
 
 	/**
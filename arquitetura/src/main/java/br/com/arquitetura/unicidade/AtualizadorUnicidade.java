@@ -0,0 +1,22 @@
+package br.com.arquitetura.unicidade;
+
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.evento.EventoEntidade;
+import br.com.arquitetura.evento.OuvinteEntidade;
+
+/**
+ * Ouvinte que inclui nos verificadores registrados no {@link RegistroUnicidade} os valores das entidades incluídas e alteradas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see br.com.arquitetura.evento.BarramentoEventos
+ */
+public class AtualizadorUnicidade implements OuvinteEntidade {
+
+	@Override
+	public void notificar(final EventoEntidade evento) {
+		if (evento.getEntidade() != null && evento.getOperacao() != EnumOperacao.REMOCAO) {
+			RegistroUnicidade.atualizar(evento.getEntidade());
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package br.com.arquitetura.unicidade;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * Filtro de <i>Bloom</i> de textos, que responde se um valor certamente não foi adicionado ou se possivelmente foi adicionado,
+ * ocupando poucos <i>bits</i> por valor independentemente do tamanho dos textos.<br>
+ * O tamanho e a quantidade de funções de <i>hash</i> são calculados a partir da capacidade e da taxa de falsos positivos desejadas.
+ * A inclusão e a consulta podem ser feitas por várias <i>threads</i> sem bloqueio. Valores não podem ser retirados.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class FiltroBloom extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo bits. */
+	private final AtomicLongArray bits;
+
+	/** Atributo tamanho. */
+	private final long tamanho;
+
+	/** Atributo funcoes. */
+	private final int funcoes;
+
+	/** Atributo capacidade. */
+	private final long capacidade;
+
+	/** Atributo adicionados. */
+	private final AtomicLong adicionados = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param capacidade - Quantidade de valores esperada.
+	 * @param taxaFalsosPositivos - Probabilidade de falsos positivos ao atingir a capacidade, por exemplo <code>0.01</code>.
+	 */
+	public FiltroBloom(final long capacidade, final double taxaFalsosPositivos) {
+		super();
+		if (capacidade <= 0 || taxaFalsosPositivos <= 0 || taxaFalsosPositivos >= 1) {
+			throw new IllegalArgumentException("Capacidade ou taxa de falsos positivos inválida.");
+		}
+
+		final double ln2 = Math.log(2);
+		final long bitsNecessarios = (long) Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (ln2 * ln2));
+		final int palavras = (int) Math.min(Integer.MAX_VALUE, (bitsNecessarios + 63) / 64);
+		this.bits = new AtomicLongArray(palavras);
+		this.tamanho = palavras * 64L;
+		this.funcoes = Math.max(1, (int) Math.round((double) tamanho / capacidade * ln2));
+		this.capacidade = capacidade;
+	}
+
+	/**
+	 * Método responsável por adicionar um valor ao filtro.
+	 * @author Wesley Luiz
+	 * @param valor - Valor a ser adicionado.
+	 */
+	public void adicionar(final CharSequence valor) {
+		final long hash = calcularHash(valor);
+		final long h1 = hash & 0xFFFFFFFFL;
+		final long h2 = hash >>> 32;
+		for (int i = 0; i < funcoes; i++) {
+			final long bit = ((h1 + i * h2) & Long.MAX_VALUE) % tamanho;
+			final int palavra = (int) (bit >>> 6);
+			final long mascara = 1L << bit;
+			long atual = bits.get(palavra);
+			while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+				atual = bits.get(palavra);
+			}
+		}
+		adicionados.incrementAndGet();
+	}
+
+	/**
+	 * Método responsável por verificar se um valor possivelmente foi adicionado ao filtro.
+	 * @author Wesley Luiz
+	 * @param valor - Valor a ser verificado.
+	 * @return Retorna <code>false</code> caso o valor certamente não tenha sido adicionado, ou <code>true</code> caso
+	 * possivelmente tenha sido.
+	 */
+	public boolean isPossivelmenteContido(final CharSequence valor) {
+		final long hash = calcularHash(valor);
+		final long h1 = hash & 0xFFFFFFFFL;
+		final long h2 = hash >>> 32;
+		for (int i = 0; i < funcoes; i++) {
+			final long bit = ((h1 + i * h2) & Long.MAX_VALUE) % tamanho;
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Método responsável por calcular o <i>hash</i> de 64 <i>bits</i> de um texto <i>(FNV-1a seguido da mistura final do MurmurHash3)</i>.
+	 * @author Wesley Luiz
+	 * @param valor - Texto.
+	 * @return Retorna o <i>hash</i> calculado.
+	 */
+	private static long calcularHash(final CharSequence valor) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < valor.length(); i++) {
+			hash ^= valor.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	/**
+	 * Método responsável por estimar a taxa de falsos positivos atual, a partir da quantidade de valores adicionados.
+	 * @author Wesley Luiz
+	 * @return Retorna a probabilidade estimada de falsos positivos.
+	 */
+	public double getTaxaEstimada() {
+		return Math.pow(1 - Math.exp(-funcoes * (double) adicionados.get() / tamanho), funcoes);
+	}
+
+	/**
+	 * Método responsável por verificar se a quantidade de valores adicionados ultrapassou a capacidade do filtro.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso a taxa de falsos positivos já seja maior que a configurada.
+	 */
+	public boolean isSaturado() {
+		return adicionados.get() > capacidade;
+	}
+
+	/**
+	 * Retorna a quantidade de <i>bits</i> do filtro.
+	 * @return <code>long</code>
+	 */
+	public long getTamanho() {
+		return tamanho;
+	}
+
+	/**
+	 * Retorna a quantidade de funções de <i>hash</i>.
+	 * @return <code>int</code>
+	 */
+	public int getFuncoes() {
+		return funcoes;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>adicionados</code>
+	 * @return <code>long</code>
+	 */
+	public long getAdicionados() {
+		return adicionados.get();
+	}
+}
@@ -0,0 +1,91 @@
+package br.com.arquitetura.unicidade;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>RegistroUnicidade</code> mantém os {@link VerificadorUnicidade}(es) da aplicação, um por classe de <code>Entidade</code>,
+ * utilizados pelo {@link br.com.arquitetura.service.Service} antes de cada inclusão.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see VerificadorUnicidade
+ */
+public final class RegistroUnicidade extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante ATUALIZADOR. */
+	private static final AtualizadorUnicidade ATUALIZADOR = new AtualizadorUnicidade();
+
+	/** Constante VERIFICADORES. */
+	private static final ConcurrentMap<Class<?>, VerificadorUnicidade<?>> VERIFICADORES = new ConcurrentHashMap<Class<?>, VerificadorUnicidade<?>>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private RegistroUnicidade() {
+		super();
+	}
+
+	/**
+	 * Método responsável por registrar um verificador, substituindo o verificador anterior da mesma classe, e inscrever o
+	 * {@link AtualizadorUnicidade} no {@link BarramentoEventos}.
+	 * @author Wesley Luiz
+	 * @param verificador - Verificador a ser registrado.
+	 */
+	public static synchronized void registrar(final VerificadorUnicidade<?> verificador) {
+		VERIFICADORES.put(verificador.getClasse(), verificador);
+		BarramentoEventos.getInstance().inscrever(ATUALIZADOR);
+	}
+
+	/**
+	 * Método responsável por remover o verificador de uma classe. Sem verificadores registrados, a inscrição do
+	 * {@link AtualizadorUnicidade} é cancelada.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 */
+	public static synchronized void desregistrar(final Class<? extends Entidade> classe) {
+		VERIFICADORES.remove(classe);
+		if (VERIFICADORES.isEmpty()) {
+			BarramentoEventos.getInstance().cancelar(ATUALIZADOR);
+		}
+	}
+
+	/**
+	 * Método responsável por obter o verificador de uma classe. As <i>super-classes</i> também são consultadas.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @param <E> - Tipo da <code>Entidade</code>.
+	 * @return Retorna o verificador ou <code>null</code> caso a classe não possua verificador registrado.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Entidade> VerificadorUnicidade<E> obter(final Class<? extends E> classe) {
+		if (VERIFICADORES.isEmpty()) {
+			return null;
+		}
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Entidade.class; atual = atual.getSuperclass()) {
+			final VerificadorUnicidade<?> verificador = VERIFICADORES.get(atual);
+			if (isReferencia(verificador)) {
+				return (VerificadorUnicidade<E>) verificador;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Método responsável por incluir os valores de uma <code>Entidade</code> incluída ou alterada no verificador de sua classe, caso exista.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> persistida.
+	 */
+	public static void atualizar(final Entidade entidade) {
+		final VerificadorUnicidade<Entidade> verificador = obter(entidade.getClass());
+		if (isReferencia(verificador)) {
+			verificador.registrar(entidade);
+		}
+	}
+}
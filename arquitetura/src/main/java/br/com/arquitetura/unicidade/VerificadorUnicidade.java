@@ -0,0 +1,335 @@
+package br.com.arquitetura.unicidade;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import org.hibernate.criterion.ProjectionList;
+import org.hibernate.criterion.Projections;
+import org.hibernate.criterion.Restrictions;
+import org.hibernate.criterion.SimpleExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import br.com.arquitetura.annotation.Unico;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.exception.DuplicidadeException;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.util.Texto;
+
+/**
+ * A classe <code>VerificadorUnicidade</code> mantém um {@link FiltroBloom} com os valores existentes de cada atributo anotado com
+ * {@link Unico} de uma <code>Entidade</code>, rejeitando as inclusões duplicadas antes que o <i>Banco de Dados</i> recuse o registro.<br>
+ * Quando o filtro indica que o valor certamente não existe nenhuma consulta é feita. Apenas quando o valor possivelmente existe
+ * a duplicidade é confirmada por uma consulta exata. Exemplo de uso:
+ * <pre>
+ * final VerificadorUnicidade&lt;Cliente&gt; verificador = new VerificadorUnicidade&lt;Cliente&gt;(Cliente.class, 1000000, 0.01);
+ * verificador.carregar(clienteDAO);
+ * RegistroUnicidade.registrar(verificador);
+ * </pre>
+ * Após registrado, o filtro recebe os valores das entidades incluídas e alteradas a cada confirmação de transação. Os valores
+ * removidos ou substituídos continuam no filtro e apenas aumentam a quantidade de consultas exatas, portanto o verificador deve
+ * ser recarregado periodicamente ou quando {@link #isSaturado()} indicar que a capacidade foi ultrapassada.<br>
+ * A verificação é uma otimização: a restrição <code>UNIQUE</code> do <i>Banco de Dados</i> continua sendo a garantia final.
+ *
+ * @author Wesley Luiz
+ * @param <E> - Tipo da <code>Entidade</code> verificada.
+ * @version 1.0.0
+ * @see RegistroUnicidade
+ */
+public class VerificadorUnicidade<E extends Entidade> extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante LOGGER. */
+	private static final Logger LOGGER = LoggerFactory.getLogger(VerificadorUnicidade.class);
+
+	/** Constante TAMANHO_LOTE. */
+	private static final int TAMANHO_LOTE = 1000;
+
+	/** Atributo classe. */
+	private final Class<E> classe;
+
+	/** Atributo campos. */
+	private final List<Field> campos;
+
+	/** Atributo capacidade. */
+	private final long capacidade;
+
+	/** Atributo taxaFalsosPositivos. */
+	private final double taxaFalsosPositivos;
+
+	/** Atributo filtros. */
+	private transient volatile FiltroBloom[] filtros;
+
+	/** Atributo carregando. */
+	private transient volatile FiltroBloom[] carregando;
+
+	/** Atributo verificacoes. */
+	private final AtomicLong verificacoes = new AtomicLong();
+
+	/** Atributo consultas. */
+	private final AtomicLong consultas = new AtomicLong();
+
+	/** Atributo duplicidades. */
+	private final AtomicLong duplicidades = new AtomicLong();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param classe - Classe da <code>Entidade</code> verificada.
+	 * @param capacidade - Quantidade de registros esperada.
+	 * @param taxaFalsosPositivos - Probabilidade de uma inclusão sem duplicidade precisar de uma consulta exata, por exemplo <code>0.01</code>.
+	 */
+	public VerificadorUnicidade(final Class<E> classe, final long capacidade, final double taxaFalsosPositivos) {
+		super();
+		this.classe = classe;
+		this.campos = obterCampos(classe);
+		this.capacidade = capacidade;
+		this.taxaFalsosPositivos = taxaFalsosPositivos;
+
+		if (campos.isEmpty()) {
+			throw new IllegalArgumentException("A classe " + classe.getName() + " não possui atributos anotados com @Unico.");
+		}
+	}
+
+	/**
+	 * Método responsável por obter os atributos anotados com {@link Unico} de uma classe e de suas <i>super-classes</i>.
+	 * @author Wesley Luiz
+	 * @param classe - Classe da <code>Entidade</code>.
+	 * @return Retorna a lista de atributos, já acessíveis por reflexão.
+	 */
+	public static List<Field> obterCampos(final Class<?> classe) {
+		final List<Field> campos = new ArrayList<Field>();
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Object.class; atual = atual.getSuperclass()) {
+			for (final Field field : atual.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Unico.class)) {
+					field.setAccessible(true);
+					campos.add(field);
+				}
+			}
+		}
+		return campos;
+	}
+
+	/**
+	 * Método responsável por carregar os filtros com os valores de todos os registros do <i>DAO</i>, percorridos através de um cursor
+	 * que busca apenas os atributos únicos.<br>
+	 * As verificações continuam utilizando os filtros anteriores até o fim da carga, e os valores registrados nesse intervalo
+	 * são incluídos nos novos filtros.
+	 * @author Wesley Luiz
+	 * @param dao - <i>DAO</i> da <code>Entidade</code> verificada.
+	 */
+	public void carregar(final HibernateDAO<E> dao) {
+		final FiltroBloom[] novos = new FiltroBloom[campos.size()];
+		final ProjectionList projecoes = Projections.projectionList();
+		for (int i = 0; i < novos.length; i++) {
+			novos[i] = new FiltroBloom(capacidade, taxaFalsosPositivos);
+			projecoes.add(Projections.property(campos.get(i).getName()));
+		}
+		carregando = novos;
+
+		final ScrollableResults cursor = dao.percorrer(dao.novoCriteria().setProjection(projecoes), TAMANHO_LOTE);
+		try {
+			while (cursor.next()) {
+				for (int i = 0; i < novos.length; i++) {
+					final Object valor = cursor.get(i);
+					if (isReferencia(valor)) {
+						novos[i].adicionar(gerarChave(i, valor));
+					}
+				}
+			}
+		} finally {
+			cursor.close();
+		}
+
+		filtros = novos;
+		carregando = null;
+	}
+
+	/**
+	 * Método responsável por incluir nos filtros os valores de uma <code>Entidade</code> incluída ou alterada.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> persistida.
+	 */
+	public void registrar(final Entidade entidade) {
+		final FiltroBloom[] atuais = filtros;
+		final FiltroBloom[] novos = carregando;
+		for (int i = 0; i < campos.size(); i++) {
+			final Object valor = obterValor(i, entidade);
+			if (isReferencia(valor)) {
+				final String chave = gerarChave(i, valor);
+				if (isReferencia(atuais)) {
+					atuais[i].adicionar(chave);
+				}
+				if (isReferencia(novos)) {
+					novos[i].adicionar(chave);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por verificar se algum atributo único de uma nova <code>Entidade</code> já está cadastrado.<br>
+	 * Enquanto o verificador não foi carregado nenhuma verificação é feita.
+	 * @author Wesley Luiz
+	 * @param entidade - <code>Entidade</code> que será incluída.
+	 * @param dao - <i>DAO</i> utilizado na confirmação da duplicidade.
+	 * @throws DuplicidadeException Caso algum valor já esteja cadastrado.
+	 */
+	public void verificar(final E entidade, final HibernateDAO<E> dao) throws DuplicidadeException {
+		final FiltroBloom[] atuais = filtros;
+		if (!isReferencia(atuais)) {
+			return;
+		}
+
+		verificacoes.incrementAndGet();
+		for (int i = 0; i < campos.size(); i++) {
+			final Object valor = obterValor(i, entidade);
+			if (isReferencia(valor) && atuais[i].isPossivelmenteContido(gerarChave(i, valor)) && isCadastrado(i, valor, dao)) {
+				duplicidades.incrementAndGet();
+				throw new DuplicidadeException(campos.get(i).getName());
+			}
+		}
+	}
+
+	/**
+	 * Método responsável por verificar um lote de novas entidades, rejeitando também os valores repetidos dentro do próprio lote.
+	 * @author Wesley Luiz
+	 * @param entidades - Entidades que serão incluídas.
+	 * @param dao - <i>DAO</i> utilizado na confirmação da duplicidade.
+	 * @throws DuplicidadeException Caso algum valor já esteja cadastrado ou se repita no lote.
+	 */
+	public void verificar(final List<E> entidades, final HibernateDAO<E> dao) throws DuplicidadeException {
+		final List<Set<String>> vistos = new ArrayList<Set<String>>(campos.size());
+		for (int i = 0; i < campos.size(); i++) {
+			vistos.add(new HashSet<String>());
+		}
+
+		for (final E entidade : entidades) {
+			for (int i = 0; i < campos.size(); i++) {
+				final Object valor = obterValor(i, entidade);
+				if (isReferencia(valor) && !vistos.get(i).add(gerarChave(i, valor))) {
+					duplicidades.incrementAndGet();
+					throw new DuplicidadeException(campos.get(i).getName());
+				}
+			}
+			verificar(entidade, dao);
+		}
+	}
+
+	/**
+	 * Método responsável por confirmar no <i>Banco de Dados</i> se um valor já está cadastrado.
+	 * @author Wesley Luiz
+	 * @param indice - Índice do atributo.
+	 * @param valor - Valor do atributo.
+	 * @param dao - <i>DAO</i> da <code>Entidade</code>.
+	 * @return Retorna <code>true</code> caso exista registro com o valor.
+	 */
+	private boolean isCadastrado(final int indice, final Object valor, final HibernateDAO<E> dao) {
+		consultas.incrementAndGet();
+		final SimpleExpression igual = Restrictions.eq(campos.get(indice).getName(), valor);
+		final Criteria criteria = dao.novoCriteria().add(isIgnorarMaiusculas(indice) ? igual.ignoreCase() : igual);
+		return ((Number) criteria.setProjection(Projections.rowCount()).uniqueResult()).longValue() > 0;
+	}
+
+	private Object obterValor(final int indice, final Entidade entidade) {
+		try {
+			return campos.get(indice).get(entidade);
+		} catch (final IllegalAccessException e) {
+			LOGGER.error("Não foi possível ler o atributo " + campos.get(indice).getName() + ".", e);
+			return null;
+		}
+	}
+
+	private String gerarChave(final int indice, final Object valor) {
+		return gerarChave(campos.get(indice), valor);
+	}
+
+	/**
+	 * Método responsável por obter o valor de um atributo {@link Unico} na forma comparada pelos filtros, ou seja, em letras
+	 * minúsculas quando as maiúsculas são ignoradas.
+	 * @author Wesley Luiz
+	 * @param campo - Atributo anotado com {@link Unico}.
+	 * @param valor - Valor do atributo.
+	 * @return Retorna a chave do valor.
+	 */
+	public static String gerarChave(final Field campo, final Object valor) {
+		return campo.getAnnotation(Unico.class).ignorarMaiusculas() ? Texto.toMinusculas(valor.toString()) : valor.toString();
+	}
+
+	private boolean isIgnorarMaiusculas(final int indice) {
+		return campos.get(indice).getAnnotation(Unico.class).ignorarMaiusculas();
+	}
+
+	/**
+	 * Método responsável por verificar se os filtros já foram carregados.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso as verificações estejam habilitadas.
+	 */
+	public boolean isCarregado() {
+		return isReferencia(filtros);
+	}
+
+	/**
+	 * Método responsável por verificar se algum filtro ultrapassou a capacidade configurada, indicando que deve ser recarregado
+	 * com uma capacidade maior.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso algum filtro esteja saturado.
+	 */
+	public boolean isSaturado() {
+		final FiltroBloom[] atuais = filtros;
+		if (isReferencia(atuais)) {
+			for (final FiltroBloom filtro : atuais) {
+				if (filtro.isSaturado()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>classe</code>
+	 * @return <code>Class&lt;E&gt;</code>
+	 */
+	public Class<E> getClasse() {
+		return classe;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>campos</code>
+	 * @return <code>List&lt;Field&gt;</code>
+	 */
+	public List<Field> getCampos() {
+		return campos;
+	}
+
+	/**
+	 * Retorna a quantidade de entidades verificadas.
+	 * @return <code>long</code>
+	 */
+	public long getVerificacoes() {
+		return verificacoes.get();
+	}
+
+	/**
+	 * Retorna a quantidade de consultas exatas feitas após o filtro indicar um possível valor existente.
+	 * @return <code>long</code>
+	 */
+	public long getConsultas() {
+		return consultas.get();
+	}
+
+	/**
+	 * Retorna a quantidade de duplicidades confirmadas.
+	 * @return <code>long</code>
+	 */
+	public long getDuplicidades() {
+		return duplicidades.get();
+	}
+}
@@ -0,0 +1,412 @@
+package br.com.arquitetura.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.evento.BarramentoEventos;
+import br.com.arquitetura.evento.EventoEntidade;
+import br.com.arquitetura.evento.OuvinteEntidade;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>CacheRelatorios</code> é responsável por armazenar em memória o conteúdo exportado dos relatórios,
+ * evitando que o mesmo relatório seja preenchido e exportado novamente enquanto os seus dados não forem alterados.<br>
+ * Cada relatório é identificado pelo <i>template</i>, pelos parâmetros e pelas entidades utilizadas no preenchimento.
+ * O total armazenado é limitado em <i>bytes</i> e os relatórios menos acessados são descartados primeiro. Exemplo de uso:
+ * <pre>
+ * CacheRelatorios.getInstance().habilitar(64 * 1024 * 1024);
+ * </pre>
+ * Enquanto habilitado, os relatórios gerados por {@link UtilReports} a partir de coleções são respondidos com o cabeçalho
+ * <code>ETag</code>, e requisições com <code>If-None-Match</code> equivalente recebem <code>304 Not Modified</code>.
+ * Os relatórios dependentes de uma classe são descartados quando o {@link BarramentoEventos}
+ * notifica a confirmação de uma alteração em entidades dessa classe ou das entidades associadas a ela. Um relatório preenchido
+ * enquanto uma alteração é confirmada não é armazenado, pois a {@link #obterGeracao() geração} obtida antes do preenchimento
+ * deixa de ser a atual.<br>
+ * As notificações alcançam apenas a JVM que confirmou a alteração. Os relatórios expiram após o
+ * {@link #getTempoValidade() tempo de validade}, que limita o tempo em que um nó responde com dados alterados por outro nó ou
+ * diretamente no <i>Banco de Dados</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see RelatorioRenderizado
+ */
+public final class CacheRelatorios extends Objeto implements OuvinteEntidade {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante ALGORITMO_RESUMO. */
+	private static final String ALGORITMO_RESUMO = "SHA-256";
+
+	/** Constante UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** Constante HEXADECIMAL. */
+	private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+	/** Constante TEMPO_VALIDADE_PADRAO. */
+	public static final long TEMPO_VALIDADE_PADRAO = 300000;
+
+	/** Constante INSTANCIA. */
+	private static final CacheRelatorios INSTANCIA = new CacheRelatorios();
+
+	/** Atributo relatorios. */
+	private final Map<String, RelatorioRenderizado> relatorios = new LinkedHashMap<String, RelatorioRenderizado>(16, 0.75f, true);
+
+	/** Atributo bytesMaximos. */
+	private long bytesMaximos;
+
+	/** Atributo bytesAtuais. */
+	private long bytesAtuais;
+
+	/** Atributo tempoValidade. */
+	private long tempoValidade = TEMPO_VALIDADE_PADRAO;
+
+	/** Atributo geracao. */
+	private long geracao;
+
+	/** Atributo acertos. */
+	private long acertos;
+
+	/** Atributo expiracoes. */
+	private long expiracoes;
+
+	/** Atributo falhas. */
+	private long falhas;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 */
+	private CacheRelatorios() {
+		super();
+	}
+
+	/**
+	 * Método responsável por obter uma única instância dessa classe.
+	 * @author Wesley Luiz
+	 * @return Retorna um objeto da própria classe.
+	 */
+	public static CacheRelatorios getInstance() {
+		return INSTANCIA;
+	}
+
+	/**
+	 * Método responsável por habilitar o <i>cache</i>, definindo o total de <i>bytes</i> que pode ser armazenado, e inscrevê-lo
+	 * no {@link BarramentoEventos} para receber as alterações das entidades.
+	 * @author Wesley Luiz
+	 * @param bytesMaximos - Total de <i>bytes</i> armazenados.
+	 */
+	public synchronized void habilitar(final long bytesMaximos) {
+		this.bytesMaximos = bytesMaximos;
+		descartarExcedente();
+		BarramentoEventos.getInstance().inscrever(this);
+	}
+
+	/**
+	 * Método responsável por desabilitar o <i>cache</i>, descartando todos os relatórios armazenados e cancelando a inscrição no
+	 * {@link BarramentoEventos}.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void desabilitar() {
+		BarramentoEventos.getInstance().cancelar(this);
+		bytesMaximos = 0;
+		limpar();
+	}
+
+	/**
+	 * Método responsável por verificar se o <i>cache</i> está habilitado.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso esteja habilitado.
+	 */
+	public synchronized boolean isHabilitado() {
+		return bytesMaximos > 0;
+	}
+
+	/**
+	 * Método responsável por obter um relatório armazenado. Relatórios armazenados há mais tempo que o tempo de validade são descartados.
+	 * @author Wesley Luiz
+	 * @param chave - Chave gerada pelo método {@link #gerarChave(String, Map, Collection)}.
+	 * @return Retorna o relatório ou <code>null</code> caso não esteja armazenado.
+	 */
+	public synchronized RelatorioRenderizado obter(final String chave) {
+		final RelatorioRenderizado relatorio = relatorios.get(chave);
+		if (isReferencia(relatorio) && relatorio.isExpirado(tempoValidade)) {
+			relatorios.remove(chave);
+			bytesAtuais -= relatorio.getTamanho();
+			expiracoes++;
+			falhas++;
+			return null;
+		}
+		if (isReferencia(relatorio)) {
+			acertos++;
+		} else {
+			falhas++;
+		}
+		return relatorio;
+	}
+
+	/**
+	 * Método responsável por obter a geração atual do <i>cache</i>, incrementada a cada invalidação. Deve ser obtida antes do
+	 * preenchimento do relatório e informada em {@link #armazenar(String, RelatorioRenderizado, long)}.
+	 * @author Wesley Luiz
+	 * @return Retorna a geração atual.
+	 */
+	public synchronized long obterGeracao() {
+		return geracao;
+	}
+
+	/**
+	 * Método responsável por armazenar um relatório, desde que nenhuma invalidação tenha ocorrido desde que a geração informada
+	 * foi obtida. Relatórios maiores que o total permitido não são armazenados.
+	 * @author Wesley Luiz
+	 * @param chave - Chave gerada pelo método {@link #gerarChave(String, Map, Collection)}.
+	 * @param relatorio - Relatório a ser armazenado.
+	 * @param geracaoPreenchimento - Geração obtida através de {@link #obterGeracao()} antes do preenchimento.
+	 * @return Retorna <code>true</code> caso o relatório tenha sido armazenado.
+	 */
+	public synchronized boolean armazenar(final String chave, final RelatorioRenderizado relatorio, final long geracaoPreenchimento) {
+		if (geracaoPreenchimento != geracao || relatorio.getTamanho() > bytesMaximos) {
+			return false;
+		}
+
+		final RelatorioRenderizado anterior = relatorios.put(chave, relatorio);
+		if (isReferencia(anterior)) {
+			bytesAtuais -= anterior.getTamanho();
+		}
+		bytesAtuais += relatorio.getTamanho();
+		descartarExcedente();
+		return true;
+	}
+
+	/**
+	 * Método responsável por descartar todos os relatórios preenchidos com objetos de uma determinada classe.
+	 * @author Wesley Luiz
+	 * @param classe - Classe dos objetos alterados.
+	 */
+	public synchronized void invalidar(final Class<?> classe) {
+		geracao++;
+		final Iterator<RelatorioRenderizado> iterator = relatorios.values().iterator();
+		while (iterator.hasNext()) {
+			final RelatorioRenderizado relatorio = iterator.next();
+			if (relatorio.isDependente(classe)) {
+				bytesAtuais -= relatorio.getTamanho();
+				iterator.remove();
+			}
+		}
+	}
+
+	@Override
+	public void notificar(final EventoEntidade evento) {
+		invalidar(evento.getClasse());
+	}
+
+	/**
+	 * Método responsável por descartar todos os relatórios armazenados.
+	 * @author Wesley Luiz
+	 */
+	public synchronized void limpar() {
+		geracao++;
+		relatorios.clear();
+		bytesAtuais = 0;
+	}
+
+	/**
+	 * Método responsável por descartar os relatórios menos acessados até que o total armazenado respeite o limite.
+	 * @author Wesley Luiz
+	 */
+	private void descartarExcedente() {
+		final Iterator<RelatorioRenderizado> iterator = relatorios.values().iterator();
+		while (bytesAtuais > bytesMaximos && iterator.hasNext()) {
+			bytesAtuais -= iterator.next().getTamanho();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Método responsável por gerar a chave de um relatório a partir do <i>template</i>, dos parâmetros e dos dados.<br>
+	 * Os dados são identificados pela classe e pelo identificador de cada <code>Entidade</code>, já que as alterações de conteúdo
+	 * descartam os relatórios dependentes através de {@link #notificar(EventoEntidade)}. Coleções com outros tipos de objeto ou
+	 * com entidades ainda não persistidas não podem ser identificadas dessa forma e devem utilizar
+	 * {@link #gerarChave(String, Map, String)} com uma versão fornecida pela aplicação.
+	 * @author Wesley Luiz
+	 * @param template - Nome do <i>template</i> e formato do relatório.
+	 * @param parametros - Parâmetros do relatório.
+	 * @param dados - Dados utilizados no preenchimento.
+	 * @return Retorna uma <code>String</code> com o resumo em hexadecimal, ou <code>null</code> caso os dados não possam ser identificados.
+	 */
+	public static String gerarChave(final String template, final Map<String, Object> parametros, final Collection<?> dados) {
+		final MessageDigest digest = iniciarResumo(template, parametros);
+		if (isReferencia(dados)) {
+			final StringBuilder identificacao = new StringBuilder();
+			for (final Object dado : dados) {
+				if (!(dado instanceof Entidade) || !isReferencia(((Entidade) dado).getId())) {
+					return null;
+				}
+				identificacao.setLength(0);
+				identificacao.append(dado.getClass().getName()).append('#').append(((Entidade) dado).getId()).append('\n');
+				digest.update(identificacao.toString().getBytes(UTF_8));
+			}
+		}
+		return hexadecimal(digest.digest());
+	}
+
+	/**
+	 * Método responsável por gerar a chave de um relatório a partir do <i>template</i>, dos parâmetros e de uma versão dos dados
+	 * fornecida pela aplicação, como a data da última alteração ou a lista de identificadores, que deve mudar sempre que os dados mudarem.
+	 * @author Wesley Luiz
+	 * @param template - Nome do <i>template</i> e formato do relatório.
+	 * @param parametros - Parâmetros do relatório.
+	 * @param versaoDados - Versão dos dados utilizados no preenchimento.
+	 * @return Retorna uma <code>String</code> com o resumo em hexadecimal.
+	 */
+	public static String gerarChave(final String template, final Map<String, Object> parametros, final String versaoDados) {
+		final MessageDigest digest = iniciarResumo(template, parametros);
+		digest.update(versaoDados.getBytes(UTF_8));
+		return hexadecimal(digest.digest());
+	}
+
+	private static MessageDigest iniciarResumo(final String template, final Map<String, Object> parametros) {
+		final MessageDigest digest = novoResumo();
+		digest.update((template + "\n").getBytes(UTF_8));
+		if (isReferencia(parametros)) {
+			for (final Map.Entry<String, Object> parametro : new TreeMap<String, Object>(parametros).entrySet()) {
+				digest.update((parametro.getKey() + "=" + parametro.getValue() + "\n").getBytes(UTF_8));
+			}
+		}
+		return digest;
+	}
+
+	/**
+	 * Método responsável por obter as classes dos objetos de uma coleção, utilizadas na invalidação dos relatórios.<br>
+	 * Para cada <code>Entidade</code> são incluídas também as classes das entidades associadas, direta ou indiretamente, através
+	 * de atributos ou de coleções, pois o relatório pode exibir os seus dados. As associações são obtidas das declarações dos
+	 * atributos, sem percorrer os objetos, e as entidades utilizadas apenas pelos parâmetros ou por sub-relatórios devem ser
+	 * identificadas na chave através de {@link #gerarChave(String, Map, String)}.
+	 * @author Wesley Luiz
+	 * @param dados - Dados utilizados no preenchimento.
+	 * @return Retorna um <code>Set</code> com as classes encontradas.
+	 */
+	public static Set<Class<?>> obterDependencias(final Collection<?> dados) {
+		final Set<Class<?>> dependencias = new HashSet<Class<?>>();
+		if (isReferencia(dados)) {
+			for (final Object dado : dados) {
+				if (isReferencia(dado) && dependencias.add(dado.getClass())) {
+					incluirAssociacoes(dado.getClass(), dependencias);
+				}
+			}
+		}
+		return dependencias;
+	}
+
+	private static void incluirAssociacoes(final Class<?> classe, final Set<Class<?>> dependencias) {
+		for (Class<?> atual = classe; isReferencia(atual) && atual != Object.class; atual = atual.getSuperclass()) {
+			for (final Field field : atual.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				incluirAssociacao(field.getType(), dependencias);
+				if (field.getGenericType() instanceof ParameterizedType) {
+					for (final Type argumento : ((ParameterizedType) field.getGenericType()).getActualTypeArguments()) {
+						if (argumento instanceof Class) {
+							incluirAssociacao((Class<?>) argumento, dependencias);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static void incluirAssociacao(final Class<?> tipo, final Set<Class<?>> dependencias) {
+		if (Entidade.class.isAssignableFrom(tipo) && dependencias.add(tipo)) {
+			incluirAssociacoes(tipo, dependencias);
+		}
+	}
+
+	/**
+	 * Método responsável por resumir um conteúdo.
+	 * @author Wesley Luiz
+	 * @param conteudo - Conteúdo a ser resumido.
+	 * @return Retorna uma <code>String</code> com o resumo em hexadecimal.
+	 */
+	static String resumir(final byte[] conteudo) {
+		return hexadecimal(novoResumo().digest(conteudo));
+	}
+
+	private static MessageDigest novoResumo() {
+		try {
+			return MessageDigest.getInstance(ALGORITMO_RESUMO);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String hexadecimal(final byte[] bytes) {
+		final char[] caracteres = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			caracteres[i * 2] = HEXADECIMAL[(bytes[i] >> 4) & 0xF];
+			caracteres[i * 2 + 1] = HEXADECIMAL[bytes[i] & 0xF];
+		}
+		return new String(caracteres);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>bytesAtuais</code>
+	 * @return <code>long</code>
+	 */
+	public synchronized long getBytesAtuais() {
+		return bytesAtuais;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>acertos</code>
+	 * @return <code>long</code>
+	 */
+	public synchronized long getAcertos() {
+		return acertos;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>expiracoes</code>
+	 * @return <code>long</code>
+	 */
+	public synchronized long getExpiracoes() {
+		return expiracoes;
+	}
+
+	/**
+	 * Retorna o tempo, em milissegundos, que um relatório armazenado é utilizado antes de ser preenchido novamente.
+	 * @return <code>long</code>
+	 */
+	public synchronized long getTempoValidade() {
+		return tempoValidade;
+	}
+
+	/**
+	 * Define o valor do atributo <code>tempoValidade</code>, em milissegundos. Com zero os relatórios não expiram, o que é seguro
+	 * apenas quando todas as alterações são feitas por uma única instância da aplicação.
+	 * @param tempoValidade
+	 */
+	public synchronized void setTempoValidade(final long tempoValidade) {
+		this.tempoValidade = tempoValidade;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>falhas</code>
+	 * @return <code>long</code>
+	 */
+	public synchronized long getFalhas() {
+		return falhas;
+	}
+}
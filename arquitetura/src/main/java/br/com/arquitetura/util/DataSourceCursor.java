@@ -0,0 +1,156 @@
+package br.com.arquitetura.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+import net.sf.jasperreports.engine.data.JRAbstractBeanDataSource;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import br.com.arquitetura.dao.HibernateDAO;
+
+/**
+ * A classe <code>DataSourceCursor</code> é uma fonte de dados <i>JasperReports</i> que busca os registros diretamente
+ * de um {@link HibernateDAO} através de um cursor, em lotes de <code>tamanhoLote</code> linhas.<br>
+ * A cada lote as entidades carregadas pelo cursor são desassociadas da <i>Sessão</i> do <code>Hibernate</code>, dessa forma o
+ * consumo de memória do preenchimento não cresce com a quantidade de registros. As entidades que já estavam na <i>Sessão</i> quando
+ * o cursor foi aberto, como as carregadas ou alteradas pela requisição, são mantidas. O <code>Criteria</code> é alterado por
+ * {@link HibernateDAO#percorrer(Criteria, int)} e não deve ser reutilizado. Exemplo de uso:
+ * <pre>
+ * Criteria criteria = dao.novoCriteria().setProjection(Projections.projectionList()
+ * 	.add(Projections.property("nome"), "nome")
+ * 	.add(Projections.property("cidade.nome"), "cidade"));
+ * UtilReports.gerarRelatorioPDF(new DataSourceCursor(dao, criteria, 500, "nome", "cidade"), parametros, "clientes.jasper", context, false, Virtualizacao.AUTOMATICA);
+ * </pre>
+ * Quando nenhum <i>alias</i> é informado, cada linha é tratada como um <i>bean</i> e os campos do relatório são lidos através de suas propriedades.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see HibernateDAO#percorrer(Criteria, int)
+ */
+public class DataSourceCursor extends JRAbstractBeanDataSource {
+
+	/** Constante TAMANHO_LOTE_PADRAO. */
+	public static final int TAMANHO_LOTE_PADRAO = 500;
+
+	/** Atributo dao. */
+	private final HibernateDAO<?> dao;
+
+	/** Atributo criteria. */
+	private final Criteria criteria;
+
+	/** Atributo tamanhoLote. */
+	private final int tamanhoLote;
+
+	/** Atributo aliases. */
+	private final Map<String, Integer> aliases;
+
+	/** Atributo anteriores. */
+	private Set<Object> anteriores;
+
+	/** Atributo cursor. */
+	private ScrollableResults cursor;
+
+	/** Atributo linha. */
+	private Object[] linha;
+
+	/** Atributo lidos. */
+	private long lidos;
+
+	/** Atributo finalizado. */
+	private boolean finalizado;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe, percorrendo todas as entidades do <i>DAO</i>.
+	 * @param dao - <i>DAO</i> de onde os registros serão lidos.
+	 */
+	public DataSourceCursor(final HibernateDAO<?> dao) {
+		this(dao, dao.novoCriteria(), TAMANHO_LOTE_PADRAO);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param dao - <i>DAO</i> de onde os registros serão lidos.
+	 * @param criteria - <code>Criteria</code> criado a partir do <i>DAO</i>.
+	 * @param tamanhoLote - Quantidade de linhas lidas entre cada desassociação das entidades carregadas.
+	 * @param aliases - <i>Aliases</i> das colunas da projeção, na mesma ordem do <code>Criteria</code>. Não deve ser informado para entidades.
+	 */
+	public DataSourceCursor(final HibernateDAO<?> dao, final Criteria criteria, final int tamanhoLote, final String... aliases) {
+		super(false);
+		this.dao = dao;
+		this.criteria = criteria;
+		this.tamanhoLote = tamanhoLote;
+		this.aliases = new HashMap<String, Integer>();
+
+		for (int i = 0; i < aliases.length; i++) {
+			this.aliases.put(aliases[i], i);
+		}
+	}
+
+	@Override
+	public boolean next() throws JRException {
+		if (finalizado) {
+			return false;
+		}
+
+		if (cursor == null) {
+			anteriores = dao.obterEntidadesSessao();
+			cursor = dao.percorrer(criteria, tamanhoLote);
+		} else if (lidos % tamanhoLote == 0) {
+			dao.desassociarCarregados(anteriores);
+		}
+
+		if (cursor.next()) {
+			linha = cursor.get();
+			lidos++;
+			return true;
+		}
+
+		fechar();
+		finalizado = true;
+		return false;
+	}
+
+	@Override
+	public Object getFieldValue(final JRField field) throws JRException {
+		if (aliases.isEmpty()) {
+			return getFieldValue(linha[0], field);
+		}
+
+		final Integer indice = aliases.get(getPropertyName(field));
+		if (indice == null) {
+			throw new JRException("O campo '" + field.getName() + "' não pertence à projeção.");
+		}
+		return linha[indice];
+	}
+
+	@Override
+	public void moveFirst() throws JRException {
+		fechar();
+		lidos = 0;
+		finalizado = false;
+	}
+
+	/**
+	 * Método responsável por fechar o cursor e liberar os objetos da última linha lida.
+	 * @author Wesley Luiz
+	 */
+	public void fechar() {
+		if (cursor != null) {
+			cursor.close();
+			cursor = null;
+			dao.desassociarCarregados(anteriores);
+			anteriores = null;
+		}
+		linha = null;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>lidos</code>
+	 * @return <code>long</code>
+	 */
+	public long getLidos() {
+		return lidos;
+	}
+}
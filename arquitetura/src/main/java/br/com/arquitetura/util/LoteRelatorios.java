@@ -0,0 +1,375 @@
+package br.com.arquitetura.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.faces.context.FacesContext;
+import javax.servlet.http.HttpServletResponse;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperExportManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import net.sf.jasperreports.engine.util.JRLoader;
+import br.com.arquitetura.objeto.Objeto;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfReader;
+
+/**
+ * A classe <code>LoteRelatorios</code> é responsável por gerar uma grande quantidade de relatórios em paralelo,
+ * gravando o resultado em um único <i>PDF</i> concatenado ou em um arquivo <i>ZIP</i> com um <i>PDF</i> por tarefa.<br>
+ * O preenchimento e a exportação de cada {@link TarefaRelatorio} são executados em um conjunto limitado de <i>threads</i>,
+ * enquanto a gravação no destino acontece na <i>thread</i> que iniciou o lote, respeitando a ordem das tarefas.
+ * Cada <i>template</i> é carregado uma única vez e compartilhado entre as <i>threads</i>. Exemplo de uso:
+ * <pre>
+ * final LoteRelatorios lote = new LoteRelatorios(FacesContext.getCurrentInstance());
+ * try (OutputStream saida = new FileOutputStream("/tmp/fechamento.zip")) {
+ * 	final ResultadoLote resultado = lote.gerarZIP(tarefas, saida, progresso);
+ * }
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see TarefaRelatorio
+ * @see ProgressoLote
+ */
+public class LoteRelatorios extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante MIME_TYPE_ZIP. */
+	private static final String MIME_TYPE_ZIP = "application/zip";
+
+	/** Constante MIME_TYPE_PDF. */
+	private static final String MIME_TYPE_PDF = "application/pdf";
+
+	/** Atributo diretorio. */
+	private final String diretorio;
+
+	/** Atributo threads. */
+	private final int threads;
+
+	/** Atributo virtualizacao. */
+	private final Virtualizacao virtualizacao;
+
+	/** Atributo templates. */
+	private final transient ConcurrentMap<String, JasperReport> templates = new ConcurrentHashMap<String, JasperReport>();
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe, utilizando o diretório de relatórios da aplicação
+	 * e uma <i>thread</i> por processador.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 */
+	public LoteRelatorios(final FacesContext facesContext) {
+		this(UtilReports.obterDiretorioRelatorios(facesContext), Runtime.getRuntime().availableProcessors(), Virtualizacao.AUTOMATICA);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe fora de uma requisição <i>web</i>, utilizando o diretório de relatórios
+	 * resolvido pelo {@link br.com.arquitetura.ambiente.AmbienteExecucao} e uma <i>thread</i> por processador.
+	 */
+	public LoteRelatorios() {
+		this((FacesContext) null);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param diretorio - Diretório onde se encontram os arquivos <i>(.jasper)</i>.
+	 * @param threads - Quantidade de relatórios processados simultaneamente.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento de cada tarefa, ou <code>null</code> para desabilitá-la.
+	 */
+	public LoteRelatorios(final String diretorio, final int threads, final Virtualizacao virtualizacao) {
+		super();
+		this.diretorio = diretorio;
+		this.threads = threads;
+		this.virtualizacao = virtualizacao;
+	}
+
+	/**
+	 * Método responsável por gerar os relatórios em um único <i>PDF</i>, com as páginas na ordem das tarefas.
+	 * @author Wesley Luiz
+	 * @param tarefas - Tarefas do lote.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param progresso - Receptor do andamento do lote, pode ser <code>null</code>.
+	 * @return Retorna o resultado do lote.
+	 * @throws IOException
+	 */
+	public ResultadoLote gerarPDF(final List<TarefaRelatorio> tarefas, final OutputStream saida, final ProgressoLote progresso) throws IOException {
+		final DestinoPDF destino = new DestinoPDF(saida);
+		final ResultadoLote resultado = processar(tarefas, destino, progresso);
+		destino.finalizar();
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por gerar os relatórios em um arquivo <i>ZIP</i>, com um <i>PDF</i> por tarefa.
+	 * @author Wesley Luiz
+	 * @param tarefas - Tarefas do lote.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param progresso - Receptor do andamento do lote, pode ser <code>null</code>.
+	 * @return Retorna o resultado do lote.
+	 * @throws IOException
+	 */
+	public ResultadoLote gerarZIP(final List<TarefaRelatorio> tarefas, final OutputStream saida, final ProgressoLote progresso) throws IOException {
+		final DestinoZIP destino = new DestinoZIP(saida);
+		final ResultadoLote resultado = processar(tarefas, destino, progresso);
+		destino.finalizar();
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por gerar os relatórios na resposta da requisição corrente como um arquivo anexo.
+	 * @author Wesley Luiz
+	 * @param tarefas - Tarefas do lote.
+	 * @param nomeArquivo - Nome do arquivo, sem extensão.
+	 * @param isZip - Indica se o resultado será um <i>ZIP</i> ou um único <i>PDF</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param progresso - Receptor do andamento do lote, pode ser <code>null</code>.
+	 * @return Retorna o resultado do lote.
+	 * @throws IOException
+	 */
+	public ResultadoLote gerar(final List<TarefaRelatorio> tarefas, final String nomeArquivo, final boolean isZip, final FacesContext facesContext, final ProgressoLote progresso) throws IOException {
+		final HttpServletResponse response = (HttpServletResponse) facesContext.getExternalContext().getResponse();
+		response.setContentType(isZip ? MIME_TYPE_ZIP : MIME_TYPE_PDF);
+		response.setHeader("Content-disposition", "attachment; filename=\"" + nomeArquivo + (isZip ? ".zip" : ".pdf") + "\"");
+
+		final OutputStream outputStream = response.getOutputStream();
+		final ResultadoLote resultado = isZip ? gerarZIP(tarefas, outputStream, progresso) : gerarPDF(tarefas, outputStream, progresso);
+		outputStream.close();
+
+		facesContext.responseComplete();
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por distribuir as tarefas entre as <i>threads</i> e gravar os resultados no destino na ordem das tarefas.<br>
+	 * No máximo o dobro da quantidade de <i>threads</i> fica em andamento, limitando a memória ocupada pelos relatórios ainda não gravados.
+	 * @author Wesley Luiz
+	 * @param tarefas - Tarefas do lote.
+	 * @param destino - Destino dos relatórios exportados.
+	 * @param progresso - Receptor do andamento do lote, pode ser <code>null</code>.
+	 * @return Retorna o resultado do lote.
+	 * @throws IOException
+	 */
+	private ResultadoLote processar(final List<TarefaRelatorio> tarefas, final Destino destino, final ProgressoLote progresso) throws IOException {
+		final long inicio = System.currentTimeMillis();
+		final ResultadoLote resultado = new ResultadoLote(tarefas.size());
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		final Deque<Future<byte[]>> pendentes = new ArrayDeque<Future<byte[]>>();
+		final int janela = threads * 2;
+		int proxima = 0;
+		int gravada = 0;
+
+		try {
+			while (gravada < tarefas.size()) {
+				while (proxima < tarefas.size() && pendentes.size() < janela) {
+					pendentes.addLast(executor.submit(new Renderizacao(tarefas.get(proxima++))));
+				}
+
+				final TarefaRelatorio tarefa = tarefas.get(gravada++);
+				try {
+					destino.gravar(tarefa, pendentes.removeFirst().get());
+					resultado.registrarConclusao();
+					if (isReferencia(progresso)) {
+						progresso.concluida(tarefa, resultado.getProcessadas(), resultado.getTotal());
+					}
+				} catch (final ExecutionException e) {
+					final Exception causa = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+					resultado.registrarFalha(tarefa, causa);
+					if (isReferencia(progresso)) {
+						progresso.falhou(tarefa, causa, resultado.getProcessadas(), resultado.getTotal());
+					}
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("A geração do lote foi interrompida.", e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		resultado.registrarDuracao(System.currentTimeMillis() - inicio);
+		return resultado;
+	}
+
+	/**
+	 * Método responsável por obter um <i>template</i> compilado, carregando-o do disco apenas no primeiro acesso.
+	 * @author Wesley Luiz
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @return Retorna o <i>template</i> compartilhado entre as <i>threads</i>.
+	 * @throws JRException
+	 */
+	private JasperReport obterTemplate(final String jasperFileName) throws JRException {
+		JasperReport template = templates.get(jasperFileName);
+		if (!isReferencia(template)) {
+			template = (JasperReport) JRLoader.loadObject(new File(diretorio, jasperFileName));
+			final JasperReport existente = templates.putIfAbsent(jasperFileName, template);
+			if (isReferencia(existente)) {
+				template = existente;
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Método responsável por preencher e exportar uma tarefa, executado em uma das <i>threads</i> do lote.
+	 * @author Wesley Luiz
+	 * @param tarefa - Tarefa a ser renderizada.
+	 * @return Retorna o <i>PDF</i> da tarefa.
+	 * @throws JRException
+	 */
+	byte[] renderizar(final TarefaRelatorio tarefa) throws JRException {
+		final JRAbstractLRUVirtualizer virtualizador = UtilReports.criarVirtualizador(virtualizacao, tarefa.obterTamanho());
+		final JRDataSource dataSource = tarefa.obterDataSource();
+		final Map<String, Object> parametros = tarefa.copiarParametros();
+
+		if (isReferencia(virtualizador)) {
+			parametros.put(JRParameter.REPORT_VIRTUALIZER, virtualizador);
+		}
+
+		try {
+			final JasperPrint print = JasperFillManager.fillReport(obterTemplate(tarefa.getJasperFileName()), parametros, dataSource);
+			if (isReferencia(virtualizador)) {
+				virtualizador.setReadOnly(true);
+			}
+			return JasperExportManager.exportReportToPdf(print);
+		} finally {
+			if (dataSource instanceof DataSourceCursor) {
+				((DataSourceCursor) dataSource).fechar();
+			}
+			if (isReferencia(virtualizador)) {
+				virtualizador.cleanup();
+			}
+		}
+	}
+
+	/**
+	 * Preenchimento e exportação de uma tarefa, executados em uma das <i>threads</i> do lote.
+	 */
+	private final class Renderizacao implements Callable<byte[]> {
+
+		/** Atributo tarefa. */
+		private final TarefaRelatorio tarefa;
+
+		Renderizacao(final TarefaRelatorio tarefa) {
+			this.tarefa = tarefa;
+		}
+
+		@Override
+		public byte[] call() throws JRException {
+			return renderizar(tarefa);
+		}
+	}
+
+	/**
+	 * Destino dos relatórios exportados, utilizado apenas pela <i>thread</i> que iniciou o lote.
+	 */
+	private interface Destino {
+
+		void gravar(final TarefaRelatorio tarefa, final byte[] pdf) throws IOException;
+
+		void finalizar() throws IOException;
+	}
+
+	/**
+	 * Destino que concatena as páginas de todos os relatórios em um único <i>PDF</i>.
+	 */
+	private static final class DestinoPDF implements Destino {
+
+		/** Atributo saida. */
+		private final OutputStream saida;
+
+		/** Atributo documento. */
+		private Document documento;
+
+		/** Atributo copia. */
+		private PdfCopy copia;
+
+		DestinoPDF(final OutputStream saida) {
+			this.saida = saida;
+		}
+
+		@Override
+		public void gravar(final TarefaRelatorio tarefa, final byte[] pdf) throws IOException {
+			try {
+				if (copia == null) {
+					documento = new Document();
+					copia = new PdfCopy(documento, saida);
+					copia.setCloseStream(false);
+					documento.open();
+				}
+
+				final PdfReader leitor = new PdfReader(pdf);
+				for (int pagina = 1; pagina <= leitor.getNumberOfPages(); pagina++) {
+					copia.addPage(copia.getImportedPage(leitor, pagina));
+				}
+				copia.freeReader(leitor);
+			} catch (final DocumentException e) {
+				throw new IOException("Não foi possível concatenar o relatório '" + tarefa.getNome() + "'.", e);
+			}
+		}
+
+		@Override
+		public void finalizar() throws IOException {
+			if (documento != null) {
+				documento.close();
+			}
+			saida.flush();
+		}
+	}
+
+	/**
+	 * Destino que grava cada relatório como uma entrada de um arquivo <i>ZIP</i>.
+	 */
+	private static final class DestinoZIP implements Destino {
+
+		/** Atributo zip. */
+		private final ZipOutputStream zip;
+
+		/** Atributo nomes. */
+		private final Set<String> nomes = new HashSet<String>();
+
+		DestinoZIP(final OutputStream saida) {
+			this.zip = new ZipOutputStream(saida);
+		}
+
+		@Override
+		public void gravar(final TarefaRelatorio tarefa, final byte[] pdf) throws IOException {
+			String nome = tarefa.getNome() + ".pdf";
+			for (int i = 2; !nomes.add(nome); i++) {
+				nome = tarefa.getNome() + "-" + i + ".pdf";
+			}
+
+			zip.putNextEntry(new ZipEntry(nome));
+			zip.write(pdf);
+			zip.closeEntry();
+		}
+
+		@Override
+		public void finalizar() throws IOException {
+			zip.finish();
+			zip.flush();
+		}
+	}
+}
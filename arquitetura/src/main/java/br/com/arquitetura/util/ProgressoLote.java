@@ -0,0 +1,32 @@
+package br.com.arquitetura.util;
+
+/**
+ * Interface responsável por receber o andamento de um {@link LoteRelatorios}.<br>
+ * Os métodos são chamados na <i>thread</i> que iniciou o lote, na ordem em que as tarefas foram informadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public interface ProgressoLote {
+
+	/**
+	 * Método chamado após uma tarefa ser gravada no destino.
+	 *
+	 * @author Wesley Luiz
+	 * @param tarefa - Tarefa concluída.
+	 * @param processadas - Quantidade de tarefas processadas até o momento, incluindo as que falharam.
+	 * @param total - Quantidade total de tarefas do lote.
+	 */
+	void concluida(final TarefaRelatorio tarefa, final int processadas, final int total);
+
+	/**
+	 * Método chamado quando o preenchimento ou a exportação de uma tarefa falha. As demais tarefas continuam sendo processadas.
+	 *
+	 * @author Wesley Luiz
+	 * @param tarefa - Tarefa que falhou.
+	 * @param excecao - Exceção lançada.
+	 * @param processadas - Quantidade de tarefas processadas até o momento, incluindo as que falharam.
+	 * @param total - Quantidade total de tarefas do lote.
+	 */
+	void falhou(final TarefaRelatorio tarefa, final Exception excecao, final int processadas, final int total);
+}
@@ -0,0 +1,92 @@
+package br.com.arquitetura.util;
+
+import java.util.Collections;
+import java.util.Set;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>RelatorioRenderizado</code> representa o conteúdo já exportado de um relatório, armazenado no {@link CacheRelatorios}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class RelatorioRenderizado extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo conteudo. */
+	private final byte[] conteudo;
+
+	/** Atributo etag. */
+	private final String etag;
+
+	/** Atributo dependencias. */
+	private final Set<Class<?>> dependencias;
+
+	/** Atributo criacao. */
+	private final long criacao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param conteudo - Conteúdo exportado do relatório.
+	 * @param dependencias - Classes dos objetos utilizados no preenchimento, utilizadas na invalidação.
+	 */
+	public RelatorioRenderizado(final byte[] conteudo, final Set<Class<?>> dependencias) {
+		super();
+		this.conteudo = conteudo;
+		this.etag = "\"" + CacheRelatorios.resumir(conteudo) + "\"";
+		this.dependencias = Collections.unmodifiableSet(dependencias);
+		this.criacao = System.currentTimeMillis();
+	}
+
+	/**
+	 * Método responsável por verificar se o relatório foi renderizado há mais tempo que o tempo de validade.
+	 * @author Wesley Luiz
+	 * @param tempoValidade - Tempo de validade, em milissegundos, ou zero caso o relatório não expire.
+	 * @return Retorna <code>true</code> caso o relatório esteja expirado.
+	 */
+	public boolean isExpirado(final long tempoValidade) {
+		return tempoValidade > 0 && System.currentTimeMillis() - criacao > tempoValidade;
+	}
+
+	/**
+	 * Método responsável por verificar se o relatório foi preenchido com objetos de uma determinada classe.
+	 * @author Wesley Luiz
+	 * @param classe - Classe a ser verificada.
+	 * @return Retorna <code>true</code> caso alguma dependência seja da mesma hierarquia da classe informada.
+	 */
+	public boolean isDependente(final Class<?> classe) {
+		for (final Class<?> dependencia : dependencias) {
+			if (dependencia.isAssignableFrom(classe) || classe.isAssignableFrom(dependencia)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método responsável por obter o tamanho do conteúdo em <i>bytes</i>.
+	 * @author Wesley Luiz
+	 * @return Retorna o tamanho do conteúdo.
+	 */
+	public int getTamanho() {
+		return conteudo.length;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>conteudo</code>
+	 * @return <code>byte[]</code>
+	 */
+	public byte[] getConteudo() {
+		return conteudo;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>etag</code>
+	 * @return <code>String</code>
+	 */
+	public String getEtag() {
+		return etag;
+	}
+}
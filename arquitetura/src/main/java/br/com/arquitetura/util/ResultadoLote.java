@@ -0,0 +1,92 @@
+package br.com.arquitetura.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>ResultadoLote</code> reúne as tarefas concluídas e as falhas de um {@link LoteRelatorios}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class ResultadoLote extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo total. */
+	private final int total;
+
+	/** Atributo concluidas. */
+	private int concluidas;
+
+	/** Atributo falhas. */
+	private final Map<TarefaRelatorio, Exception> falhas = new LinkedHashMap<TarefaRelatorio, Exception>();
+
+	/** Atributo duracao. */
+	private long duracao;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param total - Quantidade total de tarefas do lote.
+	 */
+	ResultadoLote(final int total) {
+		super();
+		this.total = total;
+	}
+
+	void registrarConclusao() {
+		concluidas++;
+	}
+
+	void registrarFalha(final TarefaRelatorio tarefa, final Exception excecao) {
+		falhas.put(tarefa, excecao);
+	}
+
+	void registrarDuracao(final long duracao) {
+		this.duracao = duracao;
+	}
+
+	/**
+	 * Método responsável por obter a quantidade de tarefas já processadas.
+	 * @author Wesley Luiz
+	 * @return Retorna a soma das tarefas concluídas e das que falharam.
+	 */
+	public int getProcessadas() {
+		return concluidas + falhas.size();
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>total</code>
+	 * @return <code>int</code>
+	 */
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>concluidas</code>
+	 * @return <code>int</code>
+	 */
+	public int getConcluidas() {
+		return concluidas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>falhas</code>
+	 * @return <code>Map&lt;TarefaRelatorio, Exception&gt;</code>
+	 */
+	public Map<TarefaRelatorio, Exception> getFalhas() {
+		return Collections.unmodifiableMap(falhas);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>duracao</code>
+	 * @return <code>long</code>
+	 */
+	public long getDuracao() {
+		return duracao;
+	}
+}
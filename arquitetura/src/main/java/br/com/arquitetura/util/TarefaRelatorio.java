@@ -0,0 +1,122 @@
+package br.com.arquitetura.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>TarefaRelatorio</code> representa um relatório a ser preenchido e exportado pelo {@link LoteRelatorios}.<br>
+ * Cada tarefa possui a sua própria fonte de dados e cópia dos parâmetros, pois ambos são modificados durante o preenchimento.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public final class TarefaRelatorio extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Atributo nome. */
+	private final String nome;
+
+	/** Atributo jasperFileName. */
+	private final String jasperFileName;
+
+	/** Atributo parametros. */
+	private final Map<String, Object> parametros;
+
+	/** Atributo dados. */
+	private final transient Collection<?> dados;
+
+	/** Atributo dataSource. */
+	private final transient JRDataSource dataSource;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe a partir de uma coleção.
+	 * @param nome - Nome do relatório, utilizado como nome do arquivo no <i>ZIP</i>.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param dados - Coleção contendo os dados do relatório.
+	 */
+	public TarefaRelatorio(final String nome, final String jasperFileName, final Map<String, Object> parametros, final Collection<?> dados) {
+		this(nome, jasperFileName, parametros, dados, null);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe a partir de uma fonte de dados <i>JasperReports</i>.
+	 * @param nome - Nome do relatório, utilizado como nome do arquivo no <i>ZIP</i>.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param dataSource - Fonte de dados exclusiva desta tarefa. Um {@link DataSourceCursor} deve utilizar uma <i>Sessão</i> própria, pois será lido em outra <i>thread</i>.
+	 */
+	public TarefaRelatorio(final String nome, final String jasperFileName, final Map<String, Object> parametros, final JRDataSource dataSource) {
+		this(nome, jasperFileName, parametros, null, dataSource);
+	}
+
+	private TarefaRelatorio(final String nome, final String jasperFileName, final Map<String, Object> parametros, final Collection<?> dados, final JRDataSource dataSource) {
+		super();
+		this.nome = nome;
+		this.jasperFileName = jasperFileName;
+		this.parametros = isReferencia(parametros) ? parametros : new HashMap<String, Object>();
+		this.dados = dados;
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * Método responsável por obter a fonte de dados utilizada no preenchimento.
+	 * @author Wesley Luiz
+	 * @return Retorna a fonte de dados informada ou uma fonte criada a partir da coleção.
+	 */
+	JRDataSource obterDataSource() {
+		if (isReferencia(dataSource)) {
+			return dataSource;
+		}
+		return isReferencia(dados) && !dados.isEmpty() ? new JRBeanCollectionDataSource(dados) : new JREmptyDataSource();
+	}
+
+	/**
+	 * Método responsável por obter a quantidade de registros da tarefa.
+	 * @author Wesley Luiz
+	 * @return Retorna o tamanho da coleção, ou <code>Integer.MAX_VALUE</code> quando a fonte de dados não possui tamanho conhecido.
+	 */
+	int obterTamanho() {
+		if (isReferencia(dataSource)) {
+			return Integer.MAX_VALUE;
+		}
+		return isReferencia(dados) ? dados.size() : 0;
+	}
+
+	/**
+	 * Método responsável por obter uma cópia dos parâmetros para o preenchimento.
+	 * @author Wesley Luiz
+	 * @return Retorna um novo <code>Map</code> com os parâmetros da tarefa.
+	 */
+	Map<String, Object> copiarParametros() {
+		return new HashMap<String, Object>(parametros);
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>nome</code>
+	 * @return <code>String</code>
+	 */
+	public String getNome() {
+		return nome;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>jasperFileName</code>
+	 * @return <code>String</code>
+	 */
+	public String getJasperFileName() {
+		return jasperFileName;
+	}
+
+	@Override
+	public String toString() {
+		return nome;
+	}
+}
@@ -3,8 +3,14 @@ package br.com.arquitetura.util;
 import br.com.arquitetura.objeto.Objeto;
 
 /**
- * A classe <code>Texto</code> é responsável por fornecer métodos de manipulação e transformação de <code>String</code>.
- * 
+ * A classe <code>Texto</code> é responsável por fornecer métodos de manipulação e transformação de <code>String</code>.<br>
+ * As transformações percorrem o texto uma única vez sobre um <i>array</i> de caracteres, sem expressões regulares,
+ * e retornam a própria <code>String</code> recebida quando nada precisa ser alterado. Exemplo de uso:
+ * <pre>
+ * Texto.gerarChaveBusca("  José   da SILVA ");  // "jose da silva"
+ * Texto.gerarSlug("Relatório de Vendas 2013"); // "relatorio-de-vendas-2013"
+ * </pre>
+ *
  * @author Wesley Luiz
  * @version 1.0.0
  */
@@ -12,9 +18,28 @@ public final class Texto extends Objeto {
 
 	/** Atributo serialVersionUID. */
 	private static final long serialVersionUID = 1L;
-	
+
 	/** Atributo SPACE. */
-	private static final String SPACE = " ";
+	private static final char SPACE = ' ';
+
+	/** Atributo HIFEN. */
+	private static final char HIFEN = '-';
+
+	/** Atributo INICIO_LATIN_1. */
+	private static final char INICIO_LATIN_1 = '\u00C0';
+
+	/** Atributo FIM_LATIN_1. */
+	private static final char FIM_LATIN_1 = '\u00FF';
+
+	/** Atributo INICIO_MARCAS_COMBINANTES. */
+	private static final char INICIO_MARCAS_COMBINANTES = '\u0300';
+
+	/** Atributo FIM_MARCAS_COMBINANTES. */
+	private static final char FIM_MARCAS_COMBINANTES = '\u036F';
+
+	/** Caracteres sem acento correspondentes ao intervalo de <code>À</code> a <code>ÿ</code>. */
+	private static final char[] SEM_ACENTO = ("AAAAAA\u00C6CEEEEIIIIDNOOOOO\u00D7OUUUUY\u00DE\u00DF"
+			+ "aaaaaa\u00E6ceeeeiiiidnooooo\u00F7ouuuuy\u00FEy").toCharArray();
 
 	/**
 	 * Método responsável por transformar a primeira letra de uma <code>String</code> em maiúscula.
@@ -23,20 +48,209 @@ public final class Texto extends Objeto {
 	 * @return Retorna o valor transformado.
 	 */
 	public static String toPrimeiraLetraMaiuscula(final String valor) {
-		return valor.substring(0, 1).toUpperCase().concat(valor.substring(1));
+		if (valor.isEmpty() || Character.isUpperCase(valor.charAt(0))) {
+			return valor;
+		}
+		final char[] caracteres = valor.toCharArray();
+		caracteres[0] = Character.toUpperCase(caracteres[0]);
+		return new String(caracteres);
 	}
 
 	/**
-	 * Método responsável por transformar as primeiras letras de todas palavras de uma <code>String</code> em maiúscula.
+	 * Método responsável por transformar as primeiras letras de todas palavras de uma <code>String</code> em maiúscula.<br>
+	 * Espaços repetidos entre as palavras são reduzidos a um único espaço e os espaços das extremidades são removidos.
 	 * @author Wesley Luiz
 	 * @param valor - <code>String</code> que vai ser transformada.
 	 * @return Retorna o valor transformado.
 	 */
 	public static String toPrimeirasLetrasMaiusculas(final String valor) {
-		StringBuilder sb = new StringBuilder();
-		for (String str : valor.split(SPACE)) {
-			sb.append(toPrimeiraLetraMaiuscula(str)).append(SPACE);
+		final char[] destino = new char[valor.length()];
+		int tamanho = 0;
+		boolean inicioPalavra = true;
+
+		for (int i = 0; i < valor.length(); i++) {
+			final char c = valor.charAt(i);
+			if (isEspaco(c)) {
+				inicioPalavra = true;
+				continue;
+			}
+			if (inicioPalavra) {
+				if (tamanho > 0) {
+					destino[tamanho++] = SPACE;
+				}
+				destino[tamanho++] = Character.toUpperCase(c);
+				inicioPalavra = false;
+			} else {
+				destino[tamanho++] = c;
+			}
+		}
+		return novaString(valor, destino, tamanho);
+	}
+
+	/**
+	 * Método responsável por remover os acentos de uma <code>String</code>, tanto dos caracteres acentuados quanto das
+	 * marcas de acentuação combinantes <i>(Unicode NFD)</i>.
+	 * @author Wesley Luiz
+	 * @param valor - <code>String</code> que vai ser transformada.
+	 * @return Retorna o valor sem acentos.
+	 */
+	public static String removerAcentos(final String valor) {
+		final char[] destino = new char[valor.length()];
+		int tamanho = 0;
+
+		for (int i = 0; i < valor.length(); i++) {
+			final char c = valor.charAt(i);
+			if (!isMarcaCombinante(c)) {
+				destino[tamanho++] = semAcento(c);
+			}
+		}
+		return novaString(valor, destino, tamanho);
+	}
+
+	/**
+	 * Método responsável por transformar todas as letras de uma <code>String</code> em minúsculas.<br>
+	 * A conversão é feita caractere a caractere e não depende do <code>Locale</code> padrão da <i>JVM</i>.
+	 * @author Wesley Luiz
+	 * @param valor - <code>String</code> que vai ser transformada.
+	 * @return Retorna o valor em letras minúsculas.
+	 */
+	public static String toMinusculas(final String valor) {
+		final char[] destino = new char[valor.length()];
+		for (int i = 0; i < valor.length(); i++) {
+			destino[i] = Character.toLowerCase(valor.charAt(i));
+		}
+		return novaString(valor, destino, destino.length);
+	}
+
+	/**
+	 * Método responsável por reduzir as sequências de espaços, tabulações e quebras de linha a um único espaço,
+	 * removendo os espaços das extremidades.
+	 * @author Wesley Luiz
+	 * @param valor - <code>String</code> que vai ser transformada.
+	 * @return Retorna o valor com os espaços normalizados.
+	 */
+	public static String normalizarEspacos(final String valor) {
+		final char[] destino = new char[valor.length()];
+		int tamanho = 0;
+		boolean espaco = false;
+
+		for (int i = 0; i < valor.length(); i++) {
+			final char c = valor.charAt(i);
+			if (isEspaco(c)) {
+				espaco = true;
+				continue;
+			}
+			if (espaco && tamanho > 0) {
+				destino[tamanho++] = SPACE;
+			}
+			destino[tamanho++] = c;
+			espaco = false;
+		}
+		return novaString(valor, destino, tamanho);
+	}
+
+	/**
+	 * Método responsável por gerar um identificador amigável para <i>URL</i>(s) e nomes de arquivos, contendo apenas letras
+	 * minúsculas sem acento, dígitos e hífens.
+	 * @author Wesley Luiz
+	 * @param valor - <code>String</code> que vai ser transformada.
+	 * @return Retorna o valor transformado.
+	 */
+	public static String gerarSlug(final String valor) {
+		final char[] destino = new char[valor.length()];
+		int tamanho = 0;
+		boolean separador = false;
+
+		for (int i = 0; i < valor.length(); i++) {
+			final char c = Character.toLowerCase(semAcento(valor.charAt(i)));
+			if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+				if (separador && tamanho > 0) {
+					destino[tamanho++] = HIFEN;
+				}
+				destino[tamanho++] = c;
+				separador = false;
+			} else if (!isMarcaCombinante(c)) {
+				separador = true;
+			}
+		}
+		return novaString(valor, destino, tamanho);
+	}
+
+	/**
+	 * Método responsável por gerar a chave de busca de um texto, utilizada em pesquisas e na identificação de duplicidades.<br>
+	 * A chave é o texto sem acentos, em letras minúsculas e com os espaços normalizados, gerada em uma única passagem.
+	 * @author Wesley Luiz
+	 * @param valor - <code>String</code> que vai ser transformada.
+	 * @return Retorna a chave de busca.
+	 */
+	public static String gerarChaveBusca(final String valor) {
+		final StringBuilder chave = gerarChaveBusca(valor, new StringBuilder(valor.length()));
+		return chave.length() == valor.length() && valor.contentEquals(chave) ? valor : chave.toString();
+	}
+
+	/**
+	 * Método responsável por gerar a chave de busca de um texto em um <code>StringBuilder</code> reaproveitado pelo chamador,
+	 * evitando a criação de objetos ao processar uma grande quantidade de registros.
+	 * @author Wesley Luiz
+	 * @param valor - Texto que vai ser transformado.
+	 * @param destino - <code>StringBuilder</code> onde a chave será escrita. O conteúdo anterior é descartado.
+	 * @return Retorna o próprio <code>destino</code>.
+	 */
+	public static StringBuilder gerarChaveBusca(final CharSequence valor, final StringBuilder destino) {
+		destino.setLength(0);
+		boolean espaco = false;
+
+		for (int i = 0; i < valor.length(); i++) {
+			final char c = valor.charAt(i);
+			if (isEspaco(c)) {
+				espaco = true;
+			} else if (!isMarcaCombinante(c)) {
+				if (espaco && destino.length() > 0) {
+					destino.append(SPACE);
+				}
+				destino.append(Character.toLowerCase(semAcento(c)));
+				espaco = false;
+			}
+		}
+		return destino;
+	}
+
+	/**
+	 * Método responsável por obter o caractere sem acento correspondente.
+	 * @author Wesley Luiz
+	 * @param c - Caractere a ser convertido.
+	 * @return Retorna o caractere sem acento ou o próprio caractere caso não seja acentuado.
+	 */
+	private static char semAcento(final char c) {
+		return c >= INICIO_LATIN_1 && c <= FIM_LATIN_1 ? SEM_ACENTO[c - INICIO_LATIN_1] : c;
+	}
+
+	private static boolean isMarcaCombinante(final char c) {
+		return c >= INICIO_MARCAS_COMBINANTES && c <= FIM_MARCAS_COMBINANTES;
+	}
+
+	private static boolean isEspaco(final char c) {
+		return c == SPACE || c == '\u00A0' || Character.isWhitespace(c);
+	}
+
+	/**
+	 * Método responsável por criar a <code>String</code> resultante de uma transformação, reaproveitando a original quando não houve alteração.
+	 * @author Wesley Luiz
+	 * @param original - <code>String</code> transformada.
+	 * @param caracteres - Caracteres resultantes.
+	 * @param tamanho - Quantidade de caracteres válidos.
+	 * @return Retorna a <code>String</code> resultante.
+	 */
+	private static String novaString(final String original, final char[] caracteres, final int tamanho) {
+		if (tamanho == original.length()) {
+			int i = 0;
+			while (i < tamanho && caracteres[i] == original.charAt(i)) {
+				i++;
+			}
+			if (i == tamanho) {
+				return original;
+			}
 		}
-		return sb.toString().trim();
+		return new String(caracteres, 0, tamanho);
 	}
 }
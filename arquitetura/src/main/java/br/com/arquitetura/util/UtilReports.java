@@ -3,23 +3,30 @@ package br.com.arquitetura.util;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.faces.context.FacesContext;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import net.sf.jasperreports.engine.JRDataSource;
 import net.sf.jasperreports.engine.JREmptyDataSource;
 import net.sf.jasperreports.engine.JRException;
 import net.sf.jasperreports.engine.JRExporterParameter;
+import net.sf.jasperreports.engine.JRParameter;
 import net.sf.jasperreports.engine.JasperExportManager;
 import net.sf.jasperreports.engine.JasperFillManager;
 import net.sf.jasperreports.engine.JasperPrint;
 import net.sf.jasperreports.engine.data.JRBeanCollectionDataSource;
 import net.sf.jasperreports.engine.export.JRXlsAbstractExporterParameter;
 import net.sf.jasperreports.engine.export.JRXlsExporter;
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
 import br.com.arquitetura.objeto.Objeto;
 
 public final class UtilReports extends Objeto {
@@ -33,6 +40,15 @@ public final class UtilReports extends Objeto {
 	/** Constante MIME_TYPE_PDF. */
 	private static final String MIME_TYPE_PDF = "application/pdf";
 
+	/** Constante HEADER_ETAG. */
+	private static final String HEADER_ETAG = "ETag";
+
+	/** Constante HEADER_IF_NONE_MATCH. */
+	private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+	/** Constante REGISTROS_DESCONHECIDOS. */
+	static final int REGISTROS_DESCONHECIDOS = -1;
+
 	/** Constante PATH_SEPARATOR. */
 	private static final String PATH_SEPARATOR = File.separator;
 
@@ -53,59 +69,258 @@ public final class UtilReports extends Objeto {
 	}
 
 	public static void gerarRelatorioPDF(final Collection<? extends Objeto> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final boolean isPagina) throws IOException, JRException {
-		JasperPrint print = null;
+		gerarRelatorioPDF(dataSource, parametros, jasperFileName, facesContext, isPagina, Virtualizacao.AUTOMATICA);
+	}
 
-		if (isVazio(dataSource)) {
-			print = JasperFillManager.fillReport(UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS + jasperFileName, facesContext), parametros, new JREmptyDataSource());
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.pdf</i>, preenchendo o relatório com o <i>virtualizador</i> de páginas informado.
+	 * @author Wesley Luiz
+	 * @param dataSource - Coleção contendo os dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param isPagina - Indica se o relatório será exibido na página ou enviado como anexo.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 * @see Virtualizacao
+	 */
+	public static void gerarRelatorioPDF(final Collection<? extends Objeto> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final boolean isPagina, final Virtualizacao virtualizacao) throws IOException, JRException {
+		final String anexo = isPagina ? null : UtilReports.obterNome(jasperFileName) + ".pdf";
+		final CacheRelatorios cache = CacheRelatorios.getInstance();
+
+		final long geracao = cache.obterGeracao();
+		final String chave = cache.isHabilitado() ? CacheRelatorios.gerarChave(jasperFileName + ".pdf", parametros, dataSource) : null;
+		if (isReferencia(chave)) {
+			RelatorioRenderizado relatorio = cache.obter(chave);
+
+			if (!isReferencia(relatorio)) {
+				relatorio = new RelatorioRenderizado(UtilReports.renderizarPDF(dataSource, parametros, jasperFileName, facesContext, virtualizacao), CacheRelatorios.obterDependencias(dataSource));
+				cache.armazenar(chave, relatorio, geracao);
+			}
+			UtilReports.enviar(facesContext, relatorio.getConteudo(), UtilReports.MIME_TYPE_PDF, anexo, relatorio.getEtag());
 		} else {
-			print = JasperFillManager.fillReport(UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS + jasperFileName, facesContext), parametros, new JRBeanCollectionDataSource(dataSource));
+			UtilReports.enviar(facesContext, UtilReports.renderizarPDF(dataSource, parametros, jasperFileName, facesContext, virtualizacao), UtilReports.MIME_TYPE_PDF, anexo, null);
 		}
+	}
 
-		final byte[] arquivo = JasperExportManager.exportReportToPdf(print);
-		final HttpServletResponse response = (HttpServletResponse) facesContext.getExternalContext().getResponse();
-		response.setContentType(UtilReports.MIME_TYPE_PDF);
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.pdf</i> a partir de uma fonte de dados <i>JasperReports</i>,
+	 * como por exemplo um {@link DataSourceCursor}. Como o tamanho da fonte de dados não é conhecido previamente, a virtualização
+	 * é aplicada sempre que estiver habilitada.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param isPagina - Indica se o relatório será exibido na página ou enviado como anexo.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 * @see JRDataSource
+	 */
+	public static void gerarRelatorioPDF(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final boolean isPagina, final Virtualizacao virtualizacao) throws IOException, JRException {
+		final byte[] arquivo = UtilReports.renderizarPDF(dataSource, parametros, jasperFileName, facesContext, UtilReports.criarVirtualizador(virtualizacao, REGISTROS_DESCONHECIDOS));
+		UtilReports.enviar(facesContext, arquivo, UtilReports.MIME_TYPE_PDF, isPagina ? null : UtilReports.obterNome(jasperFileName) + ".pdf", null);
+	}
+
+	public static void gerarRelatorioXLS(final List<? extends Object> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext) throws IOException, JRException {
+		gerarRelatorioXLS(dataSource, parametros, jasperFileName, facesContext, Virtualizacao.AUTOMATICA);
+	}
+
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.xls</i>, preenchendo o relatório com o <i>virtualizador</i> de páginas informado.
+	 * @author Wesley Luiz
+	 * @param dataSource - Lista contendo os dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 * @see Virtualizacao
+	 */
+	public static void gerarRelatorioXLS(final List<? extends Object> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final Virtualizacao virtualizacao) throws IOException, JRException {
+		final String anexo = UtilReports.obterNome(jasperFileName) + ".xls";
+		final CacheRelatorios cache = CacheRelatorios.getInstance();
 
-		if (!isPagina) {
-			response.setHeader("Content-disposition", "attachment; filename=\"" + UtilReports.obterNome(jasperFileName) + ".pdf\"");
+		final long geracao = cache.obterGeracao();
+		final String chave = cache.isHabilitado() ? CacheRelatorios.gerarChave(jasperFileName + ".xls", parametros, dataSource) : null;
+		if (isReferencia(chave)) {
+			RelatorioRenderizado relatorio = cache.obter(chave);
+
+			if (!isReferencia(relatorio)) {
+				relatorio = new RelatorioRenderizado(UtilReports.renderizarXLS(dataSource, parametros, jasperFileName, facesContext, virtualizacao), CacheRelatorios.obterDependencias(dataSource));
+				cache.armazenar(chave, relatorio, geracao);
+			}
+			UtilReports.enviar(facesContext, relatorio.getConteudo(), UtilReports.MIME_TYPE_XLS, anexo, relatorio.getEtag());
+		} else {
+			UtilReports.enviar(facesContext, UtilReports.renderizarXLS(dataSource, parametros, jasperFileName, facesContext, virtualizacao), UtilReports.MIME_TYPE_XLS, anexo, null);
 		}
+	}
 
-		response.setContentLength(arquivo.length);
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.xls</i> a partir de uma fonte de dados <i>JasperReports</i>,
+	 * como por exemplo um {@link DataSourceCursor}.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 * @see JRDataSource
+	 */
+	public static void gerarRelatorioXLS(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final Virtualizacao virtualizacao) throws IOException, JRException {
+		final byte[] arquivo = UtilReports.renderizarXLS(dataSource, parametros, jasperFileName, facesContext, UtilReports.criarVirtualizador(virtualizacao, REGISTROS_DESCONHECIDOS));
+		UtilReports.enviar(facesContext, arquivo, UtilReports.MIME_TYPE_XLS, UtilReports.obterNome(jasperFileName) + ".xls", null);
+	}
 
-		final ServletOutputStream outputStream = response.getOutputStream();
-		outputStream.write(arquivo, 0, arquivo.length);
-		outputStream.flush();
-		outputStream.close();
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.pdf</i> em um <code>OutputStream</code>, sem depender de uma requisição
+	 * <i>web</i>. O arquivo <i>(.jasper)</i> é localizado através do {@link br.com.arquitetura.ambiente.ResolvedorCaminho} configurado
+	 * em {@link AmbienteExecucao}, permitindo a geração em rotinas em lote.
+	 * @author Wesley Luiz
+	 * @param dataSource - Coleção contendo os dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 */
+	public static void gerarRelatorioPDF(final Collection<? extends Objeto> dataSource, final Map<String, Object> parametros, final String jasperFileName, final OutputStream saida, final Virtualizacao virtualizacao) throws IOException, JRException {
+		saida.write(UtilReports.renderizarPDF(dataSource, parametros, jasperFileName, null, virtualizacao));
+	}
 
-		FacesContext.getCurrentInstance().responseComplete();
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.pdf</i> em um <code>OutputStream</code> a partir de uma fonte de dados
+	 * <i>JasperReports</i>, sem depender de uma requisição <i>web</i>.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 */
+	public static void gerarRelatorioPDF(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final OutputStream saida, final Virtualizacao virtualizacao) throws IOException, JRException {
+		saida.write(UtilReports.renderizarPDF(dataSource, parametros, jasperFileName, null, UtilReports.criarVirtualizador(virtualizacao, REGISTROS_DESCONHECIDOS)));
 	}
 
-	public static void gerarRelatorioXLS(final List<? extends Object> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext) throws IOException, JRException {
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.xls</i> em um <code>OutputStream</code>, sem depender de uma requisição <i>web</i>.
+	 * @author Wesley Luiz
+	 * @param dataSource - Lista contendo os dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 */
+	public static void gerarRelatorioXLS(final List<? extends Object> dataSource, final Map<String, Object> parametros, final String jasperFileName, final OutputStream saida, final Virtualizacao virtualizacao) throws IOException, JRException {
+		saida.write(UtilReports.renderizarXLS(dataSource, parametros, jasperFileName, null, virtualizacao));
+	}
 
-		JasperPrint print = null;
+	/**
+	 * Método responsável por gerar relatórios no formato <i>.xls</i> em um <code>OutputStream</code> a partir de uma fonte de dados
+	 * <i>JasperReports</i>, sem depender de uma requisição <i>web</i>.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param saida - <code>OutputStream</code> de destino, que não é fechado ao final.
+	 * @param virtualizacao - Configuração da virtualização de páginas utilizada no preenchimento, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @throws IOException
+	 * @throws JRException
+	 */
+	public static void gerarRelatorioXLS(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final OutputStream saida, final Virtualizacao virtualizacao) throws IOException, JRException {
+		saida.write(UtilReports.renderizarXLS(dataSource, parametros, jasperFileName, null, UtilReports.criarVirtualizador(virtualizacao, REGISTROS_DESCONHECIDOS)));
+	}
+
+	private static byte[] renderizarPDF(final Collection<? extends Objeto> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final Virtualizacao virtualizacao) throws JRException {
+		final JRAbstractLRUVirtualizer virtualizador = UtilReports.criarVirtualizador(virtualizacao, getTamanho(dataSource));
 
 		if (isVazio(dataSource)) {
-			print = JasperFillManager.fillReport(UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS + jasperFileName, facesContext), parametros, new JREmptyDataSource());
-		} else {
-			print = JasperFillManager.fillReport(UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS + jasperFileName, facesContext), parametros, new JRBeanCollectionDataSource(dataSource));
+			return UtilReports.renderizarPDF(new JREmptyDataSource(), parametros, jasperFileName, facesContext, virtualizador);
+		}
+		return UtilReports.renderizarPDF(new JRBeanCollectionDataSource(dataSource), parametros, jasperFileName, facesContext, virtualizador);
+	}
+
+	private static byte[] renderizarPDF(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final JRAbstractLRUVirtualizer virtualizador) throws JRException {
+		try {
+			final JasperPrint print = UtilReports.preencher(dataSource, parametros, jasperFileName, facesContext, virtualizador);
+			return JasperExportManager.exportReportToPdf(print);
+		} finally {
+			UtilReports.liberar(dataSource, virtualizador);
+		}
+	}
+
+	private static byte[] renderizarXLS(final List<? extends Object> dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final Virtualizacao virtualizacao) throws JRException {
+		final JRAbstractLRUVirtualizer virtualizador = UtilReports.criarVirtualizador(virtualizacao, isReferencia(dataSource) ? dataSource.size() : 0);
+
+		if (isVazio(dataSource)) {
+			return UtilReports.renderizarXLS(new JREmptyDataSource(), parametros, jasperFileName, facesContext, virtualizador);
 		}
+		return UtilReports.renderizarXLS(new JRBeanCollectionDataSource(dataSource), parametros, jasperFileName, facesContext, virtualizador);
+	}
 
-		final JRXlsExporter exporterXLS = new JRXlsExporter();
+	private static byte[] renderizarXLS(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final JRAbstractLRUVirtualizer virtualizador) throws JRException {
 		final ByteArrayOutputStream xlsReport = new ByteArrayOutputStream();
 
-		exporterXLS.setParameter(JRExporterParameter.JASPER_PRINT_LIST, Arrays.asList(print));
-		exporterXLS.setParameter(JRExporterParameter.OUTPUT_STREAM, xlsReport);
-		exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_REMOVE_EMPTY_SPACE_BETWEEN_ROWS, Boolean.TRUE);
-		exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_REMOVE_EMPTY_SPACE_BETWEEN_COLUMNS, Boolean.TRUE);
-		exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_ONE_PAGE_PER_SHEET, Boolean.FALSE);
-		exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_DETECT_CELL_TYPE, Boolean.TRUE);
-		exporterXLS.setParameter(JRExporterParameter.IGNORE_PAGE_MARGINS, Boolean.TRUE);
-		exporterXLS.exportReport();
+		try {
+			final JasperPrint print = UtilReports.preencher(dataSource, parametros, jasperFileName, facesContext, virtualizador);
+			final JRXlsExporter exporterXLS = new JRXlsExporter();
 
-		final byte[] arquivo = xlsReport.toByteArray();
+			exporterXLS.setParameter(JRExporterParameter.JASPER_PRINT_LIST, Arrays.asList(print));
+			exporterXLS.setParameter(JRExporterParameter.OUTPUT_STREAM, xlsReport);
+			exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_REMOVE_EMPTY_SPACE_BETWEEN_ROWS, Boolean.TRUE);
+			exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_REMOVE_EMPTY_SPACE_BETWEEN_COLUMNS, Boolean.TRUE);
+			exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_ONE_PAGE_PER_SHEET, Boolean.FALSE);
+			exporterXLS.setParameter(JRXlsAbstractExporterParameter.IS_DETECT_CELL_TYPE, Boolean.TRUE);
+			exporterXLS.setParameter(JRExporterParameter.IGNORE_PAGE_MARGINS, Boolean.TRUE);
+			exporterXLS.exportReport();
+		} finally {
+			UtilReports.liberar(dataSource, virtualizador);
+		}
+		return xlsReport.toByteArray();
+	}
 
+	/**
+	 * Método responsável por enviar o conteúdo de um relatório na resposta da requisição corrente.<br>
+	 * Quando o <code>etag</code> é informado ele é enviado no cabeçalho da resposta, e caso a requisição possua o cabeçalho
+	 * <code>If-None-Match</code> equivalente apenas o <i>status</i> <code>304 Not Modified</code> é enviado.
+	 * @author Wesley Luiz
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param arquivo - Conteúdo do relatório.
+	 * @param mimeType - Tipo do conteúdo.
+	 * @param anexo - Nome do arquivo anexo ou <code>null</code> para exibir o relatório na página.
+	 * @param etag - Identificador do conteúdo ou <code>null</code>.
+	 * @throws IOException
+	 */
+	private static void enviar(final FacesContext facesContext, final byte[] arquivo, final String mimeType, final String anexo, final String etag) throws IOException {
 		final HttpServletResponse response = (HttpServletResponse) facesContext.getExternalContext().getResponse();
-		response.setContentType(UtilReports.MIME_TYPE_XLS);
-		response.setHeader("Content-disposition", "attachment; filename=\"" + UtilReports.obterNome(jasperFileName) + ".xls\"");
+
+		if (isReferencia(etag)) {
+			response.setHeader(UtilReports.HEADER_ETAG, etag);
+
+			final HttpServletRequest request = (HttpServletRequest) facesContext.getExternalContext().getRequest();
+			if (UtilReports.isEquivalente(request.getHeader(UtilReports.HEADER_IF_NONE_MATCH), etag)) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				facesContext.responseComplete();
+				return;
+			}
+		}
+
+		response.setContentType(mimeType);
+
+		if (isReferencia(anexo)) {
+			response.setHeader("Content-disposition", "attachment; filename=\"" + anexo + "\"");
+		}
+
 		response.setContentLength(arquivo.length);
 
 		final ServletOutputStream outputStream = response.getOutputStream();
@@ -113,20 +328,117 @@ public final class UtilReports extends Objeto {
 		outputStream.flush();
 		outputStream.close();
 
-		FacesContext.getCurrentInstance().responseComplete();
+		facesContext.responseComplete();
+	}
+
+	/**
+	 * Método responsável por verificar se o valor do cabeçalho <code>If-None-Match</code> corresponde a um <code>etag</code>.
+	 * @author Wesley Luiz
+	 * @param ifNoneMatch - Valor do cabeçalho, podendo conter uma lista de <code>etag</code>(s) separados por vírgula.
+	 * @param etag - Identificador do conteúdo.
+	 * @return Retorna <code>true</code> caso o conteúdo não tenha sido modificado.
+	 */
+	private static boolean isEquivalente(final String ifNoneMatch, final String etag) {
+		if (isVazio(ifNoneMatch)) {
+			return false;
+		}
+		for (final String valor : ifNoneMatch.split(",")) {
+			final String candidato = valor.trim();
+			if (candidato.equals("*") || candidato.equals(etag) || candidato.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Método responsável por preencher um relatório, registrando o <i>virtualizador</i> de páginas nos parâmetros quando informado.<br>
+	 * Após o preenchimento o <i>virtualizador</i> passa a ser somente leitura, pois as páginas já gravadas em disco não serão mais alteradas.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados do relatório.
+	 * @param parametros - <code>Map</code> que recebe os parâmetros do relatório.
+	 * @param jasperFileName - <code>String</code> contendo o nome do arquivo <i>(.jasper)</i>.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação ou <code>null</code> para utilizar o {@link AmbienteExecucao}.
+	 * @param virtualizador - <i>Virtualizador</i> de páginas, pode ser <code>null</code>.
+	 * @return Retorna o relatório preenchido.
+	 * @throws JRException
+	 */
+	private static JasperPrint preencher(final JRDataSource dataSource, final Map<String, Object> parametros, final String jasperFileName, final FacesContext facesContext, final JRAbstractLRUVirtualizer virtualizador) throws JRException {
+		Map<String, Object> parametrosPreenchimento = parametros;
+
+		if (isReferencia(virtualizador)) {
+			parametrosPreenchimento = new HashMap<String, Object>();
+			if (isReferencia(parametros)) {
+				parametrosPreenchimento.putAll(parametros);
+			}
+			parametrosPreenchimento.put(JRParameter.REPORT_VIRTUALIZER, virtualizador);
+		}
+
+		final JasperPrint print = JasperFillManager.fillReport(UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS + jasperFileName, facesContext), parametrosPreenchimento, dataSource);
+
+		if (isReferencia(virtualizador)) {
+			virtualizador.setReadOnly(true);
+		}
+		return print;
+	}
+
+	/**
+	 * Método responsável por criar o <i>virtualizador</i> de páginas de um preenchimento. Quando a quantidade de registros não é
+	 * conhecida, como em um {@link DataSourceCursor}, a virtualização é aplicada sempre que estiver habilitada.
+	 * @author Wesley Luiz
+	 * @param virtualizacao - Configuração da virtualização, <code>null</code> equivale a {@link Virtualizacao#DESABILITADA}.
+	 * @param registros - Quantidade de registros da fonte de dados ou {@link #REGISTROS_DESCONHECIDOS}.
+	 * @return Retorna o <i>virtualizador</i> ou <code>null</code> caso a virtualização não deva ser aplicada.
+	 */
+	static JRAbstractLRUVirtualizer criarVirtualizador(final Virtualizacao virtualizacao, final int registros) {
+		if (!isReferencia(virtualizacao)) {
+			return null;
+		}
+		final boolean isAplicada = registros == REGISTROS_DESCONHECIDOS ? virtualizacao.isHabilitada() : virtualizacao.isNecessaria(registros);
+		return isAplicada ? virtualizacao.criarVirtualizador() : null;
+	}
+
+	/**
+	 * Método responsável por liberar os recursos utilizados em um preenchimento, fechando o cursor de um {@link DataSourceCursor}
+	 * e removendo os arquivos temporários gerados pelo <i>virtualizador</i> de páginas.
+	 * @author Wesley Luiz
+	 * @param dataSource - Fonte de dados utilizada no preenchimento.
+	 * @param virtualizador - <i>Virtualizador</i> a ser liberado, pode ser <code>null</code>.
+	 */
+	static void liberar(final JRDataSource dataSource, final JRAbstractLRUVirtualizer virtualizador) {
+		if (dataSource instanceof DataSourceCursor) {
+			((DataSourceCursor) dataSource).fechar();
+		}
+		if (isReferencia(virtualizador)) {
+			virtualizador.cleanup();
+		}
 	}
 
 	/**
 	 * Método responsável por obter o caminho real ao arquivo que será exibido.
 	 * @author Wesley Luiz
 	 * @param path - <code>String</code> que recebe o nome do arquivo <i>(.jasper)</i>.
-	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação.
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação ou <code>null</code> para utilizar
+	 * o {@link br.com.arquitetura.ambiente.ResolvedorCaminho} configurado em {@link AmbienteExecucao}.
 	 * @return Retorna uma <code>String</code> contendo o caminho do relatório.
 	 */
 	public static String getRealPath(final String path, final FacesContext facesContext) {
+		if (!isReferencia(facesContext)) {
+			return AmbienteExecucao.getResolvedorCaminho().obterCaminhoReal(path);
+		}
 		return UtilReports.getContext(facesContext).getRealPath(path);
 	}
 
+	/**
+	 * Método responsável por obter o caminho real do diretório onde ficam os arquivos <i>(.jasper)</i> da aplicação.
+	 * @author Wesley Luiz
+	 * @param facesContext - <i>Objeto</i> referente ao contexto corrente da aplicação ou <code>null</code> para utilizar o {@link AmbienteExecucao}.
+	 * @return Retorna uma <code>String</code> contendo o caminho do diretório.
+	 */
+	public static String obterDiretorioRelatorios(final FacesContext facesContext) {
+		return UtilReports.getRealPath(UtilReports.DIRETORIO_RELATORIOS, facesContext);
+	}
+
 	private static ServletContext getContext(final FacesContext facesContext) {
 		return (ServletContext) facesContext.getExternalContext().getContext();
 	}
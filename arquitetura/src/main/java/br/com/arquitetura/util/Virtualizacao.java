@@ -0,0 +1,153 @@
+package br.com.arquitetura.util;
+
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import net.sf.jasperreports.engine.fill.JRFileVirtualizer;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+import br.com.arquitetura.enumerator.EnumVirtualizacao;
+import br.com.arquitetura.objeto.Objeto;
+
+/**
+ * A classe <code>Virtualizacao</code> é responsável por configurar o <i>virtualizador</i> de páginas utilizado
+ * no preenchimento de relatórios <i>JasperReports</i>.<br>
+ * Com a virtualização habilitada apenas <code>maximoPaginas</code> páginas do <code>JasperPrint</code> ficam em memória,
+ * as demais são gravadas em disco e lidas novamente durante a exportação. Exemplo de uso:
+ * <pre>
+ * UtilReports.gerarRelatorioPDF(lista, parametros, "relatorio.jasper", context, false,
+ * 	new Virtualizacao(EnumVirtualizacao.ARQUIVO_SWAP, 50, "/tmp/relatorios", 0));
+ * </pre>
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ * @see EnumVirtualizacao
+ */
+public final class Virtualizacao extends Objeto {
+
+	/** Atributo serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/** Constante PADRAO_MAXIMO_PAGINAS. */
+	public static final int PADRAO_MAXIMO_PAGINAS = 100;
+
+	/** Constante PADRAO_LIMITE_REGISTROS. */
+	public static final int PADRAO_LIMITE_REGISTROS = 10000;
+
+	/** Constante TAMANHO_BLOCO_SWAP. */
+	private static final int TAMANHO_BLOCO_SWAP = 4096;
+
+	/** Constante CRESCIMENTO_MINIMO_SWAP. */
+	private static final int CRESCIMENTO_MINIMO_SWAP = 1024;
+
+	/** Constante DIRETORIO_TEMPORARIO. */
+	private static final String DIRETORIO_TEMPORARIO = System.getProperty("java.io.tmpdir");
+
+	/** Virtualização que nunca é aplicada. */
+	public static final Virtualizacao DESABILITADA = new Virtualizacao(EnumVirtualizacao.NENHUMA);
+
+	/** Virtualização em arquivo de <i>swap</i> aplicada apenas quando a fonte de dados ultrapassa {@link #PADRAO_LIMITE_REGISTROS}. */
+	public static final Virtualizacao AUTOMATICA = new Virtualizacao(EnumVirtualizacao.ARQUIVO_SWAP, PADRAO_MAXIMO_PAGINAS, DIRETORIO_TEMPORARIO, PADRAO_LIMITE_REGISTROS);
+
+	/** Atributo tipo. */
+	private final EnumVirtualizacao tipo;
+
+	/** Atributo maximoPaginas. */
+	private final int maximoPaginas;
+
+	/** Atributo diretorio. */
+	private final String diretorio;
+
+	/** Atributo limiteRegistros. */
+	private final int limiteRegistros;
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe, sempre aplicando a virtualização
+	 * com os valores padrão no diretório temporário do sistema.
+	 * @param tipo - Tipo de virtualização.
+	 */
+	public Virtualizacao(final EnumVirtualizacao tipo) {
+		this(tipo, PADRAO_MAXIMO_PAGINAS, DIRETORIO_TEMPORARIO, 0);
+	}
+
+	/**
+	 * Responsável pela criação de novas instâncias desta classe.
+	 * @param tipo - Tipo de virtualização.
+	 * @param maximoPaginas - Quantidade máxima de páginas mantidas em memória.
+	 * @param diretorio - Diretório onde os arquivos temporários serão gravados.
+	 * @param limiteRegistros - Quantidade de registros a partir da qual a virtualização é aplicada, <code>0</code> para sempre aplicar.
+	 */
+	public Virtualizacao(final EnumVirtualizacao tipo, final int maximoPaginas, final String diretorio, final int limiteRegistros) {
+		super();
+		this.tipo = tipo;
+		this.maximoPaginas = maximoPaginas;
+		this.diretorio = diretorio;
+		this.limiteRegistros = limiteRegistros;
+	}
+
+	/**
+	 * Método responsável por verificar se a virtualização está habilitada, independente do tamanho da fonte de dados.
+	 * @author Wesley Luiz
+	 * @return Retorna <code>true</code> caso o tipo seja diferente de {@link EnumVirtualizacao#NENHUMA}.
+	 */
+	public boolean isHabilitada() {
+		return tipo != EnumVirtualizacao.NENHUMA;
+	}
+
+	/**
+	 * Método responsável por verificar se a virtualização deve ser aplicada a uma fonte de dados.
+	 * @author Wesley Luiz
+	 * @param registros - Quantidade de registros da fonte de dados.
+	 * @return Retorna <code>true</code> caso a virtualização deva ser aplicada.
+	 */
+	public boolean isNecessaria(final int registros) {
+		return isHabilitada() && registros >= limiteRegistros;
+	}
+
+	/**
+	 * Método responsável por criar um novo <i>virtualizador</i>. Cada preenchimento deve utilizar a sua própria instância,
+	 * que deve ser liberada através do método <code>cleanup()</code> após a exportação.
+	 * @author Wesley Luiz
+	 * @return Retorna o <i>virtualizador</i> ou <code>null</code> caso o tipo seja {@link EnumVirtualizacao#NENHUMA}.
+	 */
+	public JRAbstractLRUVirtualizer criarVirtualizador() {
+		switch (tipo) {
+		case ARQUIVO:
+			return new JRFileVirtualizer(maximoPaginas, diretorio);
+		case ARQUIVO_SWAP:
+			return new JRSwapFileVirtualizer(maximoPaginas, new JRSwapFile(diretorio, TAMANHO_BLOCO_SWAP, CRESCIMENTO_MINIMO_SWAP), true);
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>tipo</code>
+	 * @return <code>EnumVirtualizacao</code>
+	 */
+	public EnumVirtualizacao getTipo() {
+		return tipo;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>maximoPaginas</code>
+	 * @return <code>int</code>
+	 */
+	public int getMaximoPaginas() {
+		return maximoPaginas;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>diretorio</code>
+	 * @return <code>String</code>
+	 */
+	public String getDiretorio() {
+		return diretorio;
+	}
+
+	/**
+	 * Retorna o valor do atributo <code>limiteRegistros</code>
+	 * @return <code>int</code>
+	 */
+	public int getLimiteRegistros() {
+		return limiteRegistros;
+	}
+}
@@ -0,0 +1,115 @@
+package br.com.arquitetura.ambiente;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.faces.application.FacesMessage.Severity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import br.com.arquitetura.bundle.Bundle;
+import br.com.arquitetura.objeto.Objeto;
+import br.com.arquitetura.util.UtilReports;
+
+/**
+ * Testes do {@link AmbienteExecucao} em uma rotina sem <code>FacesContext</code>: as notificações chegam ao <i>log</i> com o nível
+ * correspondente à gravidade, os caminhos da aplicação são resolvidos no diretório base, inclusive o dos relatórios, e o ambiente
+ * padrão informa como configurar a execução sem interface em vez de falhar com <code>NullPointerException</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class AmbienteExecucaoTest {
+
+	/** Atributo canalOriginal. */
+	private CanalMensagem canalOriginal;
+
+	/** Atributo resolvedorOriginal. */
+	private ResolvedorCaminho resolvedorOriginal;
+
+	@Before
+	public void preparar() {
+		canalOriginal = AmbienteExecucao.getCanalMensagem();
+		resolvedorOriginal = AmbienteExecucao.getResolvedorCaminho();
+	}
+
+	@After
+	public void encerrar() {
+		AmbienteExecucao.setCanalMensagem(canalOriginal);
+		AmbienteExecucao.setResolvedorCaminho(resolvedorOriginal);
+	}
+
+	@Test
+	public void notificacoesDaRotinaSaoRegistradasNoLogPelaGravidade() {
+		final List<String> registros = new ArrayList<String>();
+		AmbienteExecucao.setCanalMensagem(new CanalMensagemLog((Logger) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { Logger.class }, new InvocationHandler() {
+					@Override
+					public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+						registros.add(metodo.getName() + ": " + args[0]);
+						return null;
+					}
+				})));
+
+		final Rotina rotina = new Rotina();
+		rotina.avisar(Bundle.GRAVIDADE_FATAL, "Falha grave.", null);
+		rotina.avisar(Bundle.GRAVIDADE_ERRO, "Registro inválido.", "Linha 12");
+		rotina.avisar(Bundle.GRAVIDADE_ALERTA, "Registro ignorado.", null);
+		rotina.avisar(Bundle.GRAVIDADE_INFORMATIVO, "Concluído.", null);
+
+		assertEquals(Arrays.asList("error: Falha grave.", "error: Registro inválido. Linha 12", "warn: Registro ignorado.", "info: Concluído."),
+				registros);
+	}
+
+	@Test
+	public void caminhosSaoResolvidosNoDiretorioBase() {
+		final File base = new File("aplicacao");
+		AmbienteExecucao.configurarSemInterface(base);
+
+		final String relatorios = UtilReports.obterDiretorioRelatorios(null);
+
+		assertEquals(new File(new File(base, "WEB-INF"), "relatorios").getPath() + File.separator, relatorios);
+		assertEquals(new File(base, "imagens/logo.png").getPath(), AmbienteExecucao.getResolvedorCaminho().obterCaminhoReal("imagens/logo.png"));
+		assertTrue(AmbienteExecucao.getCanalMensagem() instanceof CanalMensagemLog);
+	}
+
+	@Test
+	public void ambienteJSFSemFacesContextIndicaAConfiguracaoNecessaria() {
+		AmbienteExecucao.configurarSemInterface(new File("."));
+		AmbienteExecucao.configurarJSF();
+
+		try {
+			new Rotina().avisar(Bundle.GRAVIDADE_INFORMATIVO, "Concluído.", null);
+			fail("A mensagem seria descartada sem FacesContext.");
+		} catch (final IllegalStateException e) {
+			assertTrue(e.getMessage().contains("AmbienteExecucao"));
+		}
+		try {
+			UtilReports.obterDiretorioRelatorios(null);
+			fail("O caminho seria resolvido sem ServletContext.");
+		} catch (final IllegalStateException e) {
+			assertTrue(e.getMessage().contains("AmbienteExecucao"));
+		}
+	}
+
+	/**
+	 * Rotina em lote que notifica o andamento através de {@link Objeto}.
+	 */
+	private static final class Rotina extends Objeto {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		void avisar(final Severity gravidade, final String resumo, final String detalhe) {
+			notificar(gravidade, resumo, detalhe);
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package br.com.arquitetura.auditoria;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import javax.persistence.Transient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.enumerator.EnumSincronizacao;
+
+/**
+ * Testes do {@link LeitorDiario} sobre os segmentos gravados pelo {@link DiarioAuditoria}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class LeitorDiarioTest {
+
+	/** Atributo pasta. */
+	@Rule
+	public TemporaryFolder pasta = new TemporaryFolder();
+
+	/** Atributo diretorio. */
+	private File diretorio;
+
+	/** Atributo diario. */
+	private DiarioAuditoria diario;
+
+	@Before
+	public void preparar() throws IOException {
+		diretorio = pasta.newFolder("auditoria");
+		diario = criarDiario(64 * 1024);
+	}
+
+	@After
+	public void encerrar() throws InterruptedException {
+		diario.encerrar();
+	}
+
+	private DiarioAuditoria criarDiario(final int tamanhoSegmento) throws IOException {
+		final DiarioAuditoria novo = new DiarioAuditoria(diretorio);
+		novo.setTamanhoSegmento(tamanhoSegmento);
+		novo.setSincronizacao(EnumSincronizacao.NUNCA);
+		novo.iniciar();
+		return novo;
+	}
+
+	@Test
+	public void reproduzInclusaoAlteracaoERemocaoNaOrdem() throws Exception {
+		final Cliente cliente = new Cliente(7, "Maria", new BigDecimal("1500.25"), new Date(1000000L));
+		diario.registrar(cliente, EnumOperacao.INCLUSAO, 100);
+		cliente.nome = "Maria Silva";
+		cliente.temporario = "não registrado";
+		diario.registrar(cliente, EnumOperacao.ALTERACAO, 200);
+		diario.registrar(cliente, EnumOperacao.REMOCAO, 300);
+		diario.encerrar();
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		final LeitorDiario leitor = new LeitorDiario(diretorio);
+		assertEquals(3, leitor.reproduzir(coletar(registros)));
+		assertEquals(0, leitor.getIncompletos());
+
+		final RegistroAuditoria inclusao = registros.get(0);
+		assertEquals(Cliente.class.getName(), inclusao.getClasse());
+		assertEquals(Integer.valueOf(7), inclusao.getId());
+		assertEquals(EnumOperacao.INCLUSAO, inclusao.getOperacao());
+		assertEquals(100, inclusao.getMomento());
+		assertTrue(inclusao.isCompleto());
+		assertEquals(Arrays.asList("cadastro", "limite", "nome"), new ArrayList<String>(inclusao.getCampos().keySet()));
+		assertEquals(new Date(1000000L), inclusao.getCampos().get("cadastro"));
+		assertEquals(new BigDecimal("1500.25"), inclusao.getCampos().get("limite"));
+		assertEquals("Maria", inclusao.getCampos().get("nome"));
+
+		final RegistroAuditoria alteracao = registros.get(1);
+		assertEquals(EnumOperacao.ALTERACAO, alteracao.getOperacao());
+		assertFalse(alteracao.isCompleto());
+		assertEquals(1, alteracao.getCampos().size());
+		assertEquals("Maria Silva", alteracao.getCampos().get("nome"));
+
+		final RegistroAuditoria remocao = registros.get(2);
+		assertEquals(EnumOperacao.REMOCAO, remocao.getOperacao());
+		assertEquals(Integer.valueOf(7), remocao.getId());
+		assertTrue(remocao.getCampos().isEmpty());
+	}
+
+	@Test
+	public void alteracaoSemRegistroAnteriorGravadaCompleta() throws Exception {
+		final Cliente cliente = new Cliente(3, "João", null, null);
+		diario.registrar(cliente, EnumOperacao.ALTERACAO, 100);
+		diario.encerrar();
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		new LeitorDiario(diretorio).reproduzir(coletar(registros));
+
+		assertEquals(1, registros.size());
+		assertTrue(registros.get(0).isCompleto());
+		assertEquals(1, registros.get(0).getCampos().size());
+		assertEquals("João", registros.get(0).getCampos().get("nome"));
+	}
+
+	@Test
+	public void entregaApenasOsRegistrosAPartirDoMomento() throws Exception {
+		for (int i = 1; i <= 10; i++) {
+			diario.registrar(new Cliente(i, "Cliente " + i, null, null), EnumOperacao.INCLUSAO, i * 100);
+		}
+		diario.encerrar();
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		assertEquals(3, new LeitorDiario(diretorio).reproduzir(800, coletar(registros)));
+		assertEquals(Integer.valueOf(8), registros.get(0).getId());
+		assertEquals(Integer.valueOf(10), registros.get(2).getId());
+	}
+
+	@Test
+	public void leSegmentosRotacionadosNaOrdemDeGravacao() throws Exception {
+		diario.encerrar();
+		diario = criarDiario(1024);
+		for (int i = 1; i <= 200; i++) {
+			diario.registrar(new Cliente(i, "Cliente com nome longo " + i, BigDecimal.valueOf(i), null), EnumOperacao.INCLUSAO, i);
+		}
+		diario.encerrar();
+		assertEquals(200, diario.getGravados());
+
+		final File[] segmentos = LeitorDiario.listarSegmentos(diretorio);
+		assertTrue(segmentos.length > 1);
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		assertEquals(200, new LeitorDiario(diretorio).reproduzir(coletar(registros)));
+		for (int i = 0; i < registros.size(); i++) {
+			assertEquals(Integer.valueOf(i + 1), registros.get(i).getId());
+			assertEquals("Cliente com nome longo " + (i + 1), registros.get(i).getCampos().get("nome"));
+			assertTrue(registros.get(i).isCompleto());
+		}
+		assertTrue(registros.get(0).getSegmento() < registros.get(199).getSegmento());
+	}
+
+	@Test
+	public void reinicioContinuaASequenciaDosSegmentos() throws Exception {
+		diario.registrar(new Cliente(1, "Primeiro", null, null), EnumOperacao.INCLUSAO, 100);
+		diario.encerrar();
+		diario = criarDiario(64 * 1024);
+		diario.registrar(new Cliente(2, "Segundo", null, null), EnumOperacao.INCLUSAO, 200);
+		diario.encerrar();
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		assertEquals(2, new LeitorDiario(diretorio).reproduzir(coletar(registros)));
+		assertEquals(1, registros.get(0).getSegmento());
+		assertEquals(2, registros.get(1).getSegmento());
+		assertEquals("Segundo", registros.get(1).getCampos().get("nome"));
+	}
+
+	@Test
+	public void interrompeOSegmentoNoRegistroCorrompido() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			diario.registrar(new Cliente(i, "Cliente " + i, null, null), EnumOperacao.INCLUSAO, i);
+		}
+		diario.encerrar();
+
+		final File segmento = LeitorDiario.listarSegmentos(diretorio)[0];
+		try (RandomAccessFile arquivo = new RandomAccessFile(segmento, "rw")) {
+			long posicao = FormatoDiario.TAMANHO_CABECALHO;
+			for (int moldura = 0; moldura < 3; moldura++) {
+				arquivo.seek(posicao);
+				posicao += FormatoDiario.TAMANHO_MOLDURA + arquivo.readInt();
+			}
+			arquivo.seek(posicao + FormatoDiario.TAMANHO_MOLDURA + 2);
+			final int original = arquivo.read();
+			arquivo.seek(posicao + FormatoDiario.TAMANHO_MOLDURA + 2);
+			arquivo.write(original ^ 0xFF);
+		}
+
+		final List<RegistroAuditoria> registros = new ArrayList<RegistroAuditoria>();
+		final LeitorDiario leitor = new LeitorDiario(diretorio);
+		assertEquals(2, leitor.reproduzir(coletar(registros)));
+		assertEquals(1, leitor.getIncompletos());
+		assertEquals(Integer.valueOf(2), registros.get(1).getId());
+	}
+
+	@Test(expected = IOException.class)
+	public void rejeitaArquivoQueNaoESegmento() throws IOException {
+		final File arquivo = new File(diretorio, FormatoDiario.obterNome(99));
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "rw")) {
+			acesso.write(new byte[FormatoDiario.TAMANHO_CABECALHO]);
+		}
+
+		new LeitorDiario(diretorio).ler(arquivo, Long.MIN_VALUE, coletar(new ArrayList<RegistroAuditoria>()));
+	}
+
+	@Test
+	public void diretorioSemSegmentos() {
+		assertEquals(0, LeitorDiario.listarSegmentos(new File(diretorio, "inexistente")).length);
+	}
+
+	private static ProcessadorAuditoria coletar(final List<RegistroAuditoria> registros) {
+		return new ProcessadorAuditoria() {
+			@Override
+			public void processar(final RegistroAuditoria registro) {
+				registros.add(registro);
+			}
+		};
+	}
+
+	/**
+	 * <code>Entidade</code> utilizada nos testes.
+	 */
+	public static class Cliente extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo limite. */
+		private BigDecimal limite;
+
+		/** Atributo cadastro. */
+		private Date cadastro;
+
+		/** Atributo temporario. */
+		@Transient
+		private String temporario;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 */
+		public Cliente() {
+			super();
+		}
+
+		Cliente(final Integer id, final String nome, final BigDecimal limite, final Date cadastro) {
+			super();
+			setId(id);
+			this.nome = nome;
+			this.limite = limite;
+			this.cadastro = cadastro;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package br.com.arquitetura.bundle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do {@link Bundle} com um arquivo de mensagens em alemão gravado ao lado do <code>mensagem.properties</code>: cada
+ * <code>Locale</code> obtém o seu próprio <code>ResourceBundle</code>, os argumentos são formatados com o <code>Locale</code> da
+ * mensagem mesmo com várias <i>threads</i> compartilhando o <code>MessageFormat</code>, e a alteração do arquivo só é percebida
+ * com a recarga habilitada.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class BundleTest {
+
+	/** Constante ALEMAO. */
+	private static final Locale ALEMAO = new Locale("de");
+
+	/** Atributo arquivo. */
+	private File arquivo;
+
+	@Before
+	public void preparar() throws Exception {
+		final URL padrao = Bundle.class.getClassLoader().getResource("mensagem.properties");
+		assumeTrue(padrao != null && "file".equals(padrao.getProtocol()));
+
+		arquivo = new File(new File(padrao.toURI()).getParentFile(), "mensagem_de.properties");
+		gravar("Sie haben {0,number,#,##0.00} Punkte, {1}.");
+		Bundle.recarregar();
+	}
+
+	@After
+	public void encerrar() {
+		Bundle.habilitarRecarga(0);
+		if (arquivo != null) {
+			arquivo.delete();
+		}
+		Bundle.recarregar();
+	}
+
+	@Test
+	public void cadaLocaleObtemOSeuProprioBundle() {
+		assertTrue(Bundle.getResourceBundle(ALEMAO).containsKey("teste.pontos"));
+
+		assertFalse("O primeiro Locale carregado não pode ser devolvido para os demais.",
+				Bundle.getResourceBundle(Bundle.LOCALE_PADRAO).containsKey("teste.pontos"));
+		assertEquals(Bundle.getMensagem(Bundle.LOCALE_PADRAO, "arquitetura.msg.salvar.sucesso"),
+				Bundle.getMensagem(ALEMAO, "arquitetura.msg.salvar.sucesso"));
+	}
+
+	@Test
+	public void argumentosSaoFormatadosComOLocaleDaMensagem() {
+		assertEquals("Sie haben 1.234,50 Punkte, Ana.", Bundle.getMensagem(ALEMAO, "teste.pontos", 1234.5, "Ana"));
+	}
+
+	@Test
+	public void formatoCompartilhadoProduzAMensagemDeCadaThread() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Boolean>> resultados = new ArrayList<Future<Boolean>>();
+			for (int t = 0; t < 8; t++) {
+				final int thread = t;
+				resultados.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() {
+						for (int i = 0; i < 500; i++) {
+							final String nome = thread + "-" + i;
+							if (!("Sie haben " + i + ",00 Punkte, " + nome + ".").equals(Bundle.getMensagem(ALEMAO, "teste.pontos", i, nome))) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (final Future<Boolean> resultado : resultados) {
+				assertTrue(resultado.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void alteracaoDoArquivoEhPercebidaApenasComARecargaHabilitada() throws Exception {
+		assertEquals("Sie haben 1,00 Punkte, Ana.", Bundle.getMensagem(ALEMAO, "teste.pontos", 1, "Ana"));
+
+		gravar("{1} hat {0} Punkte.");
+		assertTrue(arquivo.setLastModified(arquivo.lastModified() + 10000));
+		assertEquals("Sie haben 1,00 Punkte, Ana.", Bundle.getMensagem(ALEMAO, "teste.pontos", 1, "Ana"));
+
+		Bundle.habilitarRecarga(1);
+		Thread.sleep(5);
+		assertEquals("Ana hat 1 Punkte.", Bundle.getMensagem(ALEMAO, "teste.pontos", 1, "Ana"));
+	}
+
+	private void gravar(final String pontos) throws IOException {
+		final Properties mensagens = new Properties();
+		mensagens.setProperty("teste.pontos", pontos);
+		try (OutputStream saida = new FileOutputStream(arquivo)) {
+			mensagens.store(saida, null);
+		}
+	}
+}
@@ -0,0 +1,308 @@
+package br.com.arquitetura.coalescencia;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.exception.TempoEsgotadoException;
+
+/**
+ * Testes de concorrência do {@link CoalescedorLeituras}. A leitura executada fica bloqueada até que as demais chamadas estejam
+ * aguardando, simulando uma consulta lenta ao <i>Banco de Dados</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class CoalescedorLeiturasTest {
+
+	/** Atributo coalescedor. */
+	private CoalescedorLeituras coalescedor;
+
+	/** Atributo executor. */
+	private ExecutorService executor;
+
+	/** Atributo liberacao. */
+	private CountDownLatch liberacao;
+
+	/** Atributo leituras. */
+	private AtomicInteger leituras;
+
+	@Before
+	public void preparar() {
+		coalescedor = new CoalescedorLeituras(Produto.class);
+		executor = Executors.newCachedThreadPool();
+		liberacao = new CountDownLatch(1);
+		leituras = new AtomicInteger();
+	}
+
+	@After
+	public void encerrar() throws InterruptedException {
+		liberacao.countDown();
+		executor.shutdownNow();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void chamadasSimultaneasRecebemCopiasDeUmaUnicaLeitura() throws Exception {
+		final Future<List<Produto>> primeira = executor.submit(chamada("listar"));
+		aguardarChamadas(1);
+		final List<Future<List<Produto>>> demais = new ArrayList<Future<List<Produto>>>();
+		for (int i = 0; i < 4; i++) {
+			demais.add(executor.submit(chamada("listar")));
+		}
+		aguardarChamadas(5);
+		liberacao.countDown();
+
+		final List<Produto> executada = primeira.get(5, TimeUnit.SECONDS);
+		final List<Produto> anterior = demais.get(0).get(5, TimeUnit.SECONDS);
+		for (final Future<List<Produto>> futuro : demais) {
+			final List<Produto> copia = futuro.get(5, TimeUnit.SECONDS);
+			assertEquals("Caneta", copia.get(0).nome);
+			assertNotSame(executada.get(0), copia.get(0));
+			if (copia != anterior) {
+				assertNotSame(anterior.get(0), copia.get(0));
+			}
+		}
+		assertEquals(1, leituras.get());
+		assertEquals(1, coalescedor.getExecutadas());
+		assertEquals(4, coalescedor.getCoalescidas());
+		assertEquals(0, coalescedor.getEmAndamento());
+
+		anterior.get(0).nome = "Editado";
+		assertEquals("Caneta", executada.get(0).nome);
+	}
+
+	@Test
+	public void leiturasComArgumentosDiferentesNaoSaoAgrupadas() throws Exception {
+		liberacao.countDown();
+		coalescedor.executar("obterPorId", new Object[] { 1 }, leitura());
+		coalescedor.executar("obterPorId", new Object[] { 2 }, leitura());
+
+		assertEquals(2, leituras.get());
+		assertEquals(0, coalescedor.getCoalescidas());
+	}
+
+	@Test
+	public void excecaoDaLeituraRepassadaAsChamadasQueAguardaram() throws Exception {
+		final Callable<List<Produto>> falha = new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() throws Exception {
+				leituras.incrementAndGet();
+				liberacao.await();
+				throw new IllegalArgumentException("consulta inválida");
+			}
+		};
+		final Future<List<Produto>> primeira = executor.submit(chamada("listar", falha));
+		aguardarChamadas(1);
+		final Future<List<Produto>> segunda = executor.submit(chamada("listar", falha));
+		aguardarChamadas(2);
+		liberacao.countDown();
+
+		for (final Future<List<Produto>> futuro : Arrays.asList(primeira, segunda)) {
+			try {
+				futuro.get(5, TimeUnit.SECONDS);
+				fail();
+			} catch (final java.util.concurrent.ExecutionException e) {
+				assertTrue(e.getCause() instanceof IllegalArgumentException);
+			}
+		}
+		assertEquals(1, leituras.get());
+	}
+
+	@Test
+	public void esgotaOTempoDeEsperaDaLeituraEmAndamento() throws Exception {
+		coalescedor.setTempoEspera(50);
+		executor.submit(chamada("listar"));
+		aguardarChamadas(1);
+
+		try {
+			coalescedor.executar("listar", new Object[0], leitura());
+			fail();
+		} catch (final TempoEsgotadoException e) {
+			assertEquals(1, coalescedor.getExpiradas());
+		}
+		assertEquals(1, leituras.get());
+	}
+
+	@Test
+	public void leituraReentranteExecutadaPelaPropriaThread() throws Exception {
+		liberacao.countDown();
+		final List<Produto> resultado = coalescedor.executar("listar", new Object[0], new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() {
+				return coalescedor.executar("listar", new Object[0], leitura());
+			}
+		});
+
+		assertEquals("Caneta", resultado.get(0).nome);
+		assertEquals(2, coalescedor.getExecutadas());
+		assertEquals(0, coalescedor.getCoalescidas());
+	}
+
+	@Test
+	public void chamadaEmTransacaoDeEscritaNaoAguardaOutraLeitura() throws Exception {
+		final Future<List<Produto>> primeira = executor.submit(chamada("listar"));
+		aguardarChamadas(1);
+
+		final List<Produto> propria = executor.submit(new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() {
+				TransactionSynchronizationManager.setActualTransactionActive(true);
+				TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+				try {
+					return coalescedor.executar("listar", new Object[0], new Callable<List<Produto>>() {
+						@Override
+						public List<Produto> call() {
+							return new ArrayList<Produto>(Arrays.asList(new Produto(1, "Caneta alterada na transação")));
+						}
+					});
+				} finally {
+					TransactionSynchronizationManager.setActualTransactionActive(false);
+				}
+			}
+		}).get(5, TimeUnit.SECONDS);
+
+		assertEquals("Caneta alterada na transação", propria.get(0).nome);
+		assertEquals(1, coalescedor.getIgnoradas());
+		liberacao.countDown();
+		assertEquals("Caneta", primeira.get(5, TimeUnit.SECONDS).get(0).nome);
+	}
+
+	@Test
+	public void chamadaEmTransacaoSomenteLeituraAguardaALeitura() throws Exception {
+		executor.submit(chamada("listar"));
+		aguardarChamadas(1);
+		final Future<List<Produto>> somenteLeitura = executor.submit(new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() {
+				TransactionSynchronizationManager.setActualTransactionActive(true);
+				TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+				try {
+					return coalescedor.executar("listar", new Object[0], leitura());
+				} finally {
+					TransactionSynchronizationManager.setActualTransactionActive(false);
+					TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+				}
+			}
+		});
+		aguardarChamadas(2);
+		liberacao.countDown();
+
+		assertEquals("Caneta", somenteLeitura.get(5, TimeUnit.SECONDS).get(0).nome);
+		assertEquals(1, leituras.get());
+		assertEquals(1, coalescedor.getCoalescidas());
+	}
+
+	@Test
+	public void resultadoNaoSerializavelLidoPelaPropriaChamada() throws Exception {
+		final Object naoSerializavel = new Object();
+		final Callable<Object> leitura = new Callable<Object>() {
+			@Override
+			public Object call() throws Exception {
+				leituras.incrementAndGet();
+				liberacao.await();
+				return naoSerializavel;
+			}
+		};
+		executor.submit(new Callable<Object>() {
+			@Override
+			public Object call() {
+				return coalescedor.executar("resumo", new Object[0], leitura);
+			}
+		});
+		aguardarChamadas(1);
+		final Future<Object> segunda = executor.submit(new Callable<Object>() {
+			@Override
+			public Object call() {
+				return coalescedor.executar("resumo", new Object[0], leitura);
+			}
+		});
+		aguardarChamadas(2);
+		liberacao.countDown();
+
+		assertSame(naoSerializavel, segunda.get(5, TimeUnit.SECONDS));
+		assertEquals(2, leituras.get());
+		assertEquals(0, coalescedor.getCoalescidas());
+	}
+
+	private Callable<List<Produto>> leitura() {
+		return new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() throws Exception {
+				leituras.incrementAndGet();
+				liberacao.await();
+				return new ArrayList<Produto>(Arrays.asList(new Produto(1, "Caneta")));
+			}
+		};
+	}
+
+	private Callable<List<Produto>> chamada(final String metodo) {
+		return chamada(metodo, leitura());
+	}
+
+	private Callable<List<Produto>> chamada(final String metodo, final Callable<List<Produto>> leitura) {
+		return new Callable<List<Produto>>() {
+			@Override
+			public List<Produto> call() {
+				return coalescedor.executar(metodo, new Object[0], leitura);
+			}
+		};
+	}
+
+	/**
+	 * Método responsável por aguardar que as chamadas tenham chegado ao coalescedor e, no caso das que aguardam, se registrado
+	 * na leitura em andamento.
+	 * @author Wesley Luiz
+	 * @param quantidade - Quantidade de chamadas esperada.
+	 * @throws InterruptedException Caso a <i>thread</i> seja interrompida.
+	 */
+	private void aguardarChamadas(final int quantidade) throws InterruptedException {
+		final long limite = System.currentTimeMillis() + 5000;
+		while (coalescedor.getChamadas() < quantidade && System.currentTimeMillis() < limite) {
+			Thread.sleep(1);
+		}
+		Thread.sleep(50);
+		assertEquals(quantidade, coalescedor.getChamadas());
+	}
+
+	/**
+	 * <code>Entidade</code> utilizada nos testes.
+	 */
+	public static class Produto extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 */
+		public Produto() {
+			super();
+		}
+
+		Produto(final Integer id, final String nome) {
+			super();
+			setId(id);
+			this.nome = nome;
+		}
+	}
+}
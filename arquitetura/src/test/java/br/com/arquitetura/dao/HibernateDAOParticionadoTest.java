@@ -0,0 +1,403 @@
+package br.com.arquitetura.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.criterion.Order;
+import org.hibernate.criterion.Projections;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.internal.CriteriaImpl;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumGeracaoIdentificador;
+
+/**
+ * Testes do {@link HibernateDAOParticionado} com três partições simuladas, cada uma com a sua sequência e as linhas que o
+ * <i>Banco de Dados</i> retornaria já ordenadas e limitadas pelo <code>setMaxResults</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class HibernateDAOParticionadoTest {
+
+	/** Atributo particoes. */
+	private List<Particao> particoes;
+
+	/** Atributo dao. */
+	private PedidoDAO dao;
+
+	@Before
+	public void preparar() {
+		particoes = new ArrayList<Particao>();
+		final List<EntityManagerFactory> fabricas = new ArrayList<EntityManagerFactory>();
+		for (int i = 0; i < 3; i++) {
+			final Particao particao = new Particao();
+			particoes.add(particao);
+			fabricas.add(particao.criar(EntityManagerFactory.class));
+			TransactionSynchronizationManager.bindResource(fabricas.get(i), new EntityManagerHolder(particao.criar(EntityManager.class)));
+		}
+		dao = new PedidoDAO(fabricas);
+	}
+
+	@After
+	public void encerrar() {
+		for (final EntityManagerFactory fabrica : dao.getFabricas()) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(fabrica);
+		}
+		dao.encerrar();
+	}
+
+	@Test
+	public void idGeradoIndicaAParticaoEscolhida() {
+		particoes.get(0).sequencia.set(10);
+		particoes.get(1).sequencia.set(20);
+		particoes.get(2).sequencia.set(30);
+		final List<Pedido> pedidos = Arrays.asList(new Pedido("a", 1), new Pedido("b", 2), new Pedido("c", 3), new Pedido("d", 4));
+
+		dao.salvarLote(pedidos);
+
+		assertEquals(Integer.valueOf(11 * 3 + 0), pedidos.get(0).getId());
+		assertEquals(Integer.valueOf(21 * 3 + 1), pedidos.get(1).getId());
+		assertEquals(Integer.valueOf(31 * 3 + 2), pedidos.get(2).getId());
+		assertEquals(Integer.valueOf(12 * 3 + 0), pedidos.get(3).getId());
+		for (final Pedido pedido : pedidos) {
+			final int particao = dao.obterParticao(pedido.getId());
+			assertTrue(particoes.get(particao).gravadas.contains(pedido));
+		}
+		assertEquals(2, particoes.get(0).gravadas.size());
+	}
+
+	@Test
+	public void estrategiaDefineAParticaoDoNovoRegistro() {
+		dao.setEstrategia(new EstrategiaParticao<Pedido>() {
+			@Override
+			public int obterParticao(final Pedido entidade, final int particoes) {
+				return entidade.getCliente().length() % particoes;
+			}
+		});
+		final Pedido pedido = new Pedido("cliente", 1);
+
+		dao.salvar(pedido);
+
+		assertEquals(1, dao.obterParticao(pedido.getId()));
+		assertEquals(Arrays.<Object> asList(pedido), particoes.get(1).gravadas);
+	}
+
+	@Test
+	public void sequenciaEsgotadaNaoGeraIdDeOutraParticao() {
+		particoes.get(0).sequencia.set(Integer.MAX_VALUE / 3);
+		try {
+			dao.salvar(new Pedido("a", 1));
+			fail("Um id acima de Integer.MAX_VALUE deveria ser recusado.");
+		} catch (final IllegalStateException e) {
+			assertTrue(particoes.get(0).gravadas.isEmpty());
+		}
+	}
+
+	@Test
+	public void particaoDoIdEhOMesmoIndiceUsadoNaGeracao() {
+		assertEquals(0, dao.obterParticao(0));
+		assertEquals(2, dao.obterParticao(5));
+		assertEquals(1, dao.obterParticao(Integer.MAX_VALUE));
+		assertEquals(dao.obterParticao(-7), dao.obterParticao(-7));
+		assertTrue(dao.obterParticao(-7) >= 0);
+	}
+
+	@Test
+	public void ordemELimiteSaoAplicadosAoTotalDasParticoes() {
+		particoes.get(0).linhas(pedido(1), pedido(4), pedido(9));
+		particoes.get(1).linhas(pedido(2), pedido(3), pedido(10));
+		particoes.get(2).linhas(pedido(5), pedido(6), pedido(7));
+
+		final List<?> resultado = dao.novoCriteria().addOrder(Order.asc("valor")).setMaxResults(4).list();
+
+		assertEquals(Arrays.asList(1, 2, 3, 4), valores(resultado));
+		for (final Particao particao : particoes) {
+			assertEquals("Cada partição deve retornar até o limite total.", Integer.valueOf(4), particao.limites.get(0));
+		}
+	}
+
+	@Test
+	public void semOrdemAsParticoesSaoConcatenadasAteOLimite() {
+		particoes.get(0).linhas(pedido(1), pedido(4));
+		particoes.get(1).linhas(pedido(2), pedido(3));
+		particoes.get(2).linhas(pedido(5));
+
+		assertEquals(Arrays.asList(1, 4, 2), valores(dao.novoCriteria().setMaxResults(3).list()));
+	}
+
+	@Test
+	public void ordemDescendentePorAssociacaoComNulosEDesempate() {
+		particoes.get(0).linhas(pedido(1, null), pedido(5, "Recife"));
+		particoes.get(1).linhas(pedido(2, null), pedido(6, "Natal"));
+		particoes.get(2).linhas(pedido(3, "recife"), pedido(4, "Belém"));
+
+		final Criteria criteria = dao.novoCriteria().createAlias("endereco", "e");
+		criteria.addOrder(Order.desc("e.cidade").ignoreCase()).addOrder(Order.asc("valor"));
+
+		assertEquals(Arrays.asList(1, 2, 3, 5, 6, 4), valores(criteria.list()));
+	}
+
+	@Test
+	public void ordemComProjecaoEhRecusada() {
+		particoes.get(0).linhas(1);
+		try {
+			dao.novoCriteria().setProjection(Projections.property("valor")).addOrder(Order.asc("valor")).list();
+			fail("Projeções ordenadas não podem ser intercaladas pelos atributos das entidades.");
+		} catch (final HibernateException e) {
+			assertTrue(particoes.get(0).limites.isEmpty());
+		}
+	}
+
+	@Test
+	public void cursorOrdenadoIntercalaEFechaAsParticoes() {
+		particoes.get(0).linhas(pedido(1), pedido(6));
+		particoes.get(1).linhas(pedido(2), pedido(3), pedido(7));
+		particoes.get(2).linhas();
+
+		final ScrollableResults cursor = dao.novoCriteria().addOrder(Order.asc("valor")).setMaxResults(4).scroll();
+		final List<Object> linhas = new ArrayList<Object>();
+		while (cursor.next()) {
+			linhas.add(cursor.get(0));
+		}
+		cursor.close();
+
+		assertEquals(Arrays.asList(1, 2, 3, 6), valores(linhas));
+		for (final Particao particao : particoes) {
+			assertEquals(particao.cursoresAbertos, particao.cursoresFechados);
+		}
+	}
+
+	@Test
+	public void threadsDasConsultasSaoConfiguraveis() {
+		assertEquals(3 * HibernateDAOParticionado.THREADS_POR_PARTICAO, dao.getThreadsConsultas());
+		dao.setThreadsConsultas(20);
+		assertEquals(20, dao.getThreadsConsultas());
+		try {
+			dao.setThreadsConsultas(0);
+			fail();
+		} catch (final IllegalArgumentException e) {
+			assertEquals(20, dao.getThreadsConsultas());
+		}
+	}
+
+	@Test
+	public void intercalarRespeitaOLimite() {
+		final List<List<Integer>> listas = new ArrayList<List<Integer>>();
+		listas.add(Arrays.asList(1, 5));
+		listas.add(new ArrayList<Integer>());
+		listas.add(Arrays.asList(2, 3, 4));
+		final java.util.Comparator<Integer> natural = new java.util.Comparator<Integer>() {
+			@Override
+			public int compare(final Integer i1, final Integer i2) {
+				return i1.compareTo(i2);
+			}
+		};
+
+		assertEquals(Arrays.asList(1, 2, 3), HibernateDAOParticionado.intercalar(listas, natural, 3));
+		assertFalse(HibernateDAOParticionado.intercalar(listas, natural, Integer.MAX_VALUE).contains(null));
+	}
+
+	private static Pedido pedido(final int valor) {
+		return pedido(valor, "Cidade");
+	}
+
+	private static Pedido pedido(final int valor, final String cidade) {
+		final Pedido pedido = new Pedido("cliente", valor);
+		pedido.endereco = new Endereco(cidade);
+		return pedido;
+	}
+
+	private static List<Integer> valores(final List<?> pedidos) {
+		final List<Integer> valores = new ArrayList<Integer>();
+		for (final Object pedido : pedidos) {
+			valores.add(((Pedido) pedido).valor);
+		}
+		return valores;
+	}
+
+	/**
+	 * Partição simulada: atende, através de <i>proxies</i>, o <code>EntityManagerFactory</code>, o <code>EntityManager</code>, a
+	 * <i>Sessão</i> e o gerador de identificadores.
+	 */
+	private static final class Particao implements InvocationHandler {
+
+		/** Atributo sequencia. */
+		private final AtomicLong sequencia = new AtomicLong();
+
+		/** Atributo gravadas. */
+		private final List<Object> gravadas = new ArrayList<Object>();
+
+		/** Atributo linhas. */
+		private final List<Object> linhas = new ArrayList<Object>();
+
+		/** Atributo limites. */
+		private final List<Integer> limites = new ArrayList<Integer>();
+
+		/** Atributo cursoresAbertos. */
+		private int cursoresAbertos;
+
+		/** Atributo cursoresFechados. */
+		private int cursoresFechados;
+
+		void linhas(final Object... novas) {
+			linhas.addAll(Arrays.asList(novas));
+		}
+
+		<T> T criar(final Class<T> tipo) {
+			final Class<?>[] tipos = tipo == Session.class ? new Class<?>[] { Session.class, SessionImplementor.class } : new Class<?>[] { tipo };
+			return tipo.cast(Proxy.newProxyInstance(getClass().getClassLoader(), tipos, this));
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+			switch (metodo.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Particao";
+			case "getDelegate":
+				return criar(Session.class);
+			case "getFactory":
+				return criar(SessionFactoryImplementor.class);
+			case "getEntityPersister":
+				return criar(EntityPersister.class);
+			case "getIdentifierGenerator":
+				return criar(IdentifierGenerator.class);
+			case "generate":
+				return sequencia.incrementAndGet();
+			case "bestGuessEntityName":
+				return args[0].getClass().getName();
+			case "replicate":
+				gravadas.add(args[0]);
+				return null;
+			case "list":
+				return consultar((CriteriaImpl) args[0]);
+			case "scroll":
+				cursoresAbertos++;
+				return cursor(consultar((CriteriaImpl) args[0]));
+			default:
+				return null;
+			}
+		}
+
+		private List<Object> consultar(final CriteriaImpl criteria) {
+			limites.add(criteria.getMaxResults());
+			final int limite = criteria.getMaxResults() == null ? linhas.size() : Math.min(criteria.getMaxResults(), linhas.size());
+			return new ArrayList<Object>(linhas.subList(0, limite));
+		}
+
+		private ScrollableResults cursor(final List<Object> resultado) {
+			return (ScrollableResults) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ScrollableResults.class },
+					new InvocationHandler() {
+
+						/** Atributo posicao. */
+						private int posicao = -1;
+
+						@Override
+						public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+							switch (metodo.getName()) {
+							case "next":
+								return ++posicao < resultado.size();
+							case "get":
+								return resultado.get(posicao);
+							case "close":
+								cursoresFechados++;
+								return null;
+							default:
+								throw new UnsupportedOperationException(metodo.getName());
+							}
+						}
+					});
+		}
+	}
+
+	/**
+	 * <i>DAO</i> particionado de {@link Pedido}.
+	 */
+	public static class PedidoDAO extends HibernateDAOParticionado<Pedido> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		public PedidoDAO(final List<EntityManagerFactory> fabricas) {
+			super(fabricas);
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> gravada nas partições.
+	 */
+	@GeracaoIdentificador(estrategia = EnumGeracaoIdentificador.SEQUENCIA)
+	public static class Pedido extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo cliente. */
+		private String cliente;
+
+		/** Atributo valor. */
+		private Integer valor;
+
+		/** Atributo endereco. */
+		private Endereco endereco;
+
+		public Pedido() {
+			super();
+		}
+
+		Pedido(final String cliente, final Integer valor) {
+			this.cliente = cliente;
+			this.valor = valor;
+		}
+
+		public String getCliente() {
+			return cliente;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> associada ao {@link Pedido}, utilizada nas ordens através de <code>createAlias</code>.
+	 */
+	public static class Endereco extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo cidade. */
+		private String cidade;
+
+		public Endereco() {
+			super();
+		}
+
+		Endereco(final String cidade) {
+			this.cidade = cidade;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package br.com.arquitetura.entidade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQL82Dialect;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.id.factory.internal.DefaultIdentifierGeneratorFactory;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.SimpleValue;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.arquitetura.annotation.GeracaoIdentificador;
+import br.com.arquitetura.enumerator.EnumGeracaoIdentificador;
+
+/**
+ * Testes do {@link IntegradorGeracaoIdentificador} sobre o mapeamento construído pelo <i>Hibernate</i> a partir das anotações:
+ * os geradores criados para cada entidade, com o otimizador e a alocação configurados, e as entidades sem a anotação, que
+ * continuam com <code>IDENTITY</code>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class IntegradorGeracaoIdentificadorTest {
+
+	/** Atributo configuration. */
+	private Configuration configuration;
+
+	@Before
+	public void preparar() {
+		configuration = new Configuration().addAnnotatedClass(Pedido.class).addAnnotatedClass(ItemPedido.class)
+				.addAnnotatedClass(Lancamento.class).addAnnotatedClass(Parametro.class).addAnnotatedClass(Auditoria.class);
+		configuration.buildMappings();
+		new IntegradorGeracaoIdentificador().integrate(configuration, null, null);
+	}
+
+	@Test
+	public void sequenciaPadraoUtilizaOOtimizadorPooledComONomeDaTabela() {
+		final SequenceStyleGenerator gerador = (SequenceStyleGenerator) criarGerador(Pedido.class);
+
+		assertEquals("pedido_seq", gerador.getDatabaseStructure().getName());
+		assertEquals(50, gerador.getDatabaseStructure().getIncrementSize());
+		assertSame(OptimizerFactory.PooledOptimizer.class, gerador.getOptimizer().getClass());
+	}
+
+	@Test
+	public void tabelaHiLoUtilizaOSegmentoInformado() {
+		final TableGenerator gerador = (TableGenerator) criarGerador(ItemPedido.class);
+
+		assertEquals("itens", gerador.getSegmentValue());
+		assertEquals(20, gerador.getIncrementSize());
+		assertSame(OptimizerFactory.HiLoOptimizer.class, gerador.getOptimizer().getClass());
+	}
+
+	@Test
+	public void alocacaoUnitariaNaoUtilizaOtimizador() {
+		final SequenceStyleGenerator gerador = (SequenceStyleGenerator) criarGerador(Lancamento.class);
+
+		assertEquals("lancamento_id", gerador.getDatabaseStructure().getName());
+		assertSame(OptimizerFactory.NoopOptimizer.class, gerador.getOptimizer().getClass());
+	}
+
+	@Test
+	public void entidadesSemAnotacaoOuComIdentidadeMantemIdentity() {
+		assertTrue(criarGerador(Parametro.class) instanceof IdentityGenerator);
+		assertTrue(criarGerador(Auditoria.class) instanceof IdentityGenerator);
+	}
+
+	private IdentifierGenerator criarGerador(final Class<?> entidade) {
+		final RootClass classe = (RootClass) configuration.getClassMapping(entidade.getName());
+		return ((SimpleValue) classe.getIdentifier()).createIdentifierGenerator(new DefaultIdentifierGeneratorFactory(),
+				new PostgreSQL82Dialect(), null, null, classe);
+	}
+
+	/**
+	 * <code>Entidade</code> com a configuração padrão de {@link GeracaoIdentificador}.
+	 */
+	@Entity
+	@Table(name = "pedido")
+	@GeracaoIdentificador
+	public static class Pedido extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * <code>Entidade</code> com uma tabela de identificadores e o otimizador <i>hi/lo</i>.
+	 */
+	@Entity
+	@GeracaoIdentificador(estrategia = EnumGeracaoIdentificador.TABELA, alocacao = 20, nome = "itens", hiLo = true)
+	public static class ItemPedido extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * <code>Entidade</code> com uma sequência nomeada sem alocação em bloco.
+	 */
+	@Entity
+	@GeracaoIdentificador(alocacao = 1, nome = "lancamento_id")
+	public static class Lancamento extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * <code>Entidade</code> sem {@link GeracaoIdentificador}.
+	 */
+	@Entity
+	public static class Parametro extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * <code>Entidade</code> que declara explicitamente a geração por <code>IDENTITY</code>.
+	 */
+	@Entity
+	@GeracaoIdentificador(estrategia = EnumGeracaoIdentificador.IDENTIDADE)
+	public static class Auditoria extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+}
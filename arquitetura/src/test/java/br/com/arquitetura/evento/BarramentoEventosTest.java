@@ -0,0 +1,107 @@
+package br.com.arquitetura.evento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Test;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumOperacao;
+import br.com.arquitetura.referencia.AtualizadorReferencias;
+import br.com.arquitetura.referencia.CacheReferencia;
+import br.com.arquitetura.referencia.RegistroReferencias;
+import br.com.arquitetura.util.CacheRelatorios;
+
+/**
+ * Testes da inscrição dos recursos no {@link BarramentoEventos}: cada recurso é inscrito uma única vez quando configurado e
+ * deixa de receber eventos quando deixa de ser utilizado.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class BarramentoEventosTest {
+
+	@After
+	public void encerrar() {
+		RegistroReferencias.desregistrar(Cidade.class);
+		RegistroReferencias.desregistrar(Estado.class);
+		CacheRelatorios.getInstance().desabilitar();
+	}
+
+	@Test
+	public void cacheDeRelatoriosEhInscritoApenasEnquantoHabilitado() {
+		final BarramentoEventos barramento = BarramentoEventos.getInstance();
+		assertFalse(barramento.getOuvintes().contains(CacheRelatorios.getInstance()));
+
+		CacheRelatorios.getInstance().habilitar(1024);
+		CacheRelatorios.getInstance().habilitar(2048);
+		assertEquals(1, contar(CacheRelatorios.class));
+
+		CacheRelatorios.getInstance().desabilitar();
+		assertEquals(0, contar(CacheRelatorios.class));
+	}
+
+	@Test
+	public void atualizadorEhInscritoUmaVezEMantidoAteORemoverOUltimoCache() {
+		assertEquals(0, contar(AtualizadorReferencias.class));
+
+		RegistroReferencias.registrar(new CacheReferencia<Cidade>(Cidade.class));
+		RegistroReferencias.registrar(new CacheReferencia<Estado>(Estado.class));
+		assertEquals(1, contar(AtualizadorReferencias.class));
+
+		RegistroReferencias.desregistrar(Cidade.class);
+		assertEquals("O cache de Estado ainda precisa dos eventos.", 1, contar(AtualizadorReferencias.class));
+
+		RegistroReferencias.desregistrar(Estado.class);
+		assertEquals(0, contar(AtualizadorReferencias.class));
+	}
+
+	@Test
+	public void cacheRegistradoRecebeOsEventosPublicados() {
+		final CacheReferencia<Cidade> cache = new CacheReferencia<Cidade>(Cidade.class);
+		assertTrue(cache.substituir(new ArrayList<Cidade>(Arrays.asList(new Cidade(1))), cache.getVersao()));
+		RegistroReferencias.registrar(cache);
+
+		BarramentoEventos.getInstance().publicar(new EventoEntidade(new Cidade(2), EnumOperacao.INCLUSAO));
+
+		assertEquals(2, cache.getQuantidade());
+	}
+
+	private static int contar(final Class<?> tipo) {
+		int quantidade = 0;
+		for (final OuvinteEntidade ouvinte : BarramentoEventos.getInstance().getOuvintes()) {
+			if (tipo.isInstance(ouvinte)) {
+				quantidade++;
+			}
+		}
+		return quantidade;
+	}
+
+	/**
+	 * <code>Entidade</code> de referência utilizada nos testes.
+	 */
+	public static class Cidade extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		public Cidade() {
+			super();
+		}
+
+		Cidade(final Integer id) {
+			setId(id);
+		}
+	}
+
+	/**
+	 * Segunda <code>Entidade</code> de referência, mantida em outro <i>cache</i>.
+	 */
+	public static class Estado extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,119 @@
+package br.com.arquitetura.evento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+
+/**
+ * Testes da {@link FilaCircular}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class FilaCircularTest {
+
+	@Test
+	public void capacidadeArredondadaParaPotenciaDeDois() {
+		assertEquals(1, new FilaCircular<Object>(1).getCapacidade());
+		assertEquals(8, new FilaCircular<Object>(5).getCapacidade());
+		assertEquals(16, new FilaCircular<Object>(16).getCapacidade());
+	}
+
+	@Test
+	public void retiraNaOrdemDeInclusao() {
+		final FilaCircular<Integer> fila = new FilaCircular<Integer>(4);
+
+		assertTrue(fila.isVazia());
+		assertNull(fila.retirar());
+		for (int i = 0; i < 3; i++) {
+			assertTrue(fila.oferecer(i));
+		}
+		assertEquals(3, fila.getTamanho());
+		for (int i = 0; i < 3; i++) {
+			assertEquals(Integer.valueOf(i), fila.retirar());
+		}
+		assertNull(fila.retirar());
+		assertTrue(fila.isVazia());
+		assertEquals(3, fila.getConsumidos());
+	}
+
+	@Test
+	public void recusaElementoComAFilaCheia() {
+		final FilaCircular<Integer> fila = new FilaCircular<Integer>(4);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(fila.oferecer(i));
+		}
+
+		assertFalse(fila.oferecer(4));
+		assertEquals(Integer.valueOf(0), fila.retirar());
+		assertTrue(fila.oferecer(4));
+		assertFalse(fila.oferecer(5));
+	}
+
+	@Test
+	public void reutilizaAsPosicoesAoDarAVolta() {
+		final FilaCircular<Integer> fila = new FilaCircular<Integer>(2);
+		for (int i = 0; i < 100; i++) {
+			assertTrue(fila.oferecer(i));
+			assertTrue(fila.oferecer(-i));
+			assertEquals(Integer.valueOf(i), fila.retirar());
+			assertEquals(Integer.valueOf(-i), fila.retirar());
+		}
+		assertTrue(fila.isVazia());
+		assertEquals(200, fila.getConsumidos());
+	}
+
+	@Test
+	public void entregaUmaUnicaVezOsElementosDeVariosProdutores() throws InterruptedException {
+		final int produtores = 4;
+		final int porProdutor = 50000;
+		final FilaCircular<int[]> fila = new FilaCircular<int[]>(64);
+		final CountDownLatch inicio = new CountDownLatch(1);
+		final Thread[] threads = new Thread[produtores];
+		for (int p = 0; p < produtores; p++) {
+			final int produtor = p;
+			threads[p] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						inicio.await();
+					} catch (final InterruptedException e) {
+						return;
+					}
+					for (int i = 0; i < porProdutor; i++) {
+						final int[] elemento = new int[] { produtor, i };
+						while (!fila.oferecer(elemento)) {
+							Thread.yield();
+						}
+					}
+				}
+			};
+			threads[p].start();
+		}
+
+		inicio.countDown();
+		final int[] proximo = new int[produtores];
+		int recebidos = 0;
+		final long limite = System.currentTimeMillis() + 30000;
+		while (recebidos < produtores * porProdutor && System.currentTimeMillis() < limite) {
+			final int[] elemento = fila.retirar();
+			if (elemento == null) {
+				Thread.yield();
+				continue;
+			}
+			assertEquals("ordem do produtor " + elemento[0], proximo[elemento[0]], elemento[1]);
+			proximo[elemento[0]]++;
+			recebidos++;
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(produtores * porProdutor, recebidos);
+		assertNull(fila.retirar());
+		assertTrue(fila.isVazia());
+	}
+}
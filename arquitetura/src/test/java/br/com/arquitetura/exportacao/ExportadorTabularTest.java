@@ -0,0 +1,306 @@
+package br.com.arquitetura.exportacao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.persistence.EntityManager;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.criterion.Projections;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CriteriaImpl;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.enumerator.EnumFormatoExportacao;
+
+/**
+ * Testes do {@link ExportadorTabular}: o escape dos campos do <i>CSV</i>, a validade do <i>XML</i> das planilhas com textos
+ * arbitrários, a divisão em planilhas ao atingir o limite de linhas e a <i>Sessão</i> da requisição preservada entre os lotes.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ExportadorTabularTest {
+
+	/** Constante UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** Constante PROPRIEDADES. */
+	private static final String[] PROPRIEDADES = { "nome", "preco", "categoria.nome", "ativo" };
+
+	/** Constante TITULOS. */
+	private static final String[] TITULOS = { "Nome", "Preço", "Categoria", "Ativo" };
+
+	@Test
+	public void csvEscapaOsCamposEDeixaVaziosOsCaminhosNulos() throws IOException {
+		final ProdutoDAO dao = new ProdutoDAO(new Produto("Caneta; \"azul\"\nponta fina", new BigDecimal("1E+3"), null, true),
+				new Produto("Lápis", new BigDecimal("2.50"), new Categoria("Escrita"), false));
+		final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+		final ResultadoExportacao resultado = new ExportadorTabular(dao, dao.criteria, PROPRIEDADES, TITULOS).exportar(EnumFormatoExportacao.CSV, saida);
+
+		assertEquals(2, resultado.getLinhas());
+		assertEquals("\uFEFFNome;Preço;Categoria;Ativo\r\n"
+				+ "\"Caneta; \"\"azul\"\"\nponta fina\";1000;;true\r\n"
+				+ "Lápis;2.50;Escrita;false\r\n", new String(saida.toByteArray(), UTF_8));
+	}
+
+	@Test
+	public void xlsxPermaneceValidoComCaracteresReservadosEDeControle() throws Exception {
+		final ProdutoDAO dao = new ProdutoDAO(new Produto("<b>A & B</b>\u0001", BigDecimal.TEN, new Categoria("\"C\""), true));
+		final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+		new ExportadorTabular(dao, dao.criteria, PROPRIEDADES, TITULOS).exportar(EnumFormatoExportacao.XLSX, saida);
+
+		final Document planilha = ler(saida.toByteArray()).get("xl/worksheets/sheet1.xml");
+		final NodeList textos = planilha.getElementsByTagName("t");
+		assertEquals("<b>A & B</b>", textos.item(TITULOS.length).getTextContent());
+		assertEquals("\"C\"", textos.item(TITULOS.length + 1).getTextContent());
+		assertEquals("10", planilha.getElementsByTagName("v").item(0).getTextContent());
+	}
+
+	@Test
+	public void planilhaCheiaContinuaEmOutraComOsTitulos() throws Exception {
+		final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		final EscritorXLSX escritor = new EscritorXLSX(saida, 3);
+		escritor.iniciar(new String[] { "Número" });
+		for (int i = 1; i <= 5; i++) {
+			escritor.escrever(new Object[] { i });
+		}
+		escritor.finalizar();
+
+		final Map<String, Document> partes = ler(saida.toByteArray());
+		assertEquals(3, partes.get("xl/workbook.xml").getElementsByTagName("sheet").getLength());
+		assertEquals(3, partes.get("xl/worksheets/sheet1.xml").getElementsByTagName("row").getLength());
+		final Document ultima = partes.get("xl/worksheets/sheet3.xml");
+		assertEquals(2, ultima.getElementsByTagName("row").getLength());
+		assertEquals("Número", ultima.getElementsByTagName("t").item(0).getTextContent());
+		assertEquals("5", ultima.getElementsByTagName("v").item(0).getTextContent());
+	}
+
+	@Test
+	public void projecaoComOutraQuantidadeDeColunasEhRecusada() throws IOException {
+		final ProdutoDAO dao = new ProdutoDAO(new Object[] { "Caneta", BigDecimal.ONE });
+		dao.criteria.setProjection(Projections.projectionList().add(Projections.property("nome")).add(Projections.property("preco")));
+
+		try {
+			new ExportadorTabular(dao, dao.criteria, PROPRIEDADES, TITULOS).exportar(EnumFormatoExportacao.CSV, new ByteArrayOutputStream());
+			fail("As colunas da projeção seriam atribuídas às propriedades erradas.");
+		} catch (final IllegalStateException e) {
+			assertTrue(dao.cursorFechado);
+		}
+	}
+
+	@Test
+	public void entidadesDaRequisicaoPermanecemNaSessao() throws IOException {
+		final List<Object> linhas = new ArrayList<Object>();
+		for (int i = 0; i < 2500; i++) {
+			linhas.add(new Produto("Produto " + i, BigDecimal.ONE, null, true));
+		}
+		final ProdutoDAO dao = new ProdutoDAO(linhas.toArray());
+		final Produto daRequisicao = new Produto("Alterado pela requisição", BigDecimal.ONE, null, true);
+		dao.sessao.put(daRequisicao, daRequisicao);
+
+		new ExportadorTabular(dao, dao.criteria, PROPRIEDADES, TITULOS).exportar(EnumFormatoExportacao.CSV, new ByteArrayOutputStream());
+
+		assertEquals(Collections.<Object> singletonList(daRequisicao), new ArrayList<Object>(dao.sessao.keySet()));
+		assertTrue("Cada lote do cursor é desassociado antes do próximo.", dao.maiorSessao <= 1001);
+	}
+
+	private static Map<String, Document> ler(final byte[] arquivo) throws Exception {
+		final Map<String, Document> partes = new LinkedHashMap<String, Document>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(arquivo))) {
+			for (ZipEntry entrada = zip.getNextEntry(); entrada != null; entrada = zip.getNextEntry()) {
+				final ByteArrayOutputStream conteudo = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[4096];
+				for (int lidos = zip.read(buffer); lidos > 0; lidos = zip.read(buffer)) {
+					conteudo.write(buffer, 0, lidos);
+				}
+				partes.put(entrada.getName(),
+						DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(conteudo.toByteArray())));
+			}
+		}
+		return partes;
+	}
+
+	/**
+	 * <i>DAO</i> cujo cursor devolve as linhas informadas, associando à <i>Sessão</i> simulada as entidades lidas.
+	 */
+	public static class ProdutoDAO extends HibernateDAO<Produto> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo criteria. */
+		private final Criteria criteria = new CriteriaImpl(Produto.class.getName(), null);
+
+		/** Atributo linhas. */
+		private final Object[] linhas;
+
+		/** Atributo sessao. */
+		private final Map<Object, Object> sessao = new LinkedHashMap<Object, Object>();
+
+		/** Atributo maiorSessao. */
+		private int maiorSessao;
+
+		/** Atributo cursorFechado. */
+		private boolean cursorFechado;
+
+		ProdutoDAO(final Object... linhas) {
+			super();
+			this.linhas = linhas;
+		}
+
+		@Override
+		public ScrollableResults percorrer(final Criteria percorrido, final int tamanhoLote) {
+			return (ScrollableResults) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ScrollableResults.class },
+					new InvocationHandler() {
+
+						/** Atributo posicao. */
+						private int posicao = -1;
+
+						@Override
+						public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+							switch (metodo.getName()) {
+							case "next":
+								if (++posicao >= linhas.length) {
+									return false;
+								}
+								if (linhas[posicao] instanceof Produto) {
+									sessao.put(linhas[posicao], linhas[posicao]);
+									maiorSessao = Math.max(maiorSessao, sessao.size());
+								}
+								return true;
+							case "get":
+								return linhas[posicao] instanceof Object[] ? linhas[posicao] : new Object[] { linhas[posicao] };
+							case "close":
+								cursorFechado = true;
+								return null;
+							default:
+								return null;
+							}
+						}
+					});
+		}
+
+		@Override
+		protected List<Session> obterSessoesAbertas() {
+			final InvocationHandler simulacao = new InvocationHandler() {
+				@Override
+				public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+					switch (metodo.getName()) {
+					case "getPersistenceContext":
+						return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PersistenceContext.class }, this);
+					case "getEntitiesByKey":
+						return sessao;
+					case "evict":
+						sessao.remove(args[0]);
+						return null;
+					default:
+						return null;
+					}
+				}
+			};
+			return Collections.singletonList((Session) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { Session.class, SessionImplementor.class }, simulacao));
+		}
+
+		@Override
+		protected EntityManager getEntityManager() {
+			return null;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> exportada.
+	 */
+	public static class Produto extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo preco. */
+		private BigDecimal preco;
+
+		/** Atributo categoria. */
+		private Categoria categoria;
+
+		/** Atributo ativo. */
+		private boolean ativo;
+
+		public Produto() {
+			super();
+		}
+
+		Produto(final String nome, final BigDecimal preco, final Categoria categoria, final boolean ativo) {
+			this.nome = nome;
+			this.preco = preco;
+			this.categoria = categoria;
+			this.ativo = ativo;
+		}
+
+		public String getNome() {
+			return nome;
+		}
+
+		public BigDecimal getPreco() {
+			return preco;
+		}
+
+		public Categoria getCategoria() {
+			return categoria;
+		}
+
+		public boolean isAtivo() {
+			return ativo;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> associada ao {@link Produto}.
+	 */
+	public static class Categoria extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		public Categoria() {
+			super();
+		}
+
+		Categoria(final String nome) {
+			this.nome = nome;
+		}
+
+		public String getNome() {
+			return nome;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package br.com.arquitetura.importacao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.arquitetura.annotation.Unico;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.exception.DuplicidadeException;
+import br.com.arquitetura.service.Service;
+import br.com.arquitetura.unicidade.RegistroUnicidade;
+import br.com.arquitetura.unicidade.VerificadorUnicidade;
+
+/**
+ * Testes do {@link ImportadorEntidades}: a retomada a partir do ponto de controle, inclusive do lote que pode ter sido
+ * confirmado antes da interrupção, a rejeição de valores únicos repetidos no arquivo e a gravação linha a linha quando o lote falha.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class ImportadorEntidadesTest {
+
+	/** Constante UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/** Atributo diretorio. */
+	private File diretorio;
+
+	/** Atributo arquivo. */
+	private File arquivo;
+
+	/** Atributo erros. */
+	private File erros;
+
+	/** Atributo service. */
+	private ClienteService service;
+
+	/** Atributo importador. */
+	private ImportadorEntidades<Cliente> importador;
+
+	@Before
+	public void preparar() throws IOException {
+		diretorio = Files.createTempDirectory("importacao").toFile();
+		arquivo = new File(diretorio, "clientes.csv");
+		erros = new File(diretorio, "clientes.erros.csv");
+		service = new ClienteService();
+		importador = new ImportadorEntidades<Cliente>(service, new InterpretadorCSV(), new MapeadorRegistro<Cliente>() {
+			@Override
+			public Cliente mapear(final String[] campos) {
+				return new Cliente(campos[0], campos[1]);
+			}
+		});
+		importador.setTamanhoLote(2);
+		importador.setThreads(3);
+	}
+
+	@After
+	public void encerrar() {
+		RegistroUnicidade.desregistrar(Cliente.class);
+		for (final File criado : diretorio.listFiles()) {
+			criado.delete();
+		}
+		diretorio.delete();
+	}
+
+	@Test
+	public void valorUnicoRepetidoNoArquivoEhRejeitadoNaOrdemDasLinhas() throws IOException {
+		escrever("Ana;ana@email.com", "Bia;bia@email.com", "Caio;caio@email.com", "Outra Ana;ANA@email.com", "Davi;davi@email.com");
+
+		final ResultadoImportacao resultado = importador.importar(arquivo, erros);
+
+		assertEquals(4, resultado.getImportadas());
+		assertEquals(1, resultado.getRejeitadas());
+		assertEquals(listar("Ana", "Bia", "Caio", "Davi"), service.nomesGravados());
+		assertTrue(ler(erros).startsWith("4;"));
+	}
+
+	@Test
+	public void loteRecusadoEhGravadoLinhaALinha() throws IOException {
+		escrever("Ana;ana@email.com", "Recusado;bia@email.com", "Bia;bia@email.com", "Caio;caio@email.com");
+		service.recusado = "Recusado";
+
+		final ResultadoImportacao resultado = importador.importar(arquivo, erros);
+
+		assertEquals(3, resultado.getImportadas());
+		assertTrue(service.lotesRecusados > 0);
+		assertEquals("O e-mail da linha recusada continua disponível para as linhas seguintes.", listar("Ana", "Bia", "Caio"), service.nomesGravados());
+		assertEquals("2;Recusado pelo banco;Recusado;bia@email.com" + System.lineSeparator(), ler(erros));
+	}
+
+	@Test
+	public void retomadaContinuaAposOUltimoLoteConfirmadoEDescartaErrosNaoConfirmados() throws IOException {
+		escrever("Ana;ana@email.com", "Bia;bia@email.com", "Caio;caio@email.com");
+		gravarControle(tamanho("Ana;ana@email.com", "Bia;bia@email.com"), 2, 0, 0);
+		Files.write(erros.toPath(), "1;erro de uma execucao interrompida;Ana".getBytes(UTF_8));
+
+		final ResultadoImportacao resultado = importador.importar(arquivo, erros);
+
+		assertEquals(listar("Caio"), service.nomesGravados());
+		assertEquals(3, resultado.getImportadas());
+		assertEquals("", ler(erros));
+		assertFalse(new File(arquivo.getPath() + ImportadorEntidades.EXTENSAO_CONTROLE).exists());
+	}
+
+	@Test
+	public void lotePendenteConfirmadoNaoEhGravadoNovamente() throws IOException {
+		escrever("Ana;ana@email.com", "Bia;bia@email.com", "Caio;caio@email.com");
+		gravarControle(0, 0, 0, tamanho("Ana;ana@email.com", "Bia;bia@email.com"));
+		service.cadastrados.add("ana@email.com");
+		service.cadastrados.add("bia@email.com");
+		RegistroUnicidade.registrar(new VerificadorCarregado());
+
+		final ResultadoImportacao resultado = importador.importar(arquivo, erros);
+
+		assertEquals(listar("Caio"), service.nomesGravados());
+		assertEquals(3, resultado.getImportadas());
+		assertEquals(0, resultado.getRejeitadas());
+	}
+
+	@Test
+	public void lotePendenteSemVerificadorNaoEhGravado() throws IOException {
+		escrever("Ana;ana@email.com", "Bia;bia@email.com", "Caio;caio@email.com");
+		gravarControle(0, 0, 0, tamanho("Ana;ana@email.com", "Bia;bia@email.com"));
+
+		try {
+			importador.importar(arquivo, erros);
+			fail("Sem verificador as linhas do lote pendente seriam duplicadas.");
+		} catch (final IOException e) {
+			assertTrue(service.nomesGravados().isEmpty());
+			assertTrue(new File(arquivo.getPath() + ImportadorEntidades.EXTENSAO_CONTROLE).exists());
+		}
+	}
+
+	private void escrever(final String... linhas) throws IOException {
+		final StringBuilder conteudo = new StringBuilder();
+		for (final String linha : linhas) {
+			conteudo.append(linha).append('\n');
+		}
+		Files.write(arquivo.toPath(), conteudo.toString().getBytes(UTF_8));
+	}
+
+	private static long tamanho(final String... linhas) {
+		long tamanho = 0;
+		for (final String linha : linhas) {
+			tamanho += linha.getBytes(UTF_8).length + 1;
+		}
+		return tamanho;
+	}
+
+	private void gravarControle(final long posicao, final long linha, final long erros, final long pendente) throws IOException {
+		final Properties propriedades = new Properties();
+		propriedades.setProperty("posicao", Long.toString(posicao));
+		propriedades.setProperty("linha", Long.toString(linha));
+		propriedades.setProperty("importadas", Long.toString(linha));
+		propriedades.setProperty("rejeitadas", "0");
+		propriedades.setProperty("erros", Long.toString(erros));
+		propriedades.setProperty("pendente", Long.toString(pendente));
+		try (OutputStream saida = new FileOutputStream(arquivo.getPath() + ImportadorEntidades.EXTENSAO_CONTROLE)) {
+			propriedades.store(saida, null);
+		}
+	}
+
+	private static String ler(final File lido) throws IOException {
+		return new String(Files.readAllBytes(lido.toPath()), UTF_8);
+	}
+
+	private static List<String> listar(final String... nomes) {
+		final List<String> lista = new ArrayList<String>();
+		Collections.addAll(lista, nomes);
+		return lista;
+	}
+
+	/**
+	 * <i>Serviço</i> que mantém os registros gravados em memória, recusando o lote e a inclusão de um nome configurado.
+	 */
+	private static class ClienteService extends Service<HibernateDAO<Cliente>, Cliente> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo gravados. */
+		private final List<Cliente> gravados = new ArrayList<Cliente>();
+
+		/** Atributo cadastrados. */
+		private final Set<String> cadastrados = Collections.synchronizedSet(new HashSet<String>());
+
+		/** Atributo recusado. */
+		private String recusado;
+
+		/** Atributo lotesRecusados. */
+		private int lotesRecusados;
+
+		@Override
+		public void validarUnicidade(final Cliente entidade) {
+			if (cadastrados.contains(entidade.email.toLowerCase())) {
+				throw new DuplicidadeException("email");
+			}
+		}
+
+		@Override
+		public void salvarLote(final List<Cliente> entidades) {
+			for (final Cliente entidade : entidades) {
+				if (entidade.nome.equals(recusado)) {
+					lotesRecusados++;
+					throw new IllegalStateException("Lote recusado pelo banco");
+				}
+			}
+			for (final Cliente entidade : entidades) {
+				salvar(entidade);
+			}
+		}
+
+		@Override
+		public void salvar(final Cliente entidade) {
+			if (entidade.nome.equals(recusado)) {
+				throw new IllegalStateException("Recusado pelo banco");
+			}
+			gravados.add(entidade);
+			cadastrados.add(entidade.email.toLowerCase());
+		}
+
+		List<String> nomesGravados() {
+			final List<String> nomes = new ArrayList<String>();
+			for (final Cliente cliente : gravados) {
+				nomes.add(cliente.nome);
+			}
+			return nomes;
+		}
+
+		@Override
+		protected HibernateDAO<Cliente> getDao() {
+			return null;
+		}
+	}
+
+	/**
+	 * Verificador considerado carregado, cuja verificação é feita pelo {@link ClienteService}.
+	 */
+	private static class VerificadorCarregado extends VerificadorUnicidade<Cliente> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		VerificadorCarregado() {
+			super(Cliente.class, 100, 0.01);
+		}
+
+		@Override
+		public boolean isCarregado() {
+			return true;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> importada, com o <i>e-mail</i> único sem distinção de maiúsculas.
+	 */
+	public static class Cliente extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo email. */
+		@Unico(ignorarMaiusculas = true)
+		private String email;
+
+		public Cliente() {
+			super();
+		}
+
+		Cliente(final String nome, final String email) {
+			this.nome = nome;
+			this.email = email;
+		}
+	}
+}
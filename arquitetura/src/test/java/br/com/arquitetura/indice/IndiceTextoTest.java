@@ -0,0 +1,291 @@
+package br.com.arquitetura.indice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import javax.persistence.EntityManager;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CriteriaImpl;
+import org.junit.Test;
+import br.com.arquitetura.annotation.Indexado;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Testes do {@link IndiceTexto} e da {@link ListaIds}: a ordem de relevância dos resultados, a limpeza dos trigramas antigos
+ * ao alterar ou remover um registro, a contabilização de memória, e a reconstrução, que aplica as alterações feitas durante a
+ * leitura e mantém na <i>Sessão</i> as entidades da requisição.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class IndiceTextoTest {
+
+	@Test
+	public void resultadosIniciadosPeloTermoVemAntesDosDemais() {
+		final IndiceTexto<Cliente> indice = criar(new Cliente(1, "Rosemari Lima", null), new Cliente(2, "Ana Maria", "Goiânia"),
+				new Cliente(3, "Mariana Souza", null), new Cliente(4, "Márcio", null));
+
+		assertEquals(Arrays.asList(3, 2, 1), indice.pesquisar("MARI", 10));
+		assertEquals(Arrays.asList(3, 2), indice.pesquisar("mari", 2));
+		assertEquals("Atributos indexados são pesquisados juntos e sem acentos.", Arrays.asList(2), indice.pesquisar("goiania", 10));
+		assertEquals(Collections.emptyList(), indice.pesquisar("indexada", 10));
+	}
+
+	@Test
+	public void termoCurtoEncontraApenasInicioDePalavra() {
+		final IndiceTexto<Cliente> indice = criar(new Cliente(1, "Ana Maria", null), new Cliente(2, "Mariana", null));
+
+		assertEquals(Arrays.asList(1), indice.pesquisar("an", 10));
+		assertEquals(Collections.emptyList(), indice.pesquisar("a", 10));
+	}
+
+	@Test
+	public void alteracaoERemocaoDescartamOsTrigramasAnteriores() {
+		final Cliente cliente = new Cliente(7, "Carlos Pereira", null);
+		final IndiceTexto<Cliente> indice = criar(cliente);
+
+		cliente.nome = "Carla Pereira";
+		indice.indexar(cliente);
+		assertEquals(Collections.emptyList(), indice.pesquisar("carlos", 10));
+		assertEquals(Arrays.asList(7), indice.pesquisar("carla", 10));
+		assertEquals(criar(new Cliente(7, "Carla Pereira", null)).getBytesEstimados(), indice.getBytesEstimados());
+
+		indice.remover(7);
+		assertEquals(Collections.emptyList(), indice.pesquisar("pereira", 10));
+		assertEquals(0, indice.getRegistros());
+		assertEquals("Toda a memória contabilizada é devolvida.", 0, indice.getBytesEstimados());
+	}
+
+	@Test
+	public void indiceSemMemoriaParaTodosOsRegistrosFicaIncompleto() {
+		final long limite = criar(new Cliente(1, "Primeiro", null)).getBytesEstimados() + 100;
+		final IndiceTexto<Cliente> indice = new IndiceTexto<Cliente>(Cliente.class, limite);
+		indice.reconstruir(new ClienteDAO(new Cliente(1, "Primeiro", null), new Cliente(2, "Segundo", null)));
+
+		assertFalse(indice.isCompleto());
+		assertEquals(1, indice.getRegistros());
+		assertEquals("O texto coube no limite, mas os seus trigramas não.", Collections.emptyList(), indice.pesquisar("segundo", 10));
+		assertTrue(indice.getBytesEstimados() <= limite);
+	}
+
+	@Test
+	public void reconstrucaoAplicaAsAlteracoesFeitasDuranteALeitura() {
+		final Cliente alterado = new Cliente(1, "Beatriz", null);
+		final ClienteDAO dao = new ClienteDAO(alterado, new Cliente(2, "Bruno", null), new Cliente(3, "Bianca", null));
+		final IndiceTexto<Cliente> indice = new IndiceTexto<Cliente>(Cliente.class, Long.MAX_VALUE);
+		dao.durante = new Runnable() {
+			@Override
+			public void run() {
+				indice.indexar(new Cliente(1, "Beatriz Alves", null));
+				indice.remover(3);
+				indice.indexar(new Cliente(4, "Bernardo", null));
+			}
+		};
+
+		indice.reconstruir(dao);
+
+		assertEquals(Arrays.asList(1), indice.pesquisar("alves", 10));
+		assertEquals(Collections.emptyList(), indice.pesquisar("bianca", 10));
+		assertEquals(Arrays.asList(4), indice.pesquisar("bernardo", 10));
+		assertEquals(1, indice.getReconstrucoes());
+	}
+
+	@Test
+	public void reconstrucaoMantemNaSessaoAsEntidadesDaRequisicao() {
+		final Cliente[] clientes = new Cliente[2500];
+		for (int i = 0; i < clientes.length; i++) {
+			clientes[i] = new Cliente(i + 1, "Cliente " + i, null);
+		}
+		final ClienteDAO dao = new ClienteDAO(clientes);
+		final Cliente daRequisicao = new Cliente(9999, "Alterado e não gravado", null);
+		dao.sessao.put(daRequisicao, daRequisicao);
+
+		new IndiceTexto<Cliente>(Cliente.class, Long.MAX_VALUE).reconstruir(dao);
+
+		assertEquals(Collections.<Object> singletonList(daRequisicao), new ArrayList<Object>(dao.sessao.keySet()));
+		assertTrue(dao.maiorSessao <= 1001);
+	}
+
+	@Test
+	public void listaIdsEquivaleAUmConjuntoOrdenado() {
+		final ListaIds lista = new ListaIds();
+		final TreeSet<Integer> esperado = new TreeSet<Integer>();
+		final Random aleatorio = new Random(7);
+		long bytes = lista.getCapacidade() * 4L;
+
+		for (int i = 0; i < 5000; i++) {
+			final int id = aleatorio.nextInt(300);
+			if (aleatorio.nextInt(3) == 0) {
+				lista.remover(id);
+				esperado.remove(id);
+			} else {
+				bytes += lista.adicionar(id);
+				esperado.add(id);
+			}
+		}
+
+		final int[] ids = lista.copiar();
+		assertEquals(esperado.size(), ids.length);
+		int i = 0;
+		for (final Integer id : esperado) {
+			assertEquals(id.intValue(), ids[i++]);
+		}
+		assertEquals(lista.getCapacidade() * 4L, bytes);
+
+		final int[] candidatos = { -1, 10, 20, 150, 299, 1000 };
+		final int quantidade = lista.intersecao(candidatos, candidatos.length);
+		final List<Integer> comuns = new ArrayList<Integer>();
+		for (int j = 0; j < quantidade; j++) {
+			comuns.add(candidatos[j]);
+		}
+		final List<Integer> comunsEsperados = new ArrayList<Integer>();
+		for (final int candidato : new int[] { -1, 10, 20, 150, 299, 1000 }) {
+			if (esperado.contains(candidato)) {
+				comunsEsperados.add(candidato);
+			}
+		}
+		assertEquals(comunsEsperados, comuns);
+	}
+
+	private static IndiceTexto<Cliente> criar(final Cliente... clientes) {
+		final IndiceTexto<Cliente> indice = new IndiceTexto<Cliente>(Cliente.class, Long.MAX_VALUE);
+		for (final Cliente cliente : clientes) {
+			indice.indexar(cliente);
+		}
+		return indice;
+	}
+
+	/**
+	 * <i>DAO</i> cujo cursor devolve os clientes informados, executando uma ação após a leitura do primeiro.
+	 */
+	public static class ClienteDAO extends HibernateDAO<Cliente> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo clientes. */
+		private final Cliente[] clientes;
+
+		/** Atributo sessao. */
+		private final Map<Object, Object> sessao = new LinkedHashMap<Object, Object>();
+
+		/** Atributo maiorSessao. */
+		private int maiorSessao;
+
+		/** Atributo durante. */
+		private Runnable durante;
+
+		ClienteDAO(final Cliente... clientes) {
+			super();
+			this.clientes = clientes;
+		}
+
+		@Override
+		public Criteria novoCriteria() {
+			return new CriteriaImpl(Cliente.class.getName(), null);
+		}
+
+		@Override
+		public ScrollableResults percorrer(final Criteria criteria, final int tamanhoLote) {
+			return (ScrollableResults) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ScrollableResults.class },
+					new InvocationHandler() {
+
+						/** Atributo posicao. */
+						private int posicao = -1;
+
+						@Override
+						public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+							switch (metodo.getName()) {
+							case "next":
+								if (posicao == 0 && durante != null) {
+									durante.run();
+								}
+								if (++posicao >= clientes.length) {
+									return false;
+								}
+								sessao.put(clientes[posicao], clientes[posicao]);
+								maiorSessao = Math.max(maiorSessao, sessao.size());
+								return true;
+							case "get":
+								return clientes[posicao];
+							default:
+								return null;
+							}
+						}
+					});
+		}
+
+		@Override
+		protected List<Session> obterSessoesAbertas() {
+			final InvocationHandler simulacao = new InvocationHandler() {
+				@Override
+				public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+					switch (metodo.getName()) {
+					case "getPersistenceContext":
+						return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PersistenceContext.class }, this);
+					case "getEntitiesByKey":
+						return sessao;
+					case "evict":
+						sessao.remove(args[0]);
+						return null;
+					default:
+						return null;
+					}
+				}
+			};
+			return Collections.singletonList((Session) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { Session.class, SessionImplementor.class }, simulacao));
+		}
+
+		@Override
+		protected EntityManager getEntityManager() {
+			return null;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> com dois atributos indexados e um não indexado.
+	 */
+	public static class Cliente extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		@Indexado
+		private String nome;
+
+		/** Atributo cidade. */
+		@Indexado
+		private String cidade;
+
+		/** Atributo observacao. */
+		private String observacao = "não indexada";
+
+		public Cliente() {
+			super();
+		}
+
+		Cliente(final Integer id, final String nome, final String cidade) {
+			setId(id);
+			this.nome = nome;
+			this.cidade = cidade;
+		}
+	}
+}
@@ -0,0 +1,234 @@
+package br.com.arquitetura.monitoramento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Testes do {@link MonitorConsultas} e do {@link OrcamentoConsultas} através das conexões de um {@link MonitorDataSource}
+ * sobre um <i>Banco de Dados</i> simulado: o agrupamento das instruções pela forma normalizada, a contagem das linhas lidas
+ * apenas quando o cursor é fechado e a atribuição das instruções ao registro correto, inclusive em outra <i>thread</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class MonitorConsultasTest {
+
+	/** Atributo banco. */
+	private BancoSimulado banco;
+
+	/** Atributo dataSource. */
+	private DataSource dataSource;
+
+	@Before
+	public void preparar() {
+		banco = new BancoSimulado(3);
+		dataSource = new MonitorDataSource(banco.criar(DataSource.class));
+	}
+
+	@After
+	public void encerrar() {
+		MonitorConsultas.setHabilitado(true);
+		assertNull("Um teste deixou um registro ativo na thread.", MonitorConsultas.obterRegistro());
+	}
+
+	@Test
+	public void normalizarAgrupaInstrucoesQueDiferemApenasNosValores() {
+		assertEquals("select * from cliente c1 where c1.id = ? and nome = ? and cidade in (?)",
+				MonitorConsultas.normalizar("select *  from cliente c1\n where c1.id = 42 and nome = 'O''Brien' and cidade in (1, 2, 3)"));
+		assertEquals(MonitorConsultas.normalizar("update item set preco = 10.5 where id in (7)"),
+				MonitorConsultas.normalizar("update item set preco = 3 where id in (8, 9)"));
+	}
+
+	@Test
+	public void orcamentoAceitaInstrucoesDentroDoLimite() throws SQLException {
+		try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(2, 1)) {
+			consultar("select * from cliente where id = 1");
+			atualizar("update cliente set nome = 'Ana' where id = 1");
+
+			assertEquals(2, orcamento.getRegistro().getConsultas());
+		}
+	}
+
+	@Test
+	public void orcamentoRecusaAMesmaConsultaRepetidaComOutrosValores() throws SQLException {
+		final OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(10, 2);
+		for (int id = 1; id <= 3; id++) {
+			consultar("select * from endereco where cliente_id = " + id);
+		}
+
+		try {
+			orcamento.close();
+			fail("Três execuções da mesma consulta ultrapassam o limite de duas repetições.");
+		} catch (final AssertionError e) {
+			assertTrue(e.getMessage().contains("select * from endereco where cliente_id = ?"));
+		}
+	}
+
+	@Test
+	public void linhasSaoContadasQuandoOCursorEhFechado() throws SQLException {
+		try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(1)) {
+			try (Connection conexao = dataSource.getConnection();
+					PreparedStatement comando = conexao.prepareStatement("select * from cliente")) {
+				final ResultSet resultado = comando.executeQuery();
+				while (resultado.next()) {
+					assertEquals(0, orcamento.getRegistro().getLinhas());
+				}
+				assertSame("O ResultSet interceptado devolve o comando interceptado.", comando, resultado.getStatement());
+			}
+			assertEquals("Fechar o comando também finaliza a leitura do cursor não fechado.", 3, orcamento.getRegistro().getLinhas());
+		}
+	}
+
+	@Test
+	public void loteContabilizaAsLinhasAlteradas() throws SQLException {
+		try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(1)) {
+			try (Connection conexao = dataSource.getConnection(); Statement comando = conexao.createStatement()) {
+				comando.addBatch("delete from item where id = 1");
+				comando.addBatch("delete from item where id = 2");
+				comando.executeBatch();
+			}
+			assertEquals(2, orcamento.getRegistro().getLinhas());
+			assertEquals("delete from item where id = ?", orcamento.getRegistro().getEstatisticas().iterator().next().getSql());
+		}
+	}
+
+	@Test
+	public void registroInternoTambemContaNoRegistroExterno() throws SQLException {
+		final RegistroConsultas externo = MonitorConsultas.iniciar("requisição");
+		try {
+			try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(1)) {
+				consultar("select * from cliente");
+			}
+			consultar("select * from cidade");
+
+			assertSame(externo, MonitorConsultas.obterRegistro());
+			assertEquals(2, externo.getConsultas());
+		} finally {
+			MonitorConsultas.encerrar(externo);
+		}
+	}
+
+	@Test
+	public void consultaEmOutraThreadEhAtribuidaAoRegistroPropagado() throws Exception {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(1)) {
+			executor.submit(MonitorConsultas.propagar(new Callable<Void>() {
+				@Override
+				public Void call() throws SQLException {
+					consultar("select * from particao_1");
+					return null;
+				}
+			})).get();
+
+			assertEquals(1, orcamento.getRegistro().getConsultas());
+			assertNull("A thread auxiliar não mantém o registro após a tarefa.", executor.submit(new Callable<RegistroConsultas>() {
+				@Override
+				public RegistroConsultas call() {
+					return MonitorConsultas.obterRegistro();
+				}
+			}).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void monitorDesabilitadoEntregaAConexaoOriginal() throws SQLException {
+		MonitorConsultas.setHabilitado(false);
+		try (OrcamentoConsultas orcamento = OrcamentoConsultas.limitar(0)) {
+			assertTrue(Proxy.getInvocationHandler(dataSource.getConnection()) instanceof BancoSimulado);
+			consultar("select * from cliente");
+		}
+	}
+
+	private void consultar(final String sql) throws SQLException {
+		try (Connection conexao = dataSource.getConnection();
+				PreparedStatement comando = conexao.prepareStatement(sql);
+				ResultSet resultado = comando.executeQuery()) {
+			while (resultado.next()) {
+				continue;
+			}
+		}
+	}
+
+	private void atualizar(final String sql) throws SQLException {
+		try (Connection conexao = dataSource.getConnection(); Statement comando = conexao.createStatement()) {
+			comando.executeUpdate(sql);
+		}
+	}
+
+	/**
+	 * <i>Banco de Dados</i> simulado: cada consulta devolve a mesma quantidade de linhas e cada alteração afeta uma linha.
+	 */
+	private static final class BancoSimulado implements InvocationHandler {
+
+		/** Atributo linhas. */
+		private final int linhas;
+
+		BancoSimulado(final int linhas) {
+			this.linhas = linhas;
+		}
+
+		<T> T criar(final Class<T> tipo) {
+			return tipo.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { tipo }, this));
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+			switch (metodo.getName()) {
+			case "getConnection":
+				return criar(Connection.class);
+			case "prepareStatement":
+				return criar(PreparedStatement.class);
+			case "createStatement":
+				return criar(Statement.class);
+			case "executeQuery":
+				return cursor();
+			case "executeUpdate":
+				return 1;
+			case "executeBatch":
+				return new int[] { 1, 1 };
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				return metodo.getReturnType() == boolean.class ? Boolean.FALSE : null;
+			}
+		}
+
+		private ResultSet cursor() {
+			return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class }, new InvocationHandler() {
+
+				/** Atributo restantes. */
+				private int restantes = linhas;
+
+				@Override
+				public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+					if ("next".equals(metodo.getName())) {
+						return restantes-- > 0;
+					}
+					return null;
+				}
+			});
+		}
+	}
+}
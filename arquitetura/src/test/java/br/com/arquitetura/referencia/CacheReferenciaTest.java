@@ -0,0 +1,173 @@
+package br.com.arquitetura.referencia;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Testes do isolamento entre as requisições que utilizam o {@link CacheReferencia}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class CacheReferenciaTest {
+
+	@After
+	public void encerrar() {
+		RegistroReferencias.desregistrar(Categoria.class);
+	}
+
+	@Test
+	public void alteracaoDaEntidadeRetornadaNaoAfetaOCache() {
+		final CacheReferencia<Categoria> cache = carregar(new Categoria(1, "Bebidas"), new Categoria(2, "Limpeza"));
+
+		final List<Categoria> primeira = cache.listar();
+		primeira.get(0).nome = "Editada antes de salvar";
+		primeira.remove(1);
+
+		final List<Categoria> segunda = cache.listar();
+		assertEquals(2, segunda.size());
+		assertEquals("Bebidas", segunda.get(0).nome);
+		assertNotSame(primeira.get(0), segunda.get(0));
+	}
+
+	@Test
+	public void instanciasCarregadasNaoSaoGuardadas() {
+		final Categoria carregada = new Categoria(1, "Bebidas");
+		final CacheReferencia<Categoria> cache = carregar(carregada);
+
+		carregada.nome = "Alterada pela requisição que carregou";
+
+		assertEquals("Bebidas", cache.listar().get(0).nome);
+	}
+
+	@Test
+	public void atualizacaoGuardaUmaCopia() {
+		final CacheReferencia<Categoria> cache = carregar(new Categoria(1, "Bebidas"));
+		final Categoria alterada = new Categoria(1, "Bebidas e sucos");
+
+		cache.atualizar(alterada);
+		alterada.nome = "Editada após a confirmação";
+		cache.atualizar(new Categoria(3, "Padaria"));
+
+		final List<Categoria> categorias = cache.listar();
+		assertEquals(2, categorias.size());
+		assertEquals("Bebidas e sucos", categorias.get(0).nome);
+		assertEquals("Padaria", categorias.get(1).nome);
+	}
+
+	@Test
+	public void remocaoPreservaAsDemaisEntidades() {
+		final CacheReferencia<Categoria> cache = carregar(new Categoria(1, "Bebidas"), new Categoria(2, "Limpeza"));
+
+		cache.remover(1);
+
+		assertEquals(1, cache.getQuantidade());
+		assertEquals("Limpeza", cache.listar().get(0).nome);
+	}
+
+	@Test
+	public void entidadeNaoSerializavelNaoECarregada() {
+		final CacheReferencia<Categoria> cache = new CacheReferencia<Categoria>(Categoria.class);
+		final Categoria categoria = new Categoria(1, "Bebidas");
+		categoria.anexo = new Object();
+
+		assertFalse(cache.substituir(Arrays.asList(categoria), cache.getVersao()));
+		assertFalse(cache.isCarregado());
+		assertNull(cache.listar());
+	}
+
+	@Test
+	public void conteudoExpiradoNaoEDevolvido() throws InterruptedException {
+		final CacheReferencia<Categoria> cache = carregar(new Categoria(1, "Bebidas"));
+		cache.setTempoValidade(1);
+		Thread.sleep(5);
+
+		assertNull(cache.listar());
+		assertEquals(1, cache.getExpiracoes());
+	}
+
+	@Test
+	public void serviceDevolveCopiasNasConsultasSeguintes() {
+		final CacheReferencia<Categoria> cache = new CacheReferencia<Categoria>(Categoria.class);
+		RegistroReferencias.registrar(cache);
+		final CategoriaService service = new CategoriaService();
+
+		final List<Categoria> carregadas = service.listar();
+		carregadas.get(0).nome = "Editada pela primeira requisição";
+
+		final List<Categoria> armazenadas = service.listar();
+		assertEquals(1, service.leituras);
+		assertEquals("Bebidas", armazenadas.get(0).nome);
+		armazenadas.get(0).nome = "Editada pela segunda requisição";
+		assertEquals("Bebidas", service.listar().get(0).nome);
+		assertEquals(2, cache.getAcertos());
+	}
+
+	private static CacheReferencia<Categoria> carregar(final Categoria... categorias) {
+		final CacheReferencia<Categoria> cache = new CacheReferencia<Categoria>(Categoria.class);
+		assertTrue(cache.substituir(new ArrayList<Categoria>(Arrays.asList(categorias)), cache.getVersao()));
+		return cache;
+	}
+
+	/**
+	 * <code>Entidade</code> de referência utilizada nos testes.
+	 */
+	public static class Categoria extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo anexo. */
+		private Object anexo;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 */
+		public Categoria() {
+			super();
+		}
+
+		Categoria(final Integer id, final String nome) {
+			super();
+			setId(id);
+			this.nome = nome;
+		}
+	}
+
+	/**
+	 * <i>Serviço</i> que simula a leitura das categorias no <i>Banco de Dados</i>, devolvendo novas instâncias a cada leitura.
+	 */
+	private static class CategoriaService extends Service<HibernateDAO<Categoria>, Categoria> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo leituras. */
+		private int leituras;
+
+		@Override
+		public List<Categoria> listarSemCache() {
+			leituras++;
+			return new ArrayList<Categoria>(Arrays.asList(new Categoria(1, "Bebidas")));
+		}
+
+		@Override
+		protected HibernateDAO<Categoria> getDao() {
+			return null;
+		}
+	}
+}
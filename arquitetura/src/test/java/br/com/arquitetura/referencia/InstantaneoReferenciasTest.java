@@ -0,0 +1,281 @@
+package br.com.arquitetura.referencia;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Testes da gravação e da restauração do {@link InstantaneoReferencias}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class InstantaneoReferenciasTest {
+
+	/** Atributo pasta. */
+	@Rule
+	public TemporaryFolder pasta = new TemporaryFolder();
+
+	/** Atributo diretorio. */
+	private File diretorio;
+
+	@Before
+	public void preparar() throws IOException {
+		diretorio = pasta.newFolder("referencias");
+	}
+
+	@After
+	public void encerrar() {
+		RegistroReferencias.desregistrar(Cidade.class);
+	}
+
+	@Test
+	public void restauraOConteudoGravado() {
+		final CacheReferencia<Cidade> cache = new CacheReferencia<Cidade>(Cidade.class);
+		cache.substituir(Arrays.asList(new Cidade(1, "Goiânia", "GO", 1536097L), new Cidade(2, "Anápolis", "GO", null),
+				new Cidade(3, "Brasília", "DF", 3094325L)), cache.getVersao());
+		final InstantaneoReferencias origem = new InstantaneoReferencias(diretorio, "1.0.0");
+		origem.adicionar(cache, null);
+		assertEquals(1, origem.gravar());
+		assertEquals(1, origem.getGravados());
+
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		final InstantaneoReferencias destino = new InstantaneoReferencias(diretorio, "1.0.0");
+		destino.adicionar(restaurado, null);
+		assertEquals(1, destino.restaurar());
+		assertEquals(1, destino.getRestaurados());
+		assertEquals(0, destino.getFalhas());
+
+		final List<Cidade> cidades = restaurado.listar();
+		assertEquals(3, cidades.size());
+		assertEquals(Integer.valueOf(1), cidades.get(0).getId());
+		assertEquals("Goiânia", cidades.get(0).nome);
+		assertEquals("GO", cidades.get(0).uf);
+		assertEquals(Long.valueOf(1536097L), cidades.get(0).populacao);
+		assertNull(cidades.get(1).populacao);
+		assertEquals("Brasília", cidades.get(2).nome);
+		assertNotSame(cache.listar().get(0), cidades.get(0));
+	}
+
+	@Test
+	public void restauraListaVazia() {
+		final CacheReferencia<Cidade> cache = new CacheReferencia<Cidade>(Cidade.class);
+		cache.substituir(Collections.<Cidade> emptyList(), cache.getVersao());
+		gravar(cache, "1.0.0");
+
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		assertEquals(1, restaurar(restaurado, "1.0.0").getRestaurados());
+		assertTrue(restaurado.listar().isEmpty());
+	}
+
+	@Test
+	public void naoGravaCacheNaoCarregado() {
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, "1.0.0");
+		instantaneo.adicionar(new CacheReferencia<Cidade>(Cidade.class), null);
+
+		assertEquals(0, instantaneo.gravar());
+		assertEquals(0, diretorio.list().length);
+		assertEquals(0, instantaneo.restaurar());
+	}
+
+	@Test
+	public void descartaArquivoDeOutraVersao() {
+		gravar(carregarCache(), "1.0.0");
+
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		final InstantaneoReferencias instantaneo = restaurar(restaurado, "1.1.0");
+
+		assertEquals(0, instantaneo.getRestaurados());
+		assertEquals(1, instantaneo.getFalhas());
+		assertFalse(restaurado.isCarregado());
+	}
+
+	@Test
+	public void descartaArquivoComCrcInvalido() throws IOException {
+		final File arquivo = gravar(carregarCache(), "1.0.0");
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "rw")) {
+			acesso.seek(acesso.length() - 1);
+			final int ultimo = acesso.read();
+			acesso.seek(acesso.length() - 1);
+			acesso.write(ultimo ^ 0xFF);
+		}
+
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		final InstantaneoReferencias instantaneo = restaurar(restaurado, "1.0.0");
+
+		assertEquals(0, instantaneo.getRestaurados());
+		assertEquals(1, instantaneo.getFalhas());
+		assertFalse(restaurado.isCarregado());
+	}
+
+	@Test
+	public void descartaArquivoTruncado() throws IOException {
+		final File arquivo = gravar(carregarCache(), "1.0.0");
+		try (RandomAccessFile acesso = new RandomAccessFile(arquivo, "rw")) {
+			acesso.setLength(acesso.length() - 3);
+		}
+
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		assertEquals(1, restaurar(restaurado, "1.0.0").getFalhas());
+		assertFalse(restaurado.isCarregado());
+	}
+
+	@Test
+	public void gravacaoSubstituiOArquivoAnterior() {
+		final CacheReferencia<Cidade> cache = carregarCache();
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, "1.0.0");
+		instantaneo.adicionar(cache, null);
+		instantaneo.gravar();
+		cache.remover(1);
+		instantaneo.gravar();
+
+		assertEquals(1, diretorio.list().length);
+		final CacheReferencia<Cidade> restaurado = new CacheReferencia<Cidade>(Cidade.class);
+		restaurar(restaurado, "1.0.0");
+		assertEquals(1, restaurado.getQuantidade());
+		assertEquals(Integer.valueOf(2), restaurado.listar().get(0).getId());
+	}
+
+	@Test
+	public void reconciliaComOBancoDeDados() {
+		final CacheReferencia<Cidade> cache = carregarCache();
+		final CidadeService service = new CidadeService(Arrays.asList(new Cidade(9, "Palmas", "TO", 313349L)));
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, "1.0.0");
+		instantaneo.adicionar(cache, service);
+
+		instantaneo.reconciliar();
+
+		assertEquals(1, instantaneo.getReconciliados());
+		assertEquals(1, cache.getQuantidade());
+		assertEquals("Palmas", cache.listar().get(0).nome);
+	}
+
+	@Test
+	public void descartaOCacheQuandoAReconciliacaoNaoConclui() {
+		final CacheReferencia<Cidade> cache = carregarCache();
+		final CidadeService service = new CidadeService(Arrays.asList(new Cidade(9, "Palmas", "TO", 313349L))) {
+
+			/** Atributo serialVersionUID. */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public List<Cidade> listarSemCache() {
+				cache.atualizar(new Cidade(4, "Alterada durante a leitura", "GO", null));
+				return super.listarSemCache();
+			}
+		};
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, "1.0.0");
+		instantaneo.adicionar(cache, service);
+
+		instantaneo.reconciliar();
+
+		assertEquals(3, service.leituras);
+		assertEquals(0, instantaneo.getReconciliados());
+		assertFalse(cache.isCarregado());
+	}
+
+	private static CacheReferencia<Cidade> carregarCache() {
+		final CacheReferencia<Cidade> cache = new CacheReferencia<Cidade>(Cidade.class);
+		cache.substituir(Arrays.asList(new Cidade(1, "Goiânia", "GO", 1536097L), new Cidade(2, "Anápolis", "GO", 391772L)), cache.getVersao());
+		return cache;
+	}
+
+	private File gravar(final CacheReferencia<Cidade> cache, final String versao) {
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, versao);
+		instantaneo.adicionar(cache, null);
+		assertEquals(1, instantaneo.gravar());
+		return new File(diretorio, Cidade.class.getName() + ".ref");
+	}
+
+	private InstantaneoReferencias restaurar(final CacheReferencia<Cidade> cache, final String versao) {
+		final InstantaneoReferencias instantaneo = new InstantaneoReferencias(diretorio, versao);
+		instantaneo.adicionar(cache, null);
+		instantaneo.restaurar();
+		return instantaneo;
+	}
+
+	/**
+	 * <code>Entidade</code> de referência utilizada nos testes.
+	 */
+	public static class Cidade extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo nome. */
+		private String nome;
+
+		/** Atributo uf. */
+		private String uf;
+
+		/** Atributo populacao. */
+		private Long populacao;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 */
+		public Cidade() {
+			super();
+		}
+
+		Cidade(final Integer id, final String nome, final String uf, final Long populacao) {
+			super();
+			setId(id);
+			this.nome = nome;
+			this.uf = uf;
+			this.populacao = populacao;
+		}
+	}
+
+	/**
+	 * <i>Serviço</i> que simula a leitura das cidades no <i>Banco de Dados</i>.
+	 */
+	private static class CidadeService extends Service<HibernateDAO<Cidade>, Cidade> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo cidades. */
+		private final List<Cidade> cidades;
+
+		/** Atributo leituras. */
+		private int leituras;
+
+		/**
+		 * Responsável pela criação de novas instâncias desta classe.
+		 * @param cidades - Cidades retornadas em cada leitura.
+		 */
+		CidadeService(final List<Cidade> cidades) {
+			super();
+			this.cidades = cidades;
+		}
+
+		@Override
+		public List<Cidade> listarSemCache() {
+			leituras++;
+			return new ArrayList<Cidade>(cidades);
+		}
+
+		@Override
+		protected HibernateDAO<Cidade> getDao() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package br.com.arquitetura.roteamento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Testes do {@link RoteadorDataSource} com dois bancos <i>H2</i> embarcados, cada um contendo uma tabela que identifica o banco.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class RoteadorDataSourceTest {
+
+	/** Constante CONSULTA_ORIGEM. */
+	private static final String CONSULTA_ORIGEM = "select nome from origem";
+
+	/** Atributo primario. */
+	private EmbeddedDatabase primario;
+
+	/** Atributo replica. */
+	private EmbeddedDatabase replica;
+
+	@Before
+	public void preparar() {
+		primario = criarBanco("primario");
+		replica = criarBanco("replica");
+		ContextoRoteamento.desvincular();
+	}
+
+	@After
+	public void encerrar() {
+		ContextoRoteamento.desvincular();
+		primario.shutdown();
+		replica.shutdown();
+	}
+
+	private static EmbeddedDatabase criarBanco(final String nome) {
+		final EmbeddedDatabase banco = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName(nome).build();
+		final JdbcTemplate jdbc = new JdbcTemplate(banco);
+		jdbc.execute("create table origem (nome varchar(20))");
+		jdbc.update("insert into origem (nome) values (?)", nome);
+		return banco;
+	}
+
+	@Test
+	public void leituraSomenteLeituraUtilizaReplica() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+
+		assertEquals("replica", consultarOrigem(roteador, true));
+		assertEquals(1, roteador.getConexoesReplica());
+		assertEquals(0, roteador.getConexoesPrimario());
+	}
+
+	@Test
+	public void transacaoDeEscritaUtilizaPrimario() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+
+		assertEquals("primario", consultarOrigem(roteador, false));
+		assertEquals(1, roteador.getConexoesPrimario());
+		assertEquals(0, roteador.getConexoesReplica());
+	}
+
+	@Test
+	public void leituraAposEscritaUtilizaPrimarioDuranteAJanela() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+
+		consultarOrigem(roteador, false);
+
+		assertEquals("primario", consultarOrigem(roteador, true));
+		roteador.setJanelaLeituraAposEscrita(0);
+		assertEquals("replica", consultarOrigem(roteador, true));
+	}
+
+	@Test
+	public void escritaDesfeitaNaoAlteraODestinoDasLeituras() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+		final TransactionTemplate transacao = new TransactionTemplate(new DataSourceTransactionManager(roteador.criarProxy()));
+		transacao.execute(new TransactionCallback<Object>() {
+			@Override
+			public Object doInTransaction(final TransactionStatus status) {
+				new JdbcTemplate(roteador.criarProxy()).queryForObject(CONSULTA_ORIGEM, String.class);
+				status.setRollbackOnly();
+				return null;
+			}
+		});
+
+		assertEquals("replica", consultarOrigem(roteador, true));
+	}
+
+	@Test
+	public void primarioForcadoIgnoraAReplica() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+
+		ContextoRoteamento.setPrimarioForcado(true);
+		assertEquals("primario", consultarOrigem(roteador, true));
+	}
+
+	@Test
+	public void replicaIndisponivelUtilizaPrimario() {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, new AbstractDataSource() {
+			@Override
+			public Connection getConnection() throws SQLException {
+				throw new SQLException("réplica fora do ar");
+			}
+
+			@Override
+			public Connection getConnection(final String username, final String password) throws SQLException {
+				return getConnection();
+			}
+		});
+
+		assertEquals("primario", consultarOrigem(roteador, true));
+		assertEquals(1, roteador.getFalhasReplica());
+		assertEquals(false, roteador.isReplicaDisponivel());
+	}
+
+	@Test
+	public void filtroVinculaAMarcaDaSessao() throws IOException, ServletException {
+		final MockHttpServletRequest requisicao = new MockHttpServletRequest();
+		final MarcaEscrita[] vinculada = new MarcaEscrita[1];
+		final FiltroRoteamento filtro = new FiltroRoteamento();
+		final FilterChain cadeia = new FilterChain() {
+			@Override
+			public void doFilter(final ServletRequest request, final ServletResponse response) {
+				vinculada[0] = ContextoRoteamento.obterMarca();
+			}
+		};
+
+		filtro.doFilter(requisicao, new MockHttpServletResponse(), cadeia);
+
+		final MarcaEscrita marca = (MarcaEscrita) requisicao.getSession().getAttribute(FiltroRoteamento.ATRIBUTO_MARCA);
+		assertSame(marca, vinculada[0]);
+		assertNotSame(marca, ContextoRoteamento.obterMarca());
+
+		filtro.doFilter(requisicao, new MockHttpServletResponse(), cadeia);
+		assertSame(marca, vinculada[0]);
+	}
+
+	@Test
+	public void escritaDaSessaoEncaminhaAsLeiturasDaRequisicaoSeguinteAoPrimario() throws IOException, ServletException {
+		final RoteadorDataSource roteador = new RoteadorDataSource(primario, replica);
+		final MockHttpServletRequest requisicao = new MockHttpServletRequest();
+		final FiltroRoteamento filtro = new FiltroRoteamento();
+		final String[] origem = new String[1];
+
+		filtro.doFilter(requisicao, new MockHttpServletResponse(), new FilterChain() {
+			@Override
+			public void doFilter(final ServletRequest request, final ServletResponse response) {
+				consultarOrigem(roteador, false);
+			}
+		});
+		assertEquals("replica", consultarOrigem(roteador, true));
+
+		filtro.doFilter(requisicao, new MockHttpServletResponse(), new FilterChain() {
+			@Override
+			public void doFilter(final ServletRequest request, final ServletResponse response) {
+				origem[0] = consultarOrigem(roteador, true);
+			}
+		});
+		assertEquals("primario", origem[0]);
+	}
+
+	/**
+	 * Método responsável por consultar, em uma transação, o nome do banco que atendeu a conexão.
+	 * @author Wesley Luiz
+	 * @param roteador - Roteador testado.
+	 * @param somenteLeitura - Indica se a transação é somente leitura.
+	 * @return Retorna o nome do banco.
+	 */
+	private static String consultarOrigem(final RoteadorDataSource roteador, final boolean somenteLeitura) {
+		final DataSource dataSource = roteador.criarProxy();
+		final TransactionTemplate transacao = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transacao.setReadOnly(somenteLeitura);
+		return transacao.execute(new TransactionCallback<String>() {
+			@Override
+			public String doInTransaction(final TransactionStatus status) {
+				return new JdbcTemplate(dataSource).queryForObject(CONSULTA_ORIGEM, String.class);
+			}
+		});
+	}
+}
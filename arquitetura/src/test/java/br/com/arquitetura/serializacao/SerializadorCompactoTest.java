@@ -0,0 +1,265 @@
+package br.com.arquitetura.serializacao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.hibernate.HibernateException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.arquitetura.ambiente.AmbienteExecucao;
+import br.com.arquitetura.ambiente.LocalizadorBeans;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+import br.com.arquitetura.service.Service;
+
+/**
+ * Testes do {@link SerializadorCompacto}: a leitura dos atributos ausentes com o valor padrão do tipo, a preservação de subclasses
+ * de <code>Date</code>, a gravação dos enumerados pelo nome, a recusa de dados de outra classe e de entidades sem construtor público,
+ * e a localização dos <i>Serviços</i> na leitura.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class SerializadorCompactoTest {
+
+	/** Atributo localizadorOriginal. */
+	private LocalizadorBeans localizadorOriginal;
+
+	@Before
+	public void preparar() {
+		localizadorOriginal = AmbienteExecucao.getLocalizadorBeans();
+	}
+
+	@After
+	public void encerrar() {
+		AmbienteExecucao.setLocalizadorBeans(localizadorOriginal);
+	}
+
+	@Test
+	public void atributosAusentesSaoLidosComOValorPadraoDoTipo() throws IOException {
+		final Contrato contrato = new Contrato();
+		contrato.observacao = null;
+		contrato.parcelas = 0;
+
+		final Contrato copia = SerializadorCompacto.copiar(contrato);
+
+		assertNull("O valor atribuído na declaração não substitui o nulo gravado.", copia.observacao);
+		assertEquals(0, copia.parcelas);
+		assertNull(copia.prazo);
+		assertNull(copia.situacao);
+	}
+
+	@Test
+	public void atributosPreenchidosSaoPreservados() throws IOException {
+		final Contrato contrato = new Contrato();
+		contrato.parcelas = 12;
+		contrato.prazo = -1;
+		contrato.valor = new BigDecimal("1234.56");
+		contrato.assinatura = new Date(1000L);
+
+		final Contrato copia = SerializadorCompacto.copiar(contrato);
+
+		assertEquals("padrão", copia.observacao);
+		assertEquals(12, copia.parcelas);
+		assertEquals(Integer.valueOf(-1), copia.prazo);
+		assertEquals(new BigDecimal("1234.56"), copia.valor);
+		assertEquals(new Date(1000L), copia.assinatura);
+	}
+
+	@Test
+	public void timestampDeclaradoComoDateMantemOTipoEOsNanossegundos() throws IOException {
+		final Timestamp instante = new Timestamp(1000L);
+		instante.setNanos(123456789);
+		final Contrato contrato = new Contrato();
+		contrato.assinatura = instante;
+
+		final Contrato copia = SerializadorCompacto.copiar(contrato);
+
+		assertSame(Timestamp.class, copia.assinatura.getClass());
+		assertEquals(123456789, ((Timestamp) copia.assinatura).getNanos());
+	}
+
+	@Test
+	public void enumeradoEhGravadoPeloNome() throws IOException {
+		final Contrato contrato = new Contrato();
+		contrato.situacao = Situacao.ENCERRADO;
+
+		final byte[] dados = SerializadorCompacto.serializar(contrato);
+
+		assertTrue("Incluir ou reordenar constantes não pode alterar o valor lido.",
+				new String(dados, Charset.forName("ISO-8859-1")).contains("ENCERRADO"));
+		assertSame(Situacao.ENCERRADO, ((Contrato) SerializadorCompacto.desserializar(dados)).situacao);
+	}
+
+	@Test
+	public void dadosDeOutraClasseSaoRecusados() throws IOException, ClassNotFoundException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream saida = new ObjectOutputStream(bytes)) {
+			SerializadorCompacto.escrever(new Contrato(), saida);
+		}
+
+		try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			SerializadorCompacto.ler(new Aditivo(), entrada);
+			fail("Os atributos do Contrato seriam lidos como os do Aditivo.");
+		} catch (final InvalidClassException e) {
+			assertEquals(Aditivo.class.getName(), e.classname);
+		}
+	}
+
+	@Test
+	public void entidadeSemConstrutorPublicoEhRecusadaNaGravacao() throws IOException {
+		try {
+			SerializadorCompacto.serializar(Restrita.criar());
+			fail("A entidade seria gravada, mas não poderia ser lida.");
+		} catch (final InvalidClassException e) {
+			assertEquals(Restrita.class.getName(), e.classname);
+		}
+	}
+
+	@Test
+	public void integradorListaAsEntidadesSemConstrutorPublicoEIgnoraAsAbstratas() {
+		final List<Class<?>> mapeadas = new ArrayList<Class<?>>(Arrays.<Class<?>> asList(Contrato.class, Restrita.class, Abstrata.class));
+		try {
+			IntegradorSerializacao.validar(mapeadas);
+			fail("O SessionFactory seria criado com uma entidade que não pode ser lida.");
+		} catch (final HibernateException e) {
+			assertTrue(e.getMessage().contains(Restrita.class.getName()));
+			assertTrue(!e.getMessage().contains(Abstrata.class.getName()));
+			assertTrue(!e.getMessage().contains(Contrato.class.getName()));
+		}
+
+		mapeadas.remove(Restrita.class);
+		IntegradorSerializacao.validar(mapeadas);
+	}
+
+	@Test
+	public void servicoEhLocalizadoNaLeituraEmVezDeGravado() throws IOException {
+		final ContratoService servico = new ContratoService();
+		AmbienteExecucao.setLocalizadorBeans(new LocalizadorBeans() {
+			@Override
+			public <T> T obter(final Class<T> tipo) {
+				return tipo == ContratoService.class ? tipo.cast(servico) : null;
+			}
+		});
+		final Contrato contrato = new Contrato();
+		contrato.service = new ContratoService();
+
+		final Contrato copia = SerializadorCompacto.copiar(contrato);
+
+		assertSame(servico, copia.service);
+	}
+
+	/**
+	 * Situação do {@link Contrato}.
+	 */
+	public enum Situacao {
+
+		/** Constante ATIVO. */
+		ATIVO,
+
+		/** Constante ENCERRADO. */
+		ENCERRADO
+	}
+
+	/**
+	 * <code>Entidade</code> com atributos de cada codificação e um <i>Serviço</i>.
+	 */
+	public static class Contrato extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo observacao. */
+		private String observacao = "padrão";
+
+		/** Atributo parcelas. */
+		private int parcelas = 1;
+
+		/** Atributo prazo. */
+		private Integer prazo;
+
+		/** Atributo valor. */
+		private BigDecimal valor;
+
+		/** Atributo assinatura. */
+		private Date assinatura;
+
+		/** Atributo situacao. */
+		private Situacao situacao;
+
+		/** Atributo service. */
+		private ContratoService service;
+	}
+
+	/**
+	 * <code>Entidade</code> com atributos diferentes dos do {@link Contrato}.
+	 */
+	public static class Aditivo extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo descricao. */
+		private String descricao;
+	}
+
+	/**
+	 * <code>Entidade</code> com o construtor <code>protected</code> permitido pelo <i>JPA</i>.
+	 */
+	public static class Restrita extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		protected Restrita() {
+			super();
+		}
+
+		static Restrita criar() {
+			return new Restrita();
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> abstrata, que não é instanciada na leitura.
+	 */
+	public abstract static class Abstrata extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		protected Abstrata() {
+			super();
+		}
+	}
+
+	/**
+	 * <i>Serviço</i> do {@link Contrato}, localizado pelo {@link LocalizadorBeans}.
+	 */
+	public static class ContratoService extends Service<HibernateDAO<Contrato>, Contrato> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected HibernateDAO<Contrato> getDao() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package br.com.arquitetura.unicidade;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Testes do {@link FiltroBloom}.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class FiltroBloomTest {
+
+	@Test
+	public void dimensionadoPelaCapacidadeEPelaTaxa() {
+		final FiltroBloom filtro = new FiltroBloom(10000, 0.01);
+
+		assertEquals(0, filtro.getTamanho() % 64);
+		assertTrue(filtro.getTamanho() >= 95851);
+		assertTrue(filtro.getTamanho() < 95851 + 64);
+		assertEquals(7, filtro.getFuncoes());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejeitaCapacidadeInvalida() {
+		new FiltroBloom(0, 0.01);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejeitaTaxaInvalida() {
+		new FiltroBloom(100, 1);
+	}
+
+	@Test
+	public void filtroVazioNaoContemValores() {
+		final FiltroBloom filtro = new FiltroBloom(100, 0.01);
+
+		assertFalse(filtro.isPossivelmenteContido("joao@exemplo.com"));
+		assertFalse(filtro.isPossivelmenteContido(""));
+		assertEquals(0, filtro.getTaxaEstimada(), 0);
+	}
+
+	@Test
+	public void naoProduzFalsosNegativos() {
+		final FiltroBloom filtro = new FiltroBloom(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filtro.adicionar("usuario" + i + "@exemplo.com");
+		}
+
+		for (int i = 0; i < 10000; i++) {
+			assertTrue(filtro.isPossivelmenteContido(new StringBuilder("usuario").append(i).append("@exemplo.com")));
+		}
+		assertEquals(10000, filtro.getAdicionados());
+		assertFalse(filtro.isSaturado());
+	}
+
+	@Test
+	public void taxaDeFalsosPositivosProximaDaConfigurada() {
+		final FiltroBloom filtro = new FiltroBloom(10000, 0.01);
+		for (int i = 0; i < 10000; i++) {
+			filtro.adicionar("usuario" + i + "@exemplo.com");
+		}
+
+		int falsosPositivos = 0;
+		final int consultas = 100000;
+		for (int i = 0; i < consultas; i++) {
+			if (filtro.isPossivelmenteContido("ausente" + i + "@exemplo.com")) {
+				falsosPositivos++;
+			}
+		}
+		final double taxa = (double) falsosPositivos / consultas;
+		assertTrue("taxa medida " + taxa, taxa < 0.015);
+		assertEquals(0.01, filtro.getTaxaEstimada(), 0.003);
+	}
+
+	@Test
+	public void saturadoAposUltrapassarACapacidade() {
+		final FiltroBloom filtro = new FiltroBloom(10, 0.01);
+		for (int i = 0; i < 10; i++) {
+			filtro.adicionar("valor" + i);
+		}
+		assertFalse(filtro.isSaturado());
+		final double taxa = filtro.getTaxaEstimada();
+
+		filtro.adicionar("valor10");
+		assertTrue(filtro.isSaturado());
+		assertTrue(filtro.getTaxaEstimada() > taxa);
+	}
+
+	@Test
+	public void inclusoesSimultaneasNaoPerdemBits() throws InterruptedException {
+		final FiltroBloom filtro = new FiltroBloom(40000, 0.01);
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int inicio = t * 10000;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for (int i = inicio; i < inicio + 10000; i++) {
+						filtro.adicionar("valor" + i);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (final Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(40000, filtro.getAdicionados());
+		for (int i = 0; i < 40000; i++) {
+			assertTrue(filtro.isPossivelmenteContido("valor" + i));
+		}
+	}
+}
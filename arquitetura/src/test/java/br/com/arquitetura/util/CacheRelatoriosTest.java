@@ -0,0 +1,143 @@
+package br.com.arquitetura.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Testes do {@link CacheRelatorios}: a recusa de relatórios preenchidos durante uma invalidação, a expiração e a invalidação
+ * pelas entidades associadas aos dados do relatório.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class CacheRelatoriosTest {
+
+	/** Atributo cache. */
+	private CacheRelatorios cache;
+
+	@Before
+	public void preparar() {
+		cache = CacheRelatorios.getInstance();
+		cache.habilitar(1024);
+	}
+
+	@After
+	public void encerrar() {
+		cache.desabilitar();
+		cache.setTempoValidade(CacheRelatorios.TEMPO_VALIDADE_PADRAO);
+	}
+
+	@Test
+	public void relatorioPreenchidoDuranteInvalidacaoNaoEhArmazenado() {
+		final long geracao = cache.obterGeracao();
+		cache.invalidar(Pedido.class);
+
+		assertFalse(cache.armazenar("chave", relatorio(Pedido.class), geracao));
+		assertNull(cache.obter("chave"));
+		assertEquals(0, cache.getBytesAtuais());
+	}
+
+	@Test
+	public void relatorioPreenchidoSemAlteracoesEhArmazenado() {
+		assertTrue(cache.armazenar("chave", relatorio(Pedido.class), cache.obterGeracao()));
+		assertNotNull(cache.obter("chave"));
+	}
+
+	@Test
+	public void relatorioExpiradoEhDescartado() throws InterruptedException {
+		cache.setTempoValidade(1);
+		cache.armazenar("chave", relatorio(Pedido.class), cache.obterGeracao());
+		Thread.sleep(10);
+
+		assertNull(cache.obter("chave"));
+		assertEquals(1, cache.getExpiracoes());
+		assertEquals(0, cache.getBytesAtuais());
+	}
+
+	@Test
+	public void dependenciasIncluemEntidadesAssociadas() {
+		final Set<Class<?>> dependencias = CacheRelatorios.obterDependencias(Arrays.asList(new Pedido()));
+
+		assertTrue(dependencias.contains(Pedido.class));
+		assertTrue(dependencias.contains(Cliente.class));
+		assertTrue(dependencias.contains(Item.class));
+		assertTrue("Associações indiretas também são exibidas.", dependencias.contains(Produto.class));
+		assertFalse(dependencias.contains(String.class));
+	}
+
+	@Test
+	public void alteracaoEmEntidadeAssociadaDescartaORelatorio() {
+		final RelatorioRenderizado relatorio = new RelatorioRenderizado(new byte[10], CacheRelatorios.obterDependencias(Arrays.asList(new Pedido())));
+		cache.armazenar("pedidos", relatorio, cache.obterGeracao());
+
+		cache.invalidar(Produto.class);
+
+		assertNull(cache.obter("pedidos"));
+	}
+
+	private static RelatorioRenderizado relatorio(final Class<?> dependencia) {
+		return new RelatorioRenderizado(new byte[10], Collections.<Class<?>> singleton(dependencia));
+	}
+
+	/**
+	 * <code>Entidade</code> listada no relatório.
+	 */
+	public static class Pedido extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo numero. */
+		private String numero;
+
+		/** Atributo cliente. */
+		private Cliente cliente;
+
+		/** Atributo itens. */
+		private List<Item> itens;
+	}
+
+	/**
+	 * <code>Entidade</code> associada ao {@link Pedido}.
+	 */
+	public static class Cliente extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * <code>Entidade</code> da coleção de itens do {@link Pedido}.
+	 */
+	public static class Item extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo produto. */
+		private Produto produto;
+
+		/** Atributo pedido. */
+		private Pedido pedido;
+	}
+
+	/**
+	 * <code>Entidade</code> associada indiretamente ao {@link Pedido}, através do {@link Item}.
+	 */
+	public static class Produto extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,189 @@
+package br.com.arquitetura.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import net.sf.jasperreports.engine.JRException;
+import org.hibernate.Criteria;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.Before;
+import org.junit.Test;
+import br.com.arquitetura.dao.HibernateDAO;
+import br.com.arquitetura.entidade.Entidade;
+
+/**
+ * Testes do {@link DataSourceCursor}: a cada lote apenas as entidades carregadas pelo cursor deixam a <i>Sessão</i>, e as que a
+ * requisição já utilizava, inclusive com alterações ainda não gravadas, continuam associadas.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class DataSourceCursorTest {
+
+	/** Atributo dao. */
+	private ProdutoDAO dao;
+
+	/** Atributo daRequisicao. */
+	private Produto daRequisicao;
+
+	@Before
+	public void preparar() {
+		dao = new ProdutoDAO(5);
+		daRequisicao = new Produto(100);
+		dao.sessao.put(daRequisicao, daRequisicao);
+	}
+
+	@Test
+	public void entidadesDaRequisicaoPermanecemNaSessaoEntreOsLotes() throws JRException {
+		final DataSourceCursor fonte = new DataSourceCursor(dao, null, 2);
+
+		while (fonte.next()) {
+			assertTrue(dao.sessao.containsKey(daRequisicao));
+		}
+
+		assertEquals(5, fonte.getLidos());
+		assertEquals("No máximo um lote do cursor fica na Sessão, além da entidade da requisição.", 3, dao.maiorSessao);
+		assertEquals(Collections.<Object> singletonList(daRequisicao), new ArrayList<Object>(dao.sessao.keySet()));
+	}
+
+	@Test
+	public void fecharAntesDoFimDesassociaApenasAsEntidadesLidas() throws JRException {
+		final DataSourceCursor fonte = new DataSourceCursor(dao, null, 10);
+		fonte.next();
+		fonte.next();
+		assertEquals(3, dao.sessao.size());
+
+		fonte.fechar();
+
+		assertEquals(1, dao.sessao.size());
+		assertTrue(dao.sessao.containsKey(daRequisicao));
+	}
+
+	@Test
+	public void moveFirstPercorreNovamenteMantendoAEntidadeDaRequisicao() throws JRException {
+		final DataSourceCursor fonte = new DataSourceCursor(dao, null, 2);
+		fonte.next();
+		fonte.moveFirst();
+
+		int lidas = 0;
+		while (fonte.next()) {
+			lidas++;
+		}
+
+		assertEquals(5, lidas);
+		assertEquals(2, dao.cursores);
+		assertFalse(dao.sessao.isEmpty());
+		assertTrue(dao.sessao.containsKey(daRequisicao));
+	}
+
+	/**
+	 * <i>DAO</i> com uma <i>Sessão</i> simulada, na qual o cursor associa cada <code>Entidade</code> lida.
+	 */
+	public static class ProdutoDAO extends HibernateDAO<Produto> {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo sessao. */
+		private final Map<Object, Object> sessao = new LinkedHashMap<Object, Object>();
+
+		/** Atributo quantidade. */
+		private final int quantidade;
+
+		/** Atributo maiorSessao. */
+		private int maiorSessao;
+
+		/** Atributo cursores. */
+		private int cursores;
+
+		ProdutoDAO(final int quantidade) {
+			super();
+			this.quantidade = quantidade;
+		}
+
+		@Override
+		public ScrollableResults percorrer(final Criteria criteria, final int tamanhoLote) {
+			cursores++;
+			return (ScrollableResults) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ScrollableResults.class },
+					new InvocationHandler() {
+
+						/** Atributo atual. */
+						private Produto atual;
+
+						@Override
+						public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+							switch (metodo.getName()) {
+							case "next":
+								if (atual != null && atual.getId() >= quantidade) {
+									return false;
+								}
+								atual = new Produto(atual == null ? 1 : atual.getId() + 1);
+								sessao.put(atual, atual);
+								maiorSessao = Math.max(maiorSessao, sessao.size());
+								return true;
+							case "get":
+								return new Object[] { atual };
+							default:
+								return null;
+							}
+						}
+					});
+		}
+
+		@Override
+		protected List<Session> obterSessoesAbertas() {
+			final InvocationHandler simulacao = new InvocationHandler() {
+				@Override
+				public Object invoke(final Object proxy, final Method metodo, final Object[] args) {
+					switch (metodo.getName()) {
+					case "getPersistenceContext":
+						return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { PersistenceContext.class }, this);
+					case "getEntitiesByKey":
+						return sessao;
+					case "evict":
+						sessao.remove(args[0]);
+						return null;
+					default:
+						return null;
+					}
+				}
+			};
+			return Collections.singletonList((Session) Proxy.newProxyInstance(getClass().getClassLoader(),
+					new Class<?>[] { Session.class, SessionImplementor.class }, simulacao));
+		}
+
+		@Override
+		protected EntityManager getEntityManager() {
+			return null;
+		}
+	}
+
+	/**
+	 * <code>Entidade</code> percorrida pelo cursor.
+	 */
+	public static class Produto extends Entidade {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		public Produto() {
+			super();
+		}
+
+		Produto(final Integer id) {
+			setId(id);
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package br.com.arquitetura.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import net.sf.jasperreports.engine.JRException;
+import org.junit.Test;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * Testes do {@link LoteRelatorios} com a renderização substituída: a gravação segue a ordem das tarefas mesmo quando as
+ * posteriores terminam antes, uma tarefa com falha não interrompe o lote e a quantidade de relatórios em memória fica limitada
+ * ao dobro das <i>threads</i>.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class LoteRelatoriosTest {
+
+	/** Constante UTF_8. */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	@Test
+	public void zipGravaAsTarefasNaOrdemInformadaSemRepetirNomes() throws IOException {
+		final LoteSimulado lote = new LoteSimulado(4);
+		final List<TarefaRelatorio> tarefas = lote.tarefas("Boleto", "Boleto", "Extrato", "Boleto");
+
+		final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		final ResultadoLote resultado = lote.gerarZIP(tarefas, saida, null);
+
+		assertEquals(4, resultado.getConcluidas());
+		final List<String> entradas = new ArrayList<String>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(saida.toByteArray()))) {
+			for (ZipEntry entrada = zip.getNextEntry(); entrada != null; entrada = zip.getNextEntry()) {
+				final byte[] conteudo = new byte[64];
+				entradas.add(entrada.getName() + "=" + new String(conteudo, 0, zip.read(conteudo), UTF_8));
+			}
+		}
+		assertEquals(Arrays.asList("Boleto.pdf=0", "Boleto-2.pdf=1", "Extrato.pdf=2", "Boleto-3.pdf=3"), entradas);
+	}
+
+	@Test
+	public void falhaDeUmaTarefaEhRegistradaEAsDemaisContinuam() throws IOException {
+		final LoteSimulado lote = new LoteSimulado(2);
+		final List<TarefaRelatorio> tarefas = lote.tarefas("A", "B", "C", "D");
+		lote.falhar = tarefas.get(1);
+		final List<String> andamento = new ArrayList<String>();
+
+		final ResultadoLote resultado = lote.gerarZIP(tarefas, new ByteArrayOutputStream(), new ProgressoLote() {
+			@Override
+			public void concluida(final TarefaRelatorio tarefa, final int processadas, final int total) {
+				andamento.add(tarefa + " " + processadas + "/" + total);
+			}
+
+			@Override
+			public void falhou(final TarefaRelatorio tarefa, final Exception excecao, final int processadas, final int total) {
+				andamento.add(tarefa + " falhou " + processadas + "/" + total);
+			}
+		});
+
+		assertEquals(Arrays.asList("A 1/4", "B falhou 2/4", "C 3/4", "D 4/4"), andamento);
+		assertEquals(3, resultado.getConcluidas());
+		assertSame(JRException.class, resultado.getFalhas().get(tarefas.get(1)).getClass());
+	}
+
+	@Test
+	public void relatoriosNaoGravadosFicamLimitadosAoDobroDasThreads() throws IOException {
+		final LoteSimulado lote = new LoteSimulado(2);
+		final String[] nomes = new String[40];
+		Arrays.fill(nomes, "Carnê");
+
+		lote.gerarZIP(lote.tarefas(nomes), new ByteArrayOutputStream(), new ProgressoLote() {
+			@Override
+			public void concluida(final TarefaRelatorio tarefa, final int processadas, final int total) {
+				lote.gravadas.incrementAndGet();
+			}
+
+			@Override
+			public void falhou(final TarefaRelatorio tarefa, final Exception excecao, final int processadas, final int total) {
+				lote.gravadas.incrementAndGet();
+			}
+		});
+
+		assertEquals(40, lote.gravadas.get());
+		assertTrue("Em andamento: " + lote.maiorPendencia, lote.maiorPendencia <= 4);
+	}
+
+	@Test
+	public void pdfConcatenaAsPaginasDeCadaTarefaNaOrdem() throws IOException {
+		final LoteSimulado lote = new LoteSimulado(3);
+		lote.isPdf = true;
+
+		final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		lote.gerarPDF(lote.tarefas("A", "B", "C"), saida, null);
+
+		final PdfReader leitor = new PdfReader(saida.toByteArray());
+		assertEquals(3, leitor.getNumberOfPages());
+		for (int pagina = 1; pagina <= 3; pagina++) {
+			assertEquals("A largura identifica a tarefa de origem.", 100 + pagina - 1, leitor.getPageSize(pagina).getWidth(), 0.1);
+		}
+	}
+
+	/**
+	 * Lote cuja renderização devolve a posição da tarefa no lote, com as tarefas múltiplas de quatro terminando por último.
+	 */
+	private static final class LoteSimulado extends LoteRelatorios {
+
+		/** Atributo serialVersionUID. */
+		private static final long serialVersionUID = 1L;
+
+		/** Atributo tarefas. */
+		private final List<TarefaRelatorio> tarefas = new ArrayList<TarefaRelatorio>();
+
+		/** Atributo iniciadas. */
+		private final AtomicInteger iniciadas = new AtomicInteger();
+
+		/** Atributo gravadas. */
+		private final AtomicInteger gravadas = new AtomicInteger();
+
+		/** Atributo maiorPendencia. */
+		private volatile int maiorPendencia;
+
+		/** Atributo falhar. */
+		private TarefaRelatorio falhar;
+
+		/** Atributo isPdf. */
+		private boolean isPdf;
+
+		LoteSimulado(final int threads) {
+			super(null, threads, null);
+		}
+
+		List<TarefaRelatorio> tarefas(final String... nomes) {
+			for (final String nome : nomes) {
+				tarefas.add(new TarefaRelatorio(nome, "inexistente.jasper", null, new ArrayList<Object>()));
+			}
+			return tarefas;
+		}
+
+		@Override
+		byte[] renderizar(final TarefaRelatorio tarefa) throws JRException {
+			synchronized (this) {
+				maiorPendencia = Math.max(maiorPendencia, iniciadas.incrementAndGet() - gravadas.get());
+			}
+			int posicao = 0;
+			while (tarefas.get(posicao) != tarefa) {
+				posicao++;
+			}
+			try {
+				Thread.sleep(posicao % 4 == 0 ? 30 : 1);
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (tarefa == falhar) {
+				throw new JRException("Template inválido.");
+			}
+			return isPdf ? pdf(100 + posicao) : String.valueOf(posicao).getBytes(UTF_8);
+		}
+
+		private static byte[] pdf(final float largura) {
+			final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+			final Document documento = new Document(new Rectangle(largura, 100));
+			try {
+				PdfWriter.getInstance(documento, pdf);
+				documento.open();
+				documento.add(new Paragraph("x"));
+				documento.close();
+			} catch (final DocumentException e) {
+				throw new IllegalStateException(e);
+			}
+			return pdf.toByteArray();
+		}
+	}
+}
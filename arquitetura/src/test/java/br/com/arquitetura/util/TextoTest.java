@@ -0,0 +1,87 @@
+package br.com.arquitetura.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * Testes do {@link Texto}: a tabela de caracteres sem acento alinhada ao intervalo <i>Latin-1</i>, as marcas combinantes, a
+ * independência do <code>Locale</code> padrão, a redução de espaços que antes lançava exceção e a devolução da própria
+ * <code>String</code> quando nada muda.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class TextoTest {
+
+	@Test
+	public void removerAcentosCobreOIntervaloLatin1EAsMarcasCombinantes() {
+		assertEquals("AAAAAAÆCEEEEIIIIDNOOOOO×OUUUUYÞßaaaaaaæceeeeiiiidnooooo÷ouuuuyþy",
+				Texto.removerAcentos("ÀÁÂÃÄÅÆÇÈÉÊËÌÍÎÏÐÑÒÓÔÕÖ×ØÙÚÛÜÝÞßàáâãäåæçèéêëìíîïðñòóôõö÷øùúûüýþÿ"));
+		assertEquals("Joao e Jose", Texto.removerAcentos("João e José"));
+	}
+
+	@Test
+	public void toMinusculasNaoDependeDoLocalePadrao() {
+		final Locale original = Locale.getDefault();
+		Locale.setDefault(new Locale("tr", "TR"));
+		try {
+			assertEquals("identificação", Texto.toMinusculas("IDENTIFICAÇÃO"));
+		} finally {
+			Locale.setDefault(original);
+		}
+	}
+
+	@Test
+	public void primeirasLetrasMaiusculasReduzEspacosRepetidos() {
+		assertEquals("Maria Da Silva", Texto.toPrimeirasLetrasMaiusculas("  maria \t da  silva "));
+		assertEquals("", Texto.toPrimeirasLetrasMaiusculas("   "));
+		assertEquals("", Texto.toPrimeiraLetraMaiuscula(""));
+		assertEquals("Ávila", Texto.toPrimeiraLetraMaiuscula("ávila"));
+	}
+
+	@Test
+	public void slugContemApenasLetrasDigitosEHifensSimples() {
+		assertEquals("relatorio-de-vendas-2013", Texto.gerarSlug("  Relatório -- de Vendas/2013! "));
+		assertEquals("acao", Texto.gerarSlug("Ação"));
+		assertEquals("", Texto.gerarSlug("?!"));
+	}
+
+	@Test
+	public void chaveDeBuscaEquivaleATransformacoesEncadeadas() {
+		final char[] alfabeto = "aAzZ09 \t\n\u00A0\u00E7\u00C7\u00E3\u00C3\u00E9\u00C9\u00FC\u00DC\u00FF\u0301\u0303-.".toCharArray();
+		final Random aleatorio = new Random(42);
+		final StringBuilder reaproveitado = new StringBuilder("conteúdo anterior");
+
+		for (int i = 0; i < 2000; i++) {
+			final char[] texto = new char[aleatorio.nextInt(12)];
+			for (int j = 0; j < texto.length; j++) {
+				texto[j] = alfabeto[aleatorio.nextInt(alfabeto.length)];
+			}
+			final String valor = new String(texto);
+			final String esperado = Texto.toMinusculas(Texto.normalizarEspacos(Texto.removerAcentos(valor)));
+
+			assertEquals(valor, esperado, Texto.gerarChaveBusca(valor));
+			assertEquals(valor, esperado, Texto.gerarChaveBusca(valor, reaproveitado).toString());
+		}
+	}
+
+	@Test
+	public void textoSemAlteracaoEhDevolvidoSemCopia() {
+		final String valor = "jose da silva";
+
+		assertSame(valor, Texto.gerarChaveBusca(valor));
+		assertSame(valor, Texto.removerAcentos(valor));
+		assertSame(valor, Texto.toMinusculas(valor));
+		assertSame(valor, Texto.normalizarEspacos(valor));
+
+		final String slug = "jose-da-silva";
+		assertSame(slug, Texto.gerarSlug(slug));
+
+		final String nome = "Jose Da Silva";
+		assertSame(nome, Texto.toPrimeiraLetraMaiuscula(nome));
+		assertSame(nome, Texto.toPrimeirasLetrasMaiusculas(nome));
+	}
+}
@@ -0,0 +1,85 @@
+package br.com.arquitetura.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import net.sf.jasperreports.engine.JREmptyDataSource;
+import net.sf.jasperreports.engine.fill.JRAbstractLRUVirtualizer;
+import net.sf.jasperreports.engine.fill.JRFileVirtualizer;
+import org.junit.Test;
+import br.com.arquitetura.enumerator.EnumVirtualizacao;
+
+/**
+ * Testes da virtualização de páginas do {@link UtilReports}: a configuração nula equivale à desabilitada, o limite de registros
+ * decide quando o <i>virtualizador</i> é criado e os arquivos temporários são removidos ao liberar o preenchimento.
+ *
+ * @author Wesley Luiz
+ * @version 1.0.0
+ */
+public class UtilReportsTest {
+
+	/** Constante DIRETORIO. */
+	private static final String DIRETORIO = System.getProperty("java.io.tmpdir");
+
+	@Test
+	public void virtualizacaoNulaEquivaleADesabilitada() {
+		assertNull(UtilReports.criarVirtualizador(null, 1000000));
+		assertNull(UtilReports.criarVirtualizador(null, UtilReports.REGISTROS_DESCONHECIDOS));
+		assertNull(UtilReports.criarVirtualizador(Virtualizacao.DESABILITADA, UtilReports.REGISTROS_DESCONHECIDOS));
+	}
+
+	@Test
+	public void virtualizadorEhCriadoApenasAPartirDoLimiteDeRegistros() {
+		final Virtualizacao virtualizacao = new Virtualizacao(EnumVirtualizacao.ARQUIVO, 10, DIRETORIO, 100);
+
+		assertNull(UtilReports.criarVirtualizador(virtualizacao, 99));
+		final JRAbstractLRUVirtualizer virtualizador = UtilReports.criarVirtualizador(virtualizacao, 100);
+		try {
+			assertTrue(virtualizador instanceof JRFileVirtualizer);
+		} finally {
+			virtualizador.cleanup();
+		}
+	}
+
+	@Test
+	public void fonteDeTamanhoDesconhecidoEhVirtualizadaQuandoHabilitada() {
+		final Virtualizacao virtualizacao = new Virtualizacao(EnumVirtualizacao.ARQUIVO, 10, DIRETORIO, 100);
+
+		final JRAbstractLRUVirtualizer virtualizador = UtilReports.criarVirtualizador(virtualizacao, UtilReports.REGISTROS_DESCONHECIDOS);
+		try {
+			assertNotNull("Um cursor pode ultrapassar o limite sem que o tamanho seja conhecido.", virtualizador);
+		} finally {
+			virtualizador.cleanup();
+		}
+	}
+
+	@Test
+	public void liberarRemoveOsArquivosDoVirtualizador() {
+		final VirtualizadorContado virtualizador = new VirtualizadorContado();
+
+		UtilReports.liberar(new JREmptyDataSource(), virtualizador);
+		UtilReports.liberar(new JREmptyDataSource(), null);
+
+		assertEquals(1, virtualizador.limpezas);
+	}
+
+	/**
+	 * <i>Virtualizador</i> em arquivo que conta as chamadas de <code>cleanup()</code>.
+	 */
+	private static final class VirtualizadorContado extends JRFileVirtualizer {
+
+		/** Atributo limpezas. */
+		private int limpezas;
+
+		VirtualizadorContado() {
+			super(10, DIRETORIO);
+		}
+
+		@Override
+		public synchronized void cleanup() {
+			limpezas++;
+			super.cleanup();
+		}
+	}
+}